@@ -17,6 +17,8 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path archivePath;
+    private Path importPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +28,29 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the data file to open read-only as an archive, or null if the data file is opened as usual.
+     */
+    public Path getArchivePath() {
+        return archivePath;
+    }
+
+    public void setArchivePath(Path archivePath) {
+        this.archivePath = archivePath;
+    }
+
+    /**
+     * Returns the path of the data file to copy into the data file in use at startup, replacing its contents,
+     * or null if nothing is imported.
+     */
+    public Path getImportPath() {
+        return importPath;
+    }
+
+    public void setImportPath(Path importPath) {
+        this.importPath = importPath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,6 +65,20 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String archivePathParameter = namedParameters.get("archive");
+        if (archivePathParameter != null && !FileUtil.isValidPath(archivePathParameter)) {
+            logger.warning("Invalid archive path " + archivePathParameter + ". Opening the data file instead.");
+            archivePathParameter = null;
+        }
+        appParameters.setArchivePath(archivePathParameter != null ? Paths.get(archivePathParameter) : null);
+
+        String importPathParameter = namedParameters.get("import");
+        if (importPathParameter != null && !FileUtil.isValidPath(importPathParameter)) {
+            logger.warning("Invalid import path " + importPathParameter + ". Importing nothing.");
+            importPathParameter = null;
+        }
+        appParameters.setImportPath(importPathParameter != null ? Paths.get(importPathParameter) : null);
+
         return appParameters;
     }
 
@@ -54,11 +93,13 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getArchivePath(), otherAppParameters.getArchivePath())
+                && Objects.equals(getImportPath(), otherAppParameters.getImportPath());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, archivePath, importPath);
     }
 }
@@ -2,6 +2,8 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -9,6 +11,7 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageMode;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
@@ -16,18 +19,23 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ArchiveModelManager;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookConverter;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.ArchiveAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.RecoveryReport;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -37,14 +45,24 @@ import seedu.address.ui.UiManager;
 public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 0, true);
+    public static final String MESSAGE_IMPORTED = "Imported the data file %s into %s.";
+    public static final String MESSAGE_IMPORT_FAILED = "Could not import the data file %s: %s";
+    public static final String MESSAGE_STORAGE_MODE_SWITCHED = "Carried the data over from %s to %s, "
+            + "as the storage mode was switched.";
+    public static final String MESSAGE_STORAGE_MODE_SWITCH_FAILED = "Could not carry the data over to storage mode "
+            + "%1$s: %2$s\nStill using storage mode %3$s. To switch anyway, start DevEnable with "
+            + "--import=<path to the data file> to replace the data in storage mode %1$s with that data file.";
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected WriteBehindSaver writeBehindSaver;
     protected Model model;
     protected Config config;
+    // Messages about the data files met at startup, such as records which were skipped, to be shown once the UI is up
+    protected List<String> startupMessages = new ArrayList<>();
 
     @Override
     public void init() throws Exception {
@@ -56,26 +74,118 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        Path archivePath = appParameters.getArchivePath();
+        AddressBookStorage addressBookStorage = archivePath != null
+                ? new ArchiveAddressBookStorage(archivePath)
+                : initAddressBookStorage(userPrefs, appParameters.getImportPath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        model = initModelManager(storage, userPrefs, archivePath != null);
 
-        logic = new LogicManager(model, storage);
+        if (archivePath != null) {
+            logger.info("Viewing archive " + archivePath + " read-only");
+            logic = new LogicManager(model);
+        } else if (userPrefs.isWriteBehind()) {
+            writeBehindSaver = new WriteBehindSaver(storage);
+            logic = new LogicManager(model, storage, writeBehindSaver);
+        } else {
+            logic = new LogicManager(model, storage);
+        }
 
         ui = new UiManager(logic);
 
         logic.setUi(ui);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file and storage mode in {@code userPrefs}.
+     * If {@code importPath} is given, the address book is replaced by the one imported from it. Otherwise, or if it
+     * cannot be imported, the address book is carried over from the storage mode last used, if it was switched since.
+     * If it cannot be carried over either, the storage mode last used is kept until it is.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs, Path importPath) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        StorageMode storageMode = userPrefs.getStorageMode();
+        if (storageMode != StorageMode.JOURNAL) {
+            foldJournal(filePath);
+        }
+        AddressBookStorage addressBookStorage =
+                AddressBookConverter.getStorage(storageMode, filePath, userPrefs.isSyncOnSave());
+        if (importPath != null && importAddressBook(importPath, addressBookStorage)) {
+            recordStorageMode(filePath, storageMode);
+            return addressBookStorage;
+        }
+        try {
+            Optional<AddressBookStorage> source =
+                    AddressBookConverter.switchStorageMode(filePath, storageMode, addressBookStorage);
+            if (source.isPresent()) {
+                startupMessages.add(String.format(MESSAGE_STORAGE_MODE_SWITCHED,
+                        source.get().getAddressBookFilePath(), addressBookStorage.getAddressBookFilePath()));
+                addRecoveryReport(source.get());
+            }
+            return addressBookStorage;
+        } catch (DataConversionException | IOException e) {
+            StorageMode lastStorageMode = AddressBookConverter.readLastStorageMode(filePath).orElse(StorageMode.JSON);
+            logger.warning("Could not switch " + filePath + " from storage mode " + lastStorageMode + " to "
+                    + storageMode + ": " + e);
+            startupMessages.add(String.format(MESSAGE_STORAGE_MODE_SWITCH_FAILED, storageMode, e.getMessage(),
+                    lastStorageMode));
+            return AddressBookConverter.getStorage(lastStorageMode, filePath, userPrefs.isSyncOnSave());
+        }
+    }
+
+    /**
+     * Folds any journal left next to the json data file at {@code filePath} in {@code JOURNAL} mode into it,
+     * so that the changes in the journal are not lost when another storage mode is used.
+     */
+    private void foldJournal(Path filePath) {
+        try {
+            new JournalAddressBookStorage(filePath).foldJournal();
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not fold the journal of " + filePath + " into it: " + e);
+        }
+    }
+
+    /**
+     * Replaces the address book in {@code target} with the one in the data file at {@code importPath},
+     * which may be kept in any storage mode, as asked for with the {@code --import} parameter.
+     *
+     * @return true if the address book was imported.
+     */
+    private boolean importAddressBook(Path importPath, AddressBookStorage target) {
+        try {
+            if (AddressBookConverter.copy(new ArchiveAddressBookStorage(importPath), target)) {
+                startupMessages.add(String.format(MESSAGE_IMPORTED, importPath, target.getAddressBookFilePath()));
+                return true;
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not import " + importPath + ": " + e);
+            startupMessages.add(String.format(MESSAGE_IMPORT_FAILED, importPath, e.getMessage()));
+        }
+        return false;
+    }
+
+    private void recordStorageMode(Path filePath, StorageMode storageMode) {
+        try {
+            AddressBookConverter.recordStorageMode(filePath, storageMode);
+        } catch (IOException e) {
+            logger.warning("Could not record storage mode " + storageMode + " for " + filePath + ": " + e);
+        }
+    }
+
+    private void addRecoveryReport(AddressBookStorage storage) {
+        storage.getRecoveryReport().map(RecoveryReport::getSummary).ifPresent(startupMessages::add);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s project book and {@code userPrefs}. <br>
      * The data from the sample project book will be used instead if {@code storage}'s project book is not found,
      * or an empty project book will be used instead if errors occur when reading {@code storage}'s project book.
+     * An archive is shown by an {@code ArchiveModelManager} instead, which is not copied and never changes.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, boolean isArchive) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
@@ -86,6 +196,7 @@ public class MainApp extends Application {
                 logger.info("AddressBook successfully loaded from storage");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            addRecoveryReport(storage);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
             initialData = new AddressBook();
@@ -94,7 +205,7 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return isArchive ? new ArchiveModelManager(initialData, userPrefs) : new ModelManager(initialData, userPrefs);
     }
 
     private void initLogging(Config config) {
@@ -176,11 +287,17 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (!startupMessages.isEmpty()) {
+            ui.showMessage(String.join("\n", startupMessages));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        if (writeBehindSaver != null) {
+            writeBehindSaver.close();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,19 @@
+package seedu.address.commons.core;
+
+/**
+ * Encapsulates the different formats the project book can be stored in on the hard disk.
+ */
+public enum StorageMode {
+    /** A single json file, rewritten whole on every save. */
+    JSON,
+    /** A json snapshot with a journal of the changes made since, appended to on every save. */
+    JOURNAL,
+    /** A compact binary file, rewritten whole on every save. */
+    BINARY,
+    /** A directory with a json file per project, of which only those changed are rewritten on each save. */
+    SHARDED,
+    /** A single json file compressed with gzip, rewritten whole on every save. */
+    COMPRESSED,
+    /** An embedded key-value store with an entry per client, project and issue, updated only where changed. */
+    KEY_VALUE
+}
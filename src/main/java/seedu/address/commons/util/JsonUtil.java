@@ -2,7 +2,10 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +14,14 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,8 +46,29 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, true);
+    }
+
+    /**
+     * Writes {@code objectToSerialize} to {@code jsonFile} as it is generated, without building the json
+     * string in memory first.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isPrettyPrinted)
+            throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(jsonFile), FILE_BUFFER_SIZE)) {
+            getWriter(isPrettyPrinted).writeValue(out, objectToSerialize);
+        }
+    }
+
+    /**
+     * Returns a writer which leaves the stream it writes to open, so that the caller can sync it to the disk.
+     */
+    private static ObjectWriter getWriter(boolean isPrettyPrinted) {
+        ObjectWriter writer = isPrettyPrinted ? objectMapper.writerWithDefaultPrettyPrinter() : objectMapper.writer();
+        return writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -84,12 +112,71 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, true);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}.
+     * @param isPrettyPrinted whether the file is indented for reading by hand. Files which are not
+     *                        are smaller and faster to write.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isPrettyPrinted) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isPrettyPrinted);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path, boolean)}, but the file is replaced atomically
+     * and its previous contents are kept as a backup, as described in {@link FileUtil#writeToFileAtomically}.
+     * @param isSynced whether to wait for the file to reach the disk before replacing the old one.
+     */
+    public static <T> void saveJsonFileAtomically(T jsonFile, Path filePath, boolean isPrettyPrinted,
+                                                  boolean isSynced) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        FileUtil.writeToFileAtomically(filePath, out -> writeJson(jsonFile, out, isPrettyPrinted), isSynced);
+    }
+
+    /**
+     * Writes {@code jsonFile} to {@code out} as it is generated, leaving {@code out} open.
+     */
+    public static <T> void writeJson(T jsonFile, OutputStream out, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(jsonFile);
+        requireNonNull(out);
+
+        getWriter(isPrettyPrinted).writeValue(out, jsonFile);
+    }
+
+
+    /**
+     * Returns a parser which reads the JSON data in {@code in} one token at a time.
+     * Closing the parser closes {@code in}.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.getFactory().createParser(in);
     }
 
+    /**
+     * Reads the JSON value starting at the current token of {@code parser} as a tree,
+     * leaving the parser at the last token of the value
+     * @return The tree of the JSON value
+     */
+    public static JsonNode readTree(JsonParser parser) throws IOException {
+        return objectMapper.readTree(parser);
+    }
+
+    /**
+     * Converts a tree of a JSON value to instance of a class
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the specified values in the tree
+     */
+    public static <T> T fromJsonTree(JsonNode tree, Class<T> instanceClass) throws JsonProcessingException {
+        return objectMapper.treeToValue(tree, instanceClass);
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -100,6 +187,25 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Converts JSON data encoded in UTF-8 to instance of a class
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the specified values in the JSON data
+     */
+    public static <T> T fromJsonBytes(byte[] json, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(json, instanceClass);
+    }
+
+    /**
+     * Converts a given instance of a class into its JSON data representation encoded in UTF-8, on a single line
+     * @param instance The T object to be converted into JSON data
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in bytes
+     */
+    public static <T> byte[] toCompactJsonBytes(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(instance);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -110,6 +216,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string, without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
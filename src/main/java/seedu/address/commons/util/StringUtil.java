@@ -6,12 +6,16 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -29,15 +33,73 @@ public class StringUtil {
 
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        checkArgument(WHITESPACE.split(preppedWord).length == 1, "Word parameter should be a single word");
 
         String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        String[] wordsInPreppedSentence = WHITESPACE.split(preppedSentence);
 
         return Arrays.stream(wordsInPreppedSentence)
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if the {@code sentence} contains any of the {@code words}.
+     *   Ignores case, but a full word match is required, as in {@link #containsWordIgnoreCase(String, String)}.
+     *   The words of the sentence are compared in place, so no strings or arrays are created.
+     * @param sentence cannot be null
+     * @param words cannot be null, each word must be a single word that is not empty
+     */
+    public static boolean containsAnyWordIgnoreCase(String sentence, String[] words) {
+        requireNonNull(sentence);
+        requireNonNull(words);
+
+        int length = sentence.length();
+        int start = 0;
+        while (true) {
+            while (start < length && isWordSeparator(sentence.charAt(start))) {
+                start++;
+            }
+            if (start == length) {
+                return false;
+            }
+            int end = start;
+            while (end < length && !isWordSeparator(sentence.charAt(end))) {
+                end++;
+            }
+            for (String word : words) {
+                if (word.length() == end - start && sentence.regionMatches(true, start, word, 0, end - start)) {
+                    return true;
+                }
+            }
+            start = end;
+        }
+    }
+
+    /**
+     * Splits {@code text} into its distinct words, separated by whitespace, in lower case.
+     *   Words are lower cased in {@link Locale#ROOT}, so that they are the same whatever the default locale is.
+     * @param text cannot be null
+     */
+    public static String[] toLowerCaseWords(String text) {
+        requireNonNull(text);
+
+        String trimmed = text.trim();
+        if (trimmed.isEmpty()) {
+            return new String[0];
+        }
+        return Arrays.stream(WHITESPACE.split(trimmed))
+                .map(word -> word.toLowerCase(Locale.ROOT))
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Returns true if {@code c} separates words, i.e. it is one of the characters matched by the regex {@code \s}.
+     */
+    private static boolean isWordSeparator(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
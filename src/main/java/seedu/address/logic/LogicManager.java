@@ -19,6 +19,7 @@ import seedu.address.model.client.Client;
 import seedu.address.model.issue.Issue;
 import seedu.address.model.project.Project;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.ui.Ui;
 
 /**
@@ -26,22 +27,59 @@ import seedu.address.ui.Ui;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_READ_ONLY = "The project book is opened read-only as an archive, "
+            + "so this command cannot be used.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    // Saves the address book in the background if present, otherwise it is saved before execute returns
+    private final WriteBehindSaver writeBehindSaver;
+    // Commands which may change the address book are rejected, and the address book is never saved
+    private final boolean isReadOnly;
 
-    private Ui ui;
+    private volatile Ui ui;
     private final AddressBookParser addressBookParser;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage},
+     * which saves the address book after every command before returning its result.
      */
 
     public LogicManager(Model model, Storage storage) {
         this.ui = null;
         this.model = model;
         this.storage = storage;
+        this.writeBehindSaver = null;
+        this.isReadOnly = false;
+        addressBookParser = new AddressBookParser();
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage},
+     * which hands the address book to {@code writeBehindSaver} after every command to be saved in the background.
+     * Failures to save are shown to the user once they happen.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindSaver writeBehindSaver) {
+        this.ui = null;
+        this.model = model;
+        this.storage = storage;
+        this.writeBehindSaver = writeBehindSaver;
+        this.writeBehindSaver.setFailureHandler(this::handleSaveFailure);
+        this.isReadOnly = false;
+        addressBookParser = new AddressBookParser();
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, read from an archive,
+     * which rejects commands that may change the address book and never saves it.
+     */
+    public LogicManager(Model model) {
+        this.ui = null;
+        this.model = model;
+        this.storage = null;
+        this.writeBehindSaver = null;
+        this.isReadOnly = true;
         addressBookParser = new AddressBookParser();
     }
 
@@ -51,8 +89,20 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        if (isReadOnly && command.isModifying()) {
+            throw new CommandException(MESSAGE_READ_ONLY);
+        }
         commandResult = command.execute(model, ui);
 
+        if (isReadOnly) {
+            return commandResult;
+        }
+
+        if (writeBehindSaver != null) {
+            writeBehindSaver.save(model.getAddressBook());
+            return commandResult;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (IOException ioe) {
@@ -62,6 +112,16 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Shows the user that saving the address book in the background failed.
+     */
+    private void handleSaveFailure(IOException ioe) {
+        Ui currentUi = ui;
+        if (currentUi != null) {
+            currentUi.showSaveFailure(FILE_OPS_ERROR_MESSAGE + ioe);
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
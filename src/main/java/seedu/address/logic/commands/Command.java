@@ -19,4 +19,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model, Ui ui) throws CommandException;
 
+    /**
+     * Returns true if the command may change the project book, so that it cannot be executed
+     * on a project book which is opened read-only.
+     */
+    public boolean isModifying() {
+        return true;
+    }
+
 }
@@ -19,4 +19,9 @@ public class HelpCommand extends Command {
     public CommandResult execute(Model model, Ui ui) {
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
     }
+
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
 }
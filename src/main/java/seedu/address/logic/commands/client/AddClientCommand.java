@@ -85,6 +85,7 @@ public class AddClientCommand extends ClientCommand {
         }
 
         toModifyProject.setClient(toAddClient);
+        model.setProject(toModifyProject, toModifyProject);
 
         ui.showClients();
         model.updateFilteredClientList(Model.PREDICATE_SHOW_ALL_CLIENTS);
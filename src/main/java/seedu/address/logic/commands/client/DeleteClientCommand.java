@@ -45,6 +45,7 @@ public class DeleteClientCommand extends ClientCommand {
                 model.deleteClient(clientToDelete);
                 for (Project p: clientToDelete.getProjects()) {
                     p.removeClient();
+                    model.setProject(p, p);
                 }
                 ui.showClients();
                 model.updateFilteredClientList(Model.PREDICATE_SHOW_ALL_CLIENTS);
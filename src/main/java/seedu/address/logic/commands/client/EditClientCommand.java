@@ -75,13 +75,11 @@ public class EditClientCommand extends ClientCommand {
         Client toEditClient = model.getClientById(clientId.getIdInt());
 
         if (newName != null) {
-            for (Client c : model.getFilteredClientList()) {
-                if (c.getClientName().equals(newName)) {
-                    if (toEditClient.getClientName().equals(newName)) {
-                        throw new CommandException(MESSAGE_CLIENT_ALREADY_HAS_THAT_NAME);
-                    }
-                    throw new CommandException(MESSAGE_DUPLICATE_CLIENT_NAME);
-                }
+            if (toEditClient.getClientName().equals(newName)) {
+                throw new CommandException(MESSAGE_CLIENT_ALREADY_HAS_THAT_NAME);
+            }
+            if (model.hasClient(new Client(newName))) {
+                throw new CommandException(MESSAGE_DUPLICATE_CLIENT_NAME);
             }
             toEditClient.setName(newName);
         }
@@ -94,6 +92,9 @@ public class EditClientCommand extends ClientCommand {
             toEditClient.setMobile(newMobile);
         }
 
+        // re-index the client, as its name may have been edited in place
+        model.setClient(toEditClient, toEditClient);
+
         return new CommandResult(String.format(MESSAGE_SUCCESS, toEditClient));
     }
 }
@@ -44,7 +44,7 @@ public class FindClientCommand extends ClientCommand {
     public CommandResult execute(Model model, Ui ui) {
         requireNonNull(model);
         ui.showClients();
-        model.updateFilteredClientList(predicate);
+        model.updateFilteredClientList(predicate.withKeywordIndex(model));
         return new CommandResult(
                 String.format(Messages.MESSAGE_CLIENTS_LISTED_OVERVIEW, model.getFilteredClientList().size()));
     }
@@ -56,4 +56,8 @@ public class FindClientCommand extends ClientCommand {
                 && predicate.equals(((FindClientCommand) other).predicate)); // state check
     }
 
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
 }
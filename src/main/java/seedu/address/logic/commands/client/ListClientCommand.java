@@ -23,4 +23,9 @@ public class ListClientCommand extends ClientCommand {
         model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
 }
@@ -54,8 +54,8 @@ public class PinClientCommand extends ClientCommand {
         }
         Client toPinClient = model.getClientById(this.toPinClientId.getIdInt());
         toPinClient.togglePin();
+        model.setClient(toPinClient, toPinClient);
         model.sortClientsByCurrentCategory();
-        model.sortClientsByPin();
         ui.showClients();
         model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
         return new CommandResult(String.format(
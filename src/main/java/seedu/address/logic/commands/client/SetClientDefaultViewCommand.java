@@ -28,4 +28,9 @@ public class SetClientDefaultViewCommand extends ClientCommand {
         model.setDefaultView(DefaultView.CLIENT);
         return new CommandResult(MESSAGE_SUCCESS, false, false);
     }
+
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
 }
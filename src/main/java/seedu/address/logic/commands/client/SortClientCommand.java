@@ -65,10 +65,14 @@ public class SortClientCommand extends ClientCommand {
             Client.setSortCategory(SortCategory.NAME);
             sortKeyString = "name.";
         }
-        model.sortClientsByPin();
 
         ui.showClients();
         model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
         return new CommandResult(MESSAGE_SUCCESS + " according to " + sortKeyString);
     }
+
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
 }
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands.issue;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.DeadlineRange;
+import seedu.address.model.Model;
+import seedu.address.model.issue.Issue;
+import seedu.address.ui.Ui;
+
+/**
+ * Lists the issues due within a range of deadlines.
+ * Overdue issues are the incomplete issues with a deadline before today.
+ */
+public class DueIssueCommand extends IssueCommand {
+
+    public static final String COMMAND_FLAG = "-t";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + COMMAND_FLAG
+            + ": Lists issues by deadline.\n"
+            + "Parameters: START_DATE END_DATE (issues due between the dates), "
+            + "DAYS (issues due in the next DAYS days) or "
+            + "overdue (incomplete issues past their deadline)\n"
+            + "Example: " + COMMAND_WORD + " " + COMMAND_FLAG + " 2022-10-01 2022-10-31";
+
+    private final DeadlineRange deadlineRange;
+
+    /**
+     * Creates a DueIssueCommand to list the issues due within {@code deadlineRange}.
+     */
+    public DueIssueCommand(DeadlineRange deadlineRange) {
+        requireNonNull(deadlineRange);
+        this.deadlineRange = deadlineRange;
+    }
+
+    @Override
+    public CommandResult execute(Model model, Ui ui) {
+        requireNonNull(model);
+        LocalDate today = LocalDate.now();
+        Set<Integer> dueIssueIds = model.getIssueIdsByDeadline(
+                deadlineRange.getStart(today), deadlineRange.getEnd(today));
+        Predicate<Issue> isDue = issue -> dueIssueIds.contains(issue.getId());
+        if (deadlineRange.isOverdue()) {
+            isDue = isDue.and(issue -> !issue.getStatus().getStatus());
+        }
+
+        ui.showIssues();
+        model.updateFilteredIssueList(isDue);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_ISSUES_LISTED_OVERVIEW, model.getFilteredIssueList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DueIssueCommand // instanceof handles nulls
+                && deadlineRange.equals(((DueIssueCommand) other).deadlineRange)); // state check
+    }
+
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
+}
@@ -79,6 +79,9 @@ public class EditIssueCommand extends IssueCommand {
             toEditIssue.setUrgency(newUrgency);
         }
 
+        // re-index the issue, as its title may have been edited in place
+        model.setIssue(toEditIssue, toEditIssue);
+
         model.updateFilteredIssueList(PREDICATE_SHOW_ALL_ISSUES);
         return new CommandResult(String.format(MESSAGE_SUCCESS, toEditIssue));
     }
@@ -51,7 +51,7 @@ public class FindIssueCommand extends IssueCommand {
     public CommandResult execute(Model model, Ui ui) {
         requireNonNull(model);
         ui.showIssues();
-        model.updateFilteredIssueList(predicate);
+        model.updateFilteredIssueList(predicate.withKeywordIndex(model));
         return new CommandResult(
                 String.format(Messages.MESSAGE_ISSUES_LISTED_OVERVIEW, model.getFilteredIssueList().size()));
     }
@@ -62,4 +62,9 @@ public class FindIssueCommand extends IssueCommand {
                 || (other instanceof FindIssueCommand // instanceof handles nulls
                 && predicate.equals(((FindIssueCommand) other).predicate)); // state check
     }
+
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
 }
@@ -5,6 +5,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ISSUES;
 
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
+import seedu.address.model.issue.Urgency;
 import seedu.address.ui.Ui;
 
 /**
@@ -16,12 +17,30 @@ public class ListIssueCommand extends IssueCommand {
 
     public static final String MESSAGE_SUCCESS = "Listed all issues in the project book";
 
+    public static final String MESSAGE_SUMMARY = "Incomplete: %1$d, Completed: %2$d | "
+            + "High: %3$d, Medium: %4$d, Low: %5$d, None: %6$d";
+
     // TODO: implement
     @Override
     public CommandResult execute(Model model, Ui ui) {
         requireNonNull(model);
         ui.showIssues();
         model.updateFilteredIssueList(PREDICATE_SHOW_ALL_ISSUES);
-        return new CommandResult(MESSAGE_SUCCESS);
+        return new CommandResult(MESSAGE_SUCCESS + "\n" + getSummary(model));
+    }
+
+    /**
+     * Returns a summary of the number of issues of each status and urgency, read from the counts of the model.
+     */
+    public static String getSummary(Model model) {
+        return String.format(MESSAGE_SUMMARY,
+                model.countIssuesByStatus(false), model.countIssuesByStatus(true),
+                model.countIssuesByUrgency(Urgency.HIGH), model.countIssuesByUrgency(Urgency.MEDIUM),
+                model.countIssuesByUrgency(Urgency.LOW), model.countIssuesByUrgency(Urgency.NONE));
+    }
+
+    @Override
+    public boolean isModifying() {
+        return false;
     }
 }
@@ -52,6 +52,7 @@ public class MarkIssueCommand extends IssueCommand {
         }
         Issue toMarkIssue = model.getIssueById(issueId.getIdInt());
         toMarkIssue.setStatus(newStatus);
+        model.setIssue(toMarkIssue, toMarkIssue);
         model.updateFilteredIssueList(PREDICATE_SHOW_ALL_ISSUES);
         return new CommandResult(String.format(MESSAGE_SUCCESS, toMarkIssue));
     }
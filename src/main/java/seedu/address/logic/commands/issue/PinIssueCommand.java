@@ -53,8 +53,8 @@ public class PinIssueCommand extends IssueCommand {
         }
         Issue toPinIssue = model.getIssueById(this.toPinIssueId.getIdInt());
         toPinIssue.togglePin();
+        model.setIssue(toPinIssue, toPinIssue);
         model.sortIssuesByCurrentCategory();
-        model.sortIssuesByPin();
         ui.showIssues();
         model.updateFilteredIssueList(PREDICATE_SHOW_ALL_ISSUES);
         return new CommandResult(String.format(
@@ -27,4 +27,9 @@ public class SetIssueDefaultViewCommand extends IssueCommand {
         model.setDefaultView(DefaultView.ISSUE);
         return new CommandResult(MESSAGE_SUCCESS, false, false);
     }
+
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
 }
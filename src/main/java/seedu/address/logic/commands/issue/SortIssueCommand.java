@@ -77,10 +77,13 @@ public class SortIssueCommand extends IssueCommand {
             sortKeyString = "urgency.";
         }
 
-        model.sortIssuesByPin();
-
         ui.showIssues();
         model.updateFilteredIssueList(PREDICATE_SHOW_ALL_ISSUES);
         return new CommandResult(MESSAGE_SUCCESS + " according to " + sortKeyString);
     }
+
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
 }
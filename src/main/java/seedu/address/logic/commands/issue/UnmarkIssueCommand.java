@@ -50,6 +50,7 @@ public class UnmarkIssueCommand extends IssueCommand {
         }
         Issue toMarkIssue = model.getIssueById(issueId.getIdInt());
         toMarkIssue.setStatus(newStatus);
+        model.setIssue(toMarkIssue, toMarkIssue);
         model.updateFilteredIssueList(PREDICATE_SHOW_ALL_ISSUES);
         return new CommandResult(String.format(MESSAGE_SUCCESS, toMarkIssue));
     }
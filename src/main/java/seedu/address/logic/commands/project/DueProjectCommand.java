@@ -0,0 +1,62 @@
+package seedu.address.logic.commands.project;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.DeadlineRange;
+import seedu.address.model.Model;
+import seedu.address.ui.Ui;
+
+/**
+ * Lists the projects due within a range of deadlines.
+ */
+public class DueProjectCommand extends ProjectCommand {
+
+    public static final String COMMAND_FLAG = "-t";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + COMMAND_FLAG
+            + ": Lists projects by deadline.\n"
+            + "Parameters: START_DATE END_DATE (projects due between the dates), "
+            + "DAYS (projects due in the next DAYS days) or "
+            + "overdue (projects past their deadline)\n"
+            + "Example: " + COMMAND_WORD + " " + COMMAND_FLAG + " 7";
+
+    private final DeadlineRange deadlineRange;
+
+    /**
+     * Creates a DueProjectCommand to list the projects due within {@code deadlineRange}.
+     */
+    public DueProjectCommand(DeadlineRange deadlineRange) {
+        requireNonNull(deadlineRange);
+        this.deadlineRange = deadlineRange;
+    }
+
+    @Override
+    public CommandResult execute(Model model, Ui ui) {
+        requireNonNull(model);
+        LocalDate today = LocalDate.now();
+        Set<Integer> dueProjectIds = model.getProjectIdsByDeadline(
+                deadlineRange.getStart(today), deadlineRange.getEnd(today));
+
+        ui.showProjects();
+        model.updateFilteredProjectList(project -> dueProjectIds.contains(project.getId()));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PROJECTS_LISTED_OVERVIEW, model.getFilteredProjectList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DueProjectCommand // instanceof handles nulls
+                && deadlineRange.equals(((DueProjectCommand) other).deadlineRange)); // state check
+    }
+
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
+}
@@ -85,13 +85,11 @@ public class EditProjectCommand extends ProjectCommand {
         Project toEditProject = model.getProjectById(projectToEditId.getIdInt());
 
         if (newName != null) {
-            for (Project p : model.getFilteredProjectList()) {
-                if (p.getProjectName().equals(newName)) {
-                    if (toEditProject.getProjectName().equals(newName)) {
-                        throw new CommandException(MESSAGE_PROJECT_ALREADY_HAS_THAT_NAME);
-                    }
-                    throw new CommandException(MESSAGE_DUPLICATE_PROJECT_NAME);
-                }
+            if (toEditProject.getProjectName().equals(newName)) {
+                throw new CommandException(MESSAGE_PROJECT_ALREADY_HAS_THAT_NAME);
+            }
+            if (model.hasProject(new Project(newName))) {
+                throw new CommandException(MESSAGE_DUPLICATE_PROJECT_NAME);
             }
         }
 
@@ -120,6 +118,9 @@ public class EditProjectCommand extends ProjectCommand {
             toEditProject.setDeadline(newDeadline);
         }
 
+        // re-index the project, as its name may have been edited in place
+        model.setProject(toEditProject, toEditProject);
+
         return new CommandResult(String.format(MESSAGE_SUCCESS, toEditProject));
     }
 }
@@ -48,7 +48,7 @@ public class FindProjectCommand extends ProjectCommand {
     public CommandResult execute(Model model, Ui ui) {
         requireNonNull(model);
         ui.showProjects();
-        model.updateFilteredProjectList(predicate);
+        model.updateFilteredProjectList(predicate.withKeywordIndex(model));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PROJECTS_LISTED_OVERVIEW, model.getFilteredProjectList().size()));
     }
@@ -59,4 +59,9 @@ public class FindProjectCommand extends ProjectCommand {
                 || (other instanceof FindProjectCommand // instanceof handles nulls
                 && predicate.equals(((FindProjectCommand) other).predicate)); // state check
     }
+
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
 }
@@ -23,4 +23,9 @@ public class ListProjectCommand extends ProjectCommand {
         model.updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
 }
@@ -53,8 +53,8 @@ public class PinProjectCommand extends ProjectCommand {
         }
         Project toPinProject = model.getProjectById(this.toPinProjectId.getIdInt());
         toPinProject.togglePin();
+        model.setProject(toPinProject, toPinProject);
         model.sortProjectsByCurrentCategory();
-        model.sortProjectsByPin();
         ui.showProjects();
         model.updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
         return new CommandResult(String.format(
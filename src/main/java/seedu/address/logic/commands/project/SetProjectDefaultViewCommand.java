@@ -27,4 +27,9 @@ public class SetProjectDefaultViewCommand extends ProjectCommand {
         model.setDefaultView(DefaultView.PROJECT);
         return new CommandResult(MESSAGE_SUCCESS, false, false);
     }
+
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
 }
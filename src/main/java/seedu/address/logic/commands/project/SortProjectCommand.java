@@ -86,12 +86,14 @@ public class SortProjectCommand extends ProjectCommand {
             Project.setSortCategory(SortCategory.ID);
             sortKeyString = "project id.";
         }
-        model.sortProjectsByPin();
-
-        model.sortProjectsByPin();
 
         ui.showProjects();
         model.updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
         return new CommandResult(MESSAGE_SUCCESS + " according to " + sortKeyString);
     }
+
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
 }
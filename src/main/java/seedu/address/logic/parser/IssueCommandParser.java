@@ -21,6 +21,7 @@ import java.util.stream.Stream;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.issue.AddIssueCommand;
 import seedu.address.logic.commands.issue.DeleteIssueCommand;
+import seedu.address.logic.commands.issue.DueIssueCommand;
 import seedu.address.logic.commands.issue.EditIssueCommand;
 import seedu.address.logic.commands.issue.FindIssueCommand;
 import seedu.address.logic.commands.issue.IssueCommand;
@@ -33,6 +34,7 @@ import seedu.address.logic.commands.issue.UnmarkIssueCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.predicates.IssueContainsKeywordsPredicate;
 import seedu.address.model.Deadline;
+import seedu.address.model.DeadlineRange;
 import seedu.address.model.Pin;
 import seedu.address.model.issue.IssueId;
 import seedu.address.model.issue.IssueWithoutModel;
@@ -76,6 +78,8 @@ public class IssueCommandParser implements Parser<IssueCommand> {
             return parseFindIssueCommand(arguments);
         case PinIssueCommand.COMMAND_FLAG:
             return parsePinIssueCommand(arguments);
+        case DueIssueCommand.COMMAND_FLAG:
+            return parseDueIssueCommand(arguments);
         default:
             throw new ParseException(FLAG_UNKNOWN_COMMAND);
         }
@@ -310,6 +314,16 @@ public class IssueCommandParser implements Parser<IssueCommand> {
 
     }
 
+    private DueIssueCommand parseDueIssueCommand(String arguments) throws ParseException {
+        try {
+            DeadlineRange deadlineRange = ParserUtil.parseDeadlineRange(arguments);
+            return new DueIssueCommand(deadlineRange);
+        } catch (ParseException e) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueIssueCommand.MESSAGE_USAGE), e);
+        }
+    }
+
     private ListIssueCommand parseListIssueCommand(String arguments) {
         return new ListIssueCommand();
     }
@@ -2,12 +2,14 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Deadline;
+import seedu.address.model.DeadlineRange;
 import seedu.address.model.Name;
 import seedu.address.model.Pin;
 import seedu.address.model.client.Client;
@@ -30,6 +32,9 @@ import seedu.address.model.project.Repository;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DEADLINE_RANGE =
+            "Deadline range should be two dates, a number of days, or overdue.";
+    public static final String DEADLINE_RANGE_OVERDUE = "overdue";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -154,6 +159,38 @@ public class ParserUtil {
         return new Deadline(trimmedDeadline);
     }
 
+    /**
+     * Parses a {@code String deadlineRange} into a {@code DeadlineRange}.
+     * The range is either two deadlines in order, a number of days from today, or "overdue".
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @param deadlineRange string argument input
+     * @return parsed DeadlineRange object
+     * @throws ParseException if the given {@code deadlineRange} is invalid.
+     */
+    public static DeadlineRange parseDeadlineRange(String deadlineRange) throws ParseException {
+        requireNonNull(deadlineRange);
+        String trimmedDeadlineRange = deadlineRange.trim();
+        if (trimmedDeadlineRange.equalsIgnoreCase(DEADLINE_RANGE_OVERDUE)) {
+            return DeadlineRange.overdue();
+        }
+
+        String[] dates = trimmedDeadlineRange.split("\\s+");
+        if (dates.length == 1 && dates[0].matches("\\d{1,5}")) {
+            return DeadlineRange.nextDays(Integer.parseInt(dates[0]));
+        }
+        if (dates.length != 2) {
+            throw new ParseException(MESSAGE_INVALID_DEADLINE_RANGE);
+        }
+
+        LocalDate start = parseDeadline(dates[0]).getLocalDate();
+        LocalDate end = parseDeadline(dates[1]).getLocalDate();
+        if (start.isAfter(end)) {
+            throw new ParseException(DeadlineRange.MESSAGE_CONSTRAINTS);
+        }
+        return DeadlineRange.between(start, end);
+    }
+
 
     /**
      * Parses a {@code String mobile} into a {@code ClientMobile}.
@@ -21,6 +21,7 @@ import java.util.stream.Stream;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.project.AddProjectCommand;
 import seedu.address.logic.commands.project.DeleteProjectCommand;
+import seedu.address.logic.commands.project.DueProjectCommand;
 import seedu.address.logic.commands.project.EditProjectCommand;
 import seedu.address.logic.commands.project.FindProjectCommand;
 import seedu.address.logic.commands.project.ListProjectCommand;
@@ -31,6 +32,7 @@ import seedu.address.logic.commands.project.SortProjectCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.predicates.ProjectContainsKeywordsPredicate;
 import seedu.address.model.Deadline;
+import seedu.address.model.DeadlineRange;
 import seedu.address.model.Name;
 import seedu.address.model.Pin;
 import seedu.address.model.client.ClientId;
@@ -71,6 +73,8 @@ public class ProjectCommandParser implements Parser<ProjectCommand> {
             return parseFindProjectCommand(arguments);
         case PinProjectCommand.COMMAND_FLAG:
             return parsePinProjectCommand(arguments);
+        case DueProjectCommand.COMMAND_FLAG:
+            return parseDueProjectCommand(arguments);
 
         default:
             throw new ParseException(FLAG_UNKNOWN_COMMAND);
@@ -87,6 +91,16 @@ public class ProjectCommandParser implements Parser<ProjectCommand> {
         }
     }
 
+    private ProjectCommand parseDueProjectCommand(String arguments) throws ParseException {
+        try {
+            DeadlineRange deadlineRange = ParserUtil.parseDeadlineRange(arguments);
+            return new DueProjectCommand(deadlineRange);
+        } catch (ParseException e) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueProjectCommand.MESSAGE_USAGE), e);
+        }
+    }
+
 
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
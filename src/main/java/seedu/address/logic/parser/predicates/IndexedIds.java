@@ -0,0 +1,116 @@
+package seedu.address.logic.parser.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.list.BucketIndex;
+
+/**
+ * The ids of the entities matching the indexed fields of a find command, found by intersecting
+ * the ids looked up for each field in the indexes of the address book, smallest first.
+ * The ids are looked up again once the address book has changed since they were last looked up,
+ * so that entities added or edited while the filtered list is shown are matched by their current fields.
+ */
+class IndexedIds {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final List<Supplier<Set<Integer>>> lookups = new ArrayList<>();
+    private final List<Supplier<BitSet>> bucketLookups = new ArrayList<>();
+    // Null if there are no lookups of that kind
+    private Set<Integer> ids;
+    private BitSet bucketIds;
+    private boolean isLookedUp;
+    private long lookedUpAt;
+
+    /**
+     * Creates an {@code IndexedIds} which matches every id until a lookup is added.
+     */
+    IndexedIds(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+    }
+
+    /**
+     * Keeps only the ids also returned by {@code lookup}.
+     */
+    IndexedIds and(Supplier<Set<Integer>> lookup) {
+        requireNonNull(lookup);
+        lookups.add(lookup);
+        isLookedUp = false;
+        return this;
+    }
+
+    /**
+     * Keeps only the ids also set in the new bitset returned by {@code lookup}, such as a union of buckets
+     * of a {@link BucketIndex}. Empty ids are never set in a bitset, and so no longer match.
+     */
+    IndexedIds andBuckets(Supplier<BitSet> lookup) {
+        requireNonNull(lookup);
+        bucketLookups.add(lookup);
+        isLookedUp = false;
+        return this;
+    }
+
+    /**
+     * Returns true if no lookup was added, so that every id matches.
+     */
+    boolean isEmpty() {
+        return lookups.isEmpty() && bucketLookups.isEmpty();
+    }
+
+    /**
+     * Returns true if {@code id} is returned by every lookup.
+     */
+    boolean contains(int id) {
+        long modificationCount = addressBook.getModificationCount();
+        if (!isLookedUp || lookedUpAt != modificationCount) {
+            lookUp();
+            isLookedUp = true;
+            lookedUpAt = modificationCount;
+        }
+        if (ids != null && !ids.contains(id)) {
+            return false;
+        }
+        return bucketIds == null || BucketIndex.isIndexableId(id) && bucketIds.get(id);
+    }
+
+    /**
+     * Intersects the ids returned by every lookup. If there are lookups of both kinds,
+     * the bitsets are intersected first, and then the ids not set in them are dropped from the other ids.
+     */
+    private void lookUp() {
+        ids = null;
+        bucketIds = null;
+        if (!lookups.isEmpty()) {
+            List<Set<Integer>> idsByLookup = new ArrayList<>();
+            for (Supplier<Set<Integer>> lookup : lookups) {
+                idsByLookup.add(lookup.get());
+            }
+            idsByLookup.sort(Comparator.comparingInt(Set::size));
+            ids = new HashSet<>(idsByLookup.get(0));
+            for (int i = 1; i < idsByLookup.size() && !ids.isEmpty(); i++) {
+                ids.retainAll(idsByLookup.get(i));
+            }
+        }
+        for (Supplier<BitSet> lookup : bucketLookups) {
+            if (bucketIds == null) {
+                bucketIds = lookup.get();
+            } else {
+                bucketIds.and(lookup.get());
+            }
+        }
+        if (ids != null && bucketIds != null) {
+            BitSet idsInBuckets = bucketIds;
+            ids.removeIf(id -> !BucketIndex.isIndexableId(id) || !idsInBuckets.get(id));
+            bucketIds = null;
+        }
+    }
+}
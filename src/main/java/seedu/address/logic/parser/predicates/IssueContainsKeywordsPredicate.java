@@ -1,11 +1,14 @@
 package seedu.address.logic.parser.predicates;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
 import seedu.address.model.issue.Issue;
+import seedu.address.model.issue.Status;
+import seedu.address.model.issue.Urgency;
+import seedu.address.model.list.BucketIndex;
 
 
 /**
@@ -19,6 +22,12 @@ public class IssueContainsKeywordsPredicate implements Predicate<Issue> {
     private final List<String> projectNameKeywords;
     private final List<String> projectIdKeywords;
     private final List<String> issueIdKeywords;
+    private final KeywordMatcher titleMatcher;
+    private final KeywordMatcher statusMatcher;
+    private final KeywordMatcher urgencyMatcher;
+    private final KeywordMatcher projectNameMatcher;
+    private final KeywordMatcher projectIdMatcher;
+    private final KeywordMatcher issueIdMatcher;
 
     /**
      * Constructs an IssueContainsKeywordsPredicate object with the user inputs.
@@ -38,17 +47,12 @@ public class IssueContainsKeywordsPredicate implements Predicate<Issue> {
         this.projectNameKeywords = projectNameKeywords;
         this.projectIdKeywords = projectIdKeywords;
         this.issueIdKeywords = issueIdKeywords;
-    }
-
-    /**
-     * Checks if given title matches with any word in the title present.
-     * @param tiPresent String representing title present
-     * @param tiGiven String representing title given (keyword to search for)
-     * @return boolean true if at least one word matches with the keyword and false otherwise
-     */
-    public boolean testTitle(String tiPresent, String tiGiven) {
-        return Arrays.stream(tiPresent.trim().split("\\s+"))
-                .anyMatch(words -> StringUtil.containsWordIgnoreCase(tiGiven, words));
+        this.titleMatcher = new KeywordMatcher(titleKeywords);
+        this.statusMatcher = new KeywordMatcher(statusKeywords);
+        this.urgencyMatcher = new KeywordMatcher(urgencyKeywords);
+        this.projectNameMatcher = new KeywordMatcher(projectNameKeywords);
+        this.projectIdMatcher = new KeywordMatcher(projectIdKeywords);
+        this.issueIdMatcher = new KeywordMatcher(issueIdKeywords);
     }
 
     /**
@@ -57,49 +61,17 @@ public class IssueContainsKeywordsPredicate implements Predicate<Issue> {
      * @return true if the title fulfills the search criteria and false otherwise
      */
     public boolean testTitle(Issue issue) {
-        if (titleKeywords.isEmpty()) {
-            return true;
-        } else {
-            return titleKeywords.stream().anyMatch(
-                    ti -> testTitle(ti, issue.getTitle().toString()));
-        }
+        return titleMatcher.matches(issue.getTitle().toString());
     }
 
 
-    /**
-     * Checks if given urgency matches with any word in the urgency present.
-     * @param urPresent String representing urgency present
-     * @param urGiven String representing urgency given (keyword to search for)
-     * @return boolean true if at least one word matches with the keyword and false otherwise
-     */
-    public boolean testUrgency(String urPresent, String urGiven) {
-        return Arrays.stream(urPresent.trim().split("\\s+"))
-                .anyMatch(words -> StringUtil.containsWordIgnoreCase(urGiven, words));
-    }
-
     /**
      * Checks if the issue's urgency matches the urgency keyword being search for.
      * @param issue Issue whose urgency is being used to search the keyword in
      * @return true if the urgency fulfills the search criteria and false otherwise
      */
     public boolean testUrgency(Issue issue) {
-        if (urgencyKeywords.isEmpty()) {
-            return true;
-        } else {
-            return urgencyKeywords.stream().anyMatch(
-                    ur -> testUrgency(ur, issue.getUrgency().toString()));
-        }
-    }
-
-    /**
-     * Checks if given status matches with any word in the status present.
-     * @param stPresent String representing status present
-     * @param stGiven String representing status given (keyword to search for)
-     * @return boolean true if at least one word matches with the keyword and false otherwise
-     */
-    public boolean testStatus(String stPresent, String stGiven) {
-        return Arrays.stream(stPresent.trim().split("\\s+"))
-                .anyMatch(words -> StringUtil.containsWordIgnoreCase(stGiven, words));
+        return urgencyMatcher.matches(issue.getUrgency().toString());
     }
 
     /**
@@ -108,12 +80,7 @@ public class IssueContainsKeywordsPredicate implements Predicate<Issue> {
      * @return true if the status fulfills the search criteria and false otherwise
      */
     public boolean testStatus(Issue issue) {
-        if (statusKeywords.isEmpty()) {
-            return true;
-        } else {
-            return statusKeywords.stream().anyMatch(
-                    st -> testStatus(st, issue.getStatus().getCompletionStatus()));
-        }
+        return statusMatcher.matches(issue.getStatus().getCompletionStatus());
     }
 
     /**
@@ -122,75 +89,87 @@ public class IssueContainsKeywordsPredicate implements Predicate<Issue> {
      * @return true if the project id fulfills the search criteria and false otherwise
      */
     public boolean testProjectId(Issue issue) {
-        if (projectIdKeywords.isEmpty()) {
-            return true;
-        } else {
-            return projectIdKeywords.stream().anyMatch(
-                    pr -> testProjectId(pr, issue.getProject().getProjectId().toString()));
-        }
-    }
-
-    /**
-     * Checks if given project id matches with any word in the project id present.
-     * @param projIdPresent String representing project id present
-     * @param projIdGiven String representing project id given (keyword to search for)
-     * @return boolean true if at least one word matches with the keyword and false otherwise
-     */
-    public boolean testProjectId(String projIdPresent, String projIdGiven) {
-        return Arrays.stream(projIdPresent.trim().split("\\s+"))
-                .anyMatch(words -> StringUtil.containsWordIgnoreCase(projIdGiven, words));
+        return projectIdMatcher.matches(issue.getProject().getProjectId().toString());
     }
 
-
     /**
      * Checks if the issue's id matches the id keyword being search for.
      * @param issue Issue whose id is being used to search the keyword in
      * @return true if the id fulfills the search criteria and false otherwise
      */
     public boolean testIssueId(Issue issue) {
-        if (issueIdKeywords.isEmpty()) {
-            return true;
-        } else {
-            return issueIdKeywords.stream().anyMatch(
-                    i -> testIssueId(i, issue.getIssueId().toString()));
-        }
+        return issueIdMatcher.matches(issue.getIssueId().toString());
     }
 
     /**
-     * Checks if given id matches with any word in the id present.
-     * @param idPresent String representing id present
-     * @param idGiven String representing id given (keyword to search for)
-     * @return boolean true if at least one word matches with the keyword and false otherwise
+     * Checks if the issue's project's name matches the project name keyword being search for.
+     * @param issue Issue whose project name is being used to search the keyword in
+     * @return true if the project name fulfills the search criteria and false otherwise
      */
-    public boolean testIssueId(String idPresent, String idGiven) {
-        return Arrays.stream(idPresent.trim().split("\\s+"))
-                .anyMatch(words -> StringUtil.containsWordIgnoreCase(idGiven, words));
+    public boolean testProjectName(Issue issue) {
+        return projectNameMatcher.matches(issue.getProject().getProjectName().toString());
     }
 
+    /**
+     * Returns a predicate equivalent to this one, which matches the titles, urgencies and statuses of the issues
+     * against the intersection of the ids looked up in the keyword index and the bucket indexes of the model,
+     * instead of testing those fields of every issue.
+     * The ids are looked up again after the address book changes, so that the predicate follows edited issues.
+     * Issues with an empty id are not in the bucket indexes, and are tested directly.
+     * The filtered list still tests every issue, but only by looking its id up in those ids,
+     * which keeps a find over 100k issues to a few tens of milliseconds.
+     * @param model Model whose keyword and bucket indexes are used
+     * @return predicate that matches the same issues as this one
+     */
+    public Predicate<Issue> withKeywordIndex(Model model) {
+        IndexedIds matchingIds = new IndexedIds(model.getAddressBook());
+        if (!titleKeywords.isEmpty()) {
+            matchingIds.and(() -> model.getIssueIdsByKeywords(Issue.KEYWORD_FIELD_TITLE, titleKeywords));
+        }
+        if (!urgencyKeywords.isEmpty()) {
+            List<Urgency> urgencies = getMatchingUrgencies();
+            matchingIds.andBuckets(() -> model.getIssueIdsByUrgency(urgencies));
+        }
+        if (!statusKeywords.isEmpty()) {
+            List<Boolean> statuses = getMatchingStatuses();
+            matchingIds.andBuckets(() -> model.getIssueIdsByStatus(statuses));
+        }
+        if (matchingIds.isEmpty()) {
+            return this;
+        }
+        return issue -> {
+            if (!BucketIndex.isIndexableId(issue.getId())) {
+                return test(issue);
+            }
+            return matchingIds.contains(issue.getId())
+                    && testProjectName(issue) && testProjectId(issue) && testIssueId(issue);
+        };
+    }
 
     /**
-     * Checks if given project name matches with any word in the project name present.
-     * @param projPresent String representing project name present
-     * @param projGiven String representing project name given (keyword to search for)
-     * @return boolean true if at least one word matches with the keyword and false otherwise
+     * Returns the urgencies matching the urgency keywords.
      */
-    public boolean testProjectName(String projPresent, String projGiven) {
-        return Arrays.stream(projPresent.trim().split("\\s+"))
-                .anyMatch(words -> StringUtil.containsWordIgnoreCase(projGiven, words));
+    private List<Urgency> getMatchingUrgencies() {
+        List<Urgency> urgencies = new ArrayList<>();
+        for (Urgency urgency : Urgency.values()) {
+            if (urgencyMatcher.matches(urgency.toString())) {
+                urgencies.add(urgency);
+            }
+        }
+        return urgencies;
     }
 
     /**
-     * Checks if the issue's project's name matches the project name keyword being search for.
-     * @param issue Issue whose project name is being used to search the keyword in
-     * @return true if the project name fulfills the search criteria and false otherwise
+     * Returns the completion statuses, as whether the issue is completed, matching the status keywords.
      */
-    public boolean testProjectName(Issue issue) {
-        if (projectNameKeywords.isEmpty()) {
-            return true;
-        } else {
-            return projectNameKeywords.stream().anyMatch(
-                    pr -> testProjectName(pr, issue.getProject().getProjectName().toString()));
+    private List<Boolean> getMatchingStatuses() {
+        List<Boolean> statuses = new ArrayList<>();
+        for (boolean isCompleted : new boolean[] {false, true}) {
+            if (statusMatcher.matches(new Status(isCompleted).getCompletionStatus())) {
+                statuses.add(isCompleted);
+            }
         }
+        return statuses;
     }
 
     @Override
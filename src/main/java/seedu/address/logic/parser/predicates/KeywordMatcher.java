@@ -0,0 +1,41 @@
+package seedu.address.logic.parser.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Matches a field of an entity against the keywords given for that field in a find command.
+ * The keywords are split into a set of lower case words once, when the command is parsed,
+ * so that matching an entity does not split or copy any strings.
+ */
+public class KeywordMatcher {
+
+    private final boolean hasKeywords;
+    private final String[] words;
+
+    /**
+     * Constructs a KeywordMatcher for the given keywords.
+     * @param keywords List of Strings representing keywords to search for, each of which may contain several words
+     */
+    public KeywordMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        this.hasKeywords = !keywords.isEmpty();
+        this.words = keywords.stream()
+                .flatMap(keyword -> Arrays.stream(StringUtil.toLowerCaseWords(keyword)))
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Checks if the field contains any word of the keywords, ignoring case.
+     * @param field String representing the field of an entity
+     * @return true if no keywords were given or at least one word matches, and false otherwise
+     */
+    public boolean matches(String field) {
+        return !hasKeywords || StringUtil.containsAnyWordIgnoreCase(field, words);
+    }
+}
@@ -2,13 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.client.Client;
-import seedu.address.model.interfaces.HasIntegerIdentifier;
 import seedu.address.model.issue.Issue;
+import seedu.address.model.issue.Urgency;
+import seedu.address.model.list.ModificationCounter;
 import seedu.address.model.list.UniqueEntityList;
 import seedu.address.model.project.Project;
 
@@ -26,14 +30,25 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueEntityList<Client> clients;
     private final UniqueEntityList<Project> projects;
     private final UniqueEntityList<Issue> issues;
+    // Shared by the three lists, so that their changes are counted in the order they were made
+    private final ModificationCounter modificationCounter = new ModificationCounter();
 
     /**
      * Creates an empty addressbook
      */
     public AddressBook() {
-        clients = new UniqueEntityList<>();
-        projects = new UniqueEntityList<>();
-        issues = new UniqueEntityList<>();
+        clients = new UniqueEntityList<>(modificationCounter);
+        projects = new UniqueEntityList<>(modificationCounter);
+        issues = new UniqueEntityList<>(modificationCounter);
+        clients.addKeywordIndex(Client.KEYWORD_FIELD_NAME, client -> client.getClientName().toString());
+        clients.addKeywordIndex(Client.KEYWORD_FIELD_EMAIL, client -> client.getClientEmail().toString());
+        projects.addKeywordIndex(Project.KEYWORD_FIELD_NAME, project -> project.getProjectName().toString());
+        projects.addKeywordIndex(Project.KEYWORD_FIELD_REPOSITORY, project -> project.getRepository().toString());
+        issues.addKeywordIndex(Issue.KEYWORD_FIELD_TITLE, issue -> issue.getTitle().toString());
+        projects.addDeadlineIndex(Project::getDeadline);
+        issues.addDeadlineIndex(Issue::getDeadline);
+        issues.addBucketIndex(Issue.BUCKET_FIELD_URGENCY, Urgency.class, Issue::getUrgency);
+        issues.addBucketIndex(Issue.BUCKET_FIELD_STATUS, Boolean.class, issue -> issue.getStatus().getStatus());
     }
 
     /**
@@ -78,6 +93,30 @@ public class AddressBook implements ReadOnlyAddressBook {
         setIssues(newData.getIssueList());
         setProjects(newData.getProjectList());
         setClients(newData.getClientList());
+        clients.setIdHighWaterMark(newData.getClientIdHighWaterMark());
+        projects.setIdHighWaterMark(newData.getProjectIdHighWaterMark());
+        issues.setIdHighWaterMark(newData.getIssueIdHighWaterMark());
+    }
+
+    /**
+     * Sets the highest client id used so far, so that ids of deleted clients are not reused.
+     */
+    public void setClientIdHighWaterMark(int highWaterMark) {
+        clients.setIdHighWaterMark(highWaterMark);
+    }
+
+    /**
+     * Sets the highest project id used so far, so that ids of deleted projects are not reused.
+     */
+    public void setProjectIdHighWaterMark(int highWaterMark) {
+        projects.setIdHighWaterMark(highWaterMark);
+    }
+
+    /**
+     * Sets the highest issue id used so far, so that ids of deleted issues are not reused.
+     */
+    public void setIssueIdHighWaterMark(int highWaterMark) {
+        issues.setIdHighWaterMark(highWaterMark);
     }
 
     //// client-level operations
@@ -219,288 +258,182 @@ public class AddressBook implements ReadOnlyAddressBook {
         clients.remove(key);
     }
 
-    /**
-     * Sort projects by id in ascending or descending order based on key value of 0 or 1 respectively.
-     *
-     * @param order zero for ascending order and one for descending order
-     */
-    public void sortProjectsById(int order) {
-        ObservableList<Project> sortedProjectsById;
-        if (order == 0) {
-            //sort in ascending order
-            sortedProjectsById =
-                    getModifiableProjectList().sorted(Comparator.comparing(Project::getProjectIdInInt));
-        } else {
-            //sort in descending order
-            sortedProjectsById = getModifiableProjectList().sorted((p1, p2) ->
-                    p2.getProjectIdInInt() - p1.getProjectIdInInt());
-        }
-        setProjects(sortedProjectsById);
+    //// util methods
+
+    @Override
+    public String toString() {
+        return projects.asUnmodifiableObservableList().size() + " projects\n"
+                + issues.asUnmodifiableObservableList().size() + " issues\n"
+                + clients.asUnmodifiableObservableList().size() + " clients\n";
     }
 
-    /**
-     * Sort projects in chronological order or reverse chronological order based on key value of 0 or 1 respectively.
-     *
-     * @param order zero for chronological order and one for reverse chronological order
-     */
-    public void sortProjectsByDeadline(int order) {
-        ObservableList<Project> sortedProjectsByDeadline;
-        if (order == 0) {
-            //sort according to chronological deadlines
-            sortedProjectsByDeadline =
-                    getModifiableProjectList().sorted(Comparator.comparing(p -> p.getDeadline().getLocalDate()));
-        } else {
-            //sort according to reverse chronological deadlines
-            sortedProjectsByDeadline = getModifiableProjectList().sorted((p1, p2) ->
-                p2.getDeadline().getLocalDate().compareTo(p1.getDeadline().getLocalDate()));
-        }
-        setProjects(sortedProjectsByDeadline);
+    @Override
+    public ObservableList<Project> getProjectList() {
+        return projects.asUnmodifiableObservableList();
     }
 
-    /**
-     * Sort projects according to incomplete issue count or completed issue count based on key of 0 or 1 respectively.
-     *
-     * @param order zero for sorting by incomplete issue count and one for sorting by completed issue count
-     */
-    public void sortProjectsByIssueCount(int order) {
-        ObservableList<Project> sortedProjectsByIssueCount;
-        if (order == 0) {
-            //sort according to incomplete issue count
-            sortedProjectsByIssueCount =
-                    getModifiableProjectList().sorted((p1, p2) -> {
-                        return p2.getIncompleteIssueCount() - p1.getIncompleteIssueCount();
-                    });
-        } else {
-            //sort according to completed issue count
-            sortedProjectsByIssueCount =
-                    getModifiableProjectList().sorted((p1, p2) -> {
-                        return p2.getCompletedIssueCount() - p1.getCompletedIssueCount();
-                    });
-        }
-        setProjects(sortedProjectsByIssueCount);
+    @Override
+    public ObservableList<Project> getModifiableProjectList() {
+        return projects.asModifiableObservableList();
     }
 
-    /**
-     * Sort projects in alphabetical or reverse alphabetical order of names based on key value of 0 or 1 respectively.
-     *
-     * @param order zero for alphabetical order and one for reverse alphabetical order
-     */
-    public void sortProjectsByName(int order) {
-        ObservableList<Project> sortedProjectsByName;
-        if (order == 0) {
-            //sort according to alphabetical order
-            sortedProjectsByName =
-                    getModifiableProjectList().sorted(Comparator.comparing(p -> p.getProjectName().toString()));
-        } else {
-            //sort according to reverse alphabetical order
-            sortedProjectsByName = getModifiableProjectList().sorted((p1, p2) ->
-                    p2.getProjectName().toString().compareTo(p1.getProjectName().toString()));
-        }
-        setProjects(sortedProjectsByName);
+    @Override
+    public ObservableList<Issue> getIssueList() {
+        return issues.asUnmodifiableObservableList();
     }
 
-    /**
-     * Sort issues by id in ascending or descending order based on key value of 0 or 1 respectively.
-     *
-     * @param order zero for ascending order and one for descending order
-     */
-    public void sortIssuesById(int order) {
-        ObservableList<Issue> sortedIssuesById;
-        if (order == 0) {
-            //sort in ascending order
-            sortedIssuesById =
-                    getModifiableIssueList().sorted(Comparator.comparing(Issue::getIssueIdInInt));
-        } else {
-            //sort in descending order
-            sortedIssuesById = getModifiableIssueList().sorted((i1, i2) ->
-                    i2.getIssueIdInInt() - i1.getIssueIdInInt());
-        }
-        setIssues(sortedIssuesById);
+    @Override
+    public ObservableList<Issue> getModifiableIssueList() {
+        return issues.asModifiableObservableList();
     }
 
-    /**
-     * Sort issues in chronological order or reverse chronological order based on key value of 0 or 1 respectively.
-     *
-     * @param order zero for chronological order and one for reverse chronological order
-     */
-    public void sortIssuesByDeadline(int order) {
-        ObservableList<Issue> sortedIssuesByDeadline;
-        if (order == 0) {
-            //sort according to chronological deadlines
-            sortedIssuesByDeadline =
-                    getModifiableIssueList().sorted(Comparator.comparing(i -> i.getDeadline().getLocalDate()));
-        } else {
-            //sort according to reverse chronological deadlines
-            sortedIssuesByDeadline = getModifiableIssueList().sorted((i1, i2) ->
-                    i2.getDeadline().getLocalDate().compareTo(i1.getDeadline().getLocalDate()));
-        }
-        setIssues(sortedIssuesByDeadline);
+    @Override
+    public ObservableList<Client> getModifiableClientList() {
+        return clients.asModifiableObservableList();
     }
 
-    /**
-     * Sort issues according to lowest or highest urgency based on key value of 0 or 1 respectively.
-     *
-     * @param order zero for lowest urgency and one for highest urgency
-     */
-    public void sortIssuesByUrgency(int order) {
-        ObservableList<Issue> sortedIssuesByUrgency;
-        if (order == 0) {
-            //sort according to the lowest urgency
-            sortedIssuesByUrgency =
-                    getModifiableIssueList().sorted(Comparator.comparing(Issue::getUrgency));
-        } else {
-            //sort according to the highest urgency
-            sortedIssuesByUrgency = getModifiableIssueList().sorted((i1, i2) ->
-                    i2.getUrgency().compareTo(i1.getUrgency()));
-        }
-        setIssues(sortedIssuesByUrgency);
+    @Override
+    public ObservableList<Client> getClientList() {
+        return clients.asUnmodifiableObservableList();
+    }
+
+    @Override
+    public Project getProjectById(int id) {
+        return projects.getElementById(id);
+    }
+
+    @Override
+    public Issue getIssueById(int id) {
+        return issues.getElementById(id);
+    }
+
+    @Override
+    public Client getClientById(int id) {
+        return clients.getElementById(id);
     }
 
     /**
-     * Sort clients by id in ascending or descending order based on key value of 0 or 1 respectively.
-     *
-     * @param order zero for ascending order and one for descending order
-     */
-    public void sortClientsById(int order) {
-        ObservableList<Client> sortedClientsById;
-        if (order == 0) {
-            //sort in ascending order
-            sortedClientsById =
-                    getModifiableClientList().sorted(Comparator.comparing(Client::getClientIdInInt));
-        } else {
-            //sort in descending order
-            sortedClientsById = getModifiableClientList().sorted((c1, c2) ->
-                    c2.getClientIdInInt() - c1.getClientIdInInt());
-        }
-        setClients(sortedClientsById);
+     * Returns the ids of projects whose field {@code fieldName} contains any word of the {@code keywords}.
+     */
+    public Set<Integer> getProjectIdsByKeywords(String fieldName, Collection<String> keywords) {
+        return projects.getIdsByKeywords(fieldName, keywords);
     }
 
     /**
-     * Sort clients in alphabetical or reverse alphabetical order of names based on key value of 0 or 1 respectively.
-     *
-     * @param order zero for alphabetical and one for reverse alphabetical
-     */
-    public void sortClientsByName(int order) {
-        ObservableList<Client> sortedClientsByName;
-        if (order == 0) {
-            //sort according to alphabetical order
-            sortedClientsByName =
-                    getModifiableClientList().sorted(Comparator.comparing(c -> c.getClientName().toString()));
-        } else {
-            //sort according to reverse alphabetical order
-            sortedClientsByName = getModifiableClientList().sorted((c1, c2) ->
-                    c2.getClientName().toString().compareTo(c1.getClientName().toString()));
-        }
-        setClients(sortedClientsByName);
+     * Returns the ids of issues whose field {@code fieldName} contains any word of the {@code keywords}.
+     */
+    public Set<Integer> getIssueIdsByKeywords(String fieldName, Collection<String> keywords) {
+        return issues.getIdsByKeywords(fieldName, keywords);
     }
 
     /**
-     * Sorts client list with pinned clients at the front of the list.
+     * Returns the ids of clients whose field {@code fieldName} contains any word of the {@code keywords}.
      */
-    public void sortClientsByPin() {
-        ObservableList<Client> sortedClientsByPin;
-        sortedClientsByPin = getModifiableClientList().sorted(Comparator.comparing(c -> !c.isPinned()));
-        setClients(sortedClientsByPin);
+    public Set<Integer> getClientIdsByKeywords(String fieldName, Collection<String> keywords) {
+        return clients.getIdsByKeywords(fieldName, keywords);
     }
 
     /**
-     * Sorts project list with pinned projects at the front of the list.
+     * Returns the ids of projects due from {@code start} to {@code end}, both inclusive, where null is unbounded.
      */
-    public void sortProjectsByPin() {
-        ObservableList<Project> sortedProjectsByPin;
-        sortedProjectsByPin = getModifiableProjectList().sorted(Comparator.comparing(p -> !p.isPinned()));
-        setProjects(sortedProjectsByPin);
+    public Set<Integer> getProjectIdsByDeadline(LocalDate start, LocalDate end) {
+        return projects.getIdsByDeadline(start, end);
     }
 
     /**
-     * Sorts issue list with pinned issues at the front of the list.
+     * Returns the ids of issues due from {@code start} to {@code end}, both inclusive, where null is unbounded.
      */
-    public void sortIssuesByPin() {
-        ObservableList<Issue> sortedIssuesByPin;
-        sortedIssuesByPin = getModifiableIssueList().sorted(Comparator.comparing(i -> !i.isPinned()));
-        setIssues(sortedIssuesByPin);
+    public Set<Integer> getIssueIdsByDeadline(LocalDate start, LocalDate end) {
+        return issues.getIdsByDeadline(start, end);
     }
 
-    //// util methods
+    /**
+     * Returns the ids of issues with any of the {@code urgencies}, as a new bitset.
+     */
+    public BitSet getIssueIdsByUrgency(Collection<Urgency> urgencies) {
+        return issues.getIdsByBuckets(Issue.BUCKET_FIELD_URGENCY, urgencies);
+    }
 
-    @Override
-    public String toString() {
-        return projects.asUnmodifiableObservableList().size() + " projects\n"
-                + issues.asUnmodifiableObservableList().size() + " issues\n"
-                + clients.asUnmodifiableObservableList().size() + " clients\n";
+    /**
+     * Returns the ids of issues with any of the completion statuses in {@code isCompleted}, as a new bitset.
+     */
+    public BitSet getIssueIdsByStatus(Collection<Boolean> isCompleted) {
+        return issues.getIdsByBuckets(Issue.BUCKET_FIELD_STATUS, isCompleted);
     }
 
-    @Override
-    public ObservableList<Project> getProjectList() {
-        return projects.asUnmodifiableObservableList();
+    /**
+     * Returns the number of issues with the given urgency.
+     */
+    public int countIssuesByUrgency(Urgency urgency) {
+        return issues.countByBucket(Issue.BUCKET_FIELD_URGENCY, urgency);
     }
 
-    @Override
-    public ObservableList<Project> getModifiableProjectList() {
-        return projects.asModifiableObservableList();
+    /**
+     * Returns the number of completed issues if {@code isCompleted} is true, and of incomplete issues otherwise.
+     */
+    public int countIssuesByStatus(boolean isCompleted) {
+        return issues.countByBucket(Issue.BUCKET_FIELD_STATUS, isCompleted);
     }
 
     @Override
-    public ObservableList<Issue> getIssueList() {
-        return issues.asUnmodifiableObservableList();
+    public Client getClient(Client client) {
+        if (!clients.containsByName(client)) {
+            return null;
+        }
+        return clients.getElementByName(client);
     }
 
     @Override
-    public ObservableList<Issue> getModifiableIssueList() {
-        return issues.asModifiableObservableList();
+    public int generateClientId() {
+        return clients.generateNextId();
     }
 
     @Override
-    public ObservableList<Client> getModifiableClientList() {
-        return clients.asModifiableObservableList();
+    public int generateIssueId() {
+        return issues.generateNextId();
     }
 
     @Override
-    public ObservableList<Client> getClientList() {
-        return clients.asUnmodifiableObservableList();
+    public int generateProjectId() {
+        return projects.generateNextId();
     }
 
     @Override
-    public Project getProjectById(int id) {
-        return HasIntegerIdentifier.getElementById(projects, id);
+    public int getClientIdHighWaterMark() {
+        return clients.getIdHighWaterMark();
     }
 
     @Override
-    public Issue getIssueById(int id) {
-        return HasIntegerIdentifier.getElementById(issues, id);
+    public int getIssueIdHighWaterMark() {
+        return issues.getIdHighWaterMark();
     }
 
     @Override
-    public Client getClientById(int id) {
-        return HasIntegerIdentifier.getElementById(clients, id);
+    public int getProjectIdHighWaterMark() {
+        return projects.getIdHighWaterMark();
     }
 
+
     @Override
-    public Client getClient(Client client) {
-        for (Client c : getModifiableClientList()) {
-            if (c.hasSameName(client)) {
-                return c;
-            }
-        }
-        return null;
+    public long getModificationCount() {
+        return modificationCounter.get();
     }
 
     @Override
-    public int generateClientId() {
-        return HasIntegerIdentifier.generateNextId(clients);
+    public Set<Integer> getClientIdsChangedSince(long modificationCount) {
+        return clients.getIdsChangedSince(modificationCount);
     }
 
     @Override
-    public int generateIssueId() {
-        return HasIntegerIdentifier.generateNextId(issues);
+    public Set<Integer> getProjectIdsChangedSince(long modificationCount) {
+        return projects.getIdsChangedSince(modificationCount);
     }
 
     @Override
-    public int generateProjectId() {
-        return HasIntegerIdentifier.generateNextId(projects);
+    public Set<Integer> getIssueIdsChangedSince(long modificationCount) {
+        return issues.getIdsChangedSince(modificationCount);
     }
 
-
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -514,74 +447,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Sorts all entity lists according to the default order - by id in ascending order, and by pin.
+     * Sorts all entity lists according to the default order - pinned entities first, then by id in ascending order.
+     * Each list is sorted in place, once.
      */
     public void sortAllLists() {
-        sortClientsById(0);
-        sortProjectsById(0);
-        sortIssuesById(0);
-        sortClientsByPin();
-        sortProjectsByPin();
-        sortIssuesByPin();
-    }
-
-    /**
-     * Sorts project list by the last known sort category and order.
-     */
-    public void sortProjectsByCurrentCategory() {
-        switch(Project.getSortCategory()) {
-        case ID:
-            sortProjectsById(Project.getSortOrder());
-            break;
-        case NAME:
-            sortProjectsByName(Project.getSortOrder());
-            break;
-        case DEADLINE:
-            sortProjectsByDeadline(Project.getSortOrder());
-            break;
-        case ISSUE_COUNT:
-            sortProjectsByIssueCount(Project.getSortOrder());
-            break;
-        default:
-            assert false : "Invalid sort category for projects";
-            break;
-        }
-    }
-
-    /**
-     * Sorts client list by the last known sort category and order.
-     */
-    public void sortClientsByCurrentCategory() {
-        switch(Client.getSortCategory()) {
-        case ID:
-            sortClientsById(Client.getSortOrder());
-            break;
-        case NAME:
-            sortClientsByName(Client.getSortOrder());
-            break;
-        default:
-            assert false : "Invalid sort category for clients";
-            break;
-        }
-    }
-
-    /**
-     * Sorts issue list by the last known sort category and order.
-     */
-    public void sortIssuesByCurrentCategory() {
-        switch(Issue.getSortCategory()) {
-        case ID:
-            sortIssuesById(Issue.getSortOrder());
-            break;
-        case DEADLINE:
-            sortIssuesByDeadline(Issue.getSortOrder());
-            break;
-        case URGENCY:
-            sortIssuesByUrgency(Issue.getSortOrder());
-            break;
-        default:
-            assert false : "Invalid sort category for issues";
-            break;
-        }
+        clients.sort(Client.getPinnedSortComparator(SortCategory.ID, 0));
+        projects.sort(Project.getPinnedSortComparator(SortCategory.ID, 0));
+        issues.sort(Issue.getPinnedSortComparator(SortCategory.ID, 0));
     }
 }
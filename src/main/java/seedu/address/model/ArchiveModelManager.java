@@ -0,0 +1,673 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.core.DefaultView;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.client.Client;
+import seedu.address.model.interfaces.HasIntegerIdentifier;
+import seedu.address.model.issue.Issue;
+import seedu.address.model.issue.Urgency;
+import seedu.address.model.list.BucketIndex;
+import seedu.address.model.list.NotFoundException;
+import seedu.address.model.project.Project;
+
+/**
+ * Represents the in-memory model of an archive, which is only viewed.
+ * Unlike {@link ModelManager}, the archive is not copied into an {@link AddressBook} with its indexes.
+ * Each entity list is shown through a view of the list of the archive which only gets the entities shown,
+ * so that an archive which decodes its entities as they are got is never decoded as a whole to be shown.
+ * Filtering or sorting a view, and looking entities up by their fields, get each entity of the list once
+ * and keep only the positions or ids of those matching.
+ * <p>
+ * The lists of the archive must be in the order {@link AddressBook#sortAllLists()} sorts them in,
+ * as archives are read, so that they are shown in that order without being sorted.
+ * Every change to the address book fails, as an archive is never changed.
+ */
+public class ArchiveModelManager implements Model {
+
+    public static final String MESSAGE_READ_ONLY = "An archive cannot be changed.";
+
+    private static final Logger logger = LogsCenter.getLogger(ArchiveModelManager.class);
+
+    private static final Map<String, Function<Client, String>> CLIENT_KEYWORD_FIELDS = Map.of(
+            Client.KEYWORD_FIELD_NAME, client -> client.getClientName().toString(),
+            Client.KEYWORD_FIELD_EMAIL, client -> client.getClientEmail().toString());
+    private static final Map<String, Function<Project, String>> PROJECT_KEYWORD_FIELDS = Map.of(
+            Project.KEYWORD_FIELD_NAME, project -> project.getProjectName().toString(),
+            Project.KEYWORD_FIELD_REPOSITORY, project -> project.getRepository().toString());
+    private static final Map<String, Function<Issue, String>> ISSUE_KEYWORD_FIELDS = Map.of(
+            Issue.KEYWORD_FIELD_TITLE, issue -> issue.getTitle().toString());
+
+    private final ReadOnlyAddressBook addressBook;
+    private final UserPrefs userPrefs;
+    private final ArchiveView<Project> projectView;
+    private final ArchiveView<Issue> issueView;
+    private final ArchiveView<Client> clientView;
+
+    /**
+     * Initializes an ArchiveModelManager with the given archive and userPrefs.
+     */
+    public ArchiveModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        requireAllNonNull(addressBook, userPrefs);
+
+        logger.fine("Initializing with archive: " + addressBook + " and user prefs " + userPrefs);
+
+        this.addressBook = addressBook;
+        this.userPrefs = new UserPrefs(userPrefs);
+        projectView = new ArchiveView<>(addressBook.getProjectList());
+        issueView = new ArchiveView<>(addressBook.getIssueList());
+        clientView = new ArchiveView<>(addressBook.getClientList());
+        sortProjectsByCurrentCategory();
+        sortIssuesByCurrentCategory();
+        sortClientsByCurrentCategory();
+    }
+
+    //=========== UserPrefs ==================================================================================
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        this.userPrefs.resetData(userPrefs);
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return userPrefs;
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return userPrefs.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        requireNonNull(guiSettings);
+        userPrefs.setGuiSettings(guiSettings);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return userPrefs.getAddressBookFilePath();
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        requireNonNull(addressBookFilePath);
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+    }
+
+    @Override
+    public DefaultView getDefaultView() {
+        return userPrefs.getDefaultView();
+    }
+
+    @Override
+    public void setDefaultView(DefaultView defaultView) {
+        userPrefs.setDefaultView(defaultView);
+    }
+
+    //=========== AddressBook ================================================================================
+
+    @Override
+    public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    @Override
+    public boolean hasProject(Project project) {
+        requireNonNull(project);
+        return addressBook.getProjectList().stream().anyMatch(project::hasSameName);
+    }
+
+    @Override
+    public boolean hasIssue(Issue issue) {
+        requireNonNull(issue);
+        return addressBook.getIssueList().stream().anyMatch(issue::hasSameName);
+    }
+
+    @Override
+    public boolean hasClient(Client client) {
+        requireNonNull(client);
+        return addressBook.getClientList().stream().anyMatch(client::hasSameName);
+    }
+
+    @Override
+    public boolean hasProjectId(int id) {
+        return hasId(addressBook::getProjectById, id);
+    }
+
+    @Override
+    public boolean hasIssueId(int id) {
+        return hasId(addressBook::getIssueById, id);
+    }
+
+    @Override
+    public boolean hasClientId(int id) {
+        return hasId(addressBook::getClientById, id);
+    }
+
+    private static boolean hasId(Function<Integer, ?> getById, int id) {
+        try {
+            getById.apply(id);
+            return true;
+        } catch (NotFoundException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Project getProjectById(int id) {
+        return addressBook.getProjectById(id);
+    }
+
+    @Override
+    public Issue getIssueById(int id) {
+        return addressBook.getIssueById(id);
+    }
+
+    @Override
+    public Client getClientById(int id) {
+        return addressBook.getClientById(id);
+    }
+
+    @Override
+    public Set<Integer> getProjectIdsByKeywords(String fieldName, Collection<String> keywords) {
+        return getIdsByKeywords(addressBook.getProjectList(), PROJECT_KEYWORD_FIELDS, fieldName, keywords);
+    }
+
+    @Override
+    public Set<Integer> getIssueIdsByKeywords(String fieldName, Collection<String> keywords) {
+        return getIdsByKeywords(addressBook.getIssueList(), ISSUE_KEYWORD_FIELDS, fieldName, keywords);
+    }
+
+    @Override
+    public Set<Integer> getClientIdsByKeywords(String fieldName, Collection<String> keywords) {
+        return getIdsByKeywords(addressBook.getClientList(), CLIENT_KEYWORD_FIELDS, fieldName, keywords);
+    }
+
+    /**
+     * Returns the ids of the {@code entities} whose field {@code fieldName} contains any word of the
+     * {@code keywords}, ignoring case, as the keyword indexes of an {@link AddressBook} would.
+     */
+    private static <T extends HasIntegerIdentifier<T>> Set<Integer> getIdsByKeywords(List<T> entities,
+            Map<String, Function<T, String>> fields, String fieldName, Collection<String> keywords) {
+        requireAllNonNull(fieldName, keywords);
+        Function<T, String> field = fields.get(fieldName);
+        if (field == null) {
+            throw new NotFoundException();
+        }
+        Set<String> words = new HashSet<>();
+        for (String keyword : keywords) {
+            words.addAll(Arrays.asList(StringUtil.toLowerCaseWords(keyword)));
+        }
+        Set<Integer> ids = new HashSet<>();
+        for (T entity : entities) {
+            for (String word : StringUtil.toLowerCaseWords(field.apply(entity))) {
+                if (words.contains(word)) {
+                    ids.add(entity.getId());
+                    break;
+                }
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public Set<Integer> getProjectIdsByDeadline(LocalDate start, LocalDate end) {
+        return getIdsByDeadline(addressBook.getProjectList(), Project::getDeadline, start, end);
+    }
+
+    @Override
+    public Set<Integer> getIssueIdsByDeadline(LocalDate start, LocalDate end) {
+        return getIdsByDeadline(addressBook.getIssueList(), Issue::getDeadline, start, end);
+    }
+
+    /**
+     * Returns the ids of the {@code entities} due from {@code start} to {@code end}, both inclusive,
+     * where null is unbounded.
+     */
+    private static <T extends HasIntegerIdentifier<T>> Set<Integer> getIdsByDeadline(List<T> entities,
+            Function<T, Deadline> field, LocalDate start, LocalDate end) {
+        Set<Integer> ids = new HashSet<>();
+        for (T entity : entities) {
+            Deadline deadline = field.apply(entity);
+            if (deadline.isEmpty()) {
+                continue;
+            }
+            LocalDate date = deadline.getLocalDate();
+            if ((start == null || !date.isBefore(start)) && (end == null || !date.isAfter(end))) {
+                ids.add(entity.getId());
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public BitSet getIssueIdsByUrgency(Collection<Urgency> urgencies) {
+        requireNonNull(urgencies);
+        return getIssueIds(issue -> urgencies.contains(issue.getUrgency()));
+    }
+
+    @Override
+    public BitSet getIssueIdsByStatus(Collection<Boolean> isCompleted) {
+        requireNonNull(isCompleted);
+        return getIssueIds(issue -> isCompleted.contains(issue.getStatus().getStatus()));
+    }
+
+    /**
+     * Returns the ids of the issues matching {@code predicate} as a new bitset, leaving out ids which cannot be set
+     * in a bitset, as a {@link BucketIndex} would.
+     */
+    private BitSet getIssueIds(Predicate<Issue> predicate) {
+        BitSet ids = new BitSet();
+        for (Issue issue : addressBook.getIssueList()) {
+            if (BucketIndex.isIndexableId(issue.getId()) && predicate.test(issue)) {
+                ids.set(issue.getId());
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public int countIssuesByUrgency(Urgency urgency) {
+        return getIssueIdsByUrgency(List.of(urgency)).cardinality();
+    }
+
+    @Override
+    public int countIssuesByStatus(boolean isCompleted) {
+        return getIssueIdsByStatus(List.of(isCompleted)).cardinality();
+    }
+
+    @Override
+    public Client getClient(Client client) {
+        return addressBook.getClient(client);
+    }
+
+    @Override
+    public void deleteProject(Project target) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void deleteIssue(Issue target) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void deleteClient(Client target) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void addProject(Project project) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void addIssue(Issue issue) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void addClient(Client client) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setProject(Project target, Project editedProject) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setIssue(Issue target, Issue editedIssue) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setClient(Client target, Client editedClient) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public int generateClientId() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public int generateIssueId() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public int generateProjectId() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    //=========== Filtered List Accessors =============================================================
+
+    @Override
+    public ObservableList<Project> getFilteredProjectList() {
+        return projectView;
+    }
+
+    @Override
+    public ObservableList<Issue> getFilteredIssueList() {
+        return issueView;
+    }
+
+    @Override
+    public ObservableList<Client> getFilteredClientList() {
+        return clientView;
+    }
+
+    @Override
+    public void updateFilteredProjectList(Predicate<Project> predicate) {
+        requireNonNull(predicate);
+        projectView.setPredicate(predicate == PREDICATE_SHOW_ALL_PROJECTS ? null : predicate);
+    }
+
+    @Override
+    public void updateFilteredIssueList(Predicate<Issue> predicate) {
+        requireNonNull(predicate);
+        issueView.setPredicate(predicate == PREDICATE_SHOW_ALL_ISSUES ? null : predicate);
+    }
+
+    @Override
+    public void updateFilteredClientList(Predicate<Client> predicate) {
+        requireNonNull(predicate);
+        clientView.setPredicate(predicate == PREDICATE_SHOW_ALL_CLIENTS ? null : predicate);
+    }
+
+    //=========== Sorted List Accessors =============================================================
+
+    // Sorting by id in ascending order, with pinned entities first, keeps the order of the archive,
+    // so the views are left unsorted rather than sorted into the order they are already in.
+    private void setProjectComparator(SortCategory category, int order) {
+        projectView.setComparator(isArchiveOrder(category, order)
+                ? null : Project.getPinnedSortComparator(category, order));
+    }
+
+    private void setIssueComparator(SortCategory category, int order) {
+        issueView.setComparator(isArchiveOrder(category, order)
+                ? null : Issue.getPinnedSortComparator(category, order));
+    }
+
+    private void setClientComparator(SortCategory category, int order) {
+        clientView.setComparator(isArchiveOrder(category, order)
+                ? null : Client.getPinnedSortComparator(category, order));
+    }
+
+    private static boolean isArchiveOrder(SortCategory category, int order) {
+        return category == SortCategory.ID && order == 0;
+    }
+
+    @Override
+    public void sortProjectsByDeadline(int key) {
+        setProjectComparator(SortCategory.DEADLINE, key);
+        updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
+    }
+
+    @Override
+    public void sortProjectsByIssueCount(int key) {
+        setProjectComparator(SortCategory.ISSUE_COUNT, key);
+        updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
+    }
+
+    @Override
+    public void sortProjectsByName(int key) {
+        setProjectComparator(SortCategory.NAME, key);
+        updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
+    }
+
+    @Override
+    public void sortProjectsById(int key) {
+        setProjectComparator(SortCategory.ID, key);
+        updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
+    }
+
+    @Override
+    public void sortIssuesById(int key) {
+        setIssueComparator(SortCategory.ID, key);
+        updateFilteredIssueList(PREDICATE_SHOW_ALL_ISSUES);
+    }
+
+    @Override
+    public void sortIssuesByDeadline(int key) {
+        setIssueComparator(SortCategory.DEADLINE, key);
+        updateFilteredIssueList(PREDICATE_SHOW_ALL_ISSUES);
+    }
+
+    @Override
+    public void sortIssuesByUrgency(int key) {
+        setIssueComparator(SortCategory.URGENCY, key);
+        updateFilteredIssueList(PREDICATE_SHOW_ALL_ISSUES);
+    }
+
+    @Override
+    public void sortClientsById(int key) {
+        setClientComparator(SortCategory.ID, key);
+        updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+    }
+
+    @Override
+    public void sortClientsByName(int key) {
+        setClientComparator(SortCategory.NAME, key);
+        updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+    }
+
+    @Override
+    public void sortProjectsByCurrentCategory() {
+        setProjectComparator(Project.getSortCategory(), Project.getSortOrder());
+    }
+
+    @Override
+    public void sortClientsByCurrentCategory() {
+        setClientComparator(Client.getSortCategory(), Client.getSortOrder());
+    }
+
+    @Override
+    public void sortIssuesByCurrentCategory() {
+        setIssueComparator(Issue.getSortCategory(), Issue.getSortOrder());
+    }
+
+    /**
+     * A filtered, then sorted view of a list which never changes, which holds the positions in the list
+     * of the entities it shows rather than the entities, and gets each entity from the list as it is got.
+     * When every entity is shown in the order of the list, it holds nothing at all.
+     */
+    private static class ArchiveView<E> extends ObservableListBase<E> {
+
+        private final List<E> source;
+        // Null to show every entity, and to keep the order of the source respectively
+        private Predicate<? super E> predicate;
+        private Comparator<? super E> comparator;
+        // Null when every entity is shown in the order of the source
+        private int[] positions;
+
+        ArchiveView(List<E> source) {
+            this.source = source;
+        }
+
+        void setPredicate(Predicate<? super E> predicate) {
+            this.predicate = predicate;
+            refresh();
+        }
+
+        void setComparator(Comparator<? super E> comparator) {
+            this.comparator = comparator;
+            refresh();
+        }
+
+        /**
+         * Finds the positions of the entities to show again, and replaces every entity shown with them.
+         * The entities replaced are only got from the source if a listener asks for them.
+         */
+        private void refresh() {
+            List<E> removed = new PositionedList<>(source, positions, size());
+            positions = findPositions();
+            // Not built with nextRemove, which copies every entity removed and so would get them all from the source
+            fireChange(new Replacement(removed));
+        }
+
+        private int[] findPositions() {
+            if (predicate == null && comparator == null) {
+                return null;
+            }
+            int[] matches = new int[source.size()];
+            int count = 0;
+            // The entities matching are kept to be sorted, and dropped once their positions are sorted
+            List<PositionedEntity<E>> toSort = new ArrayList<>();
+            for (int position = 0; position < source.size(); position++) {
+                E entity = source.get(position);
+                if (predicate != null && !predicate.test(entity)) {
+                    continue;
+                }
+                matches[count++] = position;
+                if (comparator != null) {
+                    toSort.add(new PositionedEntity<>(position, entity));
+                }
+            }
+            if (comparator != null) {
+                toSort.sort((first, second) -> comparator.compare(first.entity, second.entity));
+                for (int i = 0; i < count; i++) {
+                    matches[i] = toSort.get(i).position;
+                }
+            }
+            return Arrays.copyOf(matches, count);
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size());
+            return source.get(positions == null ? index : positions[index]);
+        }
+
+        @Override
+        public int size() {
+            return positions == null ? source.size() : positions.length;
+        }
+
+        /**
+         * A change which replaces the entities shown, {@code removed}, with all the entities now shown.
+         */
+        private class Replacement extends ListChangeListener.Change<E> {
+
+            private final List<E> removed;
+            private int cursor = -1;
+
+            Replacement(List<E> removed) {
+                super(ArchiveView.this);
+                this.removed = removed;
+            }
+
+            @Override
+            public boolean next() {
+                cursor++;
+                return cursor == 0;
+            }
+
+            @Override
+            public void reset() {
+                cursor = -1;
+            }
+
+            @Override
+            public int getFrom() {
+                checkCursor();
+                return 0;
+            }
+
+            @Override
+            public int getTo() {
+                checkCursor();
+                return size();
+            }
+
+            @Override
+            public List<E> getRemoved() {
+                checkCursor();
+                return removed;
+            }
+
+            @Override
+            protected int[] getPermutation() {
+                checkCursor();
+                return new int[0];
+            }
+
+            private void checkCursor() {
+                if (cursor != 0) {
+                    throw new IllegalStateException("Invalid Change state: next() must be called before inspecting"
+                            + " the Change.");
+                }
+            }
+        }
+    }
+
+    /**
+     * The entities at {@code positions} of a list, or its first {@code size} entities if there are no positions.
+     */
+    private static class PositionedList<E> extends AbstractList<E> {
+
+        private final List<E> source;
+        private final int[] positions;
+        private final int size;
+
+        PositionedList(List<E> source, int[] positions, int size) {
+            this.source = source;
+            this.positions = positions;
+            this.size = size;
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            return source.get(positions == null ? index : positions[index]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static class PositionedEntity<E> {
+        private final int position;
+        private final E entity;
+
+        PositionedEntity(int position, E entity) {
+            this.position = position;
+            this.entity = entity;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.regex.Pattern;
 
 /**
  * Represents a deadline.
@@ -47,9 +48,14 @@ public class Deadline {
      * The date must be entered in yyyy-mm-dd format
      */
     public static final String VALIDATION_REGEX = "^(\\d{4})-(0?[1-9]|1[012])-(0?[1-9]|[12][0-9]|3[01])$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private LocalDate deadline;
 
+    private Deadline(LocalDate deadline) {
+        this.deadline = deadline;
+    }
+
     /**
      * Constructs a  Deadline.
      *
@@ -61,6 +67,17 @@ public class Deadline {
         this.deadline = LocalDate.parse(deadline);
     }
 
+    /**
+     * Returns a Deadline on a date which has already been parsed.
+     *
+     * @param deadline A date with a year from 0001 to 9999.
+     */
+    public static Deadline of(LocalDate deadline) {
+        requireNonNull(deadline);
+        checkArgument(deadline.getYear() >= 1 && deadline.getYear() <= 9999, MESSAGE_CONSTRAINTS);
+        return new Deadline(deadline);
+    }
+
     public boolean isEmpty() {
         return false;
     }
@@ -69,7 +86,7 @@ public class Deadline {
      * Returns true if a given string is a valid deadline.
      */
     public static boolean isValidDeadline(String deadline) {
-        if (deadline.startsWith("0000") || !deadline.matches(VALIDATION_REGEX)) {
+        if (deadline.startsWith("0000") || !VALIDATION_PATTERN.matcher(deadline).matches()) {
             return false;
         }
         try {
@@ -0,0 +1,105 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Represents a range of deadlines to list entities by: between two dates, overdue, or due in the next few days.
+ * The range of overdue and upcoming deadlines depends on the date it is resolved against.
+ */
+public class DeadlineRange {
+
+    public static final String MESSAGE_CONSTRAINTS = "The start date should not be after the end date";
+
+    private final LocalDate start;
+    private final LocalDate end;
+    private final boolean isOverdue;
+    private final int days;
+
+    private DeadlineRange(LocalDate start, LocalDate end, boolean isOverdue, int days) {
+        this.start = start;
+        this.end = end;
+        this.isOverdue = isOverdue;
+        this.days = days;
+    }
+
+    /**
+     * Returns the range of deadlines from {@code start} to {@code end}, both inclusive.
+     */
+    public static DeadlineRange between(LocalDate start, LocalDate end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        checkArgument(!start.isAfter(end), MESSAGE_CONSTRAINTS);
+        return new DeadlineRange(start, end, false, 0);
+    }
+
+    /**
+     * Returns the range of deadlines before the current date.
+     */
+    public static DeadlineRange overdue() {
+        return new DeadlineRange(null, null, true, 0);
+    }
+
+    /**
+     * Returns the range of deadlines from the current date to {@code days} days after it, both inclusive.
+     */
+    public static DeadlineRange nextDays(int days) {
+        checkArgument(days >= 0, "Number of days should not be negative");
+        return new DeadlineRange(null, null, false, days);
+    }
+
+    public boolean isOverdue() {
+        return isOverdue;
+    }
+
+    /**
+     * Returns the earliest deadline in the range, or null if there is no earliest deadline.
+     * @param today current date
+     */
+    public LocalDate getStart(LocalDate today) {
+        if (isOverdue) {
+            return null;
+        }
+        return start != null ? start : today;
+    }
+
+    /**
+     * Returns the latest deadline in the range.
+     * @param today current date
+     */
+    public LocalDate getEnd(LocalDate today) {
+        if (isOverdue) {
+            return today.minusDays(1);
+        }
+        return end != null ? end : today.plusDays(days);
+    }
+
+    @Override
+    public String toString() {
+        if (isOverdue) {
+            return "overdue";
+        }
+        if (start != null) {
+            return "due from " + start + " to " + end;
+        }
+        return "due in the next " + days + " day(s)";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DeadlineRange // instanceof handles nulls
+                && Objects.equals(start, ((DeadlineRange) other).start)
+                && Objects.equals(end, ((DeadlineRange) other).end)
+                && isOverdue == ((DeadlineRange) other).isOverdue
+                && days == ((DeadlineRange) other).days);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end, isOverdue, days);
+    }
+}
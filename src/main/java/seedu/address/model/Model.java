@@ -1,6 +1,10 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -8,6 +12,7 @@ import seedu.address.commons.core.DefaultView;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.client.Client;
 import seedu.address.model.issue.Issue;
+import seedu.address.model.issue.Urgency;
 import seedu.address.model.project.Project;
 
 /**
@@ -83,6 +88,34 @@ public interface Model {
 
     Client getClient(Client client);
 
+    /**
+     * Get the ids of entities whose field {@code fieldName} contains any word of the {@code keywords},
+     * ignoring case, from the keyword index of the field.
+     */
+    Set<Integer> getProjectIdsByKeywords(String fieldName, Collection<String> keywords);
+    Set<Integer> getIssueIdsByKeywords(String fieldName, Collection<String> keywords);
+    Set<Integer> getClientIdsByKeywords(String fieldName, Collection<String> keywords);
+
+    /**
+     * Get the ids of entities due from {@code start} to {@code end}, both inclusive, from the deadline index.
+     * A null start or end leaves the range unbounded on that side. Entities without a deadline are not returned.
+     */
+    Set<Integer> getProjectIdsByDeadline(LocalDate start, LocalDate end);
+    Set<Integer> getIssueIdsByDeadline(LocalDate start, LocalDate end);
+
+    /**
+     * Get the ids of issues with any of the given urgencies or completion statuses, from the bucket indexes.
+     * Issues with an empty id are not returned.
+     */
+    BitSet getIssueIdsByUrgency(Collection<Urgency> urgencies);
+    BitSet getIssueIdsByStatus(Collection<Boolean> isCompleted);
+
+    /**
+     * Get the number of issues with the given urgency or completion status, in constant time.
+     */
+    int countIssuesByUrgency(Urgency urgency);
+    int countIssuesByStatus(boolean isCompleted);
+
     void deleteProject(Project target);
 
     void deleteIssue(Issue target);
@@ -152,12 +185,6 @@ public interface Model {
 
     void setDefaultView(DefaultView defaultView);
 
-    void sortClientsByPin();
-
-    void sortProjectsByPin();
-
-    void sortIssuesByPin();
-
     void sortProjectsByCurrentCategory();
 
     void sortClientsByCurrentCategory();
@@ -4,20 +4,29 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.DefaultView;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.client.Client;
 import seedu.address.model.issue.Issue;
+import seedu.address.model.issue.Urgency;
 import seedu.address.model.project.Project;
 
 /**
  * Represents the in-memory model of the project book data.
+ * Each entity list is shown through a filtered, then sorted view of the list in the project book.
+ * Sorting swaps the comparator of the view and leaves the order of the project book's lists unchanged.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -27,6 +36,9 @@ public class ModelManager implements Model {
     private final FilteredList<Project> filteredProjects;
     private final FilteredList<Issue> filteredIssues;
     private final FilteredList<Client> filteredClients;
+    private final SortedList<Project> sortedProjects;
+    private final SortedList<Issue> sortedIssues;
+    private final SortedList<Client> sortedClients;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -41,6 +53,12 @@ public class ModelManager implements Model {
         filteredProjects = new FilteredList<>(this.addressBook.getProjectList());
         filteredIssues = new FilteredList<>(this.addressBook.getIssueList());
         filteredClients = new FilteredList<>(this.addressBook.getClientList());
+        sortedProjects = new SortedList<>(filteredProjects);
+        sortedIssues = new SortedList<>(filteredIssues);
+        sortedClients = new SortedList<>(filteredClients);
+        sortProjectsByCurrentCategory();
+        sortIssuesByCurrentCategory();
+        sortClientsByCurrentCategory();
     }
 
     public ModelManager() {
@@ -153,6 +171,51 @@ public class ModelManager implements Model {
         return addressBook.getClientById(id);
     }
 
+    @Override
+    public Set<Integer> getProjectIdsByKeywords(String fieldName, Collection<String> keywords) {
+        return addressBook.getProjectIdsByKeywords(fieldName, keywords);
+    }
+
+    @Override
+    public Set<Integer> getIssueIdsByKeywords(String fieldName, Collection<String> keywords) {
+        return addressBook.getIssueIdsByKeywords(fieldName, keywords);
+    }
+
+    @Override
+    public Set<Integer> getClientIdsByKeywords(String fieldName, Collection<String> keywords) {
+        return addressBook.getClientIdsByKeywords(fieldName, keywords);
+    }
+
+    @Override
+    public Set<Integer> getProjectIdsByDeadline(LocalDate start, LocalDate end) {
+        return addressBook.getProjectIdsByDeadline(start, end);
+    }
+
+    @Override
+    public Set<Integer> getIssueIdsByDeadline(LocalDate start, LocalDate end) {
+        return addressBook.getIssueIdsByDeadline(start, end);
+    }
+
+    @Override
+    public BitSet getIssueIdsByUrgency(Collection<Urgency> urgencies) {
+        return addressBook.getIssueIdsByUrgency(urgencies);
+    }
+
+    @Override
+    public BitSet getIssueIdsByStatus(Collection<Boolean> isCompleted) {
+        return addressBook.getIssueIdsByStatus(isCompleted);
+    }
+
+    @Override
+    public int countIssuesByUrgency(Urgency urgency) {
+        return addressBook.countIssuesByUrgency(urgency);
+    }
+
+    @Override
+    public int countIssuesByStatus(boolean isCompleted) {
+        return addressBook.countIssuesByStatus(isCompleted);
+    }
+
     @Override
     public Client getClient(Client client) {
         return addressBook.getClient(client);
@@ -230,22 +293,22 @@ public class ModelManager implements Model {
     //=========== Filtered List Accessors =============================================================
 
     /**
-     * Returns an unmodifiable view of the list of projects backed by the internal list of
+     * Returns an unmodifiable, sorted view of the list of projects backed by the internal list of
      * {@code versionedAddressBook}
      */
     @Override
     public ObservableList<Project> getFilteredProjectList() {
-        return filteredProjects;
+        return sortedProjects;
     }
 
     @Override
     public ObservableList<Issue> getFilteredIssueList() {
-        return filteredIssues;
+        return sortedIssues;
     }
 
     @Override
     public ObservableList<Client> getFilteredClientList() {
-        return filteredClients;
+        return sortedClients;
     }
 
 
@@ -288,90 +351,88 @@ public class ModelManager implements Model {
                 && filteredClients.equals(other.filteredClients);
     }
 
+    //=========== Sorted List Accessors =============================================================
+
+    // Each comparator orders pinned entities first, so a single call sorts the list by pin, category and order.
+    // The comparators are new instances on every call, which makes the sorted lists re-sort after a pin toggle.
+    private void setProjectComparator(Comparator<Project> comparator) {
+        sortedProjects.setComparator(comparator);
+    }
+
+    private void setIssueComparator(Comparator<Issue> comparator) {
+        sortedIssues.setComparator(comparator);
+    }
+
+    private void setClientComparator(Comparator<Client> comparator) {
+        sortedClients.setComparator(comparator);
+    }
+
     @Override
     public void sortProjectsByDeadline(int key) {
-        addressBook.sortProjectsByDeadline(key);
+        setProjectComparator(Project.getPinnedSortComparator(SortCategory.DEADLINE, key));
         updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
     }
 
     @Override
     public void sortProjectsByIssueCount(int key) {
-        addressBook.sortProjectsByIssueCount(key);
+        setProjectComparator(Project.getPinnedSortComparator(SortCategory.ISSUE_COUNT, key));
         updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
     }
 
     @Override
     public void sortProjectsByName(int key) {
-        addressBook.sortProjectsByName(key);
+        setProjectComparator(Project.getPinnedSortComparator(SortCategory.NAME, key));
         updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
     }
 
     @Override
     public void sortProjectsById(int key) {
-        addressBook.sortProjectsById(key);
+        setProjectComparator(Project.getPinnedSortComparator(SortCategory.ID, key));
         updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
     }
 
     @Override
     public void sortIssuesById(int key) {
-        addressBook.sortIssuesById(key);
+        setIssueComparator(Issue.getPinnedSortComparator(SortCategory.ID, key));
         updateFilteredIssueList(PREDICATE_SHOW_ALL_ISSUES);
     }
 
     @Override
     public void sortIssuesByDeadline(int key) {
-        addressBook.sortIssuesByDeadline(key);
+        setIssueComparator(Issue.getPinnedSortComparator(SortCategory.DEADLINE, key));
         updateFilteredIssueList(PREDICATE_SHOW_ALL_ISSUES);
     }
 
     @Override
     public void sortIssuesByUrgency(int key) {
-        addressBook.sortIssuesByUrgency(key);
+        setIssueComparator(Issue.getPinnedSortComparator(SortCategory.URGENCY, key));
         updateFilteredIssueList(PREDICATE_SHOW_ALL_ISSUES);
     }
 
     @Override
     public void sortClientsById(int key) {
-        addressBook.sortClientsById(key);
+        setClientComparator(Client.getPinnedSortComparator(SortCategory.ID, key));
         updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
     }
 
     @Override
     public void sortClientsByName(int key) {
-        addressBook.sortClientsByName(key);
+        setClientComparator(Client.getPinnedSortComparator(SortCategory.NAME, key));
         updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
     }
 
-    @Override
-    public void sortClientsByPin() {
-        addressBook.sortClientsByPin();
-        updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
-    }
-
-    @Override
-    public void sortProjectsByPin() {
-        addressBook.sortProjectsByPin();
-        updateFilteredProjectList(PREDICATE_SHOW_ALL_PROJECTS);
-    }
-
-    @Override
-    public void sortIssuesByPin() {
-        addressBook.sortIssuesByPin();
-        updateFilteredIssueList(PREDICATE_SHOW_ALL_ISSUES);
-    }
-
     @Override
     public void sortProjectsByCurrentCategory() {
-        addressBook.sortProjectsByCurrentCategory();
+        setProjectComparator(Project.getCurrentSortComparator());
     }
 
     @Override
     public void sortClientsByCurrentCategory() {
-        addressBook.sortClientsByCurrentCategory();
+        setClientComparator(Client.getCurrentSortComparator());
     }
 
     @Override
     public void sortIssuesByCurrentCategory() {
-        addressBook.sortIssuesByCurrentCategory();
+        setIssueComparator(Issue.getCurrentSortComparator());
     }
 }
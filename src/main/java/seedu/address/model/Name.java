@@ -3,6 +3,8 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents the name of the client. This class is modelled after the Name class in the Person package of AB3
  */
@@ -16,6 +18,7 @@ public class Name {
      * The name can contain only letters and spaces.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private String fullName;
 
@@ -62,7 +65,7 @@ public class Name {
      * @return boolean true if a given string is a valid name
      */
     public static boolean isValidName(String test) {
-        return !test.isEmpty() && test.matches(VALIDATION_REGEX);
+        return !test.isEmpty() && VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
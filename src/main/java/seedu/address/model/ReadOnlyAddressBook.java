@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.util.Set;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.client.Client;
 import seedu.address.model.issue.Issue;
@@ -79,4 +81,43 @@ public interface ReadOnlyAddressBook {
      * @return id
      */
     int generateProjectId();
+
+    /**
+     * Returns the highest client id used so far, including ids of deleted clients.
+     */
+    int getClientIdHighWaterMark();
+
+    /**
+     * Returns the highest issue id used so far, including ids of deleted issues.
+     */
+    int getIssueIdHighWaterMark();
+
+    /**
+     * Returns the highest project id used so far, including ids of deleted projects.
+     */
+    int getProjectIdHighWaterMark();
+
+    /**
+     * Returns the number of changes made to the address book so far.
+     * The count only ever increases, so an unchanged count means the address book has not changed.
+     */
+    long getModificationCount();
+
+    /**
+     * Returns the ids of the clients added, edited or removed since the modification count was
+     * {@code modificationCount}. Clients edited in place are only included once they are set again.
+     */
+    Set<Integer> getClientIdsChangedSince(long modificationCount);
+
+    /**
+     * Returns the ids of the projects added, edited or removed since the modification count was
+     * {@code modificationCount}. Projects edited in place are only included once they are set again.
+     */
+    Set<Integer> getProjectIdsChangedSince(long modificationCount);
+
+    /**
+     * Returns the ids of the issues added, edited or removed since the modification count was
+     * {@code modificationCount}. Issues edited in place are only included once they are set again.
+     */
+    Set<Integer> getIssueIdsChangedSince(long modificationCount);
 }
@@ -4,6 +4,7 @@ import java.nio.file.Path;
 
 import seedu.address.commons.core.DefaultView;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageMode;
 
 /**
  * Unmodifiable view of user prefs.
@@ -14,5 +15,11 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    StorageMode getStorageMode();
+
+    boolean isSyncOnSave();
+
+    boolean isWriteBehind();
+
     void setDefaultView(DefaultView defaultView);
 }
@@ -8,6 +8,7 @@ import java.util.Objects;
 
 import seedu.address.commons.core.DefaultView;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageMode;
 
 /**
  * Represents User's preferences.
@@ -16,6 +17,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private StorageMode storageMode = StorageMode.JSON;
+    private boolean syncOnSave = true;
+    private boolean writeBehind = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +41,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setStorageMode(newUserPrefs.getStorageMode());
+        setSyncOnSave(newUserPrefs.isSyncOnSave());
+        setWriteBehind(newUserPrefs.isWriteBehind());
     }
 
     public GuiSettings getGuiSettings() {
@@ -66,6 +73,31 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return this.guiSettings.getDefaultView();
     }
 
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    public void setStorageMode(StorageMode storageMode) {
+        requireNonNull(storageMode);
+        this.storageMode = storageMode;
+    }
+
+    public boolean isSyncOnSave() {
+        return syncOnSave;
+    }
+
+    public void setSyncOnSave(boolean syncOnSave) {
+        this.syncOnSave = syncOnSave;
+    }
+
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    public void setWriteBehind(boolean writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -78,12 +110,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && storageMode == o.storageMode
+                && syncOnSave == o.syncOnSave
+                && writeBehind == o.writeBehind;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, storageMode, syncOnSave, writeBehind);
     }
 
     @Override
@@ -91,6 +126,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nStorage mode : " + storageMode);
+        sb.append("\nSync on save : " + syncOnSave);
+        sb.append("\nWrite behind : " + writeBehind);
         return sb.toString();
     }
 
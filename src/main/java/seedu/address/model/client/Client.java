@@ -3,6 +3,7 @@ package seedu.address.model.client;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import seedu.address.model.Name;
@@ -10,12 +11,13 @@ import seedu.address.model.Pin;
 import seedu.address.model.SortCategory;
 import seedu.address.model.interfaces.ComparableByName;
 import seedu.address.model.interfaces.HasIntegerIdentifier;
+import seedu.address.model.interfaces.Pinnable;
 import seedu.address.model.project.Project;
 
 /**
  * Represents a Client associated with a project. This is modelled after the AB3 Person.
  */
-public class Client implements ComparableByName<Client>, HasIntegerIdentifier<Client> {
+public class Client implements ComparableByName<Client>, HasIntegerIdentifier<Client>, Pinnable {
 
     public static final String MESSAGE_INVALID_NAME_SORT_KEY =
             "Enter either a 0 to sort by alphabetical order or a 1 to sort by reverse alphabetical order";
@@ -23,6 +25,10 @@ public class Client implements ComparableByName<Client>, HasIntegerIdentifier<Cl
     public static final String MESSAGE_INVALID_CLIENT_ID_SORT_KEY =
             "Enter either a 0 to sort in ascending order or a 1 to sort in descending order";
 
+    // Names of the client fields indexed by word for the find command
+    public static final String KEYWORD_FIELD_NAME = "name";
+    public static final String KEYWORD_FIELD_EMAIL = "email";
+
     private static SortCategory sortCategory = SortCategory.ID;
     private static int sortOrder = 0;
 
@@ -306,6 +312,7 @@ public class Client implements ComparableByName<Client>, HasIntegerIdentifier<Cl
      * Checks if the client is pinned.
      * @return boolean true if the client is pinned
      */
+    @Override
     public boolean isPinned() {
         return this.pin.isPinned();
     }
@@ -326,6 +333,44 @@ public class Client implements ComparableByName<Client>, HasIntegerIdentifier<Cl
         sortOrder = newSortOrder;
     }
 
+    /**
+     * Returns the comparator that orders clients by the given sort category and order.
+     *
+     * @param category category to sort by
+     * @param order zero for ascending (alphabetical) order and one for the reverse
+     * @return Comparator for clients
+     */
+    public static Comparator<Client> getSortComparator(SortCategory category, int order) {
+        Comparator<Client> comparator;
+        switch (category) {
+        case NAME:
+            comparator = Comparator.comparing(c -> c.getClientName().toString());
+            break;
+        case ID:
+            comparator = Comparator.comparingInt(Client::getClientIdInInt);
+            break;
+        default:
+            assert false : "Invalid sort category for clients";
+            comparator = Comparator.comparingInt(Client::getClientIdInInt);
+            break;
+        }
+        return order == 0 ? comparator : comparator.reversed();
+    }
+
+    /**
+     * Returns the comparator that orders pinned clients first, then by the given sort category and order.
+     */
+    public static Comparator<Client> getPinnedSortComparator(SortCategory category, int order) {
+        return Pinnable.pinnedFirst(getSortComparator(category, order));
+    }
+
+    /**
+     * Returns the comparator that orders pinned clients first, then by the current sort category and order.
+     */
+    public static Comparator<Client> getCurrentSortComparator() {
+        return getPinnedSortComparator(sortCategory, sortOrder);
+    }
+
 
     /**
      * Returns true if both clients have the same name.
@@ -342,6 +387,15 @@ public class Client implements ComparableByName<Client>, HasIntegerIdentifier<Cl
                 && otherClient.getClientName().equals(getClientName());
     }
 
+    /**
+     * Returns the key used to index the client by name.
+     * @return String representing the full name of the client
+     */
+    @Override
+    public String getNameKey() {
+        return getClientName().getFullNameRepresentation();
+    }
+
     /**
      * Returns true if client is valid and exists.
      * @retun boolean true if the client is valid
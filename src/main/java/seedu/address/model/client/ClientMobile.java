@@ -3,6 +3,8 @@ package seedu.address.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents the mobile of the client. This class is modelled after the Phone class in the Person package of AB3
  */
@@ -11,6 +13,7 @@ public class ClientMobile {
     public static final String MESSAGE_CONSTRAINTS =
             "Mobile numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private String mobile;
 
@@ -58,7 +61,7 @@ public class ClientMobile {
      * Returns true if a given string is a valid mobile number.
      */
     public static boolean isValidClientMobile(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -13,4 +13,11 @@ public interface ComparableByName<T> {
      * @return true if the objects have the same name.
      */
     boolean hasSameName(T other);
+
+    /**
+     * Returns a normalized form of this object's name/title, used to index objects by name.
+     * Objects that have the same name must return equal keys.
+     * @return key for the name of this object
+     */
+    String getNameKey();
 }
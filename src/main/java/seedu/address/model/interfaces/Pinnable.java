@@ -0,0 +1,27 @@
+package seedu.address.model.interfaces;
+
+import java.util.Comparator;
+
+/**
+ * Interface for any class whose objects can be pinned to the top of their list.
+ */
+public interface Pinnable {
+
+    /**
+     * Returns true if the object is pinned.
+     */
+    boolean isPinned();
+
+    /**
+     * Returns a comparator that orders pinned objects first, and orders objects with the same pin status
+     * with the given comparator. Applying it once sorts a list by pin, then by sort category and order.
+     *
+     * @param categoryComparator comparator for the sort category and order
+     * @param <T> object type
+     * @return a new comparator, distinct from any returned before
+     */
+    public static <T extends Pinnable> Comparator<T> pinnedFirst(Comparator<? super T> categoryComparator) {
+        Comparator<T> byPin = Comparator.comparing(t -> !t.isPinned());
+        return byPin.thenComparing(categoryComparator);
+    }
+}
@@ -2,18 +2,21 @@ package seedu.address.model.issue;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Comparator;
+
 import seedu.address.model.Deadline;
 import seedu.address.model.Pin;
 import seedu.address.model.SortCategory;
 import seedu.address.model.interfaces.ComparableByName;
 import seedu.address.model.interfaces.HasIntegerIdentifier;
+import seedu.address.model.interfaces.Pinnable;
 import seedu.address.model.project.Project;
 
 /**
  * Represents an Issue.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
-public class Issue implements ComparableByName<Issue>, HasIntegerIdentifier<Issue> {
+public class Issue implements ComparableByName<Issue>, HasIntegerIdentifier<Issue>, Pinnable {
 
     public static final String MESSAGE_INVALID_DEADLINE_SORT_KEY =
             "Enter either a 0 to sort by chronological order or a 1 to sort by reverse chronological order";
@@ -24,6 +27,13 @@ public class Issue implements ComparableByName<Issue>, HasIntegerIdentifier<Issu
     public static final String MESSAGE_INVALID_ISSUE_ID_SORT_KEY =
             "Enter either a 0 to sort in ascending order or a 1 to sort in descending order";
 
+    // Names of the issue fields indexed by word for the find command
+    public static final String KEYWORD_FIELD_TITLE = "title";
+
+    // Names of the issue fields indexed by value, to filter and count issues by urgency and status
+    public static final String BUCKET_FIELD_URGENCY = "urgency";
+    public static final String BUCKET_FIELD_STATUS = "status";
+
     private static SortCategory sortCategory = SortCategory.ID;
     private static int sortOrder = 0;
 
@@ -48,8 +58,8 @@ public class Issue implements ComparableByName<Issue>, HasIntegerIdentifier<Issu
         this.status = status;
         this.project = project;
         this.issueId = issueId;
-        this.project.getIssueList().add(this);
         this.pin = pin;
+        this.project.addIssue(this);
     }
 
     /**
@@ -59,7 +69,11 @@ public class Issue implements ComparableByName<Issue>, HasIntegerIdentifier<Issu
         requireAllNonNull(title, project);
         this.title = title;
         this.project = project;
-        //todo: set other fields to emptyOptionals post-merge
+        this.deadline = Deadline.EmptyDeadline.EMPTY_DEADLINE;
+        this.urgency = Urgency.NONE;
+        this.status = Status.EmptyStatus.EMPTY_STATUS;
+        this.issueId = IssueId.EmptyIssueId.EMPTY_ISSUE_ID;
+        this.pin = new Pin(false);
     }
 
     /**
@@ -128,6 +142,11 @@ public class Issue implements ComparableByName<Issue>, HasIntegerIdentifier<Issu
         return otherIssue.title == this.title;
     }
 
+    @Override
+    public String getNameKey() {
+        return this.title.toString();
+    }
+
 
 
     public void setTitle(Title title) {
@@ -142,7 +161,11 @@ public class Issue implements ComparableByName<Issue>, HasIntegerIdentifier<Issu
         this.urgency = urgency;
     }
 
+    /**
+     * Sets the status of the issue, updating the issue counts of its project.
+     */
     public void setStatus(Status status) {
+        this.project.updateIssueStatus(this, this.status, status);
         this.status = status;
     }
 
@@ -158,6 +181,7 @@ public class Issue implements ComparableByName<Issue>, HasIntegerIdentifier<Issu
         this.pin.togglePinned();
     }
 
+    @Override
     public boolean isPinned() {
         return this.pin.isPinned();
     }
@@ -178,6 +202,47 @@ public class Issue implements ComparableByName<Issue>, HasIntegerIdentifier<Issu
         sortOrder = newSortOrder;
     }
 
+    /**
+     * Returns the comparator that orders issues by the given sort category and order.
+     *
+     * @param category category to sort by
+     * @param order zero for ascending (chronological, lowest urgency) order and one for the reverse
+     * @return comparator for issues
+     */
+    public static Comparator<Issue> getSortComparator(SortCategory category, int order) {
+        Comparator<Issue> comparator;
+        switch (category) {
+        case DEADLINE:
+            comparator = Comparator.comparing(i -> i.getDeadline().getLocalDate());
+            break;
+        case URGENCY:
+            comparator = Comparator.comparing(Issue::getUrgency);
+            break;
+        case ID:
+            comparator = Comparator.comparingInt(Issue::getIssueIdInInt);
+            break;
+        default:
+            assert false : "Invalid sort category for issues";
+            comparator = Comparator.comparingInt(Issue::getIssueIdInInt);
+            break;
+        }
+        return order == 0 ? comparator : comparator.reversed();
+    }
+
+    /**
+     * Returns the comparator that orders pinned issues first, then by the given sort category and order.
+     */
+    public static Comparator<Issue> getPinnedSortComparator(SortCategory category, int order) {
+        return Pinnable.pinnedFirst(getSortComparator(category, order));
+    }
+
+    /**
+     * Returns the comparator that orders pinned issues first, then by the current sort category and order.
+     */
+    public static Comparator<Issue> getCurrentSortComparator() {
+        return getPinnedSortComparator(sortCategory, sortOrder);
+    }
+
     public String uiRepresentation() {
         return this.title + " " + this.issueId.uiRepresentation();
     }
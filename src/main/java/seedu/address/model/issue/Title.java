@@ -3,6 +3,8 @@ package seedu.address.model.issue;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an Issue's title.
  */
@@ -37,6 +39,7 @@ public class Title {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private String title;
 
@@ -55,7 +58,7 @@ public class Title {
      * Returns true if a given string is a valid title.
      */
     public static boolean isValidTitle(String title) {
-        return title.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(title).matches();
     }
 
     public boolean isEmpty() {
@@ -0,0 +1,107 @@
+package seedu.address.model.list;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.model.interfaces.HasIntegerIdentifier;
+
+/**
+ * An index from the values of a field with few possible values, such as an enum or a boolean,
+ * to the ids of the entities of a {@link UniqueEntityList} with that value.
+ * The ids in each bucket are kept in a bitset, as ids are handed out densely from one,
+ * and the number of entities in each bucket is kept alongside so that it can be read in constant time.
+ * Entities with an empty id are not indexed.
+ * @param <T> Type of entity indexed
+ * @param <K> Type of the field indexed
+ */
+public class BucketIndex<T extends HasIntegerIdentifier<T>, K> implements SecondaryIndex<T> {
+
+    private final Function<T, K> field;
+    private final Map<K, BitSet> buckets;
+    private final Map<K, Integer> counts;
+    // Value each element was last indexed under, as fields can be edited in place.
+    private final Map<T, K> indexedValues = new IdentityHashMap<>();
+
+    /**
+     * Creates an empty index over the value returned by {@code field}.
+     * Buckets and counts are kept in enum maps if {@code keyType} is an enum.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public BucketIndex(Function<T, K> field, Class<K> keyType) {
+        requireNonNull(field);
+        requireNonNull(keyType);
+        this.field = field;
+        if (keyType.isEnum()) {
+            this.buckets = new EnumMap(keyType);
+            this.counts = new EnumMap(keyType);
+        } else {
+            this.buckets = new HashMap<>();
+            this.counts = new HashMap<>();
+        }
+    }
+
+    @Override
+    public void add(T t) {
+        int id = t.getId();
+        if (!isIndexableId(id)) {
+            return;
+        }
+        K value = field.apply(t);
+        buckets.computeIfAbsent(value, unused -> new BitSet()).set(id);
+        counts.merge(value, 1, Integer::sum);
+        indexedValues.put(t, value);
+    }
+
+    @Override
+    public void remove(T t) {
+        if (!indexedValues.containsKey(t)) {
+            return;
+        }
+        K value = indexedValues.remove(t);
+        buckets.get(value).clear(t.getId());
+        counts.merge(value, -1, Integer::sum);
+    }
+
+    @Override
+    public void clear() {
+        buckets.clear();
+        counts.clear();
+        indexedValues.clear();
+    }
+
+    /**
+     * Returns the ids of the entities whose field has any of the {@code values}, as a new bitset.
+     */
+    public BitSet getIds(Collection<K> values) {
+        BitSet ids = new BitSet();
+        for (K value : values) {
+            BitSet bucket = buckets.get(value);
+            if (bucket != null) {
+                ids.or(bucket);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the number of entities whose field has the given value.
+     */
+    public int count(K value) {
+        return counts.getOrDefault(value, 0);
+    }
+
+    /**
+     * Returns true if {@code id} can be kept in a bitset.
+     * Empty ids are the largest integer, and would take up a bitset of hundreds of megabytes.
+     */
+    public static boolean isIndexableId(int id) {
+        return id >= 0 && id < Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.list;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import seedu.address.model.Deadline;
+import seedu.address.model.interfaces.HasIntegerIdentifier;
+
+/**
+ * A sorted index from the deadlines of the entities of a {@link UniqueEntityList}, as epoch days,
+ * to the ids of the entities due on them. Entities without a deadline are not indexed.
+ * Entities due within a range of dates are found with a range scan of the index.
+ * @param <T> Type of entity indexed
+ */
+public class DeadlineIndex<T extends HasIntegerIdentifier<T>> implements SecondaryIndex<T> {
+
+    private final Function<T, Deadline> field;
+    private final NavigableMap<Long, Set<Integer>> idsByEpochDay = new TreeMap<>();
+    // Epoch day each element was last indexed under, as deadlines can be edited in place.
+    private final Map<T, Long> indexedEpochDays = new IdentityHashMap<>();
+
+    /**
+     * Creates an empty index over the deadline returned by {@code field}.
+     */
+    public DeadlineIndex(Function<T, Deadline> field) {
+        requireNonNull(field);
+        this.field = field;
+    }
+
+    @Override
+    public void add(T t) {
+        Deadline deadline = field.apply(t);
+        if (deadline.isEmpty()) {
+            return;
+        }
+        long epochDay = deadline.getLocalDate().toEpochDay();
+        idsByEpochDay.computeIfAbsent(epochDay, unused -> new HashSet<>()).add(t.getId());
+        indexedEpochDays.put(t, epochDay);
+    }
+
+    @Override
+    public void remove(T t) {
+        Long epochDay = indexedEpochDays.remove(t);
+        if (epochDay == null) {
+            return;
+        }
+        Set<Integer> ids = idsByEpochDay.get(epochDay);
+        ids.remove(t.getId());
+        if (ids.isEmpty()) {
+            idsByEpochDay.remove(epochDay);
+        }
+    }
+
+    @Override
+    public void clear() {
+        idsByEpochDay.clear();
+        indexedEpochDays.clear();
+    }
+
+    /**
+     * Returns the ids of the entities due from {@code start} to {@code end}, both inclusive.
+     * @param start earliest deadline, or null for no earliest deadline
+     * @param end latest deadline, or null for no latest deadline
+     * @return ids of the entities due within the range
+     */
+    public Set<Integer> getIds(LocalDate start, LocalDate end) {
+        long startDay = start == null ? Long.MIN_VALUE : start.toEpochDay();
+        long endDay = end == null ? Long.MAX_VALUE : end.toEpochDay();
+        Set<Integer> ids = new HashSet<>();
+        if (startDay > endDay) {
+            return ids;
+        }
+        for (Set<Integer> idsOnDay : idsByEpochDay.subMap(startDay, true, endDay, true).values()) {
+            ids.addAll(idsOnDay);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.model.list;
+
+/**
+ * Allocates integer ids for the entities of a {@link UniqueEntityList}.
+ * The allocator tracks a high-water mark, the largest id that has been used so far, which only ever increases.
+ * The next id is therefore found without scanning the list, and ids of removed entities are not handed out again.
+ */
+public class IdAllocator {
+
+    private int highWaterMark = 0;
+
+    /**
+     * Returns the id to be given to the next entity.
+     * @return the high-water mark + 1
+     */
+    public int getNextId() {
+        return highWaterMark + 1;
+    }
+
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * Records that {@code id} is in use, raising the high-water mark if needed.
+     */
+    public void advanceTo(int id) {
+        if (id > highWaterMark) {
+            highWaterMark = id;
+        }
+    }
+
+    /**
+     * Resets the high-water mark to {@code highWaterMark}.
+     */
+    public void reset(int highWaterMark) {
+        this.highWaterMark = highWaterMark;
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.list;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.interfaces.HasIntegerIdentifier;
+
+/**
+ * An inverted index from the words in one text field of the entities of a {@link UniqueEntityList}
+ * to the ids of the entities containing them.
+ * Words are separated by whitespace and compared ignoring case, in the same way as the find commands match keywords.
+ * @param <T> Type of entity indexed
+ */
+public class KeywordIndex<T extends HasIntegerIdentifier<T>> implements SecondaryIndex<T> {
+
+    private final Function<T, String> field;
+    private final Map<String, Set<Integer>> postings = new HashMap<>();
+    // Words each element was last indexed under, as fields can be edited in place.
+    private final Map<T, String[]> indexedWords = new IdentityHashMap<>();
+
+    /**
+     * Creates an empty index over the text returned by {@code field}.
+     */
+    public KeywordIndex(Function<T, String> field) {
+        requireNonNull(field);
+        this.field = field;
+    }
+
+    @Override
+    public void add(T t) {
+        String[] words = StringUtil.toLowerCaseWords(field.apply(t));
+        for (String word : words) {
+            postings.computeIfAbsent(word, unused -> new HashSet<>()).add(t.getId());
+        }
+        indexedWords.put(t, words);
+    }
+
+    @Override
+    public void remove(T t) {
+        String[] words = indexedWords.remove(t);
+        if (words == null) {
+            return;
+        }
+        for (String word : words) {
+            Set<Integer> ids = postings.get(word);
+            ids.remove(t.getId());
+            if (ids.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        postings.clear();
+        indexedWords.clear();
+    }
+
+    /**
+     * Returns the ids of the entities whose field contains any word of any of the {@code keywords}, ignoring case.
+     */
+    public Set<Integer> getIds(Collection<String> keywords) {
+        Set<Integer> ids = new HashSet<>();
+        for (String word : toWords(keywords)) {
+            ids.addAll(postings.getOrDefault(word, Set.of()));
+        }
+        return ids;
+    }
+
+    private static String[] toWords(Collection<String> keywords) {
+        return keywords.stream()
+                .flatMap(keyword -> Arrays.stream(StringUtil.toLowerCaseWords(keyword)))
+                .distinct()
+                .toArray(String[]::new);
+    }
+}
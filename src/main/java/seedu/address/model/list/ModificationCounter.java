@@ -0,0 +1,24 @@
+package seedu.address.model.list;
+
+/**
+ * Counts the changes made to one or more lists, so that changes to lists sharing a counter are ordered
+ * against each other.
+ */
+public class ModificationCounter {
+
+    private long count = 0;
+
+    /**
+     * Returns the number of changes counted so far.
+     */
+    public long get() {
+        return count;
+    }
+
+    /**
+     * Counts one more change, and returns the number of changes counted so far including it.
+     */
+    public long increment() {
+        return ++count;
+    }
+}
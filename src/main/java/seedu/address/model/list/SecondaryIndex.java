@@ -0,0 +1,24 @@
+package seedu.address.model.list;
+
+/**
+ * An index over the elements of a {@link UniqueEntityList}, which the list keeps up to date
+ * as elements are added, replaced and removed.
+ * @param <T> Type of entity indexed
+ */
+interface SecondaryIndex<T> {
+
+    /**
+     * Adds {@code t} to the index.
+     */
+    void add(T t);
+
+    /**
+     * Removes {@code t} from the index, using the values it was indexed under.
+     */
+    void remove(T t);
+
+    /**
+     * Removes all entities from the index.
+     */
+    void clear();
+}
@@ -3,39 +3,87 @@ package seedu.address.model.list;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.Deadline;
 import seedu.address.model.interfaces.ComparableByName;
 import seedu.address.model.interfaces.HasIntegerIdentifier;
 
 /**
  * A class for a list of unique entities.
  * Notably, entities need to extend {@link ComparableByName} and {@link HasIntegerIdentifier}.
+ * Indexes from id and from name key to entity are kept alongside the list, so that lookups by id
+ * and duplicate checks by name take constant time. New ids are handed out by an {@link IdAllocator}.
+ * Text fields of the entities can also be indexed by word with a {@link KeywordIndex},
+ * deadlines of the entities by date with a {@link DeadlineIndex},
+ * and fields with few possible values by value with a {@link BucketIndex}.
+ * Every change to the list is counted by a {@link ModificationCounter}, which may be shared with other lists,
+ * so that callers can tell whether the list changed since they last looked, and which elements did.
  * @param <T> Type of entity in list
  */
-public class UniqueEntityList<T extends ComparableByName<T> & HasIntegerIdentifier> implements Iterable<T> {
+public class UniqueEntityList<T extends ComparableByName<T> & HasIntegerIdentifier<T>> implements Iterable<T> {
 
     private final ObservableList<T> internalList = FXCollections.observableArrayList();
     private final ObservableList<T> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Integer, T> idIndex = new HashMap<>();
+    private final Map<String, List<T>> nameIndex = new HashMap<>();
+    // Name key each element was last indexed under, as names can be edited in place.
+    private final Map<T, String> indexedNameKeys = new IdentityHashMap<>();
+    private final IdAllocator idAllocator = new IdAllocator();
+    private final Map<String, KeywordIndex<T>> keywordIndexes = new HashMap<>();
+    private DeadlineIndex<T> deadlineIndex;
+    private final Map<String, BucketIndex<T, ?>> bucketIndexes = new HashMap<>();
+    // All keyword, deadline and bucket indexes, which are updated with the list
+    private final List<SecondaryIndex<T>> secondaryIndexes = new ArrayList<>();
+    private final ModificationCounter modificationCounter;
+    // Count at which the element with each id was last added, replaced or removed, and the other way round
+    private final Map<Integer, Long> idChangeCounts = new HashMap<>();
+    private final TreeMap<Long, Integer> changedIds = new TreeMap<>();
+
+    /**
+     * Creates an empty list which counts its changes on its own.
+     */
+    public UniqueEntityList() {
+        this(new ModificationCounter());
+    }
+
+    /**
+     * Creates an empty list which counts its changes with {@code modificationCounter}.
+     */
+    public UniqueEntityList(ModificationCounter modificationCounter) {
+        requireNonNull(modificationCounter);
+        this.modificationCounter = modificationCounter;
+    }
 
     /**
      * Returns true if the list contains an equivalent object (by comparing name) as the given argument.
      */
     public boolean containsByName(T toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::hasSameName);
+        return findByName(nameIndex, toCheck) != null;
     }
 
     /**
      * Returns true if the list contains the given ID.
      */
     public boolean containsId(int id) {
-        return internalList.stream().anyMatch((item) -> id == item.getId());
+        return idIndex.containsKey(id);
     }
 
     /**
@@ -47,6 +95,11 @@ public class UniqueEntityList<T extends ComparableByName<T> & HasIntegerIdentifi
         if (containsByName(toAdd)) {
             throw new DuplicateException();
         }
+        // Indexed and counted before the list is changed, so that its listeners see the indexes up to date
+        indexId(toAdd);
+        indexName(toAdd);
+        indexSecondary(toAdd);
+        recordChange(toAdd.getId());
         internalList.add(toAdd);
     }
 
@@ -67,7 +120,18 @@ public class UniqueEntityList<T extends ComparableByName<T> & HasIntegerIdentifi
             throw new DuplicateException();
         }
 
+        unindexSecondary(t);
+        indexSecondary(editedT);
+        recordChange(t.getId());
+        if (editedT.getId() != t.getId()) {
+            recordChange(editedT.getId());
+        }
         internalList.set(index, editedT);
+        // The id and name indexes look through the list for elements sharing an id or name with t
+        unindexId(t);
+        unindexName(t);
+        indexId(editedT);
+        indexName(editedT);
     }
 
     /**
@@ -76,14 +140,20 @@ public class UniqueEntityList<T extends ComparableByName<T> & HasIntegerIdentifi
      */
     public void remove(T toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new NotFoundException();
         }
+        unindexSecondary(toRemove);
+        recordChange(toRemove.getId());
+        internalList.remove(index);
+        unindexId(toRemove);
+        unindexName(toRemove);
     }
 
     public void setList(UniqueEntityList<T> replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setListIndexed(new ArrayList<>(replacement.internalList));
     }
 
     /**
@@ -96,6 +166,18 @@ public class UniqueEntityList<T extends ComparableByName<T> & HasIntegerIdentifi
             throw new DuplicateException();
         }
 
+        setListIndexed(newList);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code newList}, indexing and counting the change
+     * before the list is changed, so that its listeners see the indexes up to date.
+     */
+    private void setListIndexed(List<T> newList) {
+        recordChanges(internalList);
+        rebuildIndexes(newList);
+        recordChanges(newList);
+        modificationCounter.increment();
         internalList.setAll(newList);
     }
 
@@ -130,16 +212,115 @@ public class UniqueEntityList<T extends ComparableByName<T> & HasIntegerIdentifi
         return internalList.hashCode();
     }
 
+    /**
+     * Adds {@code t} to the id index.
+     * If another element already holds the same id, the earlier element is kept, as a scan of the list would.
+     */
+    private void indexId(T t) {
+        idIndex.putIfAbsent(t.getId(), t);
+        idAllocator.advanceTo(t.getId());
+    }
+
+    /**
+     * Removes {@code t} from the id index, handing its id over to any remaining element sharing that id.
+     */
+    private void unindexId(T t) {
+        int id = t.getId();
+        if (idIndex.get(id) != t) {
+            return;
+        }
+        idIndex.remove(id);
+        for (T other : internalList) {
+            if (other.getId() == id) {
+                idIndex.put(id, other);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds {@code t} to the name index under its current name key.
+     */
+    private void indexName(T t) {
+        String key = t.getNameKey();
+        nameIndex.computeIfAbsent(key, unused -> new ArrayList<>(1)).add(t);
+        indexedNameKeys.put(t, key);
+    }
+
+    /**
+     * Removes {@code t} from the name index, using the key it was indexed under.
+     */
+    private void unindexName(T t) {
+        String key = indexedNameKeys.remove(t);
+        if (key == null) {
+            return;
+        }
+        List<T> bucket = nameIndex.get(key);
+        bucket.removeIf(item -> item == t);
+        if (bucket.isEmpty()) {
+            nameIndex.remove(key);
+        }
+    }
+
+    /**
+     * Adds {@code t} to every keyword and deadline index.
+     */
+    private void indexSecondary(T t) {
+        for (SecondaryIndex<T> secondaryIndex : secondaryIndexes) {
+            secondaryIndex.add(t);
+        }
+    }
+
+    /**
+     * Removes {@code t} from every keyword and deadline index.
+     */
+    private void unindexSecondary(T t) {
+        for (SecondaryIndex<T> secondaryIndex : secondaryIndexes) {
+            secondaryIndex.remove(t);
+        }
+    }
+
+    /**
+     * Rebuilds the id, name, keyword and deadline indexes from {@code elements}, the new contents of the list.
+     */
+    private void rebuildIndexes(List<T> elements) {
+        idIndex.clear();
+        nameIndex.clear();
+        indexedNameKeys.clear();
+        secondaryIndexes.forEach(SecondaryIndex::clear);
+        for (T t : elements) {
+            indexId(t);
+            indexName(t);
+            indexSecondary(t);
+        }
+    }
+
+    /**
+     * Returns an element of {@code index} with the same name as {@code toFind}, or null if there is none.
+     */
+    private static <T extends ComparableByName<T>> T findByName(Map<String, List<T>> index, T toFind) {
+        List<T> bucket = index.get(toFind.getNameKey());
+        if (bucket == null) {
+            return null;
+        }
+        for (T t : bucket) {
+            if (toFind.hasSameName(t)) {
+                return t;
+            }
+        }
+        return null;
+    }
+
     /**
      * Returns true if {@code tList} contains only unique objects.
      */
     private boolean itemsAreUnique(List<T> tList) {
-        for (int i = 0; i < tList.size() - 1; i++) {
-            for (int j = i + 1; j < tList.size(); j++) {
-                if (tList.get(i).hasSameName(tList.get(j))) {
-                    return false;
-                }
+        Map<String, List<T>> seen = new HashMap<>();
+        for (T t : tList) {
+            if (findByName(seen, t) != null) {
+                return false;
             }
+            seen.computeIfAbsent(t.getNameKey(), unused -> new ArrayList<>(1)).add(t);
         }
         return true;
     }
@@ -153,15 +334,217 @@ public class UniqueEntityList<T extends ComparableByName<T> & HasIntegerIdentifi
      * @throws NotFoundException if element is not found.
      */
     public T getElementById(int id) {
-        for (T t: this) {
-            if (t.getId() == id) {
-                return t;
-            }
+        T t = idIndex.get(id);
+        if (t == null) {
+            throw new NotFoundException();
+        }
+        return t;
+    }
+
+    /**
+     * Get an element by its name
+     * @param toFind element with the name to retrieve with
+     * @return the element with the same name if it is found.
+     * @throws NotFoundException if element is not found.
+     */
+    public T getElementByName(T toFind) {
+        requireNonNull(toFind);
+        T t = findByName(nameIndex, toFind);
+        if (t == null) {
+            throw new NotFoundException();
+        }
+        return t;
+    }
+
+    /**
+     * Generate the next element id.
+     * @return the highest id used so far in this list + 1
+     */
+    public int generateNextId() {
+        return idAllocator.getNextId();
+    }
+
+    /**
+     * Returns the highest id used so far in this list, including ids of elements that have since been removed.
+     */
+    public int getIdHighWaterMark() {
+        return idAllocator.getHighWaterMark();
+    }
+
+    /**
+     * Sets the highest id used so far in this list.
+     * The high-water mark is never set below the largest id currently in the list.
+     */
+    public void setIdHighWaterMark(int highWaterMark) {
+        idAllocator.reset(highWaterMark);
+        for (T t : internalList) {
+            idAllocator.advanceTo(t.getId());
+        }
+        modificationCounter.increment();
+    }
+
+    /**
+     * Returns the number of changes counted so far by the counter of the list.
+     * Elements edited in place are only counted once they are replaced with themselves with {@link #setItem}.
+     */
+    public long getModificationCount() {
+        return modificationCounter.get();
+    }
+
+    /**
+     * Returns the ids of the elements added, replaced or removed since the counter of the list counted
+     * {@code modificationCount} changes. Replacing the whole list changes every element in it before and after.
+     */
+    public Set<Integer> getIdsChangedSince(long modificationCount) {
+        return new HashSet<>(changedIds.tailMap(modificationCount, false).values());
+    }
+
+    /**
+     * Counts a change to the element with id {@code id}.
+     */
+    private void recordChange(int id) {
+        long count = modificationCounter.increment();
+        Long previousCount = idChangeCounts.put(id, count);
+        if (previousCount != null) {
+            changedIds.remove(previousCount);
+        }
+        changedIds.put(count, id);
+    }
+
+    private void recordChanges(List<T> elements) {
+        for (T t : elements) {
+            recordChange(t.getId());
+        }
+    }
+
+    /**
+     * Indexes the words of a text field of every element, now and as elements are added, replaced and removed.
+     * Elements edited in place must be replaced with themselves with {@link #setItem} to be re-indexed.
+     * @param fieldName name to look the index up with
+     * @param field function returning the text of the field of an element
+     */
+    public void addKeywordIndex(String fieldName, Function<T, String> field) {
+        requireAllNonNull(fieldName, field);
+        KeywordIndex<T> keywordIndex = new KeywordIndex<>(field);
+        for (T t : internalList) {
+            keywordIndex.add(t);
+        }
+        keywordIndexes.put(fieldName, keywordIndex);
+        secondaryIndexes.add(keywordIndex);
+    }
+
+    /**
+     * Returns the ids of the elements whose field contains any word of any of the {@code keywords}, ignoring case.
+     * @param fieldName name of a field indexed with {@link #addKeywordIndex(String, Function)}
+     * @param keywords keywords to look up
+     * @return ids of matching elements
+     */
+    public Set<Integer> getIdsByKeywords(String fieldName, Collection<String> keywords) {
+        requireAllNonNull(fieldName, keywords);
+        return getKeywordIndex(fieldName).getIds(keywords);
+    }
+
+    private KeywordIndex<T> getKeywordIndex(String fieldName) {
+        KeywordIndex<T> keywordIndex = keywordIndexes.get(fieldName);
+        if (keywordIndex == null) {
+            throw new NotFoundException();
+        }
+        return keywordIndex;
+    }
+
+    /**
+     * Indexes the deadline of every element, now and as elements are added, replaced and removed.
+     * Elements edited in place must be replaced with themselves with {@link #setItem} to be re-indexed.
+     * @param field function returning the deadline of an element
+     */
+    public void addDeadlineIndex(Function<T, Deadline> field) {
+        requireNonNull(field);
+        assert deadlineIndex == null : "The deadlines of a list should only be indexed once";
+        deadlineIndex = new DeadlineIndex<>(field);
+        for (T t : internalList) {
+            deadlineIndex.add(t);
+        }
+        secondaryIndexes.add(deadlineIndex);
+    }
+
+    /**
+     * Returns the ids of the elements due from {@code start} to {@code end}, both inclusive.
+     * Elements without a deadline are never returned.
+     * @param start earliest deadline, or null for no earliest deadline
+     * @param end latest deadline, or null for no latest deadline
+     * @return ids of the elements due within the range
+     */
+    public Set<Integer> getIdsByDeadline(LocalDate start, LocalDate end) {
+        if (deadlineIndex == null) {
+            throw new NotFoundException();
+        }
+        return deadlineIndex.getIds(start, end);
+    }
+
+    /**
+     * Indexes the value of a field with few possible values of every element,
+     * now and as elements are added, replaced and removed.
+     * Elements edited in place must be replaced with themselves with {@link #setItem} to be re-indexed.
+     * @param fieldName name to look the index up with
+     * @param keyType type of the values of the field
+     * @param field function returning the value of the field of an element
+     */
+    public <K> void addBucketIndex(String fieldName, Class<K> keyType, Function<T, K> field) {
+        requireAllNonNull(fieldName, keyType, field);
+        BucketIndex<T, K> bucketIndex = new BucketIndex<>(field, keyType);
+        for (T t : internalList) {
+            bucketIndex.add(t);
         }
-        throw new NotFoundException();
+        bucketIndexes.put(fieldName, bucketIndex);
+        secondaryIndexes.add(bucketIndex);
     }
 
+    /**
+     * Returns the ids of the elements whose field has any of the {@code values}, as a new bitset.
+     * Elements with an empty id are never returned.
+     * @param fieldName name of a field indexed with {@link #addBucketIndex(String, Class, Function)}
+     * @param values values to look up, of the type the field was indexed with
+     * @return ids of matching elements
+     */
+    public <K> BitSet getIdsByBuckets(String fieldName, Collection<K> values) {
+        requireAllNonNull(fieldName, values);
+        return this.<K>getBucketIndex(fieldName).getIds(values);
+    }
+
+    /**
+     * Returns the number of elements whose field has the given value, in constant time.
+     * @param fieldName name of a field indexed with {@link #addBucketIndex(String, Class, Function)}
+     * @param value value to count, of the type the field was indexed with
+     */
+    public <K> int countByBucket(String fieldName, K value) {
+        requireAllNonNull(fieldName, value);
+        return this.<K>getBucketIndex(fieldName).count(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K> BucketIndex<T, K> getBucketIndex(String fieldName) {
+        BucketIndex<T, ?> bucketIndex = bucketIndexes.get(fieldName);
+        if (bucketIndex == null) {
+            throw new NotFoundException();
+        }
+        return (BucketIndex<T, K>) bucketIndex;
+    }
+
+    /**
+     * Sorts the list in place by id.
+     */
     public void sortById() {
         internalList.sort(Comparator.comparingInt(HasIntegerIdentifier::getId));
+        modificationCounter.increment();
+    }
+
+    /**
+     * Sorts the list in place with {@code comparator}.
+     * Unlike {@link #setList(List)}, the list is not copied or checked for duplicates again.
+     */
+    public void sort(Comparator<? super T> comparator) {
+        requireNonNull(comparator);
+        internalList.sort(comparator);
+        modificationCounter.increment();
     }
 }
@@ -3,6 +3,7 @@ package seedu.address.model.project;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import seedu.address.model.Deadline;
@@ -12,12 +13,14 @@ import seedu.address.model.SortCategory;
 import seedu.address.model.client.Client;
 import seedu.address.model.interfaces.ComparableByName;
 import seedu.address.model.interfaces.HasIntegerIdentifier;
+import seedu.address.model.interfaces.Pinnable;
 import seedu.address.model.issue.Issue;
+import seedu.address.model.issue.Status;
 
 /**
  * Represents a Project.
  */
-public class Project implements ComparableByName<Project>, HasIntegerIdentifier<Project> {
+public class Project implements ComparableByName<Project>, HasIntegerIdentifier<Project>, Pinnable {
 
     public static final String MESSAGE_INVALID_DEADLINE_SORT_KEY =
             "Enter either a 0 to sort by chronological order or a 1 to sort by reverse chronological order";
@@ -31,6 +34,10 @@ public class Project implements ComparableByName<Project>, HasIntegerIdentifier<
     public static final String MESSAGE_INVALID_PROJECT_ID_SORT_KEY =
             "Enter either a 0 to sort in ascending order or a 1 to sort in descending order";
 
+    // Names of the project fields indexed by word for the find command
+    public static final String KEYWORD_FIELD_NAME = "name";
+    public static final String KEYWORD_FIELD_REPOSITORY = "repository";
+
     private static SortCategory sortCategory = SortCategory.ID;
     private static int sortOrder = 0;
 
@@ -43,6 +50,10 @@ public class Project implements ComparableByName<Project>, HasIntegerIdentifier<
     private List<Issue> issueList;
     private Pin pin;
 
+    // Counts of issues in issueList by status, kept up to date as issues are added, removed or marked
+    private int completedIssueCount;
+    private int incompleteIssueCount;
+
     /**
      * Name field must be present and not null and other fields may be optional.
      */
@@ -56,6 +67,30 @@ public class Project implements ComparableByName<Project>, HasIntegerIdentifier<
         this.issueList = issueList;
         this.projectId = projectId;
         this.pin = pin;
+        if (issueList != null) {
+            for (Issue i : issueList) {
+                countIssue(i.getStatus(), 1);
+            }
+        }
+    }
+
+    /**
+     * Creates a project whose issues are already counted, {@code completedIssueCount} of them completed,
+     * so that an issue list which decodes its issues as they are got, such as that of an archive,
+     * does not have to decode every issue to count them.
+     */
+    public Project(Name name, Repository repository, Deadline deadline, Client client, List<Issue> issueList,
+                   int completedIssueCount, ProjectId projectId, Pin pin) {
+        requireAllNonNull(name, issueList);
+        this.name = name;
+        this.repository = repository;
+        this.deadline = deadline;
+        this.client = client;
+        this.issueList = issueList;
+        this.projectId = projectId;
+        this.pin = pin;
+        this.completedIssueCount = completedIssueCount;
+        this.incompleteIssueCount = issueList.size() - completedIssueCount;
     }
 
     /**
@@ -88,8 +123,15 @@ public class Project implements ComparableByName<Project>, HasIntegerIdentifier<
         return this.projectId.isValid();
     }
 
+    /**
+     * Adds an issue to the project's issue list.
+     * The issue is counted only if the list takes it, which a list that cannot be changed, such as that of
+     * an archive, may not. An issue added twice is held, and counted, twice.
+     */
     public void addIssue(Issue toAddIssue) {
-        this.issueList.add(toAddIssue);
+        if (this.issueList.add(toAddIssue)) {
+            countIssue(toAddIssue.getStatus(), 1);
+        }
     }
 
     /**
@@ -180,14 +222,46 @@ public class Project implements ComparableByName<Project>, HasIntegerIdentifier<
         this.client = Client.EmptyClient.EMPTY_CLIENT;
     }
 
+    /**
+     * Removes an issue from the project's issue list.
+     */
     public void removeIssue(Issue i) {
-        getIssueList().remove(i);
+        if (getIssueList().remove(i)) {
+            countIssue(i.getStatus(), -1);
+        }
+    }
+
+    /**
+     * Updates the issue counts when {@code issue} changes status from {@code oldStatus} to {@code newStatus}.
+     * Nothing is counted if the issue is not in the project's issue list.
+     */
+    public void updateIssueStatus(Issue issue, Status oldStatus, Status newStatus) {
+        // Compared by identity, as issues and projects compare each other when compared by equality
+        int count = 0;
+        if (issueList != null) {
+            for (Issue i : issueList) {
+                if (i == issue) {
+                    count++;
+                }
+            }
+        }
+        countIssue(oldStatus, -count);
+        countIssue(newStatus, count);
+    }
+
+    private void countIssue(Status status, int delta) {
+        if (status.getStatus()) {
+            completedIssueCount += delta;
+        } else {
+            incompleteIssueCount += delta;
+        }
     }
 
     public void togglePin() {
         this.pin.togglePinned();
     }
 
+    @Override
     public boolean isPinned() {
         return this.pin.isPinned();
     }
@@ -208,6 +282,52 @@ public class Project implements ComparableByName<Project>, HasIntegerIdentifier<
         sortOrder = newSortOrder;
     }
 
+    /**
+     * Returns the comparator that orders projects by the given sort category and order.
+     *
+     * @param category category to sort by
+     * @param order zero for ascending (chronological, alphabetical) order and one for the reverse
+     * @return comparator for projects
+     */
+    public static Comparator<Project> getSortComparator(SortCategory category, int order) {
+        Comparator<Project> comparator;
+        switch (category) {
+        case NAME:
+            comparator = Comparator.comparing(p -> p.getProjectName().toString());
+            break;
+        case DEADLINE:
+            comparator = Comparator.comparing(p -> p.getDeadline().getLocalDate());
+            break;
+        case ISSUE_COUNT:
+            //zero sorts by incomplete issue count and one by completed issue count, both from most to fewest
+            return order == 0
+                    ? Comparator.comparingInt(Project::getIncompleteIssueCount).reversed()
+                    : Comparator.comparingInt(Project::getCompletedIssueCount).reversed();
+        case ID:
+            comparator = Comparator.comparingInt(Project::getProjectIdInInt);
+            break;
+        default:
+            assert false : "Invalid sort category for projects";
+            comparator = Comparator.comparingInt(Project::getProjectIdInInt);
+            break;
+        }
+        return order == 0 ? comparator : comparator.reversed();
+    }
+
+    /**
+     * Returns the comparator that orders pinned projects first, then by the given sort category and order.
+     */
+    public static Comparator<Project> getPinnedSortComparator(SortCategory category, int order) {
+        return Pinnable.pinnedFirst(getSortComparator(category, order));
+    }
+
+    /**
+     * Returns the comparator that orders pinned projects first, then by the current sort category and order.
+     */
+    public static Comparator<Project> getCurrentSortComparator() {
+        return getPinnedSortComparator(sortCategory, sortOrder);
+    }
+
     /**
      * Checks if input is a valid deadline sort key.
      *
@@ -286,31 +406,19 @@ public class Project implements ComparableByName<Project>, HasIntegerIdentifier<
     }
 
     /**
-     * Counts number of completed issues in Project Issue List
+     * Returns number of completed issues in Project Issue List
      * @return number of completed issues
      */
     public int getCompletedIssueCount() {
-        int count = 0;
-        for (Issue i: issueList) {
-            if (i.getStatus().getStatus() == true) {
-                count += 1;
-            }
-        }
-        return count;
+        return completedIssueCount;
     }
 
     /**
-     * Counts number of incomplete issues in Project Issue List
+     * Returns number of incomplete issues in Project Issue List
      * @return number of incomplete issues;
      */
     public int getIncompleteIssueCount() {
-        int count = 0;
-        for (Issue i: issueList) {
-            if (i.getStatus().getStatus() == false) {
-                count += 1;
-            }
-        }
-        return count;
+        return incompleteIssueCount;
     }
     /**
      * Returns true if both projects have the same identity and data fields.
@@ -354,6 +462,11 @@ public class Project implements ComparableByName<Project>, HasIntegerIdentifier<
                 && otherProject.getProjectName().equals(getProjectName());
     }
 
+    @Override
+    public String getNameKey() {
+        return getProjectName().getFullNameRepresentation();
+    }
+
     @Override
     public String toString() {
         return this.getProjectName().toString();
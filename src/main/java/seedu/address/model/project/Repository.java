@@ -3,6 +3,8 @@ package seedu.address.model.project;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Project's repository.
  */
@@ -49,6 +51,7 @@ public class Repository {
      * Dashes are allowed.
      */
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9]([a-zA-Z0-9-]{0,38})/[a-zA-Z0-9]([a-zA-Z0-9-]{0,38})";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private String projectRepository;
 
@@ -75,7 +78,7 @@ public class Repository {
      * Returns true if a given string is a valid repository.
      */
     public static boolean isValidRepository(String repository) {
-        return repository.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(repository).matches();
     }
 
     public String uiRepresentation() {
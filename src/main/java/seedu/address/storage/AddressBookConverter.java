@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageMode;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Copies address books between storages which keep them in different formats.
+ * Address books are only ever copied when a storage is first used, when the storage mode is switched,
+ * or when the user asks for it, so a data file is never overwritten by an older copy of the address book
+ * kept in another format.
+ */
+public class AddressBookConverter {
+
+    public static final String MIGRATED_MARKER_FILE_EXTENSION = ".migrated";
+    public static final String STORAGE_MODE_MARKER_FILE_EXTENSION = ".mode";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookConverter.class);
+
+    /**
+     * Returns the path of the marker file which records that an address book was migrated
+     * to the data file at {@code filePath}.
+     */
+    public static Path getMigratedMarkerFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + MIGRATED_MARKER_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the marker file which records the storage mode last used
+     * for the json data file at {@code filePath}.
+     */
+    public static Path getStorageModeMarkerFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + STORAGE_MODE_MARKER_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} which keeps the address book of the json data file at {@code filePath}
+     * in storage mode {@code storageMode}, next to the json data file.
+     */
+    public static AddressBookStorage getStorage(StorageMode storageMode, Path filePath, boolean isSyncedOnSave) {
+        requireNonNull(storageMode);
+        requireNonNull(filePath);
+
+        switch (storageMode) {
+        case JOURNAL:
+            return new JournalAddressBookStorage(filePath, isSyncedOnSave);
+        case BINARY:
+            return new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(filePath), isSyncedOnSave);
+        case SHARDED:
+            return new ShardedAddressBookStorage(ShardedAddressBookStorage.getShardedFilePath(filePath),
+                    isSyncedOnSave);
+        case COMPRESSED:
+            return new JsonAddressBookStorage(JsonAddressBookStorage.getCompressedFilePath(filePath), isSyncedOnSave);
+        case KEY_VALUE:
+            return new KeyValueAddressBookStorage(KeyValueAddressBookStorage.getKeyValueFilePath(filePath),
+                    isSyncedOnSave);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(filePath, isSyncedOnSave);
+        }
+    }
+
+    /**
+     * Returns the storage mode last used for the json data file at {@code filePath}, as recorded by the marker file
+     * at {@link #getStorageModeMarkerFilePath}, or an empty {@code Optional} if none was recorded,
+     * or it cannot be read.
+     */
+    public static Optional<StorageMode> readLastStorageMode(Path filePath) {
+        requireNonNull(filePath);
+
+        Path markerFilePath = getStorageModeMarkerFilePath(filePath);
+        if (!FileUtil.isFileExists(markerFilePath)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(StorageMode.valueOf(FileUtil.readFromFile(markerFilePath).trim()));
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Could not read the storage mode recorded in " + markerFilePath + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Records {@code storageMode} as the storage mode last used for the json data file at {@code filePath}.
+     */
+    public static void recordStorageMode(Path filePath, StorageMode storageMode) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(storageMode);
+
+        FileUtil.writeToFile(getStorageModeMarkerFilePath(filePath), storageMode + "\n");
+    }
+
+    /**
+     * Carries the address book of the json data file at {@code filePath} over to {@code target}, which keeps it
+     * in storage mode {@code storageMode}, from the storage mode last used for it, and records {@code storageMode}
+     * as the storage mode last used. The address book in {@code target} is replaced, as it may be older than the
+     * one last saved, if {@code target} was used before. Nothing is copied if the storage mode did not change,
+     * or if the json and journal storage modes, which keep the address book in the same data file, are switched.
+     * If no storage mode was recorded, the json data file is migrated to {@code target} as by {@link #migrateOnce}.
+     *
+     * @return the storage the address book was carried over from, if it was.
+     * @throws DataConversionException if the data in the storage last used is not in the expected format.
+     * @throws IOException if there was any problem reading from the storage last used or writing to {@code target}.
+     *     The storage mode last used is left recorded, so that the address book is carried over the next time.
+     */
+    public static Optional<AddressBookStorage> switchStorageMode(Path filePath, StorageMode storageMode,
+            AddressBookStorage target) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        requireNonNull(storageMode);
+        requireNonNull(target);
+
+        Optional<StorageMode> lastStorageMode = readLastStorageMode(filePath);
+        AddressBookStorage source = null;
+        if (!lastStorageMode.isPresent()) {
+            if (!isKeptInJsonDataFile(storageMode)) {
+                AddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+                source = migrateOnce(jsonStorage, target) ? jsonStorage : null;
+            }
+        } else if (lastStorageMode.get() != storageMode
+                && !(isKeptInJsonDataFile(lastStorageMode.get()) && isKeptInJsonDataFile(storageMode))) {
+            AddressBookStorage lastStorage = getStorage(lastStorageMode.get(), filePath, true);
+            source = copy(lastStorage, target) ? lastStorage : null;
+        }
+        recordStorageMode(filePath, storageMode);
+        return Optional.ofNullable(source);
+    }
+
+    private static boolean isKeptInJsonDataFile(StorageMode storageMode) {
+        return storageMode == StorageMode.JSON || storageMode == StorageMode.JOURNAL;
+    }
+
+    /**
+     * Copies the address book in {@code source} to {@code target} once, when {@code target} is first used.
+     * Nothing is copied if {@code target} already has a data file or a previous version of one,
+     * or if an address book was migrated to it before, as recorded by the marker file
+     * at {@link #getMigratedMarkerFilePath}, which is written after the address book is copied.
+     * Nothing is ever copied back from {@code target} to {@code source}.
+     *
+     * @return true if the address book was copied.
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to {@code target}.
+     */
+    public static boolean migrateOnce(AddressBookStorage source, AddressBookStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Path targetFilePath = target.getAddressBookFilePath();
+        Path markerFilePath = getMigratedMarkerFilePath(targetFilePath);
+        if (FileUtil.isFileExists(targetFilePath) || FileUtil.isFileExists(FileUtil.getBackupFilePath(targetFilePath))
+                || FileUtil.isFileExists(markerFilePath)) {
+            return false;
+        }
+        if (!copy(source, target)) {
+            return false;
+        }
+        FileUtil.writeToFile(markerFilePath, "Migrated from " + source.getAddressBookFilePath()
+                + " at " + Instant.now() + "\n");
+        return true;
+    }
+
+    /**
+     * Copies the address book in {@code source} to {@code target}, replacing the address book in {@code target}.
+     *
+     * @return true if the address book was copied, or false if {@code source} has no address book.
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to {@code target}.
+     */
+    public static boolean copy(AddressBookStorage source, AddressBookStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        logger.info("Copied address book from " + source.getAddressBookFilePath() + " to "
+                + target.getAddressBookFilePath());
+        return true;
+    }
+}
@@ -0,0 +1,17 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * A copy of the data of an address book taken for saving, which can be written to storage
+ * on another thread while the address book itself goes on changing.
+ */
+@FunctionalInterface
+public interface AddressBookSnapshot {
+
+    /**
+     * Writes the snapshot to the storage it was taken for.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void save() throws IOException;
+}
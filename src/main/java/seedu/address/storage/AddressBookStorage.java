@@ -42,4 +42,28 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns a snapshot of the given {@link ReadOnlyAddressBook} which saves it to the storage when asked to.
+     * The snapshot is unaffected by later changes to {@code addressBook}.
+     * @param addressBook cannot be null.
+     */
+    AddressBookSnapshot takeSnapshot(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Does the upkeep of the storage that saves leave out so that they stay quick,
+     * such as folding a journal of changes into a new copy of the data file. Does nothing by default.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void compactAddressBook() throws IOException {
+        // Nothing to do for storages which write the whole address book on each save
+    }
+
+    /**
+     * Returns the report of the records skipped when the address book was last read,
+     * or {@code Optional.empty()} if none were skipped.
+     */
+    default Optional<RecoveryReport> getRecoveryReport() {
+        return Optional.empty();
+    }
+
 }
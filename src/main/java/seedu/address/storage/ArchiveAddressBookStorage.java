@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to read a data file kept as an archive, which is never written to.
+ * The format of the archive is told from its first bytes, or from it being a directory:
+ * <ul>
+ *     <li>Binary data files, in the format described in {@link BinaryAddressBookFormat}, are memory-mapped and
+ *     only indexed when opened. Their entities are decoded straight from the mapping as they are shown,
+ *     as described in {@link BinaryArchiveAddressBook}, so the heap used does not grow with the size of the archive.
+ *     </li>
+ *     <li>Key-value stores, as described in {@link KeyValueStore}, are read from their log.</li>
+ *     <li>Directories are read as sharded address books, from the manifest in them
+ *     as described in {@link ShardedAddressBookStorage}.</li>
+ *     <li>Any other data file is read as json, compressed or not, as it is streamed from the file.</li>
+ * </ul>
+ * Whatever the format, the lists of the address book read are in the order {@link AddressBook#sortAllLists()} sorts
+ * them in. Records which cannot be read fail the whole archive, as no quarantine file is written next to an archive.
+ */
+public class ArchiveAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_READ_ONLY = "The archive %s is read-only.";
+    public static final String MESSAGE_NOT_A_SHARDED_ARCHIVE = "The archive %s is a directory without a "
+            + ShardedAddressBookStorage.MANIFEST_FILE_NAME + " of a sharded address book.";
+
+    private static final Logger logger = LogsCenter.getLogger(ArchiveAddressBookStorage.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates a storage for the archive at {@code filePath}, which is not read until it is asked for.
+     */
+    public ArchiveAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Unlike the other storages, a missing archive is an error rather than an empty result,
+     * so that the sample data is never shown in place of an archive.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is missing or is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.warning("Archive " + filePath + " not found");
+            throw new DataConversionException(new NoSuchFileException(filePath.toString()));
+        }
+
+        if (Files.isDirectory(filePath)) {
+            return readShardedArchive(filePath);
+        }
+
+        long startTime = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ReadOnlyAddressBook addressBook;
+            switch (readMagic(channel)) {
+            case BinaryAddressBookFormat.MAGIC:
+                // Only binary archives are mapped, as they are the only ones decoded straight from the bytes.
+                // The mapping stays valid after the channel is closed, for as long as the address book is in use.
+                addressBook = new BinaryArchiveAddressBook(
+                        channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+                break;
+            case KeyValueStore.MAGIC:
+                addressBook = KeyValueAddressBookStorage.readAddressBookStrictly(filePath);
+                break;
+            default:
+                return JsonAddressBookStreamReader.readAddressBook(filePath);
+            }
+            logger.info("Opened archive " + filePath + " of " + channel.size() + " bytes in "
+                    + (System.nanoTime() - startTime) / 1000000 + " ms");
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from archive " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the first four bytes of the file open in {@code channel} as an integer,
+     * or 0 if the file is shorter than that.
+     */
+    private static int readMagic(FileChannel channel) throws IOException {
+        ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+        while (magic.hasRemaining() && channel.read(magic, magic.position()) > 0) {
+            // Keep reading until the buffer is full or the end of the file is reached.
+        }
+        return magic.hasRemaining() ? 0 : magic.getInt(0);
+    }
+
+    /**
+     * Reads the sharded address book kept in the directory at {@code directoryPath}.
+     * @throws DataConversionException if the directory holds no manifest, or the files are not in the correct format.
+     */
+    private static Optional<ReadOnlyAddressBook> readShardedArchive(Path directoryPath)
+            throws DataConversionException {
+        Path manifestFilePath = directoryPath.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        Optional<ReadOnlyAddressBook> addressBook =
+                new ShardedAddressBookStorage(manifestFilePath, false).readAddressBook();
+        if (!addressBook.isPresent()) {
+            logger.warning("Archive " + directoryPath + " has no manifest");
+            throw new DataConversionException(new IllegalValueException(
+                    String.format(MESSAGE_NOT_A_SHARDED_ARCHIVE, directoryPath)));
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Always fails, as archives are never written to.
+     *
+     * @throws IOException always.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        throw new IOException(String.format(MESSAGE_READ_ONLY, filePath));
+    }
+
+    /**
+     * Returns a snapshot which fails when saved, as archives are never written to.
+     */
+    @Override
+    public AddressBookSnapshot takeSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        Path snapshotFilePath = filePath;
+        return () -> saveAddressBook(addressBook, snapshotFilePath);
+    }
+}
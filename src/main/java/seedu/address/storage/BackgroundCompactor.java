@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Compacts an {@link AddressBookStorage} on a background thread, so that saves made on the calling thread
+ * do not wait for the whole address book to be rewritten. Compactions asked for while an earlier one is still
+ * waiting to run are merged into it.
+ * Compacting only ever replaces the data file atomically, so it is safe to stop the thread in the middle of it.
+ */
+class BackgroundCompactor {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundCompactor.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Whether a compaction is waiting to run
+    private final AtomicBoolean isPending = new AtomicBoolean();
+
+    /**
+     * Creates a {@code BackgroundCompactor} compacting the given {@code storage}.
+     */
+    BackgroundCompactor(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Schedules the storage to be compacted, returning without waiting.
+     */
+    void compactLater() {
+        if (!isPending.getAndSet(true)) {
+            compactor.execute(this::compact);
+        }
+    }
+
+    /**
+     * Waits until every compaction scheduled so far has finished.
+     */
+    void flush() {
+        try {
+            compactor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            logger.warning("Interrupted while waiting for data to be compacted");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            logger.severe("Failed to compact data " + StringUtil.getDetails(ee.getCause()));
+        }
+    }
+
+    private void compact() {
+        isPending.set(false);
+        try {
+            storage.compactAddressBook();
+        } catch (IOException ioe) {
+            logger.warning("Failed to compact data " + StringUtil.getDetails(ioe));
+        }
+    }
+}
@@ -0,0 +1,437 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Deadline;
+import seedu.address.model.Name;
+import seedu.address.model.Pin;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientEmail;
+import seedu.address.model.client.ClientId;
+import seedu.address.model.client.ClientMobile;
+import seedu.address.model.issue.Issue;
+import seedu.address.model.issue.IssueId;
+import seedu.address.model.issue.Status;
+import seedu.address.model.issue.Title;
+import seedu.address.model.issue.Urgency;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectId;
+import seedu.address.model.project.Repository;
+
+/**
+ * Converts an address book to and from a compact binary form.
+ * <p>
+ * The binary form starts with {@link #MAGIC} and the format version, followed by these sections in order:
+ * strings, clients, projects, issues and id high-water marks.
+ * Each section is made up of its length in bytes, its contents, and the CRC32 checksum of its contents.
+ * Ids and counts are written 7 bits to a byte, so that small values take up a single byte.
+ * Names and other text are written once to the strings section and referred to by their position in it,
+ * with 0 standing for an empty value. Deadlines are written as a number of days from 1970-01-01,
+ * urgencies by their position in {@link Urgency}, and pins and statuses as bits of a flags byte.
+ */
+class BinaryAddressBookFormat {
+
+    public static final int MAGIC = 0x44455642;
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_A_BINARY_ADDRESS_BOOK = "Data file is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file is of unsupported version %d.";
+    public static final String MESSAGE_CORRUPTED_SECTION = "The %s section of the data file is corrupted.";
+    public static final String MESSAGE_TRUNCATED = "Data file is truncated.";
+    public static final String MESSAGE_CORRUPTED = "Data file is corrupted.";
+    public static final String MESSAGE_INVALID_REFERENCE = "Data file refers to a %s which does not exist.";
+
+    static final String SECTION_STRINGS = "strings";
+    static final String SECTION_CLIENTS = "clients";
+    static final String SECTION_PROJECTS = "projects";
+    static final String SECTION_ISSUES = "issues";
+    static final String SECTION_ID_HIGH_WATER_MARKS = "id high-water marks";
+
+    static final int FLAG_PINNED = 1;
+    static final int FLAG_HAS_DEADLINE = 1 << 1;
+    static final int FLAG_COMPLETED = 1 << 2;
+
+    static final Urgency[] URGENCIES = Urgency.values();
+
+    /**
+     * Returns the binary form of {@code addressBook}.
+     */
+    public static byte[] encode(ReadOnlyAddressBook addressBook) {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+
+        Collection<Client> clients = StorageUtil.getClientsToStore(addressBook);
+
+        SectionWriter clientSection = new SectionWriter();
+        clientSection.writeVarInt(clients.size());
+        for (Client client : clients) {
+            clientSection.writeVarInt(client.getId());
+            clientSection.writeVarInt(getStringRef(strings, client.getClientName().toString()));
+            clientSection.writeVarInt(getStringRef(strings, client.getClientMobile().toString()));
+            clientSection.writeVarInt(getStringRef(strings, client.getClientEmail().toString()));
+            clientSection.write(client.isPinned() ? FLAG_PINNED : 0);
+        }
+
+        SectionWriter projectSection = new SectionWriter();
+        projectSection.writeVarInt(addressBook.getProjectList().size());
+        for (Project project : addressBook.getProjectList()) {
+            projectSection.writeVarInt(project.getId());
+            projectSection.writeVarInt(getStringRef(strings, project.getProjectName().toString()));
+            projectSection.writeVarInt(getStringRef(strings, project.getRepository().toString()));
+            projectSection.writeVarInt(project.getClient().isEmpty() ? 0 : project.getClient().getId());
+            int flags = (project.isPinned() ? FLAG_PINNED : 0)
+                    | (project.getDeadline().isEmpty() ? 0 : FLAG_HAS_DEADLINE);
+            projectSection.write(flags);
+            if (!project.getDeadline().isEmpty()) {
+                projectSection.writeSignedVarLong(project.getDeadline().getLocalDate().toEpochDay());
+            }
+        }
+
+        SectionWriter issueSection = new SectionWriter();
+        issueSection.writeVarInt(addressBook.getIssueList().size());
+        for (Issue issue : addressBook.getIssueList()) {
+            issueSection.writeVarInt(issue.getId());
+            issueSection.writeVarInt(getStringRef(strings, issue.getTitle().toString()));
+            issueSection.writeVarInt(issue.getProject().getId());
+            issueSection.write(issue.getUrgency().ordinal());
+            int flags = (issue.isPinned() ? FLAG_PINNED : 0)
+                    | (issue.getDeadline().isEmpty() ? 0 : FLAG_HAS_DEADLINE)
+                    | (issue.getStatus().getStatus() ? FLAG_COMPLETED : 0);
+            issueSection.write(flags);
+            if (!issue.getDeadline().isEmpty()) {
+                issueSection.writeSignedVarLong(issue.getDeadline().getLocalDate().toEpochDay());
+            }
+        }
+
+        SectionWriter idHighWaterMarkSection = new SectionWriter();
+        idHighWaterMarkSection.writeVarInt(addressBook.getClientIdHighWaterMark());
+        idHighWaterMarkSection.writeVarInt(addressBook.getProjectIdHighWaterMark());
+        idHighWaterMarkSection.writeVarInt(addressBook.getIssueIdHighWaterMark());
+
+        SectionWriter stringSection = new SectionWriter();
+        stringSection.writeVarInt(strings.size());
+        for (String string : strings.keySet()) {
+            stringSection.writeString(string);
+        }
+
+        SectionWriter out = new SectionWriter();
+        out.writeInt(MAGIC);
+        out.writeVarInt(VERSION);
+        stringSection.writeSectionTo(out);
+        clientSection.writeSectionTo(out);
+        projectSection.writeSectionTo(out);
+        issueSection.writeSectionTo(out);
+        idHighWaterMarkSection.writeSectionTo(out);
+        return out.toByteArray();
+    }
+
+    private static int getStringRef(Map<String, Integer> strings, String string) {
+        if (string.isEmpty()) {
+            return 0;
+        }
+        return strings.computeIfAbsent(string, unused -> strings.size() + 1);
+    }
+
+    /**
+     * Returns the address book whose binary form is {@code data}.
+     * @throws IllegalValueException if {@code data} is not in the binary form, is corrupted,
+     *     or holds values which are not allowed in the model.
+     */
+    public static AddressBook decode(byte[] data) throws IllegalValueException {
+        return decode(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Returns the address book whose binary form is the remaining contents of {@code data}.
+     * {@code data} may be a direct or memory-mapped buffer, and its position is left unchanged.
+     * @throws IllegalValueException if {@code data} is not in the binary form, is corrupted,
+     *     or holds values which are not allowed in the model.
+     */
+    public static AddressBook decode(ByteBuffer data) throws IllegalValueException {
+        ByteBuffer in = data.slice();
+        try {
+            readHeader(in);
+
+            AddressBook addressBook = new AddressBook();
+            String[] strings = readStrings(readSection(in, SECTION_STRINGS));
+            Map<Integer, Client> clients = readClients(readSection(in, SECTION_CLIENTS), strings, addressBook);
+            Map<Integer, Project> projects = readProjects(readSection(in, SECTION_PROJECTS), strings, clients,
+                    addressBook);
+            readIssues(readSection(in, SECTION_ISSUES), strings, projects, addressBook);
+
+            ByteBuffer idHighWaterMarks = readSection(in, SECTION_ID_HIGH_WATER_MARKS);
+            addressBook.setClientIdHighWaterMark(readVarInt(idHighWaterMarks));
+            addressBook.setProjectIdHighWaterMark(readVarInt(idHighWaterMarks));
+            addressBook.setIssueIdHighWaterMark(readVarInt(idHighWaterMarks));
+            addressBook.sortAllLists();
+            return addressBook;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        } catch (IllegalArgumentException e) {
+            // Thrown by the model when a value does not meet its constraints
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the magic number and format version at the start of {@code in}, and checks that they are supported.
+     */
+    static void readHeader(ByteBuffer in) throws IllegalValueException {
+        if (in.remaining() < Integer.BYTES || in.getInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_A_BINARY_ADDRESS_BOOK);
+        }
+        int version = readVarInt(in);
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+    }
+
+    /**
+     * Returns the contents of the next section of {@code in}, after checking them against their checksum.
+     */
+    static ByteBuffer readSection(ByteBuffer in, String sectionName) throws IllegalValueException {
+        int length = readVarInt(in);
+        if (length > in.remaining() - Integer.BYTES) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        }
+        ByteBuffer section = in.slice();
+        section.limit(length);
+        in.position(in.position() + length);
+
+        CRC32 crc = new CRC32();
+        crc.update(section.duplicate());
+        if ((int) crc.getValue() != in.getInt()) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_SECTION, sectionName));
+        }
+        return section;
+    }
+
+    private static String[] readStrings(ByteBuffer in) throws IllegalValueException {
+        int count = readVarInt(in);
+        // Each string takes up at least one byte, which bounds the size of a corrupted count
+        if (count > in.remaining()) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_SECTION, SECTION_STRINGS));
+        }
+        String[] strings = new String[count + 1];
+        strings[0] = "";
+        for (int i = 1; i <= count; i++) {
+            int length = readVarInt(in);
+            if (length > in.remaining()) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_SECTION, SECTION_STRINGS));
+            }
+            if (in.hasArray()) {
+                strings[i] = new String(in.array(), in.arrayOffset() + in.position(), length,
+                        StandardCharsets.UTF_8);
+                in.position(in.position() + length);
+            } else {
+                byte[] bytes = new byte[length];
+                in.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+        return strings;
+    }
+
+    private static Map<Integer, Client> readClients(ByteBuffer in, String[] strings, AddressBook addressBook)
+            throws IllegalValueException {
+        Map<Integer, Client> clients = new HashMap<>();
+        int count = readVarInt(in);
+        for (int i = 0; i < count; i++) {
+            int id = readId(in, ClientId.MESSAGE_CONSTRAINTS);
+            Name name = new Name(readString(in, strings));
+            String mobile = readString(in, strings);
+            String email = readString(in, strings);
+            int flags = in.get();
+            Client client = new Client(name,
+                    mobile.isEmpty() ? ClientMobile.EmptyClientMobile.EMPTY_MOBILE : new ClientMobile(mobile),
+                    email.isEmpty() ? ClientEmail.EmptyEmail.EMPTY_EMAIL : new ClientEmail(email),
+                    new ArrayList<>(), new ClientId(id), new Pin((flags & FLAG_PINNED) != 0));
+            if (clients.containsKey(id)) {
+                throw new IllegalValueException(StorageUtil.MESSAGE_INVALID_CLIENT);
+            }
+            clients.put(id, client);
+            addressBook.addClient(client);
+        }
+        return clients;
+    }
+
+    private static Map<Integer, Project> readProjects(ByteBuffer in, String[] strings, Map<Integer, Client> clients,
+                                                      AddressBook addressBook) throws IllegalValueException {
+        Map<Integer, Project> projects = new HashMap<>();
+        int count = readVarInt(in);
+        for (int i = 0; i < count; i++) {
+            int id = readId(in, ProjectId.MESSAGE_CONSTRAINTS);
+            Name name = new Name(readString(in, strings));
+            String repository = readString(in, strings);
+            int clientId = readVarInt(in);
+            int flags = in.get();
+            Deadline deadline = readDeadline(in, flags);
+
+            Client client = Client.EmptyClient.EMPTY_CLIENT;
+            if (clientId != 0) {
+                client = clients.get(clientId);
+                if (client == null) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_REFERENCE, "client"));
+                }
+            }
+            Project project = new Project(name,
+                    repository.isEmpty() ? Repository.EmptyRepository.EMPTY_REPOSITORY : new Repository(repository),
+                    deadline, client, new ArrayList<>(), new ProjectId(id), new Pin((flags & FLAG_PINNED) != 0));
+            if (projects.containsKey(id)) {
+                throw new IllegalValueException(StorageUtil.MESSAGE_DUPLICATE_PROJECT);
+            }
+            projects.put(id, project);
+            addressBook.addProject(project);
+            if (!client.isEmpty()) {
+                client.addProjects(project);
+            }
+        }
+        return projects;
+    }
+
+    private static void readIssues(ByteBuffer in, String[] strings, Map<Integer, Project> projects,
+                                   AddressBook addressBook) throws IllegalValueException {
+        Map<Integer, Issue> issues = new HashMap<>();
+        int count = readVarInt(in);
+        for (int i = 0; i < count; i++) {
+            int id = readId(in, IssueId.MESSAGE_CONSTRAINTS);
+            Title title = new Title(readString(in, strings));
+            Project project = projects.get(readVarInt(in));
+            if (project == null) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_REFERENCE, "project"));
+            }
+            int urgency = in.get();
+            if (urgency < 0 || urgency >= URGENCIES.length) {
+                throw new IllegalValueException(Urgency.MESSAGE_CONSTRAINTS);
+            }
+            int flags = in.get();
+            Deadline deadline = readDeadline(in, flags);
+
+            if (issues.containsKey(id)) {
+                throw new IllegalValueException(StorageUtil.MESSAGE_DUPLICATE_ISSUE);
+            }
+            Issue issue = new Issue(title, deadline, URGENCIES[urgency], new Status((flags & FLAG_COMPLETED) != 0),
+                    project, new IssueId(id), new Pin((flags & FLAG_PINNED) != 0));
+            issues.put(id, issue);
+            addressBook.addIssue(issue);
+        }
+    }
+
+    private static int readId(ByteBuffer in, String messageConstraints) throws IllegalValueException {
+        int id = readVarInt(in);
+        if (id <= 0) {
+            throw new IllegalValueException(messageConstraints);
+        }
+        return id;
+    }
+
+    private static String readString(ByteBuffer in, String[] strings) throws IllegalValueException {
+        int ref = readVarInt(in);
+        if (ref < 0 || ref >= strings.length) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_REFERENCE, "string"));
+        }
+        return strings[ref];
+    }
+
+    static Deadline readDeadline(ByteBuffer in, int flags) throws IllegalValueException {
+        if ((flags & FLAG_HAS_DEADLINE) == 0) {
+            return Deadline.EmptyDeadline.EMPTY_DEADLINE;
+        }
+        long epochDay = readSignedVarLong(in);
+        if (epochDay < LocalDate.MIN.toEpochDay() || epochDay > LocalDate.MAX.toEpochDay()) {
+            throw new IllegalValueException(Deadline.MESSAGE_CONSTRAINTS);
+        }
+        return Deadline.of(LocalDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Reads an unsigned int written 7 bits to a byte, lowest bits first,
+     * with the top bit of each byte set if more bytes follow.
+     */
+    static int readVarInt(ByteBuffer in) throws IllegalValueException {
+        long value = readVarLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return (int) value;
+    }
+
+    static long readSignedVarLong(ByteBuffer in) throws IllegalValueException {
+        long zigZag = readVarLong(in);
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+
+    private static long readVarLong(ByteBuffer in) throws IllegalValueException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_CORRUPTED);
+    }
+
+    /**
+     * A buffer that a section of the binary form is written to.
+     */
+    private static class SectionWriter extends ByteArrayOutputStream {
+
+        void writeInt(int value) {
+            write(value >>> 24);
+            write(value >>> 16);
+            write(value >>> 8);
+            write(value);
+        }
+
+        void writeVarInt(int value) {
+            assert value >= 0 : "Only non-negative values are written as unsigned";
+            writeVarLong(value);
+        }
+
+        /**
+         * Writes {@code value} such that values close to zero, whether positive or negative, take up few bytes.
+         */
+        void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        private void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            write(bytes, 0, bytes.length);
+        }
+
+        /**
+         * Writes the contents of this buffer to {@code out} as a section, with its length and checksum.
+         */
+        void writeSectionTo(SectionWriter out) {
+            CRC32 crc = new CRC32();
+            crc.update(buf, 0, count);
+            out.writeVarInt(count);
+            out.write(buf, 0, count);
+            out.writeInt((int) crc.getValue());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary file on the hard disk,
+ * in the format described in {@link BinaryAddressBookFormat}.
+ * Like {@link JsonAddressBookStorage}, the file is replaced atomically on each save,
+ * and its previous version is kept alongside it to fall back on if the file cannot be read.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isSyncedOnSave;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the data file at {@code filePath}.
+     * @param isSyncedOnSave whether each save waits for the data file to reach the disk.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isSyncedOnSave) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isSyncedOnSave = isSyncedOnSave;
+    }
+
+    /**
+     * Returns the path of a binary data file with the same name as the data file at {@code filePath}.
+     */
+    public static Path getBinaryFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If the file is not in the correct format, the previous version of it is read instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if neither the file nor its previous version is in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        return StorageUtil.readAddressBookOrPreviousVersion(filePath, BinaryAddressBookStorage::readBinaryFile);
+    }
+
+    private static Optional<ReadOnlyAddressBook> readBinaryFile(Path filePath) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryAddressBookFormat.decode(Files.readAllBytes(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        saveBinaryFile(BinaryAddressBookFormat.encode(addressBook), filePath, isSyncedOnSave);
+    }
+
+    /**
+     * Returns a snapshot which saves the address book as it is now to the data file.
+     * The address book is converted to its binary form right away, and written out when the snapshot is saved.
+     */
+    @Override
+    public AddressBookSnapshot takeSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        byte[] data = BinaryAddressBookFormat.encode(addressBook);
+        Path snapshotFilePath = filePath;
+        return () -> saveBinaryFile(data, snapshotFilePath, isSyncedOnSave);
+    }
+
+    private static void saveBinaryFile(byte[] data, Path filePath, boolean isSynced) throws IOException {
+        FileUtil.writeToFileAtomically(filePath, out -> out.write(data), isSynced);
+    }
+}
@@ -0,0 +1,797 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryAddressBookFormat.FLAG_COMPLETED;
+import static seedu.address.storage.BinaryAddressBookFormat.FLAG_PINNED;
+import static seedu.address.storage.BinaryAddressBookFormat.MESSAGE_CORRUPTED_SECTION;
+import static seedu.address.storage.BinaryAddressBookFormat.MESSAGE_INVALID_REFERENCE;
+import static seedu.address.storage.BinaryAddressBookFormat.URGENCIES;
+import static seedu.address.storage.BinaryAddressBookFormat.readDeadline;
+import static seedu.address.storage.BinaryAddressBookFormat.readSection;
+import static seedu.address.storage.BinaryAddressBookFormat.readVarInt;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Deadline;
+import seedu.address.model.Name;
+import seedu.address.model.Pin;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientEmail;
+import seedu.address.model.client.ClientId;
+import seedu.address.model.client.ClientMobile;
+import seedu.address.model.issue.Issue;
+import seedu.address.model.issue.IssueId;
+import seedu.address.model.issue.Status;
+import seedu.address.model.issue.Title;
+import seedu.address.model.issue.Urgency;
+import seedu.address.model.list.NotFoundException;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectId;
+import seedu.address.model.project.Repository;
+
+/**
+ * A read-only address book over the binary form of an archive, as described in {@link BinaryAddressBookFormat},
+ * which decodes its entities only as they are got.
+ * <p>
+ * When opened, the sections are checked against their checksums and their records are scanned once, to check them
+ * and to index where each record starts, without decoding any entity. The lists of clients, projects and issues then
+ * decode the entity at a position as it is got, keeping only the entities decoded last, so that the heap used grows
+ * with the entities shown rather than with the size of the archive. The lists are in the order
+ * {@link AddressBook#sortAllLists()} sorts them in, pinned entities first and then by id.
+ * <p>
+ * Projects are decoded with their issue counts from the scan, and their issue lists and the project lists of clients
+ * decode their entities in the same way. An entity decoded again after it was dropped is a different object,
+ * so the address book is meant to be viewed or saved as it is, rather than copied into an {@link AddressBook}.
+ */
+class BinaryArchiveAddressBook implements ReadOnlyAddressBook {
+
+    public static final String MESSAGE_READ_ONLY = "An archive cannot be changed.";
+
+    // Number of entities of each kind kept after being decoded, well above the number shown at once
+    private static final int CACHE_SIZE = 512;
+
+    // Kinds of values the strings are used as, each checked against the constraints of its kind once
+    private static final int KIND_NAME = 1;
+    private static final int KIND_MOBILE = 1 << 1;
+    private static final int KIND_EMAIL = 1 << 2;
+    private static final int KIND_REPOSITORY = 1 << 3;
+    private static final int KIND_TITLE = 1 << 4;
+
+    private final ByteBuffer stringSection;
+    private final ByteBuffer clientSection;
+    private final ByteBuffer projectSection;
+    private final ByteBuffer issueSection;
+
+    // Offset of each string in the strings section, by its reference
+    private final int[] stringOffsets;
+    private final byte[] stringKinds;
+
+    // Offset of the record of the entity at each position of a list, and the number of pinned entities at the start
+    private final int[] clientOffsets;
+    private final int[] projectOffsets;
+    private final int[] issueOffsets;
+    private final int pinnedClientCount;
+    private final int pinnedProjectCount;
+    private final int pinnedIssueCount;
+
+    // Positions of the projects of the client at position c, from clientProjectStarts[c] to clientProjectStarts[c + 1]
+    private final int[] clientProjectStarts;
+    private final int[] clientProjects;
+    // Positions of the issues of the project at position p, in the same way
+    private final int[] projectIssueStarts;
+    private final int[] projectIssues;
+    private final int[] completedIssueCounts;
+
+    private final int clientIdHighWaterMark;
+    private final int projectIdHighWaterMark;
+    private final int issueIdHighWaterMark;
+
+    private final DecodedCache<Client> decodedClients = new DecodedCache<>();
+    private final DecodedCache<Project> decodedProjects = new DecodedCache<>();
+    private final DecodedCache<Issue> decodedIssues = new DecodedCache<>();
+
+    private final ObservableList<Client> clients;
+    private final ObservableList<Project> projects;
+    private final ObservableList<Issue> issues;
+
+    /**
+     * Opens the binary form of an address book which is the remaining contents of {@code data},
+     * such as a memory-mapped archive, and indexes its records. {@code data} must not change while it is open.
+     * @throws IllegalValueException if {@code data} is not in the binary form, is corrupted,
+     *     or holds values which are not allowed in the model.
+     */
+    BinaryArchiveAddressBook(ByteBuffer data) throws IllegalValueException {
+        ByteBuffer in = data.slice();
+        try {
+            BinaryAddressBookFormat.readHeader(in);
+            stringSection = readSection(in, BinaryAddressBookFormat.SECTION_STRINGS);
+            clientSection = readSection(in, BinaryAddressBookFormat.SECTION_CLIENTS);
+            projectSection = readSection(in, BinaryAddressBookFormat.SECTION_PROJECTS);
+            issueSection = readSection(in, BinaryAddressBookFormat.SECTION_ISSUES);
+            ByteBuffer idHighWaterMarks = readSection(in, BinaryAddressBookFormat.SECTION_ID_HIGH_WATER_MARKS);
+            clientIdHighWaterMark = readVarInt(idHighWaterMarks);
+            projectIdHighWaterMark = readVarInt(idHighWaterMarks);
+            issueIdHighWaterMark = readVarInt(idHighWaterMarks);
+
+            stringOffsets = scanStrings(stringSection.duplicate());
+            stringKinds = new byte[stringOffsets.length];
+
+            ScannedRecords scannedClients = scanClients(clientSection.duplicate());
+            clientOffsets = scannedClients.offsets;
+            pinnedClientCount = scannedClients.pinnedCount;
+
+            ScannedRecords scannedProjects = scanProjects(projectSection.duplicate(), scannedClients);
+            projectOffsets = scannedProjects.offsets;
+            pinnedProjectCount = scannedProjects.pinnedCount;
+            clientProjectStarts = new int[clientOffsets.length + 1];
+            clientProjects = groupPositions(scannedProjects, scannedClients, clientProjectStarts);
+
+            ScannedRecords scannedIssues = scanIssues(issueSection.duplicate(), scannedProjects);
+            issueOffsets = scannedIssues.offsets;
+            pinnedIssueCount = scannedIssues.pinnedCount;
+            projectIssueStarts = new int[projectOffsets.length + 1];
+            projectIssues = groupPositions(scannedIssues, scannedProjects, projectIssueStarts);
+            completedIssueCounts = countCompletedIssues(scannedIssues);
+
+            checkStrings();
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(BinaryAddressBookFormat.MESSAGE_TRUNCATED);
+        }
+
+        clients = new DecodedList<>(clientOffsets.length, this::getClientAt);
+        projects = new DecodedList<>(projectOffsets.length, this::getProjectAt);
+        issues = new DecodedList<>(issueOffsets.length, this::getIssueAt);
+    }
+
+    //// scanning
+
+    /**
+     * Returns the offset of each string in the strings section {@code in}, by its reference.
+     */
+    private static int[] scanStrings(ByteBuffer in) throws IllegalValueException {
+        int count = readVarInt(in);
+        // Each string takes up at least one byte, which bounds the size of a corrupted count
+        if (count > in.remaining()) {
+            throw corruptedSection(BinaryAddressBookFormat.SECTION_STRINGS);
+        }
+        int[] offsets = new int[count + 1];
+        for (int ref = 1; ref <= count; ref++) {
+            offsets[ref] = in.position();
+            int length = readVarInt(in);
+            if (length > in.remaining()) {
+                throw corruptedSection(BinaryAddressBookFormat.SECTION_STRINGS);
+            }
+            in.position(in.position() + length);
+        }
+        return offsets;
+    }
+
+    private ScannedRecords scanClients(ByteBuffer in) throws IllegalValueException {
+        ScannedRecords scanned = new ScannedRecords(readCount(in, BinaryAddressBookFormat.SECTION_CLIENTS));
+        for (int i = 0; i < scanned.offsets.length; i++) {
+            int offset = in.position();
+            int id = readId(in, ClientId.MESSAGE_CONSTRAINTS);
+            markString(in, KIND_NAME);
+            markString(in, KIND_MOBILE);
+            markString(in, KIND_EMAIL);
+            int flags = in.get();
+            if (!scanned.add(i, id, offset, flags)) {
+                throw new IllegalValueException(StorageUtil.MESSAGE_INVALID_CLIENT);
+            }
+        }
+        scanned.sort();
+        return scanned;
+    }
+
+    private ScannedRecords scanProjects(ByteBuffer in, ScannedRecords scannedClients) throws IllegalValueException {
+        ScannedRecords scanned = new ScannedRecords(readCount(in, BinaryAddressBookFormat.SECTION_PROJECTS));
+        for (int i = 0; i < scanned.offsets.length; i++) {
+            int offset = in.position();
+            int id = readId(in, ProjectId.MESSAGE_CONSTRAINTS);
+            markString(in, KIND_NAME);
+            markString(in, KIND_REPOSITORY);
+            int clientId = readVarInt(in);
+            int flags = in.get();
+            readDeadline(in, flags);
+            if (clientId == 0) {
+                scanned.owners[i] = -1;
+            } else {
+                scanned.owners[i] = scannedClients.getRecordIndexById(clientId, "client");
+            }
+            if (!scanned.add(i, id, offset, flags)) {
+                throw new IllegalValueException(StorageUtil.MESSAGE_DUPLICATE_PROJECT);
+            }
+        }
+        scanned.sort();
+        return scanned;
+    }
+
+    private ScannedRecords scanIssues(ByteBuffer in, ScannedRecords scannedProjects) throws IllegalValueException {
+        ScannedRecords scanned = new ScannedRecords(readCount(in, BinaryAddressBookFormat.SECTION_ISSUES));
+        for (int i = 0; i < scanned.offsets.length; i++) {
+            int offset = in.position();
+            int id = readId(in, IssueId.MESSAGE_CONSTRAINTS);
+            markString(in, KIND_TITLE);
+            scanned.owners[i] = scannedProjects.getRecordIndexById(readVarInt(in), "project");
+            int urgency = in.get();
+            if (urgency < 0 || urgency >= URGENCIES.length) {
+                throw new IllegalValueException(Urgency.MESSAGE_CONSTRAINTS);
+            }
+            int flags = in.get();
+            readDeadline(in, flags);
+            if (!scanned.add(i, id, offset, flags)) {
+                throw new IllegalValueException(StorageUtil.MESSAGE_DUPLICATE_ISSUE);
+            }
+        }
+        scanned.sort();
+        return scanned;
+    }
+
+    /**
+     * Reads the number of records in a section, which each take up at least a byte.
+     */
+    private static int readCount(ByteBuffer in, String sectionName) throws IllegalValueException {
+        int count = readVarInt(in);
+        if (count > in.remaining()) {
+            throw corruptedSection(sectionName);
+        }
+        return count;
+    }
+
+    private static int readId(ByteBuffer in, String messageConstraints) throws IllegalValueException {
+        int id = readVarInt(in);
+        if (id <= 0) {
+            throw new IllegalValueException(messageConstraints);
+        }
+        return id;
+    }
+
+    /**
+     * Reads a string reference, and records that the string it refers to is used as a value of {@code kind}.
+     */
+    private void markString(ByteBuffer in, int kind) throws IllegalValueException {
+        int ref = readVarInt(in);
+        if (ref >= stringOffsets.length) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_REFERENCE, "string"));
+        }
+        stringKinds[ref] |= kind;
+    }
+
+    /**
+     * Checks every string against the constraints of each kind of value it is used as,
+     * so that no entity fails to be decoded once the archive is open.
+     */
+    private void checkStrings() throws IllegalValueException {
+        for (int ref = 0; ref < stringKinds.length; ref++) {
+            int kinds = stringKinds[ref];
+            if (kinds == 0) {
+                continue;
+            }
+            String value = getString(ref);
+            checkString(kinds, KIND_NAME, Name.isValidName(value), Name.MESSAGE_CONSTRAINTS);
+            checkString(kinds, KIND_TITLE, Title.isValidTitle(value), Title.MESSAGE_CONSTRAINTS);
+            checkString(kinds, KIND_MOBILE, value.isEmpty() || ClientMobile.isValidClientMobile(value),
+                    ClientMobile.MESSAGE_CONSTRAINTS);
+            checkString(kinds, KIND_EMAIL, value.isEmpty() || ClientEmail.isValidClientEmail(value),
+                    ClientEmail.MESSAGE_CONSTRAINTS);
+            checkString(kinds, KIND_REPOSITORY, value.isEmpty() || Repository.isValidRepository(value),
+                    Repository.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    private static void checkString(int kinds, int kind, boolean isValid, String messageConstraints)
+            throws IllegalValueException {
+        if ((kinds & kind) != 0 && !isValid) {
+            throw new IllegalValueException(messageConstraints);
+        }
+    }
+
+    /**
+     * Returns the positions of the entities scanned in {@code scanned}, grouped by the position of their owner
+     * in {@code scannedOwners}, and fills {@code starts} with where the group of each owner starts.
+     * Entities without an owner are left out.
+     */
+    private static int[] groupPositions(ScannedRecords scanned, ScannedRecords scannedOwners, int[] starts) {
+        int[] ownerPositions = new int[scanned.offsets.length];
+        for (int position = 0; position < ownerPositions.length; position++) {
+            int owner = scanned.owners[scanned.recordIndexes[position]];
+            ownerPositions[position] = owner < 0 ? -1 : scannedOwners.positions[owner];
+            if (owner >= 0) {
+                starts[ownerPositions[position] + 1]++;
+            }
+        }
+        for (int i = 1; i < starts.length; i++) {
+            starts[i] += starts[i - 1];
+        }
+        int[] grouped = new int[starts[starts.length - 1]];
+        int[] next = Arrays.copyOf(starts, starts.length - 1);
+        for (int position = 0; position < ownerPositions.length; position++) {
+            if (ownerPositions[position] >= 0) {
+                grouped[next[ownerPositions[position]]++] = position;
+            }
+        }
+        return grouped;
+    }
+
+    private int[] countCompletedIssues(ScannedRecords scannedIssues) {
+        int[] counts = new int[projectOffsets.length];
+        for (int project = 0; project < counts.length; project++) {
+            for (int i = projectIssueStarts[project]; i < projectIssueStarts[project + 1]; i++) {
+                if ((scannedIssues.flags[scannedIssues.recordIndexes[projectIssues[i]]] & FLAG_COMPLETED) != 0) {
+                    counts[project]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static IllegalValueException corruptedSection(String sectionName) {
+        return new IllegalValueException(String.format(MESSAGE_CORRUPTED_SECTION, sectionName));
+    }
+
+    //// decoding
+
+    private Client getClientAt(int position) {
+        return decodedClients.computeIfAbsent(position, this::decodeClient);
+    }
+
+    private Project getProjectAt(int position) {
+        return decodedProjects.computeIfAbsent(position, this::decodeProject);
+    }
+
+    private Issue getIssueAt(int position) {
+        ByteBuffer in = getRecord(issueSection, issueOffsets[position]);
+        readUnchecked(in);
+        readUnchecked(in);
+        int projectPosition = findPosition(projectSection, projectOffsets, pinnedProjectCount, readUnchecked(in));
+        return getIssueAt(position, getProjectAt(projectPosition));
+    }
+
+    /**
+     * Returns the issue at {@code position}, belonging to {@code project} as it was last decoded.
+     */
+    private Issue getIssueAt(int position, Project project) {
+        Issue issue = decodedIssues.get(position);
+        if (issue == null || issue.getProject() != project) {
+            issue = decodeIssue(position, project);
+            decodedIssues.put(position, issue);
+        }
+        return issue;
+    }
+
+    private Client decodeClient(int position) {
+        ByteBuffer in = getRecord(clientSection, clientOffsets[position]);
+        int id = readUnchecked(in);
+        Name name = new Name(getString(readUnchecked(in)));
+        String mobile = getString(readUnchecked(in));
+        String email = getString(readUnchecked(in));
+        int flags = in.get();
+        return new Client(name,
+                mobile.isEmpty() ? ClientMobile.EmptyClientMobile.EMPTY_MOBILE : new ClientMobile(mobile),
+                email.isEmpty() ? ClientEmail.EmptyEmail.EMPTY_EMAIL : new ClientEmail(email),
+                new DecodedSubList<>(clientProjects, clientProjectStarts[position],
+                        clientProjectStarts[position + 1], this::getProjectAt),
+                new ClientId(id), new Pin((flags & FLAG_PINNED) != 0));
+    }
+
+    private Project decodeProject(int position) {
+        ByteBuffer in = getRecord(projectSection, projectOffsets[position]);
+        int id = readUnchecked(in);
+        Name name = new Name(getString(readUnchecked(in)));
+        String repository = getString(readUnchecked(in));
+        int clientId = readUnchecked(in);
+        int flags = in.get();
+        Deadline deadline = readDeadlineUnchecked(in, flags);
+
+        Client client = clientId == 0
+                ? Client.EmptyClient.EMPTY_CLIENT
+                : getClientAt(findPosition(clientSection, clientOffsets, pinnedClientCount, clientId));
+        ProjectIssueList issueList = new ProjectIssueList(position);
+        Project project = new Project(name,
+                repository.isEmpty() ? Repository.EmptyRepository.EMPTY_REPOSITORY : new Repository(repository),
+                deadline, client, issueList, completedIssueCounts[position], new ProjectId(id),
+                new Pin((flags & FLAG_PINNED) != 0));
+        issueList.project = project;
+        return project;
+    }
+
+    private Issue decodeIssue(int position, Project project) {
+        ByteBuffer in = getRecord(issueSection, issueOffsets[position]);
+        int id = readUnchecked(in);
+        Title title = new Title(getString(readUnchecked(in)));
+        readUnchecked(in);
+        int urgency = in.get();
+        int flags = in.get();
+        Deadline deadline = readDeadlineUnchecked(in, flags);
+        return new Issue(title, deadline, URGENCIES[urgency], new Status((flags & FLAG_COMPLETED) != 0),
+                project, new IssueId(id), new Pin((flags & FLAG_PINNED) != 0));
+    }
+
+    private String getString(int ref) {
+        if (ref == 0) {
+            return "";
+        }
+        ByteBuffer in = getRecord(stringSection, stringOffsets[ref]);
+        byte[] bytes = new byte[readUnchecked(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer getRecord(ByteBuffer section, int offset) {
+        ByteBuffer in = section.duplicate();
+        in.position(offset);
+        return in;
+    }
+
+    /**
+     * Reads a value of a record which was checked when the archive was opened.
+     */
+    private static int readUnchecked(ByteBuffer in) {
+        try {
+            return readVarInt(in);
+        } catch (IllegalValueException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private static Deadline readDeadlineUnchecked(ByteBuffer in, int flags) {
+        try {
+            return readDeadline(in, flags);
+        } catch (IllegalValueException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the position of the entity with {@code id} in a list whose records start at {@code offsets},
+     * by searching the pinned entities and the others, which are each in order of id, or -1 if there is none.
+     */
+    private static int findPosition(ByteBuffer section, int[] offsets, int pinnedCount, int id) {
+        int position = findPosition(section, offsets, 0, pinnedCount, id);
+        return position >= 0 ? position : findPosition(section, offsets, pinnedCount, offsets.length, id);
+    }
+
+    private static int findPosition(ByteBuffer section, int[] offsets, int from, int to, int id) {
+        int low = from;
+        int high = to - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleId = readUnchecked(getRecord(section, offsets[middle]));
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    //// accessors
+
+    @Override
+    public ObservableList<Project> getProjectList() {
+        return projects;
+    }
+
+    @Override
+    public ObservableList<Project> getModifiableProjectList() {
+        return projects;
+    }
+
+    @Override
+    public ObservableList<Issue> getIssueList() {
+        return issues;
+    }
+
+    @Override
+    public ObservableList<Issue> getModifiableIssueList() {
+        return issues;
+    }
+
+    @Override
+    public ObservableList<Client> getModifiableClientList() {
+        return clients;
+    }
+
+    @Override
+    public ObservableList<Client> getClientList() {
+        return clients;
+    }
+
+    @Override
+    public Project getProjectById(int id) {
+        return getProjectAt(getPositionById(projectSection, projectOffsets, pinnedProjectCount, id));
+    }
+
+    @Override
+    public Issue getIssueById(int id) {
+        return getIssueAt(getPositionById(issueSection, issueOffsets, pinnedIssueCount, id));
+    }
+
+    @Override
+    public Client getClientById(int id) {
+        return getClientAt(getPositionById(clientSection, clientOffsets, pinnedClientCount, id));
+    }
+
+    private static int getPositionById(ByteBuffer section, int[] offsets, int pinnedCount, int id) {
+        int position = findPosition(section, offsets, pinnedCount, id);
+        if (position < 0) {
+            throw new NotFoundException();
+        }
+        return position;
+    }
+
+    @Override
+    public Client getClient(Client client) {
+        for (Client c : clients) {
+            if (c.hasSameName(client)) {
+                return c;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int generateClientId() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public int generateIssueId() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public int generateProjectId() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public int getClientIdHighWaterMark() {
+        return clientIdHighWaterMark;
+    }
+
+    @Override
+    public int getIssueIdHighWaterMark() {
+        return issueIdHighWaterMark;
+    }
+
+    @Override
+    public int getProjectIdHighWaterMark() {
+        return projectIdHighWaterMark;
+    }
+
+    @Override
+    public long getModificationCount() {
+        return 0;
+    }
+
+    @Override
+    public Set<Integer> getClientIdsChangedSince(long modificationCount) {
+        return Set.of();
+    }
+
+    @Override
+    public Set<Integer> getProjectIdsChangedSince(long modificationCount) {
+        return Set.of();
+    }
+
+    @Override
+    public Set<Integer> getIssueIdsChangedSince(long modificationCount) {
+        return Set.of();
+    }
+
+    /**
+     * The records of a section as they are scanned, by their index in the section,
+     * and then sorted into the order of their list.
+     */
+    private static class ScannedRecords {
+        // By record index
+        private final int[] recordOffsets;
+        private final int[] flags;
+        // Index of the record of the owning client or project, or -1 for none
+        private final int[] owners;
+        private final Map<Integer, Integer> recordIndexesById = new HashMap<>();
+        // Pinned records first, then by id, then by record index, packed so that they sort as numbers
+        private final long[] sortKeys;
+        // By position in the list
+        private final int[] offsets;
+        private final int[] recordIndexes;
+        // Position in the list by record index
+        private final int[] positions;
+        private int pinnedCount;
+
+        ScannedRecords(int count) {
+            recordOffsets = new int[count];
+            flags = new int[count];
+            owners = new int[count];
+            sortKeys = new long[count];
+            offsets = new int[count];
+            recordIndexes = new int[count];
+            positions = new int[count];
+        }
+
+        /**
+         * Records the record at {@code index}, and returns false if a record with the same id was scanned before.
+         */
+        boolean add(int index, int id, int offset, int recordFlags) {
+            recordOffsets[index] = offset;
+            flags[index] = recordFlags;
+            boolean isPinned = (recordFlags & FLAG_PINNED) != 0;
+            sortKeys[index] = (isPinned ? 0L : 1L << 62) | (long) id << 31 | index;
+            pinnedCount += isPinned ? 1 : 0;
+            return recordIndexesById.putIfAbsent(id, index) == null;
+        }
+
+        /**
+         * Returns the record index of the record with {@code id}.
+         * @throws IllegalValueException if there is none, as the record referring to it is invalid.
+         */
+        int getRecordIndexById(int id, String entityName) throws IllegalValueException {
+            Integer index = recordIndexesById.get(id);
+            if (index == null) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_REFERENCE, entityName));
+            }
+            return index;
+        }
+
+        void sort() {
+            Arrays.sort(sortKeys);
+            for (int position = 0; position < sortKeys.length; position++) {
+                int index = (int) (sortKeys[position] & Integer.MAX_VALUE);
+                recordIndexes[position] = index;
+                offsets[position] = recordOffsets[index];
+                positions[index] = position;
+            }
+        }
+    }
+
+    /**
+     * A read-only list which decodes the entity at a position as it is got.
+     * The list never changes, so it never fires a change.
+     */
+    private static class DecodedList<T> extends ObservableListBase<T> {
+
+        private final int size;
+        private final IntFunction<T> decoder;
+
+        DecodedList(int size, IntFunction<T> decoder) {
+            this.size = size;
+            this.decoder = decoder;
+        }
+
+        @Override
+        public T get(int index) {
+            Objects.checkIndex(index, size);
+            return decoder.apply(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * A read-only list of the entities at the positions {@code positions[from]} to {@code positions[to - 1]},
+     * which decodes them as they are got.
+     */
+    private static class DecodedSubList<T> extends AbstractList<T> {
+
+        private final int[] positions;
+        private final int from;
+        private final int to;
+        private final IntFunction<T> decoder;
+
+        DecodedSubList(int[] positions, int from, int to, IntFunction<T> decoder) {
+            this.positions = positions;
+            this.from = from;
+            this.to = to;
+            this.decoder = decoder;
+        }
+
+        @Override
+        public T get(int index) {
+            Objects.checkIndex(index, size());
+            return decoder.apply(positions[from + index]);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+    /**
+     * The issue list of a decoded project, which decodes its issues as they are got.
+     * Each issue adds itself to its project as it is decoded, which leaves the list unchanged as it already holds it.
+     */
+    private class ProjectIssueList extends AbstractList<Issue> {
+
+        private final int from;
+        private final int to;
+        private Project project;
+
+        ProjectIssueList(int projectPosition) {
+            from = projectIssueStarts[projectPosition];
+            to = projectIssueStarts[projectPosition + 1];
+        }
+
+        @Override
+        public Issue get(int index) {
+            Objects.checkIndex(index, size());
+            return getIssueAt(projectIssues[from + index], project);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public boolean add(Issue issue) {
+            if (issue.getProject() == project) {
+                return false;
+            }
+            throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+        }
+    }
+
+    /**
+     * Keeps the {@link #CACHE_SIZE} entities got last, by their position.
+     */
+    private static class DecodedCache<T> {
+
+        // In the order the entities were got in, from the one got longest ago
+        private final Map<Integer, T> entities = new LinkedHashMap<>(16, 0.75f, true);
+
+        /**
+         * Returns the entity at {@code position}, or null if it is not kept.
+         */
+        T get(int position) {
+            return entities.get(position);
+        }
+
+        /**
+         * Keeps {@code entity} as the entity at {@code position}, dropping the entity got longest ago if there
+         * are too many kept.
+         */
+        void put(int position, T entity) {
+            entities.put(position, entity);
+            if (entities.size() > CACHE_SIZE) {
+                Iterator<T> eldest = entities.values().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+        }
+
+        /**
+         * Returns the entity at {@code position}, decoding it with {@code decoder} if it is not kept.
+         */
+        T computeIfAbsent(int position, IntFunction<T> decoder) {
+            T entity = entities.get(position);
+            if (entity == null) {
+                entity = decoder.apply(position);
+                put(position, entity);
+            }
+            return entity;
+        }
+    }
+}
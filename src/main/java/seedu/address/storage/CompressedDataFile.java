@@ -0,0 +1,176 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.ContentWriter;
+
+/**
+ * Streams data files to and from the hard disk, compressed with gzip.
+ * Data files are compressed when written if their name ends with {@link #FILE_EXTENSION},
+ * and are taken to be compressed when read if they start with the gzip header, whatever their name.
+ * The data is compressed and decompressed as it is streamed, so the uncompressed contents of a file
+ * are never held in memory whole.
+ */
+class CompressedDataFile {
+
+    public static final String FILE_EXTENSION = ".gz";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int GZIP_MAGIC_FIRST_BYTE = 0x1f;
+    private static final int GZIP_MAGIC_SECOND_BYTE = 0x8b;
+
+    private static final Logger logger = LogsCenter.getLogger(CompressedDataFile.class);
+
+    /**
+     * Returns true if the data file at {@code filePath} is compressed when written.
+     */
+    static boolean isCompressedFilePath(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Opens the data file at {@code filePath} for reading, decompressing it if it starts with the gzip header.
+     */
+    static DataFileInputStream openForReading(Path filePath) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE);
+        try {
+            in.mark(2);
+            boolean isCompressed = in.read() == GZIP_MAGIC_FIRST_BYTE && in.read() == GZIP_MAGIC_SECOND_BYTE;
+            in.reset();
+            return isCompressed
+                    ? new DataFileInputStream(new GZIPInputStream(in, BUFFER_SIZE), filePath, true)
+                    : new DataFileInputStream(in, filePath, false);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Compresses what {@code contentWriter} writes into the data file at {@code filePath},
+     * which is replaced atomically as described in {@link FileUtil#writeToFileAtomically}.
+     * The compression ratio and the time taken are logged.
+     */
+    static void writeAtomically(Path filePath, ContentWriter contentWriter, boolean isSynced) throws IOException {
+        long startTime = System.nanoTime();
+        long[] uncompressedSize = new long[1];
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            // Closing the gzip stream frees its compressor, but must leave the file open to be synced
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(new NonClosingOutputStream(out), BUFFER_SIZE)) {
+                CountingOutputStream countingOut = new CountingOutputStream(gzipOut);
+                contentWriter.writeTo(countingOut);
+                uncompressedSize[0] = countingOut.count;
+            }
+        }, isSynced);
+        logCompression("Compressed", filePath, uncompressedSize[0], Files.size(filePath), startTime);
+    }
+
+    private static void logCompression(String action, Path filePath, long uncompressedSize, long compressedSize,
+                                       long startTime) {
+        double ratio = compressedSize == 0 ? 0 : (double) uncompressedSize / compressedSize;
+        logger.info(String.format("%s %s: %d bytes of data in %d bytes on disk (ratio %.1f) in %d ms",
+                action, filePath, uncompressedSize, compressedSize, ratio, (System.nanoTime() - startTime) / 1000000));
+    }
+
+    /**
+     * An input stream over the data in a data file, which logs the compression ratio
+     * and the time taken to read it when it is closed, if the file is compressed.
+     */
+    static class DataFileInputStream extends FilterInputStream {
+        private final Path filePath;
+        private final boolean isCompressed;
+        private final long startTime = System.nanoTime();
+        private long count = 0;
+
+        private DataFileInputStream(InputStream in, Path filePath, boolean isCompressed) {
+            super(in);
+            this.filePath = filePath;
+            this.isCompressed = isCompressed;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            if (!isCompressed) {
+                return;
+            }
+            try {
+                logCompression("Decompressed", filePath, count, Files.size(filePath), startTime);
+            } catch (IOException e) {
+                // Only needed for the log
+            }
+        }
+    }
+
+    /**
+     * Counts the bytes written through it.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count = 0;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    /**
+     * Passes everything on to the stream it wraps, except for closing it.
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,539 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot and a journal of changes on the hard disk.
+ * The snapshot is in the same format as the data file of {@link JsonAddressBookStorage}.
+ * Each save appends the clients, projects and issues that changed since the last save to the journal,
+ * one entry per line, so that the cost of a save grows with the size of the change rather than the size
+ * of the address book. Which ones changed is tracked by the address book itself, so only they are converted
+ * and compared. Once the journal grows past a number of entries or bytes, it is folded into a new snapshot
+ * by {@link #compactAddressBook()}, which is left out of saves.
+ * Reading loads the snapshot and replays the journal on top of it.
+ * Each entry records the checksum of the snapshot it was appended after, and entries recorded after any other
+ * snapshot, such as one saved in another storage mode or edited by hand, are not replayed. Such a journal is
+ * kept aside at {@code <journal>.stale}, and replaced by the next save.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_MAX_JOURNAL_ENTRIES = 200;
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 1024 * 1024;
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String STALE_JOURNAL_FILE_SUFFIX = ".stale";
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isSyncedOnSave;
+    private final int maxJournalEntries;
+    private final long maxJournalBytes;
+
+    // Data in the snapshot and journal together, as last read or written, or null if it is not known.
+    private JournalState state;
+    private final JsonAddressBookTracker tracker = new JsonAddressBookTracker();
+    private RecoveryReport recoveryReport;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} for the data file at {@code filePath}.
+     * @param isSyncedOnSave whether each save waits for the snapshot or journal entry to reach the disk.
+     */
+    public JournalAddressBookStorage(Path filePath, boolean isSyncedOnSave) {
+        this(filePath, isSyncedOnSave, DEFAULT_MAX_JOURNAL_ENTRIES, DEFAULT_MAX_JOURNAL_BYTES);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} which folds the journal into a new snapshot
+     * once it has {@code maxJournalEntries} entries or {@code maxJournalBytes} bytes.
+     * @param isSyncedOnSave whether each save waits for the snapshot or journal entry to reach the disk.
+     */
+    public JournalAddressBookStorage(Path filePath, boolean isSyncedOnSave, int maxJournalEntries,
+            long maxJournalBytes) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isSyncedOnSave = isSyncedOnSave;
+        this.maxJournalEntries = maxJournalEntries;
+        this.maxJournalBytes = maxJournalBytes;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The snapshot is read like the data file of {@link JsonAddressBookStorage}: it is streamed into the address book,
+     * records which cannot be read are left out and reported by {@link #getRecoveryReport()},
+     * and its previous version is read instead if it is not in the correct format otherwise.
+     * Entries of the journal are not replayed over the previous version of the snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        recoveryReport = null;
+        List<JsonQuarantinedRecord> skippedRecords = new ArrayList<>();
+        Path[] snapshotFilePath = new Path[1];
+        Optional<ReadOnlyAddressBook> snapshot = StorageUtil.readAddressBookOrPreviousVersion(filePath, path -> {
+            skippedRecords.clear();
+            snapshotFilePath[0] = path;
+            return JsonAddressBookStreamReader.readAddressBook(path, skippedRecords);
+        });
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!snapshot.isPresent() && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        // The journal was appended after the snapshot itself, so it is never replayed over the previous version.
+        Long snapshotChecksum = snapshot.isPresent() && snapshotFilePath[0].equals(filePath)
+                ? getChecksum(filePath)
+                : null;
+        JournalState loadedState = new JournalState(
+                new JsonSerializableAddressBook(snapshot.orElseGet(AddressBook::new)), snapshotChecksum);
+        if (Files.exists(journalFilePath)) {
+            replayJournal(journalFilePath, loadedState);
+        }
+        if (filePath.equals(this.filePath)) {
+            state = loadedState;
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = snapshot;
+        if (loadedState.journalEntries > 0) {
+            addressBook = Optional.of(toModelType(loadedState.toJsonAddressBook(), filePath, skippedRecords));
+        }
+        if (!skippedRecords.isEmpty()) {
+            recoveryReport = StorageUtil.quarantineRecords(filePath, skippedRecords);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code jsonAddressBook}, which was replayed from the snapshot and journal at {@code filePath},
+     * into the model's address book. The clients, projects and issues which cannot be read are left out
+     * and added to {@code skippedRecords}.
+     */
+    private static AddressBook toModelType(JsonSerializableAddressBook jsonAddressBook, Path filePath,
+            List<JsonQuarantinedRecord> skippedRecords) throws DataConversionException {
+        try {
+            return jsonAddressBook.toModelType((fieldName, index, error) -> {
+                Object record;
+                switch (fieldName) {
+                case JsonSerializableAddressBook.FIELD_CLIENTS:
+                    record = jsonAddressBook.getClients().get(index);
+                    break;
+                case JsonSerializableAddressBook.FIELD_PROJECTS:
+                    record = jsonAddressBook.getProjects().get(index);
+                    break;
+                default:
+                    record = jsonAddressBook.getIssues().get(index);
+                    break;
+                }
+                logger.warning("Skipping record " + index + " of " + fieldName + " replayed from journal of "
+                        + filePath + ": " + error.getMessage());
+                skippedRecords.add(new JsonQuarantinedRecord(fieldName, null, error.getMessage(), record));
+            });
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public Optional<RecoveryReport> getRecoveryReport() {
+        return Optional.ofNullable(recoveryReport);
+    }
+
+    /**
+     * Folds the journal of the data file, if there is one, into a new snapshot, so that the data file
+     * holds the whole address book for the storage modes which do not read the journal.
+     */
+    public synchronized void foldJournal() throws DataConversionException, IOException {
+        if (!Files.exists(getJournalFilePath(filePath))) {
+            return;
+        }
+        readAddressBook();
+        writeSnapshot(state.toJsonAddressBook(), false);
+    }
+
+    /**
+     * Applies the entries of the journal at {@code journalFilePath} to {@code state}, in order.
+     * A last entry which cannot be read is taken to have been cut off while it was being written, and is skipped.
+     * Entries recorded after another snapshot than the one {@code state} was read from are not applied,
+     * and the journal is copied aside so that they can still be recovered by hand.
+     */
+    private static void replayJournal(Path journalFilePath, JournalState state)
+            throws DataConversionException, IOException {
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonAddressBookJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAddressBookJournalEntry.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Skipping incomplete last entry of journal " + journalFilePath);
+                    break;
+                }
+                throw new DataConversionException(ioe);
+            }
+            if (state.snapshotChecksum == null || !state.snapshotChecksum.equals(entry.getSnapshotChecksum())) {
+                state.isJournalStale = true;
+                continue;
+            }
+            state.apply(entry);
+            state.journalEntries++;
+        }
+        state.journalBytes = Files.size(journalFilePath);
+        if (state.isJournalStale) {
+            Path staleJournalFilePath = journalFilePath.resolveSibling(
+                    journalFilePath.getFileName() + STALE_JOURNAL_FILE_SUFFIX);
+            logger.warning("Journal " + journalFilePath + " has entries recorded after another snapshot, "
+                    + "which are not replayed. It is kept as " + staleJournalFilePath);
+            Files.copy(journalFilePath, staleJournalFilePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the checksum of the contents of the file at {@code filePath}.
+     */
+    private static long getChecksum(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                checksum.update(buffer, 0, length);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        takeSnapshot(addressBook).save();
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The address book is saved as a new snapshot without a journal at any location other than the data file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        JsonUtil.saveJsonFileAtomically(new JsonSerializableAddressBook(addressBook), filePath, false,
+                isSyncedOnSave);
+    }
+
+    /**
+     * Returns a snapshot which saves the address book as it is now.
+     * Only the clients, projects and issues changed since the last save are converted to their json form
+     * right away, and compared with the data on the hard disk when the snapshot is saved,
+     * so snapshots that are never saved do not leave gaps in the journal.
+     */
+    @Override
+    public AddressBookSnapshot takeSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        JsonAddressBookChanges changes = tracker.takeChanges(addressBook);
+        return () -> save(changes);
+    }
+
+    private synchronized void save(JsonAddressBookChanges changes) throws IOException {
+        tracker.apply(changes);
+        try {
+            JsonAddressBookJournalEntry entry = null;
+            if (state != null && !state.isJournalStale && state.snapshotChecksum != null) {
+                entry = changes.isWhole() ? state.diff(changes.getJsonAddressBook()) : state.toEntry(changes);
+            }
+            if (entry == null) {
+                writeSnapshot(tracker.toJsonAddressBook(), true);
+            } else if (!state.isUnchanged(entry)) {
+                appendToJournal(entry);
+            }
+            tracker.markSaved(changes);
+        } catch (IOException ioe) {
+            // The data on the hard disk is unknown, so start over with a new snapshot on the next save.
+            state = null;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Folds the journal into a new snapshot once it has grown past its number of entries or bytes.
+     */
+    @Override
+    public synchronized void compactAddressBook() throws IOException {
+        if (state == null || (state.journalEntries < maxJournalEntries && state.journalBytes < maxJournalBytes)) {
+            return;
+        }
+        try {
+            writeSnapshot(state.toJsonAddressBook(), false);
+        } catch (IOException ioe) {
+            state = null;
+            throw ioe;
+        }
+    }
+
+    private void appendToJournal(JsonAddressBookJournalEntry entry) throws IOException {
+        byte[] line = (JsonUtil.toCompactJsonString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (isSyncedOnSave) {
+                channel.force(false);
+            }
+        }
+        state.apply(entry);
+        state.journalEntries++;
+        state.journalBytes += line.length;
+    }
+
+    /**
+     * Writes {@code jsonAddressBook} as the new snapshot and empties the journal.
+     * If the journal holds everything in the new snapshot, it is only removed after the snapshot is written,
+     * as replaying it over the new snapshot changes nothing. Otherwise it is removed first,
+     * so that stale entries are never replayed over the new snapshot.
+     */
+    private void writeSnapshot(JsonSerializableAddressBook jsonAddressBook, boolean isJournalStale)
+            throws IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (isJournalStale) {
+            Files.deleteIfExists(journalFilePath);
+        }
+        CRC32 checksum = new CRC32();
+        FileUtil.writeToFileAtomically(filePath, out ->
+                JsonUtil.writeJson(jsonAddressBook, new CheckedOutputStream(out, checksum), false), isSyncedOnSave);
+        Files.deleteIfExists(journalFilePath);
+        state = new JournalState(jsonAddressBook, checksum.getValue());
+    }
+
+    /**
+     * The clients, projects and issues of an address book keyed by id,
+     * with the checksum of the snapshot and the size of the journal they were read from.
+     */
+    private static class JournalState {
+        private final String schemaVersion;
+        // Checksum of the snapshot, or null if there is no snapshot
+        private final Long snapshotChecksum;
+        private final Map<String, JsonAdaptedClient> clients = new LinkedHashMap<>();
+        private final Map<String, JsonAdaptedProject> projects = new LinkedHashMap<>();
+        private final Map<String, JsonAdaptedIssue> issues = new LinkedHashMap<>();
+        private String clientIdHighWaterMark;
+        private String projectIdHighWaterMark;
+        private String issueIdHighWaterMark;
+        private int journalEntries = 0;
+        private long journalBytes = 0;
+        // Whether the journal has entries which were not replayed, so that it must not be appended to
+        private boolean isJournalStale = false;
+
+        JournalState(JsonSerializableAddressBook snapshot, Long snapshotChecksum) {
+            schemaVersion = snapshot.getSchemaVersion();
+            this.snapshotChecksum = snapshotChecksum;
+            for (JsonAdaptedClient client : snapshot.getClients()) {
+                clients.put(client.getClientId(), client);
+            }
+            for (JsonAdaptedProject project : snapshot.getProjects()) {
+                projects.put(project.getProjectId(), project);
+            }
+            for (JsonAdaptedIssue issue : snapshot.getIssues()) {
+                issues.put(issue.getIssueId(), issue);
+            }
+            clientIdHighWaterMark = snapshot.getClientIdHighWaterMark();
+            projectIdHighWaterMark = snapshot.getProjectIdHighWaterMark();
+            issueIdHighWaterMark = snapshot.getIssueIdHighWaterMark();
+        }
+
+        void apply(JsonAddressBookJournalEntry entry) {
+            entry.getDeletedClientIds().forEach(clients::remove);
+            entry.getDeletedProjectIds().forEach(projects::remove);
+            entry.getDeletedIssueIds().forEach(issues::remove);
+            for (JsonAdaptedClient client : entry.getClients()) {
+                clients.put(client.getClientId(), client);
+            }
+            for (JsonAdaptedProject project : entry.getProjects()) {
+                projects.put(project.getProjectId(), project);
+            }
+            for (JsonAdaptedIssue issue : entry.getIssues()) {
+                issues.put(issue.getIssueId(), issue);
+            }
+            clientIdHighWaterMark = entry.getClientIdHighWaterMark();
+            projectIdHighWaterMark = entry.getProjectIdHighWaterMark();
+            issueIdHighWaterMark = entry.getIssueIdHighWaterMark();
+        }
+
+        /**
+         * Returns the entry that turns this state into {@code target},
+         * or null if {@code target} has several clients, projects or issues with the same id
+         * and cannot be keyed by id, or is of a different schema version.
+         */
+        JsonAddressBookJournalEntry diff(JsonSerializableAddressBook target) {
+            if (!Objects.equals(schemaVersion, target.getSchemaVersion())) {
+                return null;
+            }
+            Map<String, JsonAdaptedClient> targetClients = new LinkedHashMap<>();
+            for (JsonAdaptedClient client : target.getClients()) {
+                if (targetClients.put(client.getClientId(), client) != null) {
+                    return null;
+                }
+            }
+            Map<String, JsonAdaptedProject> targetProjects = new LinkedHashMap<>();
+            for (JsonAdaptedProject project : target.getProjects()) {
+                if (targetProjects.put(project.getProjectId(), project) != null) {
+                    return null;
+                }
+            }
+            Map<String, JsonAdaptedIssue> targetIssues = new LinkedHashMap<>();
+            for (JsonAdaptedIssue issue : target.getIssues()) {
+                if (targetIssues.put(issue.getIssueId(), issue) != null) {
+                    return null;
+                }
+            }
+            return new JsonAddressBookJournalEntry(snapshotChecksum, getChanged(clients, targetClients),
+                    getChanged(projects, targetProjects), getChanged(issues, targetIssues),
+                    getDeletedIds(clients, targetClients), getDeletedIds(projects, targetProjects),
+                    getDeletedIds(issues, targetIssues), target.getClientIdHighWaterMark(),
+                    target.getProjectIdHighWaterMark(), target.getIssueIdHighWaterMark());
+        }
+
+        /**
+         * Returns the entry that applies {@code changes} to this state,
+         * or null if this state is of a different schema version.
+         */
+        JsonAddressBookJournalEntry toEntry(JsonAddressBookChanges changes) {
+            if (!String.valueOf(JsonSerializableAddressBook.SCHEMA_VERSION).equals(schemaVersion)) {
+                return null;
+            }
+            List<JsonAdaptedClient> changedClients = new ArrayList<>();
+            List<String> deletedClientIds = new ArrayList<>();
+            addChanges(clients, changes.getClients(), changedClients, deletedClientIds);
+            List<JsonAdaptedProject> changedProjects = new ArrayList<>();
+            List<String> deletedProjectIds = new ArrayList<>();
+            addChanges(projects, changes.getProjects(), changedProjects, deletedProjectIds);
+            List<JsonAdaptedIssue> changedIssues = new ArrayList<>();
+            List<String> deletedIssueIds = new ArrayList<>();
+            addChanges(issues, changes.getIssues(), changedIssues, deletedIssueIds);
+            return new JsonAddressBookJournalEntry(snapshotChecksum, changedClients, changedProjects, changedIssues,
+                    deletedClientIds, deletedProjectIds, deletedIssueIds, changes.getClientIdHighWaterMark(),
+                    changes.getProjectIdHighWaterMark(), changes.getIssueIdHighWaterMark());
+        }
+
+        boolean isUnchanged(JsonAddressBookJournalEntry entry) {
+            return entry.getClients().isEmpty() && entry.getProjects().isEmpty() && entry.getIssues().isEmpty()
+                    && entry.getDeletedClientIds().isEmpty() && entry.getDeletedProjectIds().isEmpty()
+                    && entry.getDeletedIssueIds().isEmpty()
+                    && Objects.equals(clientIdHighWaterMark, entry.getClientIdHighWaterMark())
+                    && Objects.equals(projectIdHighWaterMark, entry.getProjectIdHighWaterMark())
+                    && Objects.equals(issueIdHighWaterMark, entry.getIssueIdHighWaterMark());
+        }
+
+        JsonSerializableAddressBook toJsonAddressBook() {
+            return new JsonSerializableAddressBook(schemaVersion, new ArrayList<>(clients.values()),
+                    new ArrayList<>(projects.values()), new ArrayList<>(issues.values()),
+                    clientIdHighWaterMark, projectIdHighWaterMark, issueIdHighWaterMark);
+        }
+
+        /**
+         * Adds each of {@code changes} which differs from {@code current} to {@code changed},
+         * or its id to {@code deletedIds} if it was removed.
+         */
+        private static <T> void addChanges(Map<String, T> current, Map<Integer, T> changes, List<T> changed,
+                List<String> deletedIds) {
+            for (Map.Entry<Integer, T> change : changes.entrySet()) {
+                String id = String.valueOf(change.getKey());
+                if (change.getValue() == null) {
+                    if (current.containsKey(id)) {
+                        deletedIds.add(id);
+                    }
+                } else if (!change.getValue().equals(current.get(id))) {
+                    changed.add(change.getValue());
+                }
+            }
+        }
+
+        private static <T> List<T> getChanged(Map<String, T> current, Map<String, T> target) {
+            List<T> changed = new ArrayList<>();
+            for (Map.Entry<String, T> entry : target.entrySet()) {
+                if (!entry.getValue().equals(current.get(entry.getKey()))) {
+                    changed.add(entry.getValue());
+                }
+            }
+            return changed;
+        }
+
+        private static <T> List<String> getDeletedIds(Map<String, T> current, Map<String, T> target) {
+            List<String> deletedIds = new ArrayList<>();
+            for (String id : current.keySet()) {
+                if (!target.containsKey(id)) {
+                    deletedIds.add(id);
+                }
+            }
+            return deletedIds;
+        }
+    }
+}
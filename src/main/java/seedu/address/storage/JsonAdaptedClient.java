@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -71,4 +72,28 @@ class JsonAdaptedClient {
         return new Client(modelName, modelMobile, modelEmail, clientProjects, modelClientId, modelPin);
     }
 
+    String getClientId() {
+        return clientId;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof JsonAdaptedClient)) {
+            return false;
+        }
+        JsonAdaptedClient otherClient = (JsonAdaptedClient) other;
+        return Objects.equals(name, otherClient.name)
+                && Objects.equals(mobile, otherClient.mobile)
+                && Objects.equals(email, otherClient.email)
+                && Objects.equals(clientId, otherClient.clientId)
+                && Objects.equals(pin, otherClient.pin);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, mobile, email, clientId, pin);
+    }
 }
@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import java.util.Objects;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -66,16 +68,100 @@ class JsonAdaptedIssue {
      * @throws IllegalValueException if there were any data constraints violated in the adapted issue.
      */
     public Issue toModelType(AddressBook addressBook) throws IllegalValueException {
+        return decode().toModelType(addressBook);
+    }
 
+    /**
+     * Validates the fields of this adapted issue and builds their value objects, without looking up its project.
+     * Does not change any shared state, so adapted issues can be decoded on several threads at once.
+     *
+     * @throws IllegalValueException if a field read before the project field in {@link #toModelType} is invalid.
+     */
+    Decoded decode() throws IllegalValueException {
         final Title modelTitle = StorageUtil.readTitleFromStorage(title);
         final Urgency modelUrgency = StorageUtil.readUrgencyFromStorage(urgency);
         final Deadline modelDeadline = StorageUtil.readDeadlineFromStorage(deadline, Issue.class.getSimpleName());
         final Status modelStatus = StorageUtil.readStatusFromStorage(status);
-        final Project modelProject = StorageUtil.readProjectFromStorage(project, addressBook);
-        final Pin modelPin = StorageUtil.readPinFromStorage(pin, Issue.class.getSimpleName());
-        final IssueId modelIssueId = StorageUtil.readIssueIdFromStorage(issueId);
-        return new Issue(modelTitle, modelDeadline, modelUrgency, modelStatus,
-                modelProject, modelIssueId, modelPin);
+        Decoded decoded = new Decoded(modelTitle, modelUrgency, modelDeadline, modelStatus, project);
+        try {
+            decoded.pin = StorageUtil.readPinFromStorage(pin, Issue.class.getSimpleName());
+            decoded.issueId = StorageUtil.readIssueIdFromStorage(issueId);
+        } catch (IllegalValueException ive) {
+            // Reported after the project is looked up, as toModelType always has
+            decoded.errorAfterProject = ive;
+        }
+        return decoded;
+    }
+
+    /**
+     * An adapted issue whose fields have been validated, but whose project has not been looked up.
+     */
+    static class Decoded {
+        private final Title title;
+        private final Urgency urgency;
+        private final Deadline deadline;
+        private final Status status;
+        private final String project;
+        private Pin pin;
+        private IssueId issueId;
+        private IllegalValueException errorAfterProject;
+
+        private Decoded(Title title, Urgency urgency, Deadline deadline, Status status, String project) {
+            this.title = title;
+            this.urgency = urgency;
+            this.deadline = deadline;
+            this.status = status;
+            this.project = project;
+        }
+
+        /**
+         * Looks up the project of this issue in {@code addressBook} and returns the model's {@code Issue} object,
+         * which is added to the issues of the project.
+         *
+         * @throws IllegalValueException if the project is not found, a field was invalid,
+         *     or {@code addressBook} already has an issue with the same id.
+         */
+        Issue toModelType(AddressBook addressBook) throws IllegalValueException {
+            final Project modelProject = StorageUtil.readProjectFromStorage(project, addressBook);
+            if (errorAfterProject != null) {
+                throw errorAfterProject;
+            }
+            // Checked before the issue is made, as making it adds it to its project
+            if (addressBook.hasIssueId(issueId.getIdInt())) {
+                throw new IllegalValueException(StorageUtil.MESSAGE_DUPLICATE_ISSUE);
+            }
+            return new Issue(title, deadline, urgency, status, modelProject, issueId, pin);
+        }
     }
 
+    String getIssueId() {
+        return issueId;
+    }
+
+    String getProject() {
+        return project;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof JsonAdaptedIssue)) {
+            return false;
+        }
+        JsonAdaptedIssue otherIssue = (JsonAdaptedIssue) other;
+        return Objects.equals(title, otherIssue.title)
+                && Objects.equals(urgency, otherIssue.urgency)
+                && Objects.equals(deadline, otherIssue.deadline)
+                && Objects.equals(status, otherIssue.status)
+                && Objects.equals(issueId, otherIssue.issueId)
+                && Objects.equals(project, otherIssue.project)
+                && Objects.equals(pin, otherIssue.pin);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(title, urgency, deadline, status, issueId, project, pin);
+    }
 }
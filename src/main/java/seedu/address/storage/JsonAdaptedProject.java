@@ -2,11 +2,14 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Deadline;
 import seedu.address.model.Name;
 import seedu.address.model.Pin;
@@ -18,6 +21,8 @@ import seedu.address.model.project.Repository;
 
 /**
  * Jackson-friendly version of {@link Project}.
+ * The client of the project is referred to by its id, or is embedded whole in data files
+ * saved before clients had their own list.
  */
 class JsonAdaptedProject {
 
@@ -26,27 +31,41 @@ class JsonAdaptedProject {
     private final String deadline;
     private final String projectId;
     private final String pin;
-
-
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String clientId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final JsonAdaptedClient client;
 
     /**
      * Constructs a {@code JsonAdaptedProject} with the given project details.
+     * Only one of {@code clientId} and {@code client} is expected to be given, with an empty
+     * {@code clientId} standing for a project without a client.
      */
     @JsonCreator
     public JsonAdaptedProject(@JsonProperty("name") String name, @JsonProperty("repository") String repository,
                               @JsonProperty("deadline") String deadline,
+                              @JsonProperty("clientId") String clientId,
                               @JsonProperty("client") JsonAdaptedClient client,
                               @JsonProperty("projectId") String projectId,
                               @JsonProperty("pin") String pin) {
         this.name = name;
         this.repository = repository;
         this.deadline = deadline;
+        this.clientId = clientId;
         this.client = client;
         this.projectId = projectId;
         this.pin = pin;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedProject} with the given project details and its client embedded,
+     * as in data files saved before clients had their own list.
+     */
+    public JsonAdaptedProject(String name, String repository, String deadline, JsonAdaptedClient client,
+                              String projectId, String pin) {
+        this(name, repository, deadline, null, client, projectId, pin);
+    }
+
     /**
      * Converts a given {@code Project} into this class for Jackson use.
      */
@@ -54,26 +73,117 @@ class JsonAdaptedProject {
         name = source.getProjectName().toString();
         repository = source.getRepository().toString();
         deadline = source.getDeadline().toString();
-        client = new JsonAdaptedClient(source.getClient());
+        clientId = source.getClient().isEmpty() ? "" : source.getClient().getClientId().toString();
+        client = null;
         projectId = source.getProjectId().toString();
         pin = String.valueOf(source.isPinned());
     }
 
     /**
      * Converts this Jackson-friendly adapted project object into the model's {@code Project} object.
+     * A client referred to by id is looked up in {@code addressBook}.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted project.
      */
-    public Project toModelType() throws IllegalValueException {
+    public Project toModelType(AddressBook addressBook) throws IllegalValueException {
+        return decode().toModelType(addressBook);
+    }
+
+    /**
+     * Validates the fields of this adapted project and builds their value objects, without looking up a client
+     * referred to by id. Does not change any shared state, so adapted projects can be decoded on several threads
+     * at once.
+     *
+     * @throws IllegalValueException if a field read before the client field in {@link #toModelType} is invalid,
+     *     or the embedded client is invalid.
+     */
+    Decoded decode() throws IllegalValueException {
         final Name modelName = StorageUtil.readNameFromStorage(name, Project.class.getSimpleName());
         final Repository modelRepository = StorageUtil.readRepositoryFromStorage(repository);
         final Deadline modelDeadline = StorageUtil.readDeadlineFromStorage(deadline, Project.class.getSimpleName());
-        final Client modelClient = StorageUtil.readClientFromStorage(client);
-        final Pin modelPin = StorageUtil.readPinFromStorage(pin, Project.class.getSimpleName());
-        final ProjectId modelProjectId = StorageUtil.readProjectIdFromStorage(projectId);
-        final List<Issue> modelIssues = new ArrayList<>();
-        return new Project(modelName, modelRepository, modelDeadline,
-                modelClient, modelIssues, modelProjectId, modelPin);
+        final Client modelClient = clientId != null ? null : StorageUtil.readClientFromStorage(client);
+        Decoded decoded = new Decoded(modelName, modelRepository, modelDeadline, clientId, modelClient);
+        try {
+            decoded.pin = StorageUtil.readPinFromStorage(pin, Project.class.getSimpleName());
+            decoded.projectId = StorageUtil.readProjectIdFromStorage(projectId);
+        } catch (IllegalValueException ive) {
+            // Reported after the client is looked up, as toModelType always has
+            decoded.errorAfterClient = ive;
+        }
+        return decoded;
+    }
+
+    /**
+     * An adapted project whose fields have been validated, but whose client, if referred to by id,
+     * has not been looked up.
+     */
+    static class Decoded {
+        private final Name name;
+        private final Repository repository;
+        private final Deadline deadline;
+        private final String clientId;
+        private final Client client;
+        private Pin pin;
+        private ProjectId projectId;
+        private IllegalValueException errorAfterClient;
+
+        private Decoded(Name name, Repository repository, Deadline deadline, String clientId, Client client) {
+            this.name = name;
+            this.repository = repository;
+            this.deadline = deadline;
+            this.clientId = clientId;
+            this.client = client;
+        }
+
+        /**
+         * Looks up the client of this project in {@code addressBook} if it is referred to by id,
+         * and returns the model's {@code Project} object.
+         *
+         * @throws IllegalValueException if the client is not found or a field was invalid.
+         */
+        Project toModelType(AddressBook addressBook) throws IllegalValueException {
+            final Client modelClient = clientId != null
+                    ? StorageUtil.readClientRefFromStorage(clientId, addressBook)
+                    : client;
+            if (errorAfterClient != null) {
+                throw errorAfterClient;
+            }
+            final List<Issue> modelIssues = new ArrayList<>();
+            return new Project(name, repository, deadline, modelClient, modelIssues, projectId, pin);
+        }
     }
 
+    String getProjectId() {
+        return projectId;
+    }
+
+    /**
+     * Returns true if the client of this project is referred to by id rather than embedded.
+     */
+    boolean refersToClientById() {
+        return clientId != null && !clientId.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof JsonAdaptedProject)) {
+            return false;
+        }
+        JsonAdaptedProject otherProject = (JsonAdaptedProject) other;
+        return Objects.equals(name, otherProject.name)
+                && Objects.equals(repository, otherProject.repository)
+                && Objects.equals(deadline, otherProject.deadline)
+                && Objects.equals(projectId, otherProject.projectId)
+                && Objects.equals(pin, otherProject.pin)
+                && Objects.equals(clientId, otherProject.clientId)
+                && Objects.equals(client, otherProject.client);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, repository, deadline, projectId, pin, clientId, client);
+    }
 }
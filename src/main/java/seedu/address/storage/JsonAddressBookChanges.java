@@ -0,0 +1,158 @@
+package seedu.address.storage;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.issue.Issue;
+import seedu.address.model.list.NotFoundException;
+import seedu.address.model.project.Project;
+
+/**
+ * The json form of the clients, projects and issues of an address book which changed since a given modification
+ * count, or of the whole address book, taken on the thread that changes the address book so that it can be
+ * written out on another. Only the changed clients, projects and issues are converted.
+ */
+class JsonAddressBookChanges {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final long modificationCount;
+    // The whole address book, or null if only the changes are held
+    private final JsonSerializableAddressBook jsonAddressBook;
+    // Json form of each client, project and issue changed, keyed by id, or null for those removed
+    private final Map<Integer, JsonAdaptedClient> clients;
+    private final Map<Integer, JsonAdaptedProject> projects;
+    private final Map<Integer, JsonAdaptedIssue> issues;
+    private final String clientIdHighWaterMark;
+    private final String projectIdHighWaterMark;
+    private final String issueIdHighWaterMark;
+
+    private JsonAddressBookChanges(ReadOnlyAddressBook addressBook, JsonSerializableAddressBook jsonAddressBook,
+            Map<Integer, JsonAdaptedClient> clients, Map<Integer, JsonAdaptedProject> projects,
+            Map<Integer, JsonAdaptedIssue> issues) {
+        this.addressBook = addressBook;
+        this.modificationCount = addressBook.getModificationCount();
+        this.jsonAddressBook = jsonAddressBook;
+        this.clients = Collections.unmodifiableMap(clients);
+        this.projects = Collections.unmodifiableMap(projects);
+        this.issues = Collections.unmodifiableMap(issues);
+        this.clientIdHighWaterMark = String.valueOf(addressBook.getClientIdHighWaterMark());
+        this.projectIdHighWaterMark = String.valueOf(addressBook.getProjectIdHighWaterMark());
+        this.issueIdHighWaterMark = String.valueOf(addressBook.getIssueIdHighWaterMark());
+    }
+
+    /**
+     * Returns the json form of the whole of {@code addressBook}.
+     */
+    static JsonAddressBookChanges ofWhole(ReadOnlyAddressBook addressBook) {
+        return new JsonAddressBookChanges(addressBook, new JsonSerializableAddressBook(addressBook),
+                new HashMap<>(), new HashMap<>(), new HashMap<>());
+    }
+
+    /**
+     * Returns the json form of the clients, projects and issues of {@code addressBook} changed since
+     * its modification count was {@code modificationCount}.
+     */
+    static JsonAddressBookChanges since(ReadOnlyAddressBook addressBook, long modificationCount) {
+        Map<Integer, JsonAdaptedClient> clients = new HashMap<>();
+        for (int id : addressBook.getClientIdsChangedSince(modificationCount)) {
+            Client client = findClient(addressBook, id);
+            clients.put(id, client == null ? null : new JsonAdaptedClient(client));
+        }
+        Map<Integer, JsonAdaptedProject> projects = new HashMap<>();
+        for (int id : addressBook.getProjectIdsChangedSince(modificationCount)) {
+            Project project = findProject(addressBook, id);
+            projects.put(id, project == null ? null : new JsonAdaptedProject(project));
+            // A client only held by its project is saved with the project, as StorageUtil#getClientsToStore does
+            if (project != null && !project.getClient().isEmpty()
+                    && findClient(addressBook, project.getClient().getId()) == null) {
+                clients.put(project.getClient().getId(), new JsonAdaptedClient(project.getClient()));
+            }
+        }
+        Map<Integer, JsonAdaptedIssue> issues = new HashMap<>();
+        for (int id : addressBook.getIssueIdsChangedSince(modificationCount)) {
+            Issue issue = findIssue(addressBook, id);
+            issues.put(id, issue == null ? null : new JsonAdaptedIssue(issue));
+        }
+        return new JsonAddressBookChanges(addressBook, null, clients, projects, issues);
+    }
+
+    private static Client findClient(ReadOnlyAddressBook addressBook, int id) {
+        try {
+            Client client = addressBook.getClientById(id);
+            return client.isEmpty() ? null : client;
+        } catch (NotFoundException e) {
+            return null;
+        }
+    }
+
+    private static Project findProject(ReadOnlyAddressBook addressBook, int id) {
+        try {
+            return addressBook.getProjectById(id);
+        } catch (NotFoundException e) {
+            return null;
+        }
+    }
+
+    private static Issue findIssue(ReadOnlyAddressBook addressBook, int id) {
+        try {
+            return addressBook.getIssueById(id);
+        } catch (NotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the address book the changes were taken from.
+     */
+    ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    /**
+     * Returns the modification count of the address book when the changes were taken.
+     */
+    long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns true if the whole address book is held rather than only its changes.
+     */
+    boolean isWhole() {
+        return jsonAddressBook != null;
+    }
+
+    /**
+     * Returns the whole address book, if it is held.
+     */
+    JsonSerializableAddressBook getJsonAddressBook() {
+        return jsonAddressBook;
+    }
+
+    Map<Integer, JsonAdaptedClient> getClients() {
+        return clients;
+    }
+
+    Map<Integer, JsonAdaptedProject> getProjects() {
+        return projects;
+    }
+
+    Map<Integer, JsonAdaptedIssue> getIssues() {
+        return issues;
+    }
+
+    String getClientIdHighWaterMark() {
+        return clientIdHighWaterMark;
+    }
+
+    String getProjectIdHighWaterMark() {
+        return projectIdHighWaterMark;
+    }
+
+    String getIssueIdHighWaterMark() {
+        return issueIdHighWaterMark;
+    }
+}
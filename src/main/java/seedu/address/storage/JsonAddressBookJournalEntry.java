@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A Jackson-friendly record of the changes made to an address book by one save, appended to the journal
+ * of a {@link JournalAddressBookStorage}.
+ * Clients, projects and issues are recorded whole and keyed by their ids, so replaying an entry more than once
+ * gives the same result as replaying it once.
+ * Each entry records the checksum of the snapshot it was appended after, so that it is never replayed
+ * over any other snapshot, such as one saved in another storage mode after the journal was left behind.
+ */
+class JsonAddressBookJournalEntry {
+
+    private final Long snapshotChecksum;
+    private final List<JsonAdaptedClient> clients = new ArrayList<>();
+    private final List<JsonAdaptedProject> projects = new ArrayList<>();
+    private final List<JsonAdaptedIssue> issues = new ArrayList<>();
+    private final List<String> deletedClientIds = new ArrayList<>();
+    private final List<String> deletedProjectIds = new ArrayList<>();
+    private final List<String> deletedIssueIds = new ArrayList<>();
+    private final String clientIdHighWaterMark;
+    private final String projectIdHighWaterMark;
+    private final String issueIdHighWaterMark;
+
+    /**
+     * Constructs a {@code JsonAddressBookJournalEntry} with the given changes.
+     * @param snapshotChecksum checksum of the snapshot the changes were made after
+     * @param clients clients added or changed
+     * @param projects projects added or changed
+     * @param issues issues added or changed
+     * @param deletedClientIds ids of clients deleted
+     * @param deletedProjectIds ids of projects deleted
+     * @param deletedIssueIds ids of issues deleted
+     */
+    @JsonCreator
+    public JsonAddressBookJournalEntry(@JsonProperty("snapshotChecksum") Long snapshotChecksum,
+                                       @JsonProperty("clients") List<JsonAdaptedClient> clients,
+                                       @JsonProperty("projects") List<JsonAdaptedProject> projects,
+                                       @JsonProperty("issues") List<JsonAdaptedIssue> issues,
+                                       @JsonProperty("deletedClientIds") List<String> deletedClientIds,
+                                       @JsonProperty("deletedProjectIds") List<String> deletedProjectIds,
+                                       @JsonProperty("deletedIssueIds") List<String> deletedIssueIds,
+                                       @JsonProperty("clientIdHighWaterMark") String clientIdHighWaterMark,
+                                       @JsonProperty("projectIdHighWaterMark") String projectIdHighWaterMark,
+                                       @JsonProperty("issueIdHighWaterMark") String issueIdHighWaterMark) {
+        this.snapshotChecksum = snapshotChecksum;
+        if (clients != null) {
+            this.clients.addAll(clients);
+        }
+        if (projects != null) {
+            this.projects.addAll(projects);
+        }
+        if (issues != null) {
+            this.issues.addAll(issues);
+        }
+        if (deletedClientIds != null) {
+            this.deletedClientIds.addAll(deletedClientIds);
+        }
+        if (deletedProjectIds != null) {
+            this.deletedProjectIds.addAll(deletedProjectIds);
+        }
+        if (deletedIssueIds != null) {
+            this.deletedIssueIds.addAll(deletedIssueIds);
+        }
+        this.clientIdHighWaterMark = clientIdHighWaterMark;
+        this.projectIdHighWaterMark = projectIdHighWaterMark;
+        this.issueIdHighWaterMark = issueIdHighWaterMark;
+    }
+
+    Long getSnapshotChecksum() {
+        return snapshotChecksum;
+    }
+
+    List<JsonAdaptedClient> getClients() {
+        return clients;
+    }
+
+    List<JsonAdaptedProject> getProjects() {
+        return projects;
+    }
+
+    List<JsonAdaptedIssue> getIssues() {
+        return issues;
+    }
+
+    List<String> getDeletedClientIds() {
+        return deletedClientIds;
+    }
+
+    List<String> getDeletedProjectIds() {
+        return deletedProjectIds;
+    }
+
+    List<String> getDeletedIssueIds() {
+        return deletedIssueIds;
+    }
+
+    String getClientIdHighWaterMark() {
+        return clientIdHighWaterMark;
+    }
+
+    String getProjectIdHighWaterMark() {
+        return projectIdHighWaterMark;
+    }
+
+    String getIssueIdHighWaterMark() {
+        return issueIdHighWaterMark;
+    }
+}
@@ -3,34 +3,54 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is replaced atomically on each save, and its previous version is kept alongside it
+ * to fall back on if the file cannot be read.
+ * Clients, projects and issues in the file which cannot be read are skipped, and copied to its quarantine file
+ * as described in {@link StorageUtil#quarantineRecords}.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
-
     private Path filePath;
+    private final boolean isSyncedOnSave;
+    private RecoveryReport recoveryReport;
+    private final JsonAddressBookTracker tracker = new JsonAddressBookTracker();
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the data file at {@code filePath}.
+     * @param isSyncedOnSave whether each save waits for the data file to reach the disk.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isSyncedOnSave) {
         this.filePath = filePath;
+        this.isSyncedOnSave = isSyncedOnSave;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns the path of a compressed data file with the same name as the data file at {@code filePath}.
+     */
+    public static Path getCompressedFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CompressedDataFile.FILE_EXTENSION);
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
         return readAddressBook(filePath);
@@ -38,30 +58,39 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is streamed into the address book rather than read whole, and is decompressed as it is read
+     * if it is compressed.
+     * Records which cannot be read are left out of the address book, and reported by {@link #getRecoveryReport()}.
+     * If the file is not in the correct format otherwise, the previous version of it is read instead.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if neither the file nor its previous version is in the correct format.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
+        recoveryReport = null;
+        return StorageUtil.readAddressBookOrPreviousVersion(filePath, this::readRecoverably);
+    }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
+    private Optional<ReadOnlyAddressBook> readRecoverably(Path filePath) throws DataConversionException {
+        List<JsonQuarantinedRecord> skippedRecords = new ArrayList<>();
+        Optional<ReadOnlyAddressBook> addressBook = JsonAddressBookStreamReader.readAddressBook(filePath,
+                skippedRecords);
+        if (!skippedRecords.isEmpty()) {
+            recoveryReport = StorageUtil.quarantineRecords(filePath, skippedRecords);
         }
+        return addressBook;
+    }
+
+    @Override
+    public Optional<RecoveryReport> getRecoveryReport() {
+        return Optional.ofNullable(recoveryReport);
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, filePath);
+        takeSnapshot(addressBook).save();
     }
 
     /**
@@ -73,8 +102,43 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        saveJsonAddressBook(new JsonSerializableAddressBook(addressBook), filePath, isSyncedOnSave);
+    }
+
+    /**
+     * Returns a snapshot which saves the address book as it is now to the data file.
+     * Only the clients, projects and issues changed since the last save are converted to their json form
+     * right away, and the whole address book is assembled from them and written out when the snapshot is saved.
+     */
+    @Override
+    public AddressBookSnapshot takeSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        JsonAddressBookChanges changes = tracker.takeChanges(addressBook);
+        return () -> save(changes);
+    }
+
+    private synchronized void save(JsonAddressBookChanges changes) throws IOException {
+        tracker.apply(changes);
+        saveJsonAddressBook(tracker.toJsonAddressBook(), filePath, isSyncedOnSave);
+        tracker.markSaved(changes);
+    }
+
+    /**
+     * Saves {@code jsonAddressBook} to the data file at {@code filePath}, compressed if
+     * {@code filePath} is a compressed data file path.
+     * Any journal left next to the data file by {@link JournalAddressBookStorage} is removed,
+     * as it no longer applies to the data file.
+     */
+    private static void saveJsonAddressBook(JsonSerializableAddressBook jsonAddressBook, Path filePath,
+                                            boolean isSynced) throws IOException {
+        if (CompressedDataFile.isCompressedFilePath(filePath)) {
+            CompressedDataFile.writeAtomically(filePath, out -> JsonUtil.writeJson(jsonAddressBook, out, false),
+                    isSynced);
+        } else {
+            JsonUtil.saveJsonFileAtomically(jsonAddressBook, filePath, false, isSynced);
+        }
+        Files.deleteIfExists(JournalAddressBookStorage.getJournalFilePath(filePath));
     }
 
 }
@@ -0,0 +1,294 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Reads an address book from a json data file in the format of {@link JsonSerializableAddressBook},
+ * a token at a time. Clients, projects and issues are parsed in batches, and each batch is added to the model
+ * as soon as it is parsed, so the file contents and the json form of the whole address book are never held
+ * in memory at once. The elements of a batch are decoded in parallel with {@link ParallelDecoder}.
+ * If asked to, the reader skips the clients, projects and issues which cannot be read and carries on with the rest,
+ * noting each skipped record with its offset in the data. Only errors in the structure of the file itself,
+ * or in the fields which are not records, stop the reading.
+ */
+class JsonAddressBookStreamReader {
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Data file does not contain a json object.";
+    public static final String MESSAGE_NOT_A_LIST = "The %s field of the data file is not a list.";
+    public static final String MESSAGE_NULL_ELEMENT = "The %s field of the data file contains a null element.";
+
+    private static final String FIELD_SCHEMA_VERSION = "schemaVersion";
+    private static final String FIELD_CLIENTS = "clients";
+    private static final String FIELD_PROJECTS = "projects";
+    private static final String FIELD_ISSUES = "issues";
+    private static final String FIELD_CLIENT_ID_HIGH_WATER_MARK = "clientIdHighWaterMark";
+    private static final String FIELD_PROJECT_ID_HIGH_WATER_MARK = "projectIdHighWaterMark";
+    private static final String FIELD_ISSUE_ID_HIGH_WATER_MARK = "issueIdHighWaterMark";
+
+    /** Number of list elements parsed before they are added to the model. */
+    private static final int BATCH_SIZE = 4096;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStreamReader.class);
+
+    private final JsonParser parser;
+    // Records which could not be read, or null if such a record stops the reading
+    private final List<JsonQuarantinedRecord> skippedRecords;
+    private final AddressBook addressBook = new AddressBook();
+    // Projects read before the clients they refer to, which are added once all clients are read
+    private final List<JsonAdaptedProject> pendingProjects = new ArrayList<>();
+    private final List<Long> pendingProjectOffsets = new ArrayList<>();
+    // Issues read before the projects they belong to, which are added once all projects are added
+    private final List<JsonAdaptedIssue> pendingIssues = new ArrayList<>();
+    private final List<Long> pendingIssueOffsets = new ArrayList<>();
+    private boolean hasReadClients = false;
+    private boolean hasReadProjects = false;
+    private String clientIdHighWaterMark;
+    private String projectIdHighWaterMark;
+    private String issueIdHighWaterMark;
+
+    private JsonAddressBookStreamReader(JsonParser parser, List<JsonQuarantinedRecord> skippedRecords) {
+        this.parser = parser;
+        this.skippedRecords = skippedRecords;
+    }
+
+    /**
+     * Returns the address book in the file at {@code filePath}, or {@code Optional.empty()} if the file is not found.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        return readAddressBook(filePath, null);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, except that the clients, projects and issues which cannot be read
+     * are left out of the address book and added to {@code skippedRecords}, in the order they are met,
+     * if {@code skippedRecords} is not null.
+     * @throws DataConversionException if the file is not in the correct format outside of its records.
+     */
+    public static Optional<ReadOnlyAddressBook> readAddressBook(Path filePath,
+            List<JsonQuarantinedRecord> skippedRecords) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = CompressedDataFile.openForReading(filePath);
+             JsonParser parser = JsonUtil.createParser(in)) {
+            return Optional.of(new JsonAddressBookStreamReader(parser, skippedRecords).read());
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private AddressBook read() throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case FIELD_SCHEMA_VERSION:
+                StorageUtil.readSchemaVersionFromStorage(parser.getValueAsString());
+                break;
+            case FIELD_CLIENTS:
+                readClients();
+                break;
+            case FIELD_PROJECTS:
+                readProjects();
+                break;
+            case FIELD_ISSUES:
+                readIssues();
+                break;
+            case FIELD_CLIENT_ID_HIGH_WATER_MARK:
+                clientIdHighWaterMark = parser.getValueAsString();
+                break;
+            case FIELD_PROJECT_ID_HIGH_WATER_MARK:
+                projectIdHighWaterMark = parser.getValueAsString();
+                break;
+            case FIELD_ISSUE_ID_HIGH_WATER_MARK:
+                issueIdHighWaterMark = parser.getValueAsString();
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+
+        StorageUtil.readProjectListFromStorage(pendingProjects, addressBook,
+                getFailureHandler(FIELD_PROJECTS, pendingProjects, pendingProjectOffsets));
+        StorageUtil.readIssueListFromStorage(pendingIssues, addressBook,
+                getFailureHandler(FIELD_ISSUES, pendingIssues, pendingIssueOffsets));
+        addressBook.setClientIdHighWaterMark(StorageUtil.readIdHighWaterMarkFromStorage(clientIdHighWaterMark));
+        addressBook.setProjectIdHighWaterMark(StorageUtil.readIdHighWaterMarkFromStorage(projectIdHighWaterMark));
+        addressBook.setIssueIdHighWaterMark(StorageUtil.readIdHighWaterMarkFromStorage(issueIdHighWaterMark));
+        addressBook.sortAllLists();
+        return addressBook;
+    }
+
+    private void readClients() throws IOException, IllegalValueException {
+        readList(FIELD_CLIENTS, JsonAdaptedClient.class, (clients, offsets) -> StorageUtil.readClientListFromStorage(
+                clients, addressBook, getFailureHandler(FIELD_CLIENTS, clients, offsets)));
+        hasReadClients = true;
+        StorageUtil.readProjectListFromStorage(pendingProjects, addressBook,
+                getFailureHandler(FIELD_PROJECTS, pendingProjects, pendingProjectOffsets));
+        pendingProjects.clear();
+        pendingProjectOffsets.clear();
+        addPendingIssuesIfProjectsAdded();
+    }
+
+    private void readProjects() throws IOException, IllegalValueException {
+        readList(FIELD_PROJECTS, JsonAdaptedProject.class, (projects, offsets) -> {
+            List<JsonAdaptedProject> projectsToAdd = new ArrayList<>();
+            List<Long> projectsToAddOffsets = new ArrayList<>();
+            for (int i = 0; i < projects.size(); i++) {
+                if (hasReadClients || !projects.get(i).refersToClientById()) {
+                    projectsToAdd.add(projects.get(i));
+                    projectsToAddOffsets.add(offsets.get(i));
+                } else {
+                    pendingProjects.add(projects.get(i));
+                    pendingProjectOffsets.add(offsets.get(i));
+                }
+            }
+            StorageUtil.readProjectListFromStorage(projectsToAdd, addressBook,
+                    getFailureHandler(FIELD_PROJECTS, projectsToAdd, projectsToAddOffsets));
+        });
+        hasReadProjects = true;
+        addPendingIssuesIfProjectsAdded();
+    }
+
+    private void addPendingIssuesIfProjectsAdded() throws IllegalValueException {
+        if (hasReadProjects && pendingProjects.isEmpty()) {
+            StorageUtil.readIssueListFromStorage(pendingIssues, addressBook,
+                    getFailureHandler(FIELD_ISSUES, pendingIssues, pendingIssueOffsets));
+            pendingIssues.clear();
+            pendingIssueOffsets.clear();
+        }
+    }
+
+    private void readIssues() throws IOException, IllegalValueException {
+        readList(FIELD_ISSUES, JsonAdaptedIssue.class, (issues, offsets) -> {
+            if (hasReadProjects && pendingProjects.isEmpty()) {
+                StorageUtil.readIssueListFromStorage(issues, addressBook,
+                        getFailureHandler(FIELD_ISSUES, issues, offsets));
+            } else {
+                pendingIssues.addAll(issues);
+                pendingIssueOffsets.addAll(offsets);
+            }
+        });
+    }
+
+    /**
+     * Returns a handler which skips the element of {@code elements} which cannot be read,
+     * or reports its error if records which cannot be read stop the reading.
+     */
+    private <T> ParallelDecoder.FailureHandler getFailureHandler(String fieldName, List<T> elements,
+                                                                 List<Long> offsets) {
+        return (index, error) -> skipRecord(fieldName, elements.get(index), offsets.get(index), error);
+    }
+
+    private void skipRecord(String fieldName, Object record, long offset, IllegalValueException error)
+            throws IllegalValueException {
+        if (skippedRecords == null) {
+            throw error;
+        }
+        logger.warning("Skipping record of " + fieldName + " at byte " + offset + ": " + error.getMessage());
+        skippedRecords.add(new JsonQuarantinedRecord(fieldName, offset, error.getMessage(), record));
+    }
+
+    /**
+     * Reads the list the parser is at in batches of up to {@code BATCH_SIZE} elements,
+     * passing each batch to {@code handler} with the offset of each element in the data.
+     * A null list is taken to be empty.
+     * The elements before an element which cannot be read are passed to {@code handler} before the error is
+     * reported or the element is skipped, so that errors are met in the order of the list.
+     */
+    private <T> void readList(String fieldName, Class<T> elementClass, BatchHandler<T> handler)
+            throws IOException, IllegalValueException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_A_LIST, fieldName));
+        }
+        List<T> batch = new ArrayList<>();
+        List<Long> offsets = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            long offset = parser.getTokenLocation().getByteOffset();
+            JsonNode tree;
+            T element;
+            try {
+                // The element is read whole before it is mapped, so that it can be quarantined as it was written
+                // if it cannot be mapped.
+                tree = JsonUtil.readTree(parser);
+            } catch (IOException e) {
+                handler.handle(batch, offsets);
+                throw e;
+            }
+            try {
+                element = JsonUtil.fromJsonTree(tree, elementClass);
+            } catch (JsonProcessingException e) {
+                handler.handle(batch, offsets);
+                if (skippedRecords == null) {
+                    throw e;
+                }
+                skipRecord(fieldName, tree, offset, new IllegalValueException(e.getOriginalMessage()));
+                batch = new ArrayList<>();
+                offsets = new ArrayList<>();
+                continue;
+            }
+            if (element == null) {
+                handler.handle(batch, offsets);
+                skipRecord(fieldName, null, offset,
+                        new IllegalValueException(String.format(MESSAGE_NULL_ELEMENT, fieldName)));
+                batch = new ArrayList<>();
+                offsets = new ArrayList<>();
+                continue;
+            }
+            batch.add(element);
+            offsets.add(offset);
+            if (batch.size() == BATCH_SIZE) {
+                handler.handle(batch, offsets);
+                batch = new ArrayList<>();
+                offsets = new ArrayList<>();
+            }
+        }
+        handler.handle(batch, offsets);
+    }
+
+    /**
+     * Handles a batch of elements of a list as soon as they are read.
+     */
+    @FunctionalInterface
+    private interface BatchHandler<T> {
+        void handle(List<T> batch, List<Long> offsets) throws IllegalValueException;
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Tracks an address book saved to a storage, so that a snapshot of it only converts the clients, projects
+ * and issues changed since it was last saved, and the storage can write out only those.
+ * The json form of the whole address book is kept up to date from the changes saved,
+ * for storages that write the whole address book out.
+ * Changes are taken on the thread that changes the address book, and applied on the thread that saves them.
+ */
+class JsonAddressBookTracker {
+
+    public static final String MESSAGE_NOT_TRACKED = "Only the changes to the address book were taken, "
+            + "but the rest of it is not known; it will be saved whole on the next save.";
+
+    // Address book and modification count last saved, which changes are taken since, or null if it is not known
+    private volatile SavedVersion savedVersion;
+
+    // Json form of the address book as of the changes last applied, keyed by id,
+    // or null if it is not known or cannot be keyed by id
+    private Map<Integer, JsonAdaptedClient> clients;
+    private Map<Integer, JsonAdaptedProject> projects;
+    private Map<Integer, JsonAdaptedIssue> issues;
+    private String clientIdHighWaterMark;
+    private String projectIdHighWaterMark;
+    private String issueIdHighWaterMark;
+    // The json form of the whole address book, built when it is first asked for after the changes last applied
+    private JsonSerializableAddressBook jsonAddressBook;
+
+    /**
+     * Returns the changes to {@code addressBook} since it was last saved,
+     * or the whole of it if it was not saved with this tracker before.
+     */
+    JsonAddressBookChanges takeChanges(ReadOnlyAddressBook addressBook) {
+        SavedVersion version = savedVersion;
+        if (version == null || version.addressBook != addressBook) {
+            return JsonAddressBookChanges.ofWhole(addressBook);
+        }
+        return JsonAddressBookChanges.since(addressBook, version.modificationCount);
+    }
+
+    /**
+     * Applies {@code changes} to the json form of the whole address book.
+     * @throws IOException if only changes were taken but the rest of the address book is not known.
+     */
+    void apply(JsonAddressBookChanges changes) throws IOException {
+        if (changes.isWhole()) {
+            JsonSerializableAddressBook whole = changes.getJsonAddressBook();
+            clients = toMap(whole.getClients(), JsonAdaptedClient::getClientId);
+            projects = toMap(whole.getProjects(), JsonAdaptedProject::getProjectId);
+            issues = toMap(whole.getIssues(), JsonAdaptedIssue::getIssueId);
+            if (clients == null || projects == null || issues == null) {
+                clients = null;
+                projects = null;
+                issues = null;
+            }
+            clientIdHighWaterMark = whole.getClientIdHighWaterMark();
+            projectIdHighWaterMark = whole.getProjectIdHighWaterMark();
+            issueIdHighWaterMark = whole.getIssueIdHighWaterMark();
+            jsonAddressBook = whole;
+            return;
+        }
+        if (clients == null) {
+            savedVersion = null;
+            throw new IOException(MESSAGE_NOT_TRACKED);
+        }
+        putAll(clients, changes.getClients());
+        putAll(projects, changes.getProjects());
+        putAll(issues, changes.getIssues());
+        clientIdHighWaterMark = changes.getClientIdHighWaterMark();
+        projectIdHighWaterMark = changes.getProjectIdHighWaterMark();
+        issueIdHighWaterMark = changes.getIssueIdHighWaterMark();
+        jsonAddressBook = null;
+    }
+
+    /**
+     * Returns the json form of the whole address book as of the changes last applied,
+     * or null if none were applied.
+     */
+    JsonSerializableAddressBook toJsonAddressBook() {
+        if (jsonAddressBook == null && clients != null) {
+            jsonAddressBook = new JsonSerializableAddressBook(
+                    String.valueOf(JsonSerializableAddressBook.SCHEMA_VERSION), new ArrayList<>(clients.values()),
+                    new ArrayList<>(projects.values()), new ArrayList<>(issues.values()),
+                    clientIdHighWaterMark, projectIdHighWaterMark, issueIdHighWaterMark);
+        }
+        return jsonAddressBook;
+    }
+
+    /**
+     * Returns the json form of the issue with id {@code id} as of the changes last applied,
+     * or null if there is no such issue or the address book cannot be keyed by id.
+     */
+    JsonAdaptedIssue getIssue(int id) {
+        return issues == null ? null : issues.get(id);
+    }
+
+    /**
+     * Returns true if the clients, projects and issues of the address book can be told apart by id.
+     */
+    boolean isKeyedById() {
+        return clients != null;
+    }
+
+    /**
+     * Records that {@code changes}, once applied, were saved, so that changes are taken since them from now on.
+     * Changes are still taken since an earlier save if the address book cannot be keyed by id.
+     */
+    void markSaved(JsonAddressBookChanges changes) {
+        if (isKeyedById()) {
+            savedVersion = new SavedVersion(changes.getAddressBook(), changes.getModificationCount());
+        }
+    }
+
+    /**
+     * Forgets what was saved, so that the next changes are taken of the whole address book.
+     */
+    void reset() {
+        savedVersion = null;
+    }
+
+    private static <T> Map<Integer, T> toMap(List<T> values, Function<T, String> idGetter) {
+        Map<Integer, T> map = new TreeMap<>();
+        for (T value : values) {
+            try {
+                if (map.put(Integer.parseInt(idGetter.apply(value)), value) != null) {
+                    return null;
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return map;
+    }
+
+    private static <T> void putAll(Map<Integer, T> map, Map<Integer, T> changes) {
+        for (Map.Entry<Integer, T> change : changes.entrySet()) {
+            if (change.getValue() == null) {
+                map.remove(change.getKey());
+            } else {
+                map.put(change.getKey(), change.getValue());
+            }
+        }
+    }
+
+    /**
+     * Identifies the state of an address book by the address book and its modification count.
+     */
+    private static class SavedVersion {
+        private final ReadOnlyAddressBook addressBook;
+        private final long modificationCount;
+
+        SavedVersion(ReadOnlyAddressBook addressBook, long modificationCount) {
+            this.addressBook = addressBook;
+            this.modificationCount = modificationCount;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly clients file of a {@link ShardedAddressBookStorage}.
+ */
+class JsonClientShard {
+
+    private final List<JsonAdaptedClient> clients = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonClientShard} with the given clients.
+     */
+    @JsonCreator
+    public JsonClientShard(@JsonProperty("clients") List<JsonAdaptedClient> clients) {
+        if (clients != null) {
+            this.clients.addAll(clients);
+        }
+    }
+
+    List<JsonAdaptedClient> getClients() {
+        return clients;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof JsonClientShard // instanceof handles nulls
+                && clients.equals(((JsonClientShard) other).clients));
+    }
+
+    @Override
+    public int hashCode() {
+        return clients.hashCode();
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly project file of a {@link ShardedAddressBookStorage}, holding a project and its issues.
+ * The project is null in a file which holds issues whose project is not in the address book.
+ */
+class JsonProjectShard {
+
+    private final JsonAdaptedProject project;
+    private final List<JsonAdaptedIssue> issues = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonProjectShard} with the given project and issues.
+     */
+    @JsonCreator
+    public JsonProjectShard(@JsonProperty("project") JsonAdaptedProject project,
+                            @JsonProperty("issues") List<JsonAdaptedIssue> issues) {
+        this.project = project;
+        if (issues != null) {
+            this.issues.addAll(issues);
+        }
+    }
+
+    JsonAdaptedProject getProject() {
+        return project;
+    }
+
+    List<JsonAdaptedIssue> getIssues() {
+        return issues;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof JsonProjectShard)) {
+            return false;
+        }
+        JsonProjectShard otherShard = (JsonProjectShard) other;
+        return Objects.equals(project, otherShard.project)
+                && issues.equals(otherShard.issues);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(project, issues);
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A record of a data file which could not be read and was left out of the address book,
+ * as kept in the quarantine file next to the data file.
+ */
+class JsonQuarantinedRecord {
+
+    private final String field;
+    private final Long offset;
+    private final String error;
+    private final Object record;
+
+    /**
+     * Constructs a {@code JsonQuarantinedRecord} for the {@code record} of {@code field}
+     * which starts {@code offset} bytes into the data, and could not be read because of {@code error}.
+     * {@code offset} is null if the record is not at an offset of its own, and {@code record} is null
+     * if the record could not be parsed at all.
+     */
+    @JsonCreator
+    public JsonQuarantinedRecord(@JsonProperty("field") String field, @JsonProperty("offset") Long offset,
+                                 @JsonProperty("error") String error, @JsonProperty("record") Object record) {
+        this.field = field;
+        this.offset = offset;
+        this.error = error;
+        this.record = record;
+    }
+
+    String getField() {
+        return field;
+    }
+
+    Long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns where the record is in the data, for the user.
+     */
+    String getLocation() {
+        return offset == null ? field : "byte " + offset;
+    }
+
+    String getError() {
+        return error;
+    }
+
+    Object getRecord() {
+        return record;
+    }
+}
@@ -14,21 +14,47 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * Since schema version 2, clients are kept in a list of their own and projects refer to them by id.
+ * Data files of schema version 1 embed the client in each of its projects instead, and can still be read;
+ * they are saved in the current schema from then on.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
+    public static final int SCHEMA_VERSION = 2;
+
+    static final String FIELD_CLIENTS = "clients";
+    static final String FIELD_PROJECTS = "projects";
+    static final String FIELD_ISSUES = "issues";
+
+    private final String schemaVersion;
+    private final List<JsonAdaptedClient> clients = new ArrayList<>();
     private final List<JsonAdaptedProject> projects = new ArrayList<>();
     private final List<JsonAdaptedIssue> issues = new ArrayList<>();
+    private final String clientIdHighWaterMark;
+    private final String projectIdHighWaterMark;
+    private final String issueIdHighWaterMark;
 
     /**
      * Constructs a {@code JsonSerializableAddressBook}.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("projects") List<JsonAdaptedProject> projects,
-                                       @JsonProperty("issues") List<JsonAdaptedIssue> issues) {
+    public JsonSerializableAddressBook(@JsonProperty("schemaVersion") String schemaVersion,
+                                       @JsonProperty("clients") List<JsonAdaptedClient> clients,
+                                       @JsonProperty("projects") List<JsonAdaptedProject> projects,
+                                       @JsonProperty("issues") List<JsonAdaptedIssue> issues,
+                                       @JsonProperty("clientIdHighWaterMark") String clientIdHighWaterMark,
+                                       @JsonProperty("projectIdHighWaterMark") String projectIdHighWaterMark,
+                                       @JsonProperty("issueIdHighWaterMark") String issueIdHighWaterMark) {
+        this.schemaVersion = schemaVersion;
+        if (clients != null) {
+            this.clients.addAll(clients);
+        }
         this.projects.addAll(projects);
         this.issues.addAll(issues);
+        this.clientIdHighWaterMark = clientIdHighWaterMark;
+        this.projectIdHighWaterMark = projectIdHighWaterMark;
+        this.issueIdHighWaterMark = issueIdHighWaterMark;
     }
 
     /**
@@ -37,8 +63,14 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        schemaVersion = String.valueOf(SCHEMA_VERSION);
+        clients.addAll(StorageUtil.getClientsToStore(source).stream().map(JsonAdaptedClient::new)
+                .collect(Collectors.toList()));
         projects.addAll(source.getProjectList().stream().map(JsonAdaptedProject::new).collect(Collectors.toList()));
         issues.addAll(source.getIssueList().stream().map(JsonAdaptedIssue::new).collect(Collectors.toList()));
+        clientIdHighWaterMark = String.valueOf(source.getClientIdHighWaterMark());
+        projectIdHighWaterMark = String.valueOf(source.getProjectIdHighWaterMark());
+        issueIdHighWaterMark = String.valueOf(source.getIssueIdHighWaterMark());
     }
 
     /**
@@ -47,11 +79,65 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        return toModelType((fieldName, index, error) -> {
+            throw error;
+        });
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, except that each client, project and issue which cannot be read
+     * is passed to {@code skippedRecordHandler} with the name of its list and its index in the list,
+     * and skipped unless the error is thrown on.
+     */
+    AddressBook toModelType(SkippedRecordHandler skippedRecordHandler) throws IllegalValueException {
+        StorageUtil.readSchemaVersionFromStorage(schemaVersion);
         AddressBook addressBook = new AddressBook();
-        StorageUtil.readProjectListFromStorage(projects, addressBook);
-        StorageUtil.readIssueListFromStorage(issues, addressBook);
+        StorageUtil.readClientListFromStorage(clients, addressBook, (index, error) ->
+                skippedRecordHandler.handle(FIELD_CLIENTS, index, error));
+        StorageUtil.readProjectListFromStorage(projects, addressBook, (index, error) ->
+                skippedRecordHandler.handle(FIELD_PROJECTS, index, error));
+        StorageUtil.readIssueListFromStorage(issues, addressBook, (index, error) ->
+                skippedRecordHandler.handle(FIELD_ISSUES, index, error));
+        addressBook.setClientIdHighWaterMark(StorageUtil.readIdHighWaterMarkFromStorage(clientIdHighWaterMark));
+        addressBook.setProjectIdHighWaterMark(StorageUtil.readIdHighWaterMarkFromStorage(projectIdHighWaterMark));
+        addressBook.setIssueIdHighWaterMark(StorageUtil.readIdHighWaterMarkFromStorage(issueIdHighWaterMark));
         addressBook.sortAllLists();
         return addressBook;
     }
 
+    String getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    List<JsonAdaptedClient> getClients() {
+        return clients;
+    }
+
+    List<JsonAdaptedProject> getProjects() {
+        return projects;
+    }
+
+    List<JsonAdaptedIssue> getIssues() {
+        return issues;
+    }
+
+    String getClientIdHighWaterMark() {
+        return clientIdHighWaterMark;
+    }
+
+    String getProjectIdHighWaterMark() {
+        return projectIdHighWaterMark;
+    }
+
+    String getIssueIdHighWaterMark() {
+        return issueIdHighWaterMark;
+    }
+
+    /**
+     * Handles a client, project or issue which cannot be read.
+     */
+    @FunctionalInterface
+    interface SkippedRecordHandler {
+        void handle(String fieldName, int index, IllegalValueException error) throws IllegalValueException;
+    }
 }
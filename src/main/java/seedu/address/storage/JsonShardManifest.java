@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of the files of a {@link ShardedAddressBookStorage}.
+ * Lists the clients file and the project files which make up the address book, in order,
+ * along with the parts of the address book which are not kept in any of them.
+ */
+class JsonShardManifest {
+
+    private final String schemaVersion;
+    private final String generation;
+    private final String clients;
+    private final List<String> projects = new ArrayList<>();
+    private final String clientIdHighWaterMark;
+    private final String projectIdHighWaterMark;
+    private final String issueIdHighWaterMark;
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given details.
+     * @param generation number of the save which wrote this manifest
+     * @param clients name of the clients file
+     * @param projects names of the project files
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("schemaVersion") String schemaVersion,
+                             @JsonProperty("generation") String generation,
+                             @JsonProperty("clients") String clients,
+                             @JsonProperty("projects") List<String> projects,
+                             @JsonProperty("clientIdHighWaterMark") String clientIdHighWaterMark,
+                             @JsonProperty("projectIdHighWaterMark") String projectIdHighWaterMark,
+                             @JsonProperty("issueIdHighWaterMark") String issueIdHighWaterMark) {
+        this.schemaVersion = schemaVersion;
+        this.generation = generation;
+        this.clients = clients;
+        if (projects != null) {
+            this.projects.addAll(projects);
+        }
+        this.clientIdHighWaterMark = clientIdHighWaterMark;
+        this.projectIdHighWaterMark = projectIdHighWaterMark;
+        this.issueIdHighWaterMark = issueIdHighWaterMark;
+    }
+
+    String getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    String getGeneration() {
+        return generation;
+    }
+
+    String getClients() {
+        return clients;
+    }
+
+    List<String> getProjects() {
+        return projects;
+    }
+
+    String getClientIdHighWaterMark() {
+        return clientIdHighWaterMark;
+    }
+
+    String getProjectIdHighWaterMark() {
+        return projectIdHighWaterMark;
+    }
+
+    String getIssueIdHighWaterMark() {
+        return issueIdHighWaterMark;
+    }
+}
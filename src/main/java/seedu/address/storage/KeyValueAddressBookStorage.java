@@ -0,0 +1,397 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in a {@link KeyValueStore} on the hard disk.
+ * Each client, project and issue is an entry of its own, keyed by its type and id, with its json form as its value.
+ * Each save puts the entries that changed since the last save and deletes those removed in one transaction,
+ * so that the cost of a save grows with the size of the change rather than the size of the address book.
+ * Which clients, projects and issues changed is tracked by the address book itself, so only they are converted,
+ * and compared with the json form of the entries last read or written, so only the changed entries are encoded.
+ * The store is compacted by {@link #compactAddressBook()}, which is left out of saves.
+ * Records of the store which cannot be read, and the clients, projects and issues which cannot be read,
+ * are skipped and copied to the quarantine file of the store as described in {@link StorageUtil#quarantineRecords}.
+ */
+public class KeyValueAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".kv";
+    public static final String MESSAGE_DUPLICATE_ID = "Cannot save %s with two entries keyed %s.";
+
+    private static final String CLIENT_KEY_PREFIX = "client/";
+    private static final String PROJECT_KEY_PREFIX = "project/";
+    private static final String ISSUE_KEY_PREFIX = "issue/";
+    private static final String KEY_SCHEMA_VERSION = "meta/schemaVersion";
+    private static final String KEY_CLIENT_ID_HIGH_WATER_MARK = "meta/clientIdHighWaterMark";
+    private static final String KEY_PROJECT_ID_HIGH_WATER_MARK = "meta/projectIdHighWaterMark";
+    private static final String KEY_ISSUE_ID_HIGH_WATER_MARK = "meta/issueIdHighWaterMark";
+
+    private static final Logger logger = LogsCenter.getLogger(KeyValueAddressBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isSyncedOnSave;
+
+    // The store in the data file, as last read or written, or null if it is not known.
+    private KeyValueStore store;
+    // The json form of the entries in the store, keyed like them, to tell which entries a save changes.
+    private Map<String, Object> storedValues;
+    private RecoveryReport recoveryReport;
+    private final JsonAddressBookTracker tracker = new JsonAddressBookTracker();
+
+    public KeyValueAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code KeyValueAddressBookStorage} for the data file at {@code filePath}.
+     * @param isSyncedOnSave whether each save waits for the data file to reach the disk.
+     */
+    public KeyValueAddressBookStorage(Path filePath, boolean isSyncedOnSave) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isSyncedOnSave = isSyncedOnSave;
+    }
+
+    /**
+     * Returns the path of a key-value data file with the same name as the data file at {@code filePath}.
+     */
+    public static Path getKeyValueFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If the file is not in the correct format, the previous version of it kept when the store was last compacted
+     * is read instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if neither the file nor its previous version is in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            store = null;
+            storedValues = null;
+        }
+        recoveryReport = null;
+        return StorageUtil.readAddressBookOrPreviousVersion(filePath, this::readStore);
+    }
+
+    private Optional<ReadOnlyAddressBook> readStore(Path filePath) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Key-value store " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            KeyValueStore readStore = KeyValueStore.open(filePath);
+            JsonSerializableAddressBook jsonAddressBook = toJsonAddressBook(readStore);
+            List<JsonQuarantinedRecord> skippedRecords = new ArrayList<>(readStore.getSkippedRecords());
+            ReadOnlyAddressBook addressBook = jsonAddressBook.toModelType((fieldName, index, error) ->
+                    skippedRecords.add(toSkippedRecord(jsonAddressBook, fieldName, index, error)));
+            if (!skippedRecords.isEmpty()) {
+                recoveryReport = StorageUtil.quarantineRecords(filePath, skippedRecords);
+            }
+            if (filePath.equals(this.filePath)) {
+                storedValues = toValues(jsonAddressBook, filePath);
+                store = readStore;
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from key-value store " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the key-value store at {@code filePath} without writing anything, such as a quarantine file,
+     * and fails on the first record which cannot be read instead of skipping it.
+     * @throws IllegalValueException if the file is not a key-value store, or any record in it cannot be read.
+     */
+    static ReadOnlyAddressBook readAddressBookStrictly(Path filePath) throws IOException, IllegalValueException {
+        KeyValueStore readStore = KeyValueStore.open(filePath);
+        if (!readStore.getSkippedRecords().isEmpty()) {
+            throw new IllegalValueException(readStore.getSkippedRecords().get(0).getError());
+        }
+        return toJsonAddressBook(readStore).toModelType();
+    }
+
+    private static JsonSerializableAddressBook toJsonAddressBook(KeyValueStore store) throws IOException {
+        return new JsonSerializableAddressBook(getString(store, KEY_SCHEMA_VERSION),
+                readValues(store, CLIENT_KEY_PREFIX, JsonAdaptedClient.class),
+                readValues(store, PROJECT_KEY_PREFIX, JsonAdaptedProject.class),
+                readValues(store, ISSUE_KEY_PREFIX, JsonAdaptedIssue.class),
+                getString(store, KEY_CLIENT_ID_HIGH_WATER_MARK), getString(store, KEY_PROJECT_ID_HIGH_WATER_MARK),
+                getString(store, KEY_ISSUE_ID_HIGH_WATER_MARK));
+    }
+
+    private static <T> List<T> readValues(KeyValueStore store, String keyPrefix, Class<T> valueClass)
+            throws IOException {
+        List<T> values = new ArrayList<>();
+        for (byte[] value : store.getEntries(keyPrefix).values()) {
+            values.add(JsonUtil.fromJsonBytes(value, valueClass));
+        }
+        return values;
+    }
+
+    /**
+     * Returns the quarantined record of the client, project or issue at {@code index} of the list {@code fieldName}
+     * of {@code jsonAddressBook}, which is located by its key.
+     */
+    private static JsonQuarantinedRecord toSkippedRecord(JsonSerializableAddressBook jsonAddressBook,
+            String fieldName, int index, IllegalValueException error) {
+        String key;
+        Object record;
+        switch (fieldName) {
+        case JsonSerializableAddressBook.FIELD_CLIENTS:
+            JsonAdaptedClient client = jsonAddressBook.getClients().get(index);
+            key = CLIENT_KEY_PREFIX + client.getClientId();
+            record = client;
+            break;
+        case JsonSerializableAddressBook.FIELD_PROJECTS:
+            JsonAdaptedProject project = jsonAddressBook.getProjects().get(index);
+            key = PROJECT_KEY_PREFIX + project.getProjectId();
+            record = project;
+            break;
+        default:
+            JsonAdaptedIssue issue = jsonAddressBook.getIssues().get(index);
+            key = ISSUE_KEY_PREFIX + issue.getIssueId();
+            record = issue;
+            break;
+        }
+        logger.warning("Skipping entry " + key + ": " + error.getMessage());
+        return new JsonQuarantinedRecord(key, null, error.getMessage(), record);
+    }
+
+    private static String getString(KeyValueStore store, String key) {
+        byte[] value = store.get(key);
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Optional<RecoveryReport> getRecoveryReport() {
+        return Optional.ofNullable(recoveryReport);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        takeSnapshot(addressBook).save();
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The address book is saved to a new store at any location other than the data file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        KeyValueStore.create(filePath, toEntries(toValues(new JsonSerializableAddressBook(addressBook), filePath)),
+                false);
+    }
+
+    /**
+     * Returns a snapshot which saves the address book as it is now.
+     * Only the clients, projects and issues changed since the last save are converted to their json form
+     * right away, and compared with the entries in the store when the snapshot is saved.
+     */
+    @Override
+    public AddressBookSnapshot takeSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        JsonAddressBookChanges changes = tracker.takeChanges(addressBook);
+        return () -> save(changes);
+    }
+
+    private synchronized void save(JsonAddressBookChanges changes) throws IOException {
+        tracker.apply(changes);
+        try {
+            if (store == null) {
+                Map<String, Object> values = toValues(tracker.toJsonAddressBook(), filePath);
+                store = KeyValueStore.create(filePath, toEntries(values), isSyncedOnSave);
+                storedValues = values;
+            } else if (changes.isWhole() || !String.valueOf(JsonSerializableAddressBook.SCHEMA_VERSION)
+                    .equals(storedValues.get(KEY_SCHEMA_VERSION))) {
+                saveWhole(tracker.toJsonAddressBook());
+            } else {
+                saveChanges(changes);
+            }
+            tracker.markSaved(changes);
+        } catch (IOException ioe) {
+            // The data on the hard disk is unknown, so start over with a new store on the next save.
+            store = null;
+            storedValues = null;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Puts every entry of {@code jsonAddressBook} which differs from the entry in the store,
+     * and deletes the entries of the store which are not in {@code jsonAddressBook}.
+     */
+    private void saveWhole(JsonSerializableAddressBook jsonAddressBook) throws IOException {
+        Map<String, Object> values = toValues(jsonAddressBook, filePath);
+        KeyValueStore.Transaction transaction = store.beginTransaction();
+        for (Map.Entry<String, Object> value : values.entrySet()) {
+            if (!value.getValue().equals(storedValues.get(value.getKey()))) {
+                transaction.put(value.getKey(), toBytes(value.getValue()));
+            }
+        }
+        for (String key : store.getKeys()) {
+            if (!values.containsKey(key)) {
+                transaction.delete(key);
+            }
+        }
+        if (!transaction.isEmpty()) {
+            transaction.commit(isSyncedOnSave);
+        }
+        storedValues = values;
+    }
+
+    /**
+     * Puts the entries of the clients, projects and issues in {@code changes} which differ from the entries
+     * in the store, and deletes the entries of those removed.
+     */
+    private void saveChanges(JsonAddressBookChanges changes) throws IOException {
+        KeyValueStore.Transaction transaction = store.beginTransaction();
+        putChanges(transaction, CLIENT_KEY_PREFIX, changes.getClients());
+        putChanges(transaction, PROJECT_KEY_PREFIX, changes.getProjects());
+        putChanges(transaction, ISSUE_KEY_PREFIX, changes.getIssues());
+        putChange(transaction, KEY_CLIENT_ID_HIGH_WATER_MARK, changes.getClientIdHighWaterMark());
+        putChange(transaction, KEY_PROJECT_ID_HIGH_WATER_MARK, changes.getProjectIdHighWaterMark());
+        putChange(transaction, KEY_ISSUE_ID_HIGH_WATER_MARK, changes.getIssueIdHighWaterMark());
+        if (!transaction.isEmpty()) {
+            transaction.commit(isSyncedOnSave);
+        }
+    }
+
+    private void putChanges(KeyValueStore.Transaction transaction, String keyPrefix,
+            Map<Integer, ?> changes) throws IOException {
+        for (Map.Entry<Integer, ?> change : changes.entrySet()) {
+            putChange(transaction, keyPrefix + change.getKey(), change.getValue());
+        }
+    }
+
+    /**
+     * Puts {@code value} as the entry keyed {@code key} if it differs from the entry in the store,
+     * or deletes the entry if {@code value} is null.
+     */
+    private void putChange(KeyValueStore.Transaction transaction, String key, Object value) throws IOException {
+        if (value == null) {
+            if (storedValues.remove(key) != null) {
+                transaction.delete(key);
+            }
+        } else if (!value.equals(storedValues.get(key))) {
+            transaction.put(key, toBytes(value));
+            storedValues.put(key, value);
+        }
+    }
+
+    /**
+     * Compacts the store once it has grown past the size it needs.
+     */
+    @Override
+    public synchronized void compactAddressBook() throws IOException {
+        if (store == null || !store.needsCompaction()) {
+            return;
+        }
+        try {
+            store.compact(isSyncedOnSave);
+        } catch (IOException ioe) {
+            store = null;
+            storedValues = null;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Returns the json form of each entry of {@code jsonAddressBook} in the store, keyed by type and id.
+     * @throws IOException if two clients, projects or issues have the same id, and so cannot be told apart.
+     */
+    private static Map<String, Object> toValues(JsonSerializableAddressBook jsonAddressBook, Path filePath)
+            throws IOException {
+        Map<String, Object> values = new LinkedHashMap<>();
+        putValue(values, KEY_SCHEMA_VERSION, jsonAddressBook.getSchemaVersion(), filePath);
+        for (JsonAdaptedClient client : jsonAddressBook.getClients()) {
+            putValue(values, CLIENT_KEY_PREFIX + client.getClientId(), client, filePath);
+        }
+        for (JsonAdaptedProject project : jsonAddressBook.getProjects()) {
+            putValue(values, PROJECT_KEY_PREFIX + project.getProjectId(), project, filePath);
+        }
+        for (JsonAdaptedIssue issue : jsonAddressBook.getIssues()) {
+            putValue(values, ISSUE_KEY_PREFIX + issue.getIssueId(), issue, filePath);
+        }
+        putValue(values, KEY_CLIENT_ID_HIGH_WATER_MARK, jsonAddressBook.getClientIdHighWaterMark(), filePath);
+        putValue(values, KEY_PROJECT_ID_HIGH_WATER_MARK, jsonAddressBook.getProjectIdHighWaterMark(), filePath);
+        putValue(values, KEY_ISSUE_ID_HIGH_WATER_MARK, jsonAddressBook.getIssueIdHighWaterMark(), filePath);
+        return values;
+    }
+
+    private static void putValue(Map<String, Object> values, String key, Object value, Path filePath)
+            throws IOException {
+        if (value != null && values.put(key, value) != null) {
+            throw new IOException(String.format(MESSAGE_DUPLICATE_ID, filePath, key));
+        }
+    }
+
+    private static Map<String, byte[]> toEntries(Map<String, Object> values) throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> value : values.entrySet()) {
+            entries.put(value.getKey(), toBytes(value.getValue()));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the value of an entry in the store, which is the string itself for strings
+     * and the compact json form otherwise.
+     */
+    private static byte[] toBytes(Object value) throws IOException {
+        if (value instanceof String) {
+            return ((String) value).getBytes(StandardCharsets.UTF_8);
+        }
+        return JsonUtil.toCompactJsonBytes(value);
+    }
+}
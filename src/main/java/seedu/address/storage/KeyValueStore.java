@@ -0,0 +1,401 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * An embedded key-value store kept in a single log file on the hard disk, with string keys and byte array values.
+ * Changes are made in transactions, each appended to the log as one record with a CRC32C checksum,
+ * so that a save writes only the entries it changes. A transaction is applied in full or not at all:
+ * a record cut off while it was being appended is dropped when the log is next opened,
+ * and overwritten by the next transaction. A complete record in the middle of the log which cannot be read
+ * ends the replay there: only the records before it are applied, as the records after it may build on the changes
+ * it held, and the rest of the log from it on is skipped as a whole, and kept until the log is next compacted.
+ * The live entries are kept in memory, sorted by key. Once the log grows to more than twice their size,
+ * it is compacted by rewriting it atomically with only the live entries.
+ *
+ * The log starts with {@link #MAGIC} and the format version, followed by the records. Each record holds
+ * its length, then the number of operations in it and the operations, then the checksum of its contents.
+ * An operation is a put, with its key and value, or a delete, with its key.
+ * Logs of format version 1 have CRC32 checksums instead, and are still read and appended to as such
+ * until they are next compacted.
+ */
+class KeyValueStore {
+
+    public static final int MAGIC = 0x4445564B;
+    public static final int VERSION = 2;
+    /** The format version which checksums records with CRC32 rather than CRC32C. */
+    public static final int VERSION_CRC32 = 1;
+
+    public static final String MESSAGE_NOT_A_KEY_VALUE_STORE = "Data file is not a key-value store.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Key-value store format version %d is not supported.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Checksum of record does not match its contents.";
+    public static final String MESSAGE_INVALID_RECORD = "Contents of record are not a valid transaction.";
+    public static final String FIELD_RECORDS = "records";
+
+    /** Logs smaller than this are never compacted, as they are quick to read either way. */
+    static final long MIN_COMPACTION_BYTES = 1024 * 1024;
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final byte OP_PUT = 1;
+    private static final byte OP_DELETE = 2;
+    // Bytes taken up in a record by an operation besides its key and value
+    private static final int OP_OVERHEAD_BYTES = 1 + Short.BYTES + Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(KeyValueStore.class);
+
+    private final Path filePath;
+    private final NavigableMap<String, byte[]> entries = new TreeMap<>();
+    // The rest of the log from the record in the middle of it which could not be read when it was opened, if any
+    private final List<JsonQuarantinedRecord> skippedRecords = new ArrayList<>();
+    // Format version of the log, which decides how its records are checksummed
+    private int version = VERSION;
+    // Length of the log up to the end of its last complete record, where the next record is appended
+    private long logLength = 0;
+    // Size of the live entries as they would be written in a record
+    private long liveBytes = 0;
+
+    private KeyValueStore(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the store kept in the log at {@code filePath}, or an empty store if there is no log yet.
+     * @throws IllegalValueException if the file at {@code filePath} is not a key-value store log.
+     */
+    static KeyValueStore open(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        KeyValueStore store = new KeyValueStore(filePath);
+        if (!Files.exists(filePath)) {
+            return store;
+        }
+
+        long fileLength = Files.size(filePath);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            store.readHeader(in, fileLength);
+            while (store.logLength < fileLength) {
+                if (!store.readRecord(in, fileLength)) {
+                    break;
+                }
+            }
+        }
+        if (store.logLength < fileLength && store.skippedRecords.isEmpty()) {
+            logger.warning("Dropping " + (fileLength - store.logLength) + " bytes after offset " + store.logLength
+                    + " of " + filePath + ", which do not hold a complete record");
+        }
+        return store;
+    }
+
+    /**
+     * Returns a store holding only {@code entries}, which replaces any log at {@code filePath}
+     * atomically as described in {@link FileUtil#writeToFileAtomically}.
+     */
+    static KeyValueStore create(Path filePath, Map<String, byte[]> entries, boolean isSynced) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(entries);
+        KeyValueStore store = new KeyValueStore(filePath);
+        store.entries.putAll(entries);
+        store.rewrite(isSynced);
+        return store;
+    }
+
+    private void readHeader(DataInputStream in, long fileLength) throws IOException, IllegalValueException {
+        if (fileLength < HEADER_BYTES || in.readInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_A_KEY_VALUE_STORE);
+        }
+        int logVersion = in.readInt();
+        if (logVersion != VERSION && logVersion != VERSION_CRC32) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, logVersion));
+        }
+        version = logVersion;
+        logLength = HEADER_BYTES;
+    }
+
+    /**
+     * Reads the record at the current position of {@code in} and applies its operations.
+     * Returns false, applying nothing, if the rest of the log does not hold a complete record which can be read.
+     * If more of the log follows a record which cannot be read, the record and the rest of the log are skipped.
+     */
+    private boolean readRecord(DataInputStream in, long fileLength) throws IOException {
+        long remaining = fileLength - logLength;
+        try {
+            int length = in.readInt();
+            if (length < Integer.BYTES || length > remaining - 2 * Integer.BYTES) {
+                return false;
+            }
+            byte[] record = new byte[length];
+            in.readFully(record);
+            long recordEnd = logLength + 2 * Integer.BYTES + length;
+            Transaction transaction = null;
+            int checksum = in.readInt();
+            String error = MESSAGE_CHECKSUM_MISMATCH;
+            if (getChecksum(record, version) == checksum) {
+                transaction = decodeRecord(record);
+                error = MESSAGE_INVALID_RECORD;
+            }
+            if (transaction == null) {
+                if (recordEnd == fileLength) {
+                    // Most likely the last append was cut off, which is dropped like an incomplete record
+                    return false;
+                }
+                logger.warning("Skipping the " + remaining + " bytes after offset " + logLength + " of " + filePath
+                        + ", as the record there cannot be read: " + error);
+                ByteArrayOutputStream rest = new ByteArrayOutputStream();
+                DataOutputStream restOut = new DataOutputStream(rest);
+                restOut.writeInt(length);
+                restOut.write(record);
+                restOut.writeInt(checksum);
+                restOut.write(in.readNBytes((int) (fileLength - recordEnd)));
+                skippedRecords.add(new JsonQuarantinedRecord(FIELD_RECORDS, logLength, error, rest.toByteArray()));
+                return false;
+            }
+            transaction.apply();
+            logLength = recordEnd;
+            return true;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    private static int getChecksum(byte[] contents, int logVersion) {
+        Checksum checksum = logVersion == VERSION_CRC32 ? new CRC32() : new CRC32C();
+        checksum.update(contents, 0, contents.length);
+        return (int) checksum.getValue();
+    }
+
+    private Transaction decodeRecord(byte[] record) {
+        Transaction transaction = new Transaction();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                byte op = in.readByte();
+                String key = in.readUTF();
+                if (op == OP_PUT) {
+                    int valueLength = in.readInt();
+                    if (valueLength < 0 || valueLength > in.available()) {
+                        return null;
+                    }
+                    byte[] value = new byte[valueLength];
+                    in.readFully(value);
+                    transaction.put(key, value);
+                } else if (op == OP_DELETE) {
+                    transaction.delete(key);
+                } else {
+                    return null;
+                }
+            }
+            return in.available() == 0 ? transaction : null;
+        } catch (IOException e) {
+            // The checksum matched but the contents do not make up a record
+            return null;
+        }
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if the store has no such key.
+     */
+    byte[] get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Returns the entries whose keys start with {@code prefix}, sorted by key.
+     */
+    SortedMap<String, byte[]> getEntries(String prefix) {
+        return Collections.unmodifiableSortedMap(entries.subMap(prefix, prefix + Character.MAX_VALUE));
+    }
+
+    Set<String> getKeys() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Returns the rest of the log from the record in the middle of it which could not be read when it was opened,
+     * with its offset and contents, unless the log has been compacted since.
+     */
+    List<JsonQuarantinedRecord> getSkippedRecords() {
+        return Collections.unmodifiableList(skippedRecords);
+    }
+
+    /**
+     * Returns a new transaction on this store, which changes nothing until it is committed.
+     */
+    Transaction beginTransaction() {
+        return new Transaction();
+    }
+
+    /**
+     * Returns true if the log holds more than twice the size of the live entries, so that it is worth compacting,
+     * or if it holds a record which could not be read, which should not be read again.
+     */
+    boolean needsCompaction() {
+        return !skippedRecords.isEmpty()
+                || logLength >= MIN_COMPACTION_BYTES && logLength > 2 * (HEADER_BYTES + liveBytes);
+    }
+
+    /**
+     * Rewrites the log with only the live entries, atomically as described in {@link FileUtil#writeToFileAtomically}.
+     */
+    void compact(boolean isSynced) throws IOException {
+        long oldLogLength = logLength;
+        rewrite(isSynced);
+        logger.info("Compacted " + filePath + " from " + oldLogLength + " to " + logLength + " bytes");
+    }
+
+    private void rewrite(boolean isSynced) throws IOException {
+        Transaction transaction = new Transaction();
+        transaction.puts.putAll(entries);
+        byte[] record = transaction.encode(VERSION);
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            dataOut.writeInt(MAGIC);
+            dataOut.writeInt(VERSION);
+            dataOut.write(record);
+            dataOut.flush();
+        }, isSynced);
+        version = VERSION;
+        logLength = HEADER_BYTES + record.length;
+        skippedRecords.clear();
+        liveBytes = 0;
+        for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+            liveBytes += getEntryBytes(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static int getEntryBytes(String key, byte[] value) {
+        return OP_OVERHEAD_BYTES + key.length() + value.length;
+    }
+
+    /**
+     * Changes to a {@code KeyValueStore} which are written to its log together as one record.
+     * Later changes to a key replace earlier ones in the same transaction.
+     */
+    class Transaction {
+        private final Map<String, byte[]> puts = new LinkedHashMap<>();
+        private final Set<String> deletes = new LinkedHashSet<>();
+
+        private Transaction() {}
+
+        void put(String key, byte[] value) {
+            requireNonNull(key);
+            requireNonNull(value);
+            deletes.remove(key);
+            puts.put(key, value);
+        }
+
+        void delete(String key) {
+            requireNonNull(key);
+            puts.remove(key);
+            deletes.add(key);
+        }
+
+        boolean isEmpty() {
+            return puts.isEmpty() && deletes.isEmpty();
+        }
+
+        /**
+         * Appends this transaction to the log and applies it to the store.
+         * If this fails, the store no longer matches its log, and must be opened again before it is used.
+         * @param isSynced whether to wait for the record to reach the disk before returning.
+         */
+        void commit(boolean isSynced) throws IOException {
+            // A new log is started in the current format version
+            byte[] record = encode(logLength == 0 ? VERSION : version);
+            FileUtil.createParentDirsOfFile(filePath);
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE)) {
+                if (logLength == 0) {
+                    ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION);
+                    header.flip();
+                    channel.truncate(0);
+                    channel.write(header, 0);
+                    version = VERSION;
+                    logLength = HEADER_BYTES;
+                }
+                // Drops any incomplete record left behind by an earlier failed append
+                channel.truncate(logLength);
+                ByteBuffer buffer = ByteBuffer.wrap(record);
+                long position = logLength;
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                if (isSynced) {
+                    channel.force(false);
+                }
+            }
+            apply();
+            logLength += record.length;
+        }
+
+        private void apply() {
+            for (String key : deletes) {
+                byte[] oldValue = entries.remove(key);
+                if (oldValue != null) {
+                    liveBytes -= getEntryBytes(key, oldValue);
+                }
+            }
+            for (Map.Entry<String, byte[]> entry : puts.entrySet()) {
+                byte[] oldValue = entries.put(entry.getKey(), entry.getValue());
+                if (oldValue != null) {
+                    liveBytes -= getEntryBytes(entry.getKey(), oldValue);
+                }
+                liveBytes += getEntryBytes(entry.getKey(), entry.getValue());
+            }
+        }
+
+        /**
+         * Returns the record of this transaction, with its length and its checksum for the format {@code logVersion}.
+         */
+        private byte[] encode(int logVersion) throws IOException {
+            ByteArrayOutputStream contents = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(contents);
+            out.writeInt(deletes.size() + puts.size());
+            for (String key : deletes) {
+                out.writeByte(OP_DELETE);
+                out.writeUTF(key);
+            }
+            for (Map.Entry<String, byte[]> entry : puts.entrySet()) {
+                out.writeByte(OP_PUT);
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue().length);
+                out.write(entry.getValue());
+            }
+            out.flush();
+            byte[] body = contents.toByteArray();
+
+            ByteBuffer record = ByteBuffer.allocate(2 * Integer.BYTES + body.length);
+            record.putInt(body.length).put(body).putInt(getChecksum(body, logVersion));
+            return record.array();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads the elements of a list in a data file into the model in two phases.
+ * Each element is first decoded on its own, in parallel on the common fork-join pool, which validates its fields
+ * and builds their value objects. The decoded elements are then linked into the model one at a time,
+ * on the calling thread and in the order of the list.
+ * Errors are reported as if each element had been decoded and linked in turn: the error reported is the one
+ * met first in the order of the list, and no element after it is linked.
+ */
+class ParallelDecoder {
+
+    /** Lists shorter than this are decoded on the calling thread, as they are not worth splitting up. */
+    static final int MIN_PARALLEL_SIZE = 512;
+
+    private ParallelDecoder() {}
+
+    /**
+     * Decodes each of {@code elements} with {@code decoder}, then passes each decoded element
+     * to {@code linker} in the order of {@code elements}.
+     * @throws IllegalValueException the first error met in the order of {@code elements}.
+     */
+    static <T, D> void decodeAndLink(List<T> elements, Decoder<T, D> decoder, Linker<D> linker)
+            throws IllegalValueException {
+        decodeAndLink(elements, decoder, linker, (index, error) -> {
+            throw error;
+        });
+    }
+
+    /**
+     * Decodes each of {@code elements} with {@code decoder}, then passes each decoded element
+     * to {@code linker} in the order of {@code elements}.
+     * Each element which cannot be decoded or linked is passed to {@code failureHandler} in the same order,
+     * and the elements after it are still linked unless {@code failureHandler} throws the error.
+     */
+    static <T, D> void decodeAndLink(List<T> elements, Decoder<T, D> decoder, Linker<D> linker,
+                                     FailureHandler failureHandler) throws IllegalValueException {
+        requireNonNull(elements);
+        requireNonNull(failureHandler);
+        if (elements.size() < MIN_PARALLEL_SIZE) {
+            for (int i = 0; i < elements.size(); i++) {
+                try {
+                    linker.link(decoder.decode(elements.get(i)));
+                } catch (IllegalValueException ive) {
+                    failureHandler.handle(i, ive);
+                }
+            }
+            return;
+        }
+
+        Object[] decoded = new Object[elements.size()];
+        IntStream.range(0, elements.size()).parallel().forEach(i -> {
+            try {
+                decoded[i] = decoder.decode(elements.get(i));
+            } catch (IllegalValueException | RuntimeException e) {
+                decoded[i] = new Failure(e);
+            }
+        });
+
+        for (int i = 0; i < decoded.length; i++) {
+            try {
+                if (decoded[i] instanceof Failure) {
+                    Failure failure = (Failure) decoded[i];
+                    failure.rethrow();
+                }
+                @SuppressWarnings("unchecked")
+                D decodedElement = (D) decoded[i];
+                linker.link(decodedElement);
+            } catch (IllegalValueException ive) {
+                failureHandler.handle(i, ive);
+            }
+        }
+    }
+
+    /**
+     * Decodes an element of a list without changing any shared state.
+     */
+    @FunctionalInterface
+    interface Decoder<T, D> {
+        D decode(T element) throws IllegalValueException;
+    }
+
+    /**
+     * Links a decoded element of a list into the model.
+     */
+    @FunctionalInterface
+    interface Linker<D> {
+        void link(D decoded) throws IllegalValueException;
+    }
+
+    /**
+     * Handles an element of a list which cannot be decoded or linked.
+     */
+    @FunctionalInterface
+    interface FailureHandler {
+        /**
+         * Handles the error met with the element at {@code index} of the list,
+         * which is skipped unless the error is thrown on.
+         */
+        void handle(int index, IllegalValueException error) throws IllegalValueException;
+    }
+
+    /**
+     * The error met in decoding an element, kept until the element is reached in the link phase.
+     */
+    private static class Failure {
+        private final Exception error;
+
+        private Failure(Exception error) {
+            this.error = error;
+        }
+
+        private void rethrow() throws IllegalValueException {
+            if (error instanceof IllegalValueException) {
+                throw (IllegalValueException) error;
+            }
+            throw (RuntimeException) error;
+        }
+    }
+}
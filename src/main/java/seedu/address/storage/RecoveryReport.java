@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The records of a data file which could not be read, and were skipped so that the rest of the file could be loaded.
+ */
+public class RecoveryReport {
+
+    public static final String MESSAGE_SKIPPED = "%d record(s) of %s could not be read and were left out, at %s.";
+    public static final String MESSAGE_QUARANTINED = " They were copied to %s.";
+    public static final String MESSAGE_NOT_QUARANTINED = " They could not be copied aside, "
+            + "and will be lost on the next save.";
+
+    /** The most locations listed in the summary. */
+    static final int MAX_LOCATIONS_SHOWN = 10;
+
+    private final Path filePath;
+    private final List<String> locations;
+    private final Path quarantineFilePath;
+
+    /**
+     * Constructs a {@code RecoveryReport} for the records at {@code locations} of the data file at {@code filePath},
+     * such as their byte offsets, which were copied to the file at {@code quarantineFilePath},
+     * or null if they could not be copied.
+     */
+    public RecoveryReport(Path filePath, List<String> locations, Path quarantineFilePath) {
+        requireNonNull(filePath);
+        requireNonNull(locations);
+        this.filePath = filePath;
+        this.locations = Collections.unmodifiableList(new ArrayList<>(locations));
+        this.quarantineFilePath = quarantineFilePath;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public int getSkippedCount() {
+        return locations.size();
+    }
+
+    /**
+     * Returns where the records which were skipped are in the data file, in the order they were met.
+     */
+    public List<String> getLocations() {
+        return locations;
+    }
+
+    public Optional<Path> getQuarantineFilePath() {
+        return Optional.ofNullable(quarantineFilePath);
+    }
+
+    /**
+     * Returns a summary of the skipped records for the user, listing up to {@code MAX_LOCATIONS_SHOWN} locations.
+     */
+    public String getSummary() {
+        String shownLocations = locations.stream().limit(MAX_LOCATIONS_SHOWN).collect(Collectors.joining(", "));
+        if (locations.size() > MAX_LOCATIONS_SHOWN) {
+            shownLocations += ", ...";
+        }
+        String summary = String.format(MESSAGE_SKIPPED, locations.size(), filePath, shownLocations);
+        return summary + (quarantineFilePath == null
+                ? MESSAGE_NOT_QUARANTINED
+                : String.format(MESSAGE_QUARANTINED, quarantineFilePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RecoveryReport // instanceof handles nulls
+                && filePath.equals(((RecoveryReport) other).filePath)
+                && locations.equals(((RecoveryReport) other).locations)
+                && getQuarantineFilePath().equals(((RecoveryReport) other).getQuarantineFilePath()));
+    }
+
+    @Override
+    public int hashCode() {
+        return filePath.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getSummary();
+    }
+}
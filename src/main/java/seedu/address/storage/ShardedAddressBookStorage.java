@@ -0,0 +1,599 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a directory of json files on the hard disk:
+ * a manifest, a clients file, and one file per project holding the project and its issues.
+ * Each save only writes the files whose contents changed since the last save, under new names,
+ * and then replaces the manifest atomically to point at them, so a save that is cut off leaves the
+ * previous version of the address book whole. The files listed by the previous version of the manifest
+ * are kept, so that it can be fallen back on if the manifest cannot be read.
+ * Which clients, projects and issues changed is tracked by the address book itself, so a save only converts
+ * those and rebuilds the files holding them, and the files of the other projects are kept without being compared.
+ * Reading loads the project files in parallel.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String MESSAGE_MISSING_FILE = "File %s listed in the manifest is missing.";
+
+    private static final String DIRECTORY_EXTENSION = ".shards";
+    private static final String CLIENTS_FILE_PREFIX = "clients-";
+    private static final String PROJECT_FILE_PREFIX = "project-";
+    private static final String OTHER_PROJECT_NAME = "other";
+    private static final String FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isSyncedOnSave;
+
+    // Files listed by the manifest, as last read or written, or null if they are not known.
+    private ShardState state;
+    // Contents of the files as last written, or null if they are not known
+    private Shards savedShards;
+    private final JsonAddressBookTracker tracker = new JsonAddressBookTracker();
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} with its manifest at {@code filePath}.
+     * The other files are kept in the same directory as the manifest.
+     * @param isSyncedOnSave whether each save waits for the files to reach the disk.
+     */
+    public ShardedAddressBookStorage(Path filePath, boolean isSyncedOnSave) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isSyncedOnSave = isSyncedOnSave;
+    }
+
+    /**
+     * Returns the path of the manifest of a sharded address book with the same name as the data file
+     * at {@code filePath}, kept in a directory next to it.
+     */
+    public static Path getShardedFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + DIRECTORY_EXTENSION).resolve(MANIFEST_FILE_NAME);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If the manifest is not in the correct format, the previous version of it is read instead.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the files are not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException {
+        requireNonNull(filePath);
+
+        return StorageUtil.readAddressBookOrPreviousVersion(filePath, this::readShards);
+    }
+
+    private Optional<ReadOnlyAddressBook> readShards(Path manifestFilePath) throws DataConversionException {
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(manifestFilePath, JsonShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        JsonClientShard clients = readFile(manifestFilePath, manifest.get().getClients(), JsonClientShard.class);
+        List<JsonProjectShard> projects = readProjectFiles(manifestFilePath, manifest.get().getProjects());
+        Shards shards = new Shards(manifest.get(), clients, projects);
+        try {
+            ReadOnlyAddressBook addressBook = shards.toJsonAddressBook().toModelType();
+            if (manifestFilePath.equals(this.filePath)) {
+                state = new ShardState(manifest.get(), shards, null);
+                savedShards = null;
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + manifestFilePath.getParent() + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the project files named {@code fileNames} next to the manifest at {@code manifestFilePath}
+     * in parallel, and returns them in the order of {@code fileNames}.
+     * @throws DataConversionException the first error met in the order of {@code fileNames}.
+     */
+    private static List<JsonProjectShard> readProjectFiles(Path manifestFilePath, List<String> fileNames)
+            throws DataConversionException {
+        Object[] results = new Object[fileNames.size()];
+        IntStream.range(0, fileNames.size()).parallel().forEach(i -> {
+            try {
+                results[i] = readFile(manifestFilePath, fileNames.get(i), JsonProjectShard.class);
+            } catch (DataConversionException dce) {
+                results[i] = dce;
+            }
+        });
+
+        List<JsonProjectShard> projects = new ArrayList<>();
+        for (Object result : results) {
+            if (result instanceof DataConversionException) {
+                throw (DataConversionException) result;
+            }
+            projects.add((JsonProjectShard) result);
+        }
+        return projects;
+    }
+
+    private static <T> T readFile(Path manifestFilePath, String fileName, Class<T> fileClass)
+            throws DataConversionException {
+        if (fileName == null || !isFileName(fileName)) {
+            throw new DataConversionException(new IllegalValueException(
+                    String.format(MESSAGE_MISSING_FILE, fileName)));
+        }
+        Optional<T> file = JsonUtil.readJsonFile(manifestFilePath.resolveSibling(fileName), fileClass);
+        if (!file.isPresent()) {
+            throw new DataConversionException(new IllegalValueException(
+                    String.format(MESSAGE_MISSING_FILE, fileName)));
+        }
+        return file.get();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        takeSnapshot(addressBook).save();
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Every file is written at any location other than the manifest of this storage.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        writeShards(new Shards(new JsonSerializableAddressBook(addressBook)), filePath, null, isSyncedOnSave);
+    }
+
+    /**
+     * Returns a snapshot which saves the address book as it is now.
+     * Only the clients, projects and issues changed since the last save are converted to their json form
+     * right away, and the files holding them are rebuilt when the snapshot is saved.
+     */
+    @Override
+    public AddressBookSnapshot takeSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        JsonAddressBookChanges changes = tracker.takeChanges(addressBook);
+        return () -> save(changes);
+    }
+
+    private synchronized void save(JsonAddressBookChanges changes) throws IOException {
+        // Issues as they were before the changes, to tell which project files they are taken out of
+        Map<Integer, JsonAdaptedIssue> previousIssues = new HashMap<>();
+        for (Integer issueId : changes.getIssues().keySet()) {
+            previousIssues.put(issueId, tracker.getIssue(issueId));
+        }
+        tracker.apply(changes);
+        try {
+            Shards shards = changes.isWhole() || savedShards == null
+                    ? new Shards(tracker.toJsonAddressBook())
+                    : savedShards.withChanges(changes, previousIssues);
+            state = writeShards(shards, filePath, state, isSyncedOnSave);
+            savedShards = shards;
+            tracker.markSaved(changes);
+        } catch (IOException ioe) {
+            // The files on the hard disk are unknown, so write every file on the next save.
+            state = null;
+            savedShards = null;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Writes the files of {@code shards} which are not already on the hard disk according to {@code previous},
+     * then the manifest at {@code manifestFilePath}, and then removes the files no longer needed.
+     * @param previous the files listed by the manifest at {@code manifestFilePath}, or null if they are not known.
+     * @return the files listed by the new manifest.
+     */
+    private static ShardState writeShards(Shards shards, Path manifestFilePath, ShardState previous,
+                                          boolean isSynced) throws IOException {
+        if (previous == null) {
+            previous = ShardState.readFromDisk(manifestFilePath);
+        }
+        int generation = previous.generation + 1;
+
+        String clientsFileName = previous.getFileName(shards.clients, shards.isRebuilt);
+        if (clientsFileName == null) {
+            clientsFileName = CLIENTS_FILE_PREFIX + generation + FILE_EXTENSION;
+            writeFile(shards.clients, manifestFilePath.resolveSibling(clientsFileName), isSynced);
+        }
+        List<String> projectFileNames = new ArrayList<>();
+        Set<String> namesUsed = new HashSet<>();
+        for (int i = 0; i < shards.projects.size(); i++) {
+            JsonProjectShard project = shards.projects.get(i);
+            String projectFileName = previous.getFileName(project, shards.isRebuilt);
+            if (projectFileName == null) {
+                String key = project.getProject() == null ? OTHER_PROJECT_NAME : shards.projectKeys.get(i);
+                projectFileName = getProjectFileName(key, i, generation, namesUsed);
+                writeFile(project, manifestFilePath.resolveSibling(projectFileName), isSynced);
+            }
+            projectFileNames.add(projectFileName);
+        }
+
+        JsonShardManifest manifest = shards.toManifest(generation, clientsFileName, projectFileNames);
+        JsonUtil.saveJsonFileAtomically(manifest, manifestFilePath, false, isSynced);
+
+        ShardState written = new ShardState(manifest, shards, previous.fileNamesInManifest);
+        removeUnusedFiles(manifestFilePath, previous, written);
+        return written;
+    }
+
+    private static void writeFile(Object file, Path filePath, boolean isSynced) throws IOException {
+        // Left over from a save that was cut off, so not listed by any manifest
+        Files.deleteIfExists(filePath);
+        JsonUtil.saveJsonFileAtomically(file, filePath, false, isSynced);
+    }
+
+    /**
+     * Removes the files which are listed neither by the manifest just written nor by its previous version.
+     */
+    private static void removeUnusedFiles(Path manifestFilePath, ShardState previous, ShardState written)
+            throws IOException {
+        Set<String> unusedFileNames = previous.fileNamesInBackup;
+        if (unusedFileNames == null) {
+            unusedFileNames = listFileNames(manifestFilePath);
+        }
+        for (String fileName : unusedFileNames) {
+            if (!written.fileNamesInManifest.contains(fileName) && !written.fileNamesInBackup.contains(fileName)) {
+                Files.deleteIfExists(manifestFilePath.resolveSibling(fileName));
+            }
+        }
+    }
+
+    private static Set<String> listFileNames(Path manifestFilePath) throws IOException {
+        Set<String> fileNames = new HashSet<>();
+        Path directory = manifestFilePath.toAbsolutePath().getParent();
+        if (!Files.isDirectory(directory)) {
+            return fileNames;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (isFileName(fileName)) {
+                    fileNames.add(fileName);
+                }
+            }
+        }
+        return fileNames;
+    }
+
+    /**
+     * Returns the name of a new file for the project file with key {@code key} at {@code index}
+     * in the manifest, which is not in {@code namesUsed}.
+     */
+    private static String getProjectFileName(String key, int index, int generation, Set<String> namesUsed) {
+        String name = key.matches("\\d+") ? key : OTHER_PROJECT_NAME;
+        if (!namesUsed.add(name)) {
+            name = name + "_" + index;
+            namesUsed.add(name);
+        }
+        return PROJECT_FILE_PREFIX + name + "-" + generation + FILE_EXTENSION;
+    }
+
+    /**
+     * Returns true if {@code fileName} is the name of a clients or project file.
+     */
+    private static boolean isFileName(String fileName) {
+        return (fileName.startsWith(CLIENTS_FILE_PREFIX) || fileName.startsWith(PROJECT_FILE_PREFIX))
+                && fileName.endsWith(FILE_EXTENSION) && getGeneration(fileName) >= 0
+                && !fileName.contains("/") && !fileName.contains("\\");
+    }
+
+    /**
+     * Returns the generation in the name of a clients or project file, or -1 if it has none.
+     */
+    private static int getGeneration(String fileName) {
+        int start = fileName.lastIndexOf('-') + 1;
+        int end = fileName.length() - FILE_EXTENSION.length();
+        if (start <= 0 || start >= end) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(fileName.substring(start, end));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * An address book split into the contents of its clients file and project files.
+     */
+    private static class Shards {
+        private final String schemaVersion;
+        private final JsonClientShard clients;
+        // Contents of each project file, in order, and the id of the project of its issues
+        private final List<JsonProjectShard> projects = new ArrayList<>();
+        private final List<String> projectKeys = new ArrayList<>();
+        private final String clientIdHighWaterMark;
+        private final String projectIdHighWaterMark;
+        private final String issueIdHighWaterMark;
+        // Whether every file was built anew, rather than only those changed since an earlier version
+        private final boolean isRebuilt;
+
+        /**
+         * Splits {@code addressBook} up, with each issue in the file of its project.
+         * Issues whose project is not in {@code addressBook} are put in files of their own.
+         */
+        Shards(JsonSerializableAddressBook addressBook) {
+            schemaVersion = addressBook.getSchemaVersion();
+            clients = new JsonClientShard(addressBook.getClients());
+            Map<String, List<JsonAdaptedIssue>> issuesByProject = new LinkedHashMap<>();
+            for (JsonAdaptedIssue issue : addressBook.getIssues()) {
+                issuesByProject.computeIfAbsent(issue.getProject(), unused -> new ArrayList<>()).add(issue);
+            }
+            for (JsonAdaptedProject project : addressBook.getProjects()) {
+                projects.add(new JsonProjectShard(project, issuesByProject.remove(project.getProjectId())));
+                projectKeys.add(project.getProjectId());
+            }
+            for (Map.Entry<String, List<JsonAdaptedIssue>> issues : issuesByProject.entrySet()) {
+                projects.add(new JsonProjectShard(null, issues.getValue()));
+                projectKeys.add(issues.getKey());
+            }
+            clientIdHighWaterMark = addressBook.getClientIdHighWaterMark();
+            projectIdHighWaterMark = addressBook.getProjectIdHighWaterMark();
+            issueIdHighWaterMark = addressBook.getIssueIdHighWaterMark();
+            isRebuilt = true;
+        }
+
+        private Shards(String schemaVersion, JsonClientShard clients, JsonAddressBookChanges changes) {
+            this.schemaVersion = schemaVersion;
+            this.clients = clients;
+            clientIdHighWaterMark = changes.getClientIdHighWaterMark();
+            projectIdHighWaterMark = changes.getProjectIdHighWaterMark();
+            issueIdHighWaterMark = changes.getIssueIdHighWaterMark();
+            isRebuilt = false;
+        }
+
+        Shards(JsonShardManifest manifest, JsonClientShard clients, List<JsonProjectShard> projects) {
+            schemaVersion = manifest.getSchemaVersion();
+            this.clients = clients;
+            this.projects.addAll(projects);
+            clientIdHighWaterMark = manifest.getClientIdHighWaterMark();
+            projectIdHighWaterMark = manifest.getProjectIdHighWaterMark();
+            issueIdHighWaterMark = manifest.getIssueIdHighWaterMark();
+            isRebuilt = true;
+        }
+
+        /**
+         * Returns these files with {@code changes} made to them, rebuilding only the clients file if a client changed,
+         * and the files of the projects which changed or which had issues changed.
+         * The other files are kept as they are, so they are known to be on the hard disk already.
+         * @param previousIssues the issues changed, as they were before the changes.
+         */
+        Shards withChanges(JsonAddressBookChanges changes, Map<Integer, JsonAdaptedIssue> previousIssues) {
+            JsonClientShard changedClients = clients;
+            if (!changes.getClients().isEmpty()) {
+                Map<Integer, JsonAdaptedClient> clientsById = new TreeMap<>();
+                for (JsonAdaptedClient client : clients.getClients()) {
+                    clientsById.put(Integer.parseInt(client.getClientId()), client);
+                }
+                putChanges(clientsById, changes.getClients());
+                changedClients = new JsonClientShard(new ArrayList<>(clientsById.values()));
+            }
+            Shards changed = new Shards(schemaVersion, changedClients, changes);
+
+            Set<String> changedKeys = new LinkedHashSet<>();
+            for (Integer projectId : changes.getProjects().keySet()) {
+                changedKeys.add(String.valueOf(projectId));
+            }
+            for (Map.Entry<Integer, JsonAdaptedIssue> issue : changes.getIssues().entrySet()) {
+                JsonAdaptedIssue previousIssue = previousIssues.get(issue.getKey());
+                if (previousIssue != null) {
+                    changedKeys.add(previousIssue.getProject());
+                }
+                if (issue.getValue() != null) {
+                    changedKeys.add(issue.getValue().getProject());
+                }
+            }
+            for (int i = 0; i < projects.size(); i++) {
+                String key = projectKeys.get(i);
+                JsonProjectShard project = projects.get(i);
+                changed.add(key, changedKeys.remove(key) ? withChanges(project, key, changes) : project);
+            }
+            for (String key : changedKeys) {
+                changed.add(key, withChanges(null, key, changes));
+            }
+            return changed;
+        }
+
+        /**
+         * Returns the project file {@code project} of the project with id {@code key} with {@code changes} made,
+         * or null if neither the project nor any of its issues are left.
+         */
+        private static JsonProjectShard withChanges(JsonProjectShard project, String key,
+                JsonAddressBookChanges changes) {
+            Integer projectId = Integer.valueOf(key);
+            JsonAdaptedProject changedProject = changes.getProjects().containsKey(projectId)
+                    ? changes.getProjects().get(projectId)
+                    : project == null ? null : project.getProject();
+            Map<Integer, JsonAdaptedIssue> issuesById = new TreeMap<>();
+            if (project != null) {
+                for (JsonAdaptedIssue issue : project.getIssues()) {
+                    issuesById.put(Integer.parseInt(issue.getIssueId()), issue);
+                }
+            }
+            for (Map.Entry<Integer, JsonAdaptedIssue> issue : changes.getIssues().entrySet()) {
+                if (issue.getValue() != null && key.equals(issue.getValue().getProject())) {
+                    issuesById.put(issue.getKey(), issue.getValue());
+                } else {
+                    issuesById.remove(issue.getKey());
+                }
+            }
+            if (changedProject == null && issuesById.isEmpty()) {
+                return null;
+            }
+            return new JsonProjectShard(changedProject, new ArrayList<>(issuesById.values()));
+        }
+
+        private void add(String key, JsonProjectShard project) {
+            if (project != null) {
+                projects.add(project);
+                projectKeys.add(key);
+            }
+        }
+
+        private static <T> void putChanges(Map<Integer, T> values, Map<Integer, T> changes) {
+            for (Map.Entry<Integer, T> change : changes.entrySet()) {
+                if (change.getValue() == null) {
+                    values.remove(change.getKey());
+                } else {
+                    values.put(change.getKey(), change.getValue());
+                }
+            }
+        }
+
+        JsonSerializableAddressBook toJsonAddressBook() {
+            List<JsonAdaptedProject> jsonProjects = new ArrayList<>();
+            List<JsonAdaptedIssue> jsonIssues = new ArrayList<>();
+            for (JsonProjectShard project : projects) {
+                if (project.getProject() != null) {
+                    jsonProjects.add(project.getProject());
+                }
+                jsonIssues.addAll(project.getIssues());
+            }
+            return new JsonSerializableAddressBook(schemaVersion, clients.getClients(), jsonProjects, jsonIssues,
+                    clientIdHighWaterMark, projectIdHighWaterMark, issueIdHighWaterMark);
+        }
+
+        JsonShardManifest toManifest(int generation, String clientsFileName, List<String> projectFileNames) {
+            return new JsonShardManifest(schemaVersion, String.valueOf(generation), clientsFileName,
+                    projectFileNames, clientIdHighWaterMark, projectIdHighWaterMark, issueIdHighWaterMark);
+        }
+    }
+
+    /**
+     * The files listed by a manifest, with the contents of each,
+     * and the files listed by the previous version of the manifest.
+     */
+    private static class ShardState {
+        private final int generation;
+        // Name of the file holding each of the contents listed by the manifest, by instance,
+        // and by contents once the contents of a file are first looked up by value
+        private final Map<Object, String> fileNames = new IdentityHashMap<>();
+        private Map<Object, String> fileNamesByContents;
+        private final Set<String> fileNamesInManifest = new HashSet<>();
+        // Null if not known
+        private final Set<String> fileNamesInBackup;
+
+        /**
+         * Creates a {@code ShardState} for the files listed by {@code manifest}, which hold {@code shards}.
+         */
+        ShardState(JsonShardManifest manifest, Shards shards, Set<String> fileNamesInBackup) {
+            generation = parseGeneration(manifest.getGeneration());
+            fileNames.put(shards.clients, manifest.getClients());
+            for (int i = 0; i < shards.projects.size(); i++) {
+                fileNames.put(shards.projects.get(i), manifest.getProjects().get(i));
+            }
+            fileNamesInManifest.add(manifest.getClients());
+            fileNamesInManifest.addAll(manifest.getProjects());
+            this.fileNamesInBackup = fileNamesInBackup;
+        }
+
+        private ShardState(int generation, Set<String> fileNamesInManifest) {
+            this.generation = generation;
+            this.fileNamesInManifest.addAll(fileNamesInManifest);
+            this.fileNamesInBackup = null;
+        }
+
+        /**
+         * Returns the name of the file listed by the manifest which holds {@code contents},
+         * or null if there is none. Files are matched by their contents only if {@code isMatchedByContents},
+         * and by instance otherwise, which does not need the contents of every file to be compared.
+         */
+        String getFileName(Object contents, boolean isMatchedByContents) {
+            String fileName = fileNames.get(contents);
+            if (fileName != null || !isMatchedByContents) {
+                return fileName;
+            }
+            if (fileNamesByContents == null) {
+                fileNamesByContents = new HashMap<>(fileNames);
+            }
+            return fileNamesByContents.get(contents);
+        }
+
+        /**
+         * Returns the state of the files next to the manifest at {@code manifestFilePath}, without their contents,
+         * so that none of them are taken to hold the contents of a new file.
+         * The generation is past that of every file, so that new files do not replace any of them.
+         */
+        static ShardState readFromDisk(Path manifestFilePath) throws IOException {
+            int generation = 0;
+            for (String fileName : listFileNames(manifestFilePath)) {
+                generation = Math.max(generation, getGeneration(fileName));
+            }
+            Set<String> fileNamesInManifest = new HashSet<>();
+            try {
+                Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(manifestFilePath,
+                        JsonShardManifest.class);
+                if (manifest.isPresent()) {
+                    generation = Math.max(generation, parseGeneration(manifest.get().getGeneration()));
+                    fileNamesInManifest.add(manifest.get().getClients());
+                    fileNamesInManifest.addAll(manifest.get().getProjects());
+                }
+            } catch (DataConversionException dce) {
+                logger.warning("Manifest " + manifestFilePath + " could not be read, so the files it lists"
+                        + " will not be kept");
+            }
+            return new ShardState(generation, fileNamesInManifest);
+        }
+
+        private static int parseGeneration(String generation) {
+            try {
+                return Math.max(0, Integer.parseInt(generation));
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+    }
+}
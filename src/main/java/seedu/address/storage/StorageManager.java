@@ -13,12 +13,18 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Saving an AddressBook to the data file is skipped if it has not changed since it was last saved there.
+ * Each save to the data file is followed by compacting the storage on a background thread,
+ * as described in {@link BackgroundCompactor}.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final BackgroundCompactor compactor;
+    // Last address book successfully saved to the data file, which may be written from a background thread
+    private volatile SavedVersion lastSavedVersion;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -26,6 +32,7 @@ public class StorageManager implements Storage {
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.compactor = new BackgroundCompactor(addressBookStorage);
     }
 
     // ================ UserPrefs methods ==============================
@@ -66,7 +73,14 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        SavedVersion version = new SavedVersion(addressBook);
+        if (version.equals(lastSavedVersion)) {
+            logger.fine("Data unchanged since last save, skipping write");
+            return;
+        }
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        lastSavedVersion = version;
+        compactor.compactLater();
     }
 
     @Override
@@ -75,4 +89,61 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public AddressBookSnapshot takeSnapshot(ReadOnlyAddressBook addressBook) {
+        SavedVersion version = new SavedVersion(addressBook);
+        if (version.equals(lastSavedVersion)) {
+            logger.fine("Data unchanged since last save, skipping write");
+            return () -> { };
+        }
+        AddressBookSnapshot snapshot = addressBookStorage.takeSnapshot(addressBook);
+        return () -> {
+            snapshot.save();
+            lastSavedVersion = version;
+        };
+    }
+
+    @Override
+    public void compactAddressBook() throws IOException {
+        addressBookStorage.compactAddressBook();
+    }
+
+    /**
+     * Waits until the compactions started by saves so far have finished.
+     */
+    void flushCompaction() {
+        compactor.flush();
+    }
+
+    @Override
+    public Optional<RecoveryReport> getRecoveryReport() {
+        return addressBookStorage.getRecoveryReport();
+    }
+
+    /**
+     * Identifies the state of an address book by the address book and its modification count.
+     */
+    private static class SavedVersion {
+        private final ReadOnlyAddressBook addressBook;
+        private final long modificationCount;
+
+        SavedVersion(ReadOnlyAddressBook addressBook) {
+            this.addressBook = addressBook;
+            this.modificationCount = addressBook.getModificationCount();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof SavedVersion // instanceof handles nulls
+                    && addressBook == ((SavedVersion) other).addressBook
+                    && modificationCount == ((SavedVersion) other).modificationCount);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(modificationCount);
+        }
+    }
+
 }
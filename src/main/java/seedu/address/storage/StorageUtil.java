@@ -1,23 +1,46 @@
 package seedu.address.storage;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Deadline;
 import seedu.address.model.Name;
 import seedu.address.model.Pin;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.ClientEmail;
 import seedu.address.model.client.ClientId;
 import seedu.address.model.client.ClientMobile;
-import seedu.address.model.interfaces.HasIntegerIdentifier;
 import seedu.address.model.issue.Issue;
 import seedu.address.model.issue.IssueId;
 import seedu.address.model.issue.Status;
 import seedu.address.model.issue.Title;
 import seedu.address.model.issue.Urgency;
-import seedu.address.model.list.NotFoundException;
 import seedu.address.model.project.Project;
 import seedu.address.model.project.ProjectId;
 import seedu.address.model.project.Repository;
@@ -33,6 +56,16 @@ public class StorageUtil {
     public static final String MESSAGE_DUPLICATE_PROJECT = "Projects list contains duplicate project(s).";
     public static final String MESSAGE_DUPLICATE_ISSUE = "Issues list contains duplicate issue(s).";
     public static final String MESSAGE_INVALID_CLIENT = "Clients list contains invalid client(s).";
+    public static final String MESSAGE_DUPLICATE_CLIENT = "Clients list contains duplicate client(s).";
+    public static final String MESSAGE_UNSUPPORTED_SCHEMA_VERSION =
+            "Data file is of schema version %s, which is not supported by this version of the app.";
+    public static final String MESSAGE_INVALID_ID_HIGH_WATER_MARK =
+            "Id high-water mark must be a non-negative integer.";
+
+    public static final String QUARANTINE_FILE_EXTENSION = ".quarantine";
+    public static final String QUARANTINE_INDEX_FILE_EXTENSION = ".index";
+
+    private static final Logger logger = LogsCenter.getLogger(StorageUtil.class);
 
     /**
      * Parses project name string from storage.
@@ -119,6 +152,22 @@ public class StorageUtil {
         return client.toModelType();
     }
 
+    /**
+     * Parses a reference to a client in the clients list of {@code addressBook} from storage.
+     * An empty reference stands for no client.
+     */
+    public static Client readClientRefFromStorage(String clientId, AddressBook addressBook)
+            throws IllegalValueException {
+        if (clientId.isEmpty()) {
+            return Client.EmptyClient.EMPTY_CLIENT;
+        }
+        int modelClientId = readClientIdFromStorage(clientId).getIdInt();
+        if (!addressBook.hasClientId(modelClientId)) {
+            throw new IllegalValueException(MESSAGE_INVALID_CLIENT);
+        }
+        return addressBook.getClientById(modelClientId);
+    }
+
     /**
      * Parses pin string from storage.
      */
@@ -220,11 +269,14 @@ public class StorageUtil {
                     Project.class.getSimpleName()));
         }
         try {
-            return HasIntegerIdentifier.getElementById(
-                    addressBook.getProjectList(), Integer.parseInt(project));
-        } catch (NotFoundException | NumberFormatException e) {
-            throw new IllegalValueException(ProjectId.MESSAGE_CONSTRAINTS);
+            int projectId = Integer.parseInt(project);
+            if (addressBook.hasProjectId(projectId)) {
+                return addressBook.getProjectById(projectId);
+            }
+        } catch (NumberFormatException e) {
+            // Falls through to the exception below
         }
+        throw new IllegalValueException(ProjectId.MESSAGE_CONSTRAINTS);
     }
 
     /**
@@ -302,51 +354,346 @@ public class StorageUtil {
     }
 
     /**
-     * Parses issue list from storage.
+     * Parses an id high-water mark string from storage.
+     * Data files saved before high-water marks were recorded do not have one, in which case 0 is returned
+     * and the high-water mark is derived from the ids in the file.
+     */
+    public static int readIdHighWaterMarkFromStorage(String highWaterMark) throws IllegalValueException {
+        if (highWaterMark == null || highWaterMark.isEmpty()) {
+            return 0;
+        }
+        try {
+            int modelHighWaterMark = Integer.parseInt(highWaterMark);
+            if (modelHighWaterMark < 0) {
+                throw new IllegalValueException(MESSAGE_INVALID_ID_HIGH_WATER_MARK);
+            }
+            return modelHighWaterMark;
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_ID_HIGH_WATER_MARK);
+        }
+    }
+
+    /**
+     * Parses the schema version string of a data file from storage.
+     * Data files saved before schema versions were recorded do not have one, and are of version 1.
+     */
+    public static int readSchemaVersionFromStorage(String schemaVersion) throws IllegalValueException {
+        if (schemaVersion == null || schemaVersion.isEmpty()) {
+            return 1;
+        }
+        try {
+            int modelSchemaVersion = Integer.parseInt(schemaVersion);
+            if (modelSchemaVersion >= 1 && modelSchemaVersion <= JsonSerializableAddressBook.SCHEMA_VERSION) {
+                return modelSchemaVersion;
+            }
+        } catch (NumberFormatException e) {
+            // Falls through to the exception below
+        }
+        throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_SCHEMA_VERSION, schemaVersion));
+    }
+
+    /**
+     * Parses client list from storage, decoding the clients in parallel.
+     */
+    public static void readClientListFromStorage(List<JsonAdaptedClient> clients,
+                                                 AddressBook addressBook) throws IllegalValueException {
+        ParallelDecoder.decodeAndLink(clients, JsonAdaptedClient::toModelType,
+            client -> addClientFromStorage(client, addressBook));
+    }
+
+    /**
+     * Similar to {@link #readClientListFromStorage(List, AddressBook)}, except that each client which cannot be read
+     * is passed to {@code failureHandler} with its index in {@code clients}, and skipped unless the error is thrown on.
+     */
+    static void readClientListFromStorage(List<JsonAdaptedClient> clients, AddressBook addressBook,
+            ParallelDecoder.FailureHandler failureHandler) throws IllegalValueException {
+        ParallelDecoder.decodeAndLink(clients, JsonAdaptedClient::toModelType,
+            client -> addClientFromStorage(client, addressBook), failureHandler);
+    }
+
+    private static void addClientFromStorage(Client client, AddressBook addressBook) throws IllegalValueException {
+        if (client.isEmpty()) {
+            throw new IllegalValueException(MESSAGE_INVALID_CLIENT);
+        }
+        if (addressBook.hasClientId(client.getId())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
+        }
+        addressBook.addClient(client);
+    }
+
+    /**
+     * Returns the clients of {@code addressBook} to store, each once, in the order of its client list.
+     * Clients which are not in the client list but are the client of one of its projects are stored too.
+     */
+    public static Collection<Client> getClientsToStore(ReadOnlyAddressBook addressBook) {
+        Map<Integer, Client> clients = new LinkedHashMap<>();
+        for (Client client : addressBook.getClientList()) {
+            if (!client.isEmpty()) {
+                clients.putIfAbsent(client.getId(), client);
+            }
+        }
+        for (Project project : addressBook.getProjectList()) {
+            if (!project.getClient().isEmpty()) {
+                clients.putIfAbsent(project.getClient().getId(), project.getClient());
+            }
+        }
+        return clients.values();
+    }
+
+    /**
+     * Parses issue list from storage, decoding the issues in parallel before linking them to their projects
+     * in the order of {@code issues}.
      */
     public static void readIssueListFromStorage(List<JsonAdaptedIssue> issues,
                                                 AddressBook addressBook) throws IllegalValueException {
-        for (JsonAdaptedIssue jsonAdaptedIssue : issues) {
-            Issue issue = jsonAdaptedIssue.toModelType(addressBook);
-            if (addressBook.hasIssue(issue) || addressBook.hasIssueId(issue.getId())) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ISSUE);
-            }
-            addressBook.addIssue(issue);
+        ParallelDecoder.decodeAndLink(issues, JsonAdaptedIssue::decode,
+            issue -> addIssueFromStorage(issue.toModelType(addressBook), addressBook));
+    }
+
+    /**
+     * Similar to {@link #readIssueListFromStorage(List, AddressBook)}, except that each issue which cannot be read
+     * is passed to {@code failureHandler} with its index in {@code issues}, and skipped unless the error is thrown on.
+     */
+    static void readIssueListFromStorage(List<JsonAdaptedIssue> issues, AddressBook addressBook,
+            ParallelDecoder.FailureHandler failureHandler) throws IllegalValueException {
+        ParallelDecoder.decodeAndLink(issues, JsonAdaptedIssue::decode,
+            issue -> addIssueFromStorage(issue.toModelType(addressBook), addressBook), failureHandler);
+    }
+
+    private static void addIssueFromStorage(Issue issue, AddressBook addressBook) throws IllegalValueException {
+        if (addressBook.hasIssue(issue) || addressBook.hasIssueId(issue.getId())) {
+            // The issue was added to its project when it was made, and must not be left there
+            issue.getProject().removeIssue(issue);
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ISSUE);
         }
+        addressBook.addIssue(issue);
     }
 
     /**
-     * Parses project list from storage.
+     * Parses project list from storage, decoding the projects in parallel before linking them to their clients
+     * in the order of {@code projects}.
      */
     public static void readProjectListFromStorage(List<JsonAdaptedProject> projects,
                                                 AddressBook addressBook) throws IllegalValueException {
-        for (JsonAdaptedProject jsonAdaptedProject : projects) {
-            Project project = jsonAdaptedProject.toModelType();
-            if (addressBook.hasProject(project) || addressBook.hasProjectId(project.getId())) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PROJECT);
-            }
-            addressBook.addProject(project);
-            Client projectClient = project.getClient();
-            if (projectClient.isEmpty()) {
-                continue;
-            }
+        ParallelDecoder.decodeAndLink(projects, JsonAdaptedProject::decode,
+            project -> addProjectFromStorage(project.toModelType(addressBook), addressBook));
+    }
 
-            if (!addressBook.hasClient(projectClient) && !addressBook.hasClientId(projectClient.getId())) {
-                projectClient.addProjects(project);
-                addressBook.addClient(projectClient);
-                continue;
-            }
+    /**
+     * Similar to {@link #readProjectListFromStorage(List, AddressBook)}, except that each project which cannot be
+     * read is passed to {@code failureHandler} with its index in {@code projects}, and skipped unless the error is
+     * thrown on.
+     */
+    static void readProjectListFromStorage(List<JsonAdaptedProject> projects, AddressBook addressBook,
+            ParallelDecoder.FailureHandler failureHandler) throws IllegalValueException {
+        ParallelDecoder.decodeAndLink(projects, JsonAdaptedProject::decode,
+            project -> addProjectFromStorage(project.toModelType(addressBook), addressBook), failureHandler);
+    }
+
+    /**
+     * Adds {@code project} to {@code addressBook}, along with its client if the client is not in it yet.
+     * The address book is left unchanged if the project cannot be added.
+     */
+    private static void addProjectFromStorage(Project project, AddressBook addressBook)
+            throws IllegalValueException {
+        if (addressBook.hasProject(project) || addressBook.hasProjectId(project.getId())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PROJECT);
+        }
+        Client projectClient = project.getClient();
+        if (projectClient.isEmpty()) {
+            addressBook.addProject(project);
+            return;
+        }
 
-            if (addressBook.hasClientId(projectClient.getId())) {
-                Client existingClient = addressBook.getClientById(projectClient.getId());
+        if (addressBook.hasClientId(projectClient.getId())) {
+            Client existingClient = addressBook.getClientById(projectClient.getId());
+            if (existingClient != projectClient) {
+                // Embedded in the project, so it must match the client with its id
                 if (!existingClient.hasSameDetails(projectClient)) {
                     throw new IllegalValueException(MESSAGE_INVALID_CLIENT);
                 }
                 project.setClient(existingClient);
-                existingClient.addProjects(project);
-            } else {
-                throw new IllegalValueException(MESSAGE_INVALID_CLIENT);
             }
+            addressBook.addProject(project);
+            existingClient.addProjects(project);
+            return;
+        }
+
+        if (addressBook.hasClient(projectClient)) {
+            throw new IllegalValueException(MESSAGE_INVALID_CLIENT);
+        }
+        addressBook.addProject(project);
+        projectClient.addProjects(project);
+        addressBook.addClient(projectClient);
+    }
+
+    /**
+     * Reads the address book in the data file at {@code filePath} with {@code reader}.
+     * If the data file is not in the correct format, the previous version of it kept by
+     * {@link FileUtil#writeToFileAtomically} is read instead.
+     * @throws DataConversionException if neither the data file nor its previous version is in the correct format.
+     */
+    public static Optional<ReadOnlyAddressBook> readAddressBookOrPreviousVersion(Path filePath,
+            DataFileReader reader) throws DataConversionException {
+        try {
+            return reader.read(filePath);
+        } catch (DataConversionException dce) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                throw dce;
+            }
+            logger.warning("Data file " + filePath + " could not be read, reading previous version "
+                    + backupFilePath + " instead");
+            try {
+                return reader.read(backupFilePath);
+            } catch (DataConversionException backupDce) {
+                throw dce;
+            }
+        }
+    }
+
+    /**
+     * Returns the path of the file which keeps the records of the data file at {@code filePath}
+     * that could not be read.
+     */
+    public static Path getQuarantineFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + QUARANTINE_FILE_EXTENSION);
+    }
+
+    /**
+     * Appends {@code records} of the data file at {@code filePath}, which could not be read, to its quarantine file,
+     * one json object per line, so that they are not lost when the data file is next saved without them.
+     * A record already in the quarantine file is not appended again, as it is read again every time the data file
+     * is read until the data file is next saved. The records in the quarantine file are told apart by their offsets
+     * and the checksums and lengths of their lines, which are kept in a small index file next to it,
+     * so that the quarantine file itself is never read.
+     * Returns the report of the records, which says whether they could be copied.
+     */
+    static RecoveryReport quarantineRecords(Path filePath, List<JsonQuarantinedRecord> records) {
+        List<String> locations = new ArrayList<>();
+        for (JsonQuarantinedRecord record : records) {
+            locations.add(record.getLocation());
+        }
+        Path quarantineFilePath = getQuarantineFilePath(filePath);
+        try {
+            FileUtil.createParentDirsOfFile(quarantineFilePath);
+            Path indexFilePath = getQuarantineIndexFilePath(quarantineFilePath);
+            Set<QuarantineKey> quarantinedKeys = readQuarantineIndex(quarantineFilePath, indexFilePath);
+            ByteArrayOutputStream newKeys = new ByteArrayOutputStream();
+            DataOutputStream keysOut = new DataOutputStream(newKeys);
+            try (OutputStream out = Files.newOutputStream(quarantineFilePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND)) {
+                for (JsonQuarantinedRecord record : records) {
+                    byte[] line = JsonUtil.toCompactJsonBytes(record);
+                    QuarantineKey key = new QuarantineKey(record.getOffset(), line);
+                    if (quarantinedKeys.add(key)) {
+                        out.write(line);
+                        out.write('\n');
+                        key.writeTo(keysOut);
+                    }
+                }
+            }
+            Files.write(indexFilePath, newKeys.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.warning("Could not copy unreadable records of " + filePath + " to " + quarantineFilePath
+                    + ": " + e);
+            quarantineFilePath = null;
+        }
+        RecoveryReport report = new RecoveryReport(filePath, locations, quarantineFilePath);
+        logger.warning(report.getSummary());
+        return report;
+    }
+
+    /**
+     * Returns the path of the index of the records in the quarantine file at {@code quarantineFilePath}.
+     */
+    static Path getQuarantineIndexFilePath(Path quarantineFilePath) {
+        return quarantineFilePath.resolveSibling(quarantineFilePath.getFileName() + QUARANTINE_INDEX_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the keys of the records in the quarantine file at {@code quarantineFilePath}, as kept in its index.
+     * The index is dropped if the quarantine file is gone, such as after the user cleared it.
+     */
+    private static Set<QuarantineKey> readQuarantineIndex(Path quarantineFilePath, Path indexFilePath)
+            throws IOException {
+        Set<QuarantineKey> keys = new HashSet<>();
+        if (!Files.exists(quarantineFilePath)) {
+            Files.deleteIfExists(indexFilePath);
+            return keys;
+        }
+        if (!Files.exists(indexFilePath)) {
+            return keys;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFilePath)))) {
+            while (true) {
+                keys.add(QuarantineKey.readFrom(in));
+            }
+        } catch (EOFException e) {
+            // The end of the index, or of a key cut off while it was being appended
+        }
+        return keys;
+    }
+
+    /**
+     * Tells apart a record in a quarantine file by its offset in the data file and the checksum and length
+     * of its line, which holds its location, error and contents.
+     */
+    private static class QuarantineKey {
+        private final long offset;
+        private final int checksum;
+        private final int length;
+
+        QuarantineKey(Long offset, byte[] line) {
+            this(offset == null ? -1 : offset, getChecksum(line), line.length);
         }
+
+        private QuarantineKey(long offset, int checksum, int length) {
+            this.offset = offset;
+            this.checksum = checksum;
+            this.length = length;
+        }
+
+        static QuarantineKey readFrom(DataInputStream in) throws IOException {
+            return new QuarantineKey(in.readLong(), in.readInt(), in.readInt());
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeLong(offset);
+            out.writeInt(checksum);
+            out.writeInt(length);
+        }
+
+        private static int getChecksum(byte[] line) {
+            CRC32C checksum = new CRC32C();
+            checksum.update(line, 0, line.length);
+            return (int) checksum.getValue();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof QuarantineKey
+                    && offset == ((QuarantineKey) other).offset
+                    && checksum == ((QuarantineKey) other).checksum
+                    && length == ((QuarantineKey) other).length);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(offset, checksum, length);
+        }
+    }
+
+    /**
+     * Reads an address book from a data file.
+     */
+    @FunctionalInterface
+    public interface DataFileReader {
+        /**
+         * Returns the address book in the data file at {@code filePath}, or {@code Optional.empty()}
+         * if the file is not found.
+         */
+        Optional<ReadOnlyAddressBook> read(Path filePath) throws DataConversionException;
     }
 }
@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@link AddressBookStorage} on a background thread.
+ * A snapshot of the address book is taken on the calling thread, so later changes to the address book
+ * do not affect what is written. Snapshots taken while an earlier one is still waiting to be written
+ * replace it, so that a burst of saves results in a single write of the latest snapshot.
+ * The storage is compacted on the background thread once no snapshot is waiting to be written.
+ */
+public class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Latest snapshot not yet picked up by the writer, or null if there is none
+    private final AtomicReference<AddressBookSnapshot> pendingSnapshot = new AtomicReference<>();
+    private volatile Consumer<IOException> failureHandler = ioe -> { };
+
+    /**
+     * Creates a {@code WriteBehindSaver} writing to the given {@code storage}.
+     */
+    public WriteBehindSaver(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler to be called, on the writer thread, with the error of every write that fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Takes a snapshot of {@code addressBook} and schedules it to be written, returning without waiting.
+     */
+    public void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        AddressBookSnapshot snapshot = storage.takeSnapshot(addressBook);
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            writer.execute(this::writePendingSnapshot);
+        }
+    }
+
+    /**
+     * Waits until every snapshot scheduled so far has been written.
+     */
+    public void flush() {
+        try {
+            writer.submit(this::writePendingSnapshot).get();
+        } catch (InterruptedException ie) {
+            logger.warning("Interrupted while waiting for data to be saved");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(ee.getCause()));
+        }
+    }
+
+    /**
+     * Writes every snapshot scheduled so far, then stops the writer thread.
+     * No more snapshots can be saved afterwards.
+     */
+    public void close() {
+        flush();
+        writer.shutdown();
+    }
+
+    private void writePendingSnapshot() {
+        AddressBookSnapshot snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            snapshot.save();
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data " + StringUtil.getDetails(ioe));
+            failureHandler.accept(ioe);
+            return;
+        }
+        writer.execute(this::compactIfIdle);
+    }
+
+    private void compactIfIdle() {
+        if (pendingSnapshot.get() != null) {
+            // The next snapshot is written first, and compacts the storage after it
+            return;
+        }
+        try {
+            storage.compactAddressBook();
+        } catch (IOException ioe) {
+            logger.warning("Failed to compact data " + StringUtil.getDetails(ioe));
+        }
+    }
+}
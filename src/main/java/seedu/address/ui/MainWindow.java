@@ -222,6 +222,13 @@ public class MainWindow extends UiPart<Stage> {
         return issueListPanel;
     }
 
+    /**
+     * Shows {@code feedbackToUser} in the result display, in place of the result of the last command.
+     */
+    public void showFeedbackToUser(String feedbackToUser) {
+        resultDisplay.setFeedbackToUser(feedbackToUser);
+    }
+
     /**
      * Executes the command and returns the result.
      *
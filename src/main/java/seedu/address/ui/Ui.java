@@ -15,4 +15,15 @@ public interface Ui {
     void showIssues();
 
     void showClients();
+
+    /**
+     * Shows the user that saving data failed with the given message.
+     * May be called from any thread.
+     */
+    void showSaveFailure(String message);
+
+    /**
+     * Shows the user {@code message} in the result display.
+     */
+    void showMessage(String message);
 }
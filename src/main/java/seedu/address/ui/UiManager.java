@@ -100,4 +100,14 @@ public class UiManager implements Ui {
         mainWindow.swapClientListDisplay();
     }
 
+    @Override
+    public void showSaveFailure(String message) {
+        Platform.runLater(() -> mainWindow.showFeedbackToUser(message));
+    }
+
+    @Override
+    public void showMessage(String message) {
+        mainWindow.showFeedbackToUser(message);
+    }
+
 }
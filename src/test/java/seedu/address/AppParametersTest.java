@@ -37,6 +37,34 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validArchivePath_success() {
+        parametersStub.namedParameters.put("archive", "archive.bin");
+        expected.setArchivePath(Paths.get("archive.bin"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidArchivePath_success() {
+        parametersStub.namedParameters.put("archive", "a\0");
+        expected.setArchivePath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_validImportPath_success() {
+        parametersStub.namedParameters.put("import", "addressbook.bin");
+        expected.setImportPath(Paths.get("addressbook.bin"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidImportPath_success() {
+        parametersStub.namedParameters.put("import", "a\0");
+        expected.setImportPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -123,6 +123,34 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsAnyWordIgnoreCase --------------------------------------
+
+    @Test
+    public void containsAnyWordIgnoreCase_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, ()
+            -> StringUtil.containsAnyWordIgnoreCase(null, new String[] {"abc"}));
+    }
+
+    @Test
+    public void containsAnyWordIgnoreCase_validInputs_correctResult() {
+        String[] words = new String[] {"bbb", "ddd"};
+
+        // Empty sentence or no words
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("", words)); // Boundary case
+        assertFalse(StringUtil.containsAnyWordIgnoreCase(" \t\n ", words));
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("aaa bbb", new String[0]));
+
+        // Matches a partial word only
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("aaa bb ccc", words));
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("aaa bbbb dddd", words));
+
+        // Matches any word in the sentence, different upper/lower case letters
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("bBb ccc", words)); // First word (boundary case)
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("aaa ccc DDD", words)); // Last word (boundary case)
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("  aaa \t bBb\nccc  ", words)); // Extra whitespace
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("ddd", words)); // Only one word in sentence (boundary case)
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
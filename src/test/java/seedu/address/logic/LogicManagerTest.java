@@ -1,16 +1,19 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.client.ListClientCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -57,6 +60,22 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand + " " + listFlag, ListClientCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_modifyingCommandOnArchive_throwsCommandException() {
+        logic = new LogicManager(model);
+        logic.setUi(new StubUiManager());
+        assertCommandException(ClearCommand.COMMAND_WORD, LogicManager.MESSAGE_READ_ONLY);
+    }
+
+    @Test
+    public void execute_viewingCommandOnArchive_successAndNotSaved() throws Exception {
+        logic = new LogicManager(model);
+        logic.setUi(new StubUiManager());
+        String listCommand = ListClientCommand.COMMAND_WORD + " " + ListClientCommand.COMMAND_FLAG;
+        assertCommandSuccess(listCommand, ListClientCommand.MESSAGE_SUCCESS, model);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
     @Test
     public void getFilteredClientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredClientList().remove(0));
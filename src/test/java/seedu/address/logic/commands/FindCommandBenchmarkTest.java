@@ -0,0 +1,121 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.client.FindClientCommand;
+import seedu.address.logic.commands.issue.FindIssueCommand;
+import seedu.address.logic.commands.project.FindProjectCommand;
+import seedu.address.logic.parser.predicates.ClientContainsKeywordsPredicate;
+import seedu.address.logic.parser.predicates.IssueContainsKeywordsPredicate;
+import seedu.address.logic.parser.predicates.ProjectContainsKeywordsPredicate;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Deadline;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Name;
+import seedu.address.model.Pin;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientEmail;
+import seedu.address.model.client.ClientId;
+import seedu.address.model.client.ClientMobile;
+import seedu.address.model.issue.Issue;
+import seedu.address.model.issue.IssueId;
+import seedu.address.model.issue.Status;
+import seedu.address.model.issue.Title;
+import seedu.address.model.issue.Urgency;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectId;
+import seedu.address.model.project.Repository;
+import seedu.address.ui.StubUiManager;
+import seedu.address.ui.Ui;
+
+/**
+ * Measures the time taken by the find commands over an address book of 100k clients, projects and issues.
+ * The find commands look the ids matching their keywords up in the indexes of the address book, but the filtered
+ * list still checks every entity against those ids, so each find takes time linear in the number of entities.
+ * This shows that the check is cheap enough to keep a find over 100k entities quick.
+ * Run with {@code gradlew benchmark}; it is left out of {@code gradlew test}.
+ */
+@Tag("benchmark")
+public class FindCommandBenchmarkTest {
+
+    private static final int ENTITY_COUNT = 100_000;
+    // Every this many entities has the keyword searched for
+    private static final int MATCH_INTERVAL = 10;
+    private static final int ROUNDS = 5;
+    private static final long MAX_FIND_MILLIS = 100;
+
+    private final Ui stubUi = new StubUiManager();
+
+    @Test
+    public void execute_findOverHundredThousandEntities_quick() throws Exception {
+        Model model = new ModelManager(makeAddressBook(), new UserPrefs());
+        List<String> keyword = List.of("crash");
+        List<String> none = new ArrayList<>();
+
+        long issueMillis = measure("issues", () -> new FindIssueCommand(new IssueContainsKeywordsPredicate(
+                keyword, none, none, none, none, none)), model, model::getFilteredIssueList);
+        long projectMillis = measure("projects", () -> new FindProjectCommand(new ProjectContainsKeywordsPredicate(
+                keyword, none, none, none, none)), model, model::getFilteredProjectList);
+        long clientMillis = measure("clients", () -> new FindClientCommand(new ClientContainsKeywordsPredicate(
+                keyword, none, none, none)), model, model::getFilteredClientList);
+
+        for (long millis : new long[] {issueMillis, projectMillis, clientMillis}) {
+            assertTrue(millis < MAX_FIND_MILLIS, "A find over " + ENTITY_COUNT + " entities took " + millis + " ms");
+        }
+    }
+
+    /**
+     * Returns the least time taken, in milliseconds, to run the find command made by {@code findCommand}
+     * on {@code model} over a few rounds, after warming it up.
+     */
+    private long measure(String entityName, Supplier<Command> findCommand, Model model,
+            Supplier<List<?>> filteredList) throws Exception {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < 2 * ROUNDS; round++) {
+            model.updateFilteredIssueList(Model.PREDICATE_SHOW_ALL_ISSUES);
+            model.updateFilteredProjectList(Model.PREDICATE_SHOW_ALL_PROJECTS);
+            model.updateFilteredClientList(Model.PREDICATE_SHOW_ALL_CLIENTS);
+            long startNanos = System.nanoTime();
+            findCommand.get().execute(model, stubUi);
+            long nanos = System.nanoTime() - startNanos;
+            // The first half of the rounds warm up the JIT compiler
+            if (round >= ROUNDS) {
+                best = Math.min(best, nanos);
+            }
+            assertEquals(ENTITY_COUNT / MATCH_INTERVAL, filteredList.get().size());
+        }
+        System.out.printf("Finding %,d of %,d %s: %,d ms%n", ENTITY_COUNT / MATCH_INTERVAL, ENTITY_COUNT,
+                entityName, best / 1_000_000);
+        return best / 1_000_000;
+    }
+
+    private static AddressBook makeAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int id = 1; id <= ENTITY_COUNT; id++) {
+            String name = id % MATCH_INTERVAL == 0 ? "Entity " + id + " crash" : "Entity " + id;
+            Client client = new Client(new Name(name), ClientMobile.EmptyClientMobile.EMPTY_MOBILE,
+                    ClientEmail.EmptyEmail.EMPTY_EMAIL, new ArrayList<>(), new ClientId(id), new Pin(false));
+            Project project = new Project(new Name(name), Repository.EmptyRepository.EMPTY_REPOSITORY,
+                    Deadline.EmptyDeadline.EMPTY_DEADLINE, client, new ArrayList<>(), new ProjectId(id),
+                    new Pin(false));
+            client.addProjects(project);
+            Issue issue = new Issue(new Title(name), Deadline.EmptyDeadline.EMPTY_DEADLINE,
+                    id % 2 == 0 ? Urgency.HIGH : Urgency.LOW, new Status(id % 3 == 0), project, new IssueId(id),
+                    new Pin(false));
+            addressBook.addClient(client);
+            addressBook.addProject(project);
+            addressBook.addIssue(issue);
+        }
+        return addressBook;
+    }
+}
@@ -71,6 +71,21 @@ public class AddClientCommandTest {
 
     }
 
+    @Test
+    public void execute_validArgs_projectCountedAsChanged() throws Exception {
+        Model model = new ModelManager();
+        Project stubProject = new Project(new Name("Stub"));
+        model.addProject(stubProject);
+        long modificationCount = model.getAddressBook().getModificationCount();
+        ClientWithoutModel clientWithoutModel = new ClientWithoutModel(new Name(VALID_NAME_AMY),
+                new ClientMobile(VALID_MOBILE_AMY), new ClientEmail(VALID_EMAIL_AMY), new ArrayList<>(),
+                new Pin(false));
+
+        new AddClientCommand(clientWithoutModel, stubProject.getProjectId()).execute(model, stubUi);
+        assertTrue(model.getAddressBook().getProjectIdsChangedSince(modificationCount)
+                .contains(stubProject.getId()));
+    }
+
     @Test
     public void execute_nonExistentProjectId_throwsCommandException() {
         Model actualModel = new ModelManager();
@@ -0,0 +1,107 @@
+package seedu.address.logic.commands.issue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Deadline;
+import seedu.address.model.DeadlineRange;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Name;
+import seedu.address.model.Pin;
+import seedu.address.model.issue.Issue;
+import seedu.address.model.issue.IssueId;
+import seedu.address.model.issue.Status;
+import seedu.address.model.issue.Title;
+import seedu.address.model.issue.Urgency;
+import seedu.address.model.project.Project;
+import seedu.address.ui.StubUiManager;
+import seedu.address.ui.Ui;
+
+public class DueIssueCommandTest {
+
+    private Ui stubUi = new StubUiManager();
+    private Model model;
+    private Issue pastIncompleteIssue;
+    private Issue pastCompletedIssue;
+    private Issue octoberIssue;
+    private Issue noDeadlineIssue;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        Project stubProject = new Project(new Name("Stub"));
+        pastIncompleteIssue = new Issue(new Title("Past incomplete"), new Deadline("2000-01-01"),
+                Urgency.LOW, new Status(false), stubProject, new IssueId(1), new Pin(false));
+        pastCompletedIssue = new Issue(new Title("Past completed"), new Deadline("2000-01-02"),
+                Urgency.LOW, new Status(true), stubProject, new IssueId(2), new Pin(false));
+        octoberIssue = new Issue(new Title("October"), new Deadline("2022-10-15"),
+                Urgency.LOW, new Status(false), stubProject, new IssueId(3), new Pin(false));
+        noDeadlineIssue = new Issue(new Title("No deadline"), Deadline.EmptyDeadline.EMPTY_DEADLINE,
+                Urgency.LOW, new Status(false), stubProject, new IssueId(4), new Pin(false));
+        model.addIssue(pastIncompleteIssue);
+        model.addIssue(pastCompletedIssue);
+        model.addIssue(octoberIssue);
+        model.addIssue(noDeadlineIssue);
+    }
+
+    @Test
+    public void execute_between_listsIssuesDueWithinRange() {
+        DueIssueCommand command = new DueIssueCommand(
+                DeadlineRange.between(LocalDate.parse("2000-01-01"), LocalDate.parse("2000-01-02")));
+        CommandResult result = command.execute(model, stubUi);
+
+        assertEquals(String.format(Messages.MESSAGE_ISSUES_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+        assertTrue(model.getFilteredIssueList().contains(pastIncompleteIssue));
+        assertTrue(model.getFilteredIssueList().contains(pastCompletedIssue));
+    }
+
+    @Test
+    public void execute_overdue_listsIncompleteIssuesWithDeadlineOnly() {
+        new DueIssueCommand(DeadlineRange.overdue()).execute(model, stubUi);
+
+        assertTrue(model.getFilteredIssueList().contains(pastIncompleteIssue));
+        assertTrue(model.getFilteredIssueList().contains(octoberIssue)
+                == LocalDate.parse("2022-10-15").isBefore(LocalDate.now()));
+        assertFalse(model.getFilteredIssueList().contains(pastCompletedIssue));
+        assertFalse(model.getFilteredIssueList().contains(noDeadlineIssue));
+    }
+
+    @Test
+    public void execute_deadlineEdited_listsIssueByNewDeadline() {
+        octoberIssue.setDeadline(new Deadline("2000-01-01"));
+        model.setIssue(octoberIssue, octoberIssue);
+
+        new DueIssueCommand(DeadlineRange.between(LocalDate.parse("2000-01-01"), LocalDate.parse("2000-01-01")))
+                .execute(model, stubUi);
+        assertEquals(2, model.getFilteredIssueList().size());
+        assertTrue(model.getFilteredIssueList().contains(octoberIssue));
+    }
+
+    @Test
+    public void equals() {
+        DueIssueCommand overdueCommand = new DueIssueCommand(DeadlineRange.overdue());
+        DueIssueCommand nextWeekCommand = new DueIssueCommand(DeadlineRange.nextDays(7));
+
+        // same object -> returns true
+        assertTrue(overdueCommand.equals(overdueCommand));
+
+        // same values -> returns true
+        assertTrue(nextWeekCommand.equals(new DueIssueCommand(DeadlineRange.nextDays(7))));
+
+        // different range -> returns false
+        assertFalse(overdueCommand.equals(nextWeekCommand));
+        assertFalse(nextWeekCommand.equals(new DueIssueCommand(DeadlineRange.nextDays(8))));
+
+        // null -> returns false
+        assertFalse(overdueCommand.equals(null));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands.issue;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.commons.core.Messages.MESSAGE_ISSUE_NOT_FOUND;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.issue.MarkIssueCommand.MESSAGE_SUCCESS;
@@ -66,6 +67,20 @@ public class MarkIssueCommandTest {
                 expectedCommandResult, expectedModel, stubUi);
     }
 
+    @Test
+    public void execute_validInt_statusCountsUpdated() throws Exception {
+        Model model = new ModelManager();
+        Project stubProject = new Project(new Name("Stub"));
+        model.addIssue(new Issue(new Title("Test Issue"), new Deadline("2020-02-02"),
+                Urgency.LOW, new Status(false), stubProject,
+                new IssueId(1), new Pin(false)));
+
+        new MarkIssueCommand(new Status(true), new IssueId(1)).execute(model, stubUi);
+
+        assertEquals(0, model.countIssuesByStatus(false));
+        assertEquals(1, model.countIssuesByStatus(true));
+    }
+
     @Test
     public void execute_noSuchIssue_failure() {
         Model actualModel = new ModelManager();
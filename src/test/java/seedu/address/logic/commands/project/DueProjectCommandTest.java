@@ -0,0 +1,113 @@
+package seedu.address.logic.commands.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Deadline;
+import seedu.address.model.DeadlineRange;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Name;
+import seedu.address.model.Pin;
+import seedu.address.model.client.Client;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectId;
+import seedu.address.model.project.Repository;
+import seedu.address.ui.StubUiManager;
+import seedu.address.ui.Ui;
+
+public class DueProjectCommandTest {
+
+    private Ui stubUi = new StubUiManager();
+    private Model model;
+    private Project firstPastProject;
+    private Project secondPastProject;
+    private Project farFutureProject;
+    private Project noDeadlineProject;
+
+    private static Project createProject(String name, Deadline deadline, int id) {
+        return new Project(new Name(name), Repository.EmptyRepository.EMPTY_REPOSITORY, deadline,
+                Client.EmptyClient.EMPTY_CLIENT, new ArrayList<>(), new ProjectId(id), new Pin(false));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        firstPastProject = createProject("First past", new Deadline("2000-01-01"), 1);
+        secondPastProject = createProject("Second past", new Deadline("2000-01-02"), 2);
+        farFutureProject = createProject("Far future", new Deadline("9999-12-31"), 3);
+        noDeadlineProject = createProject("No deadline", Deadline.EmptyDeadline.EMPTY_DEADLINE, 4);
+        model.addProject(firstPastProject);
+        model.addProject(secondPastProject);
+        model.addProject(farFutureProject);
+        model.addProject(noDeadlineProject);
+    }
+
+    @Test
+    public void execute_between_listsProjectsDueWithinRange() {
+        DueProjectCommand command = new DueProjectCommand(
+                DeadlineRange.between(LocalDate.parse("2000-01-02"), LocalDate.parse("2000-12-31")));
+        CommandResult result = command.execute(model, stubUi);
+
+        assertEquals(String.format(Messages.MESSAGE_PROJECTS_LISTED_OVERVIEW, 1), result.getFeedbackToUser());
+        assertTrue(model.getFilteredProjectList().contains(secondPastProject));
+    }
+
+    @Test
+    public void execute_overdue_listsProjectsPastDeadlineOnly() {
+        new DueProjectCommand(DeadlineRange.overdue()).execute(model, stubUi);
+
+        assertEquals(2, model.getFilteredProjectList().size());
+        assertTrue(model.getFilteredProjectList().contains(firstPastProject));
+        assertTrue(model.getFilteredProjectList().contains(secondPastProject));
+        assertFalse(model.getFilteredProjectList().contains(farFutureProject));
+        assertFalse(model.getFilteredProjectList().contains(noDeadlineProject));
+    }
+
+    @Test
+    public void execute_nextDays_listsNoProjectsWithoutUpcomingDeadline() {
+        CommandResult result = new DueProjectCommand(DeadlineRange.nextDays(7)).execute(model, stubUi);
+
+        assertEquals(String.format(Messages.MESSAGE_PROJECTS_LISTED_OVERVIEW, 0), result.getFeedbackToUser());
+        assertTrue(model.getFilteredProjectList().isEmpty());
+    }
+
+    @Test
+    public void execute_deadlineEdited_listsProjectByNewDeadline() {
+        farFutureProject.setDeadline(new Deadline("2000-01-01"));
+        model.setProject(farFutureProject, farFutureProject);
+
+        new DueProjectCommand(DeadlineRange.between(LocalDate.parse("2000-01-01"), LocalDate.parse("2000-01-01")))
+                .execute(model, stubUi);
+        assertEquals(2, model.getFilteredProjectList().size());
+        assertTrue(model.getFilteredProjectList().contains(farFutureProject));
+    }
+
+    @Test
+    public void equals() {
+        DueProjectCommand overdueCommand = new DueProjectCommand(DeadlineRange.overdue());
+        DueProjectCommand nextWeekCommand = new DueProjectCommand(DeadlineRange.nextDays(7));
+
+        // same object -> returns true
+        assertTrue(overdueCommand.equals(overdueCommand));
+
+        // same values -> returns true
+        assertTrue(nextWeekCommand.equals(new DueProjectCommand(DeadlineRange.nextDays(7))));
+
+        // different range -> returns false
+        assertFalse(overdueCommand.equals(nextWeekCommand));
+        assertFalse(nextWeekCommand.equals(new DueProjectCommand(DeadlineRange.nextDays(8))));
+
+        // null -> returns false
+        assertFalse(overdueCommand.equals(null));
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.issue.DueIssueCommand;
+import seedu.address.model.DeadlineRange;
+
+public class DueIssueCommandParserTest {
+
+    private IssueCommandParser parser = new IssueCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsDueIssueCommand() {
+        assertParseSuccess(parser, DueIssueCommand.COMMAND_FLAG, " 2022-10-01  2022-10-31 ",
+                new DueIssueCommand(DeadlineRange.between(LocalDate.parse("2022-10-01"),
+                        LocalDate.parse("2022-10-31"))));
+        assertParseSuccess(parser, DueIssueCommand.COMMAND_FLAG, " 7",
+                new DueIssueCommand(DeadlineRange.nextDays(7)));
+        assertParseSuccess(parser, DueIssueCommand.COMMAND_FLAG, " Overdue",
+                new DueIssueCommand(DeadlineRange.overdue()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueIssueCommand.MESSAGE_USAGE);
+
+        // no arguments
+        assertParseFailure(parser, DueIssueCommand.COMMAND_FLAG, "", expectedMessage);
+
+        // negative days
+        assertParseFailure(parser, DueIssueCommand.COMMAND_FLAG, " -1", expectedMessage);
+
+        // one date only
+        assertParseFailure(parser, DueIssueCommand.COMMAND_FLAG, " 2022-10-01", expectedMessage);
+
+        // start date after end date
+        assertParseFailure(parser, DueIssueCommand.COMMAND_FLAG, " 2022-10-31 2022-10-01", expectedMessage);
+
+        // invalid date
+        assertParseFailure(parser, DueIssueCommand.COMMAND_FLAG, " 2022-13-01 2022-10-01", expectedMessage);
+    }
+}
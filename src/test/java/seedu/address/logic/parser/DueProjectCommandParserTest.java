@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.project.DueProjectCommand;
+import seedu.address.model.DeadlineRange;
+
+public class DueProjectCommandParserTest {
+
+    private ProjectCommandParser parser = new ProjectCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsDueProjectCommand() {
+        assertParseSuccess(parser, DueProjectCommand.COMMAND_FLAG, " 2022-10-01  2022-10-31 ",
+                new DueProjectCommand(DeadlineRange.between(LocalDate.parse("2022-10-01"),
+                        LocalDate.parse("2022-10-31"))));
+        assertParseSuccess(parser, DueProjectCommand.COMMAND_FLAG, " 7",
+                new DueProjectCommand(DeadlineRange.nextDays(7)));
+        assertParseSuccess(parser, DueProjectCommand.COMMAND_FLAG, " Overdue",
+                new DueProjectCommand(DeadlineRange.overdue()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueProjectCommand.MESSAGE_USAGE);
+
+        // no arguments
+        assertParseFailure(parser, DueProjectCommand.COMMAND_FLAG, "", expectedMessage);
+
+        // negative days
+        assertParseFailure(parser, DueProjectCommand.COMMAND_FLAG, " -1", expectedMessage);
+
+        // one date only
+        assertParseFailure(parser, DueProjectCommand.COMMAND_FLAG, " 2022-10-01", expectedMessage);
+
+        // start date after end date
+        assertParseFailure(parser, DueProjectCommand.COMMAND_FLAG, " 2022-10-31 2022-10-01", expectedMessage);
+
+        // invalid date
+        assertParseFailure(parser, DueProjectCommand.COMMAND_FLAG, " 2022-13-01 2022-10-01", expectedMessage);
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.logic.parser.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Measures the memory allocated by matching issue titles against find keywords with {@link KeywordMatcher},
+ * against splitting every title and keyword with streams, as the find predicates did before.
+ * Run with {@code gradlew benchmark}; it is left out of {@code gradlew test}.
+ */
+@Tag("benchmark")
+public class KeywordMatcherBenchmarkTest {
+
+    private static final int TITLE_COUNT = 100_000;
+    private static final int ROUNDS = 5;
+    private static final List<String> KEYWORDS = List.of("login", "crash on", "PAYMENT");
+
+    @Test
+    public void matches_manyTitles_allocatesFarLessThanSplitting() {
+        List<String> titles = new ArrayList<>();
+        for (int i = 0; i < TITLE_COUNT; i++) {
+            titles.add("Fix issue number " + i + (i % 7 == 0 ? " in login page" : " in settings page"));
+        }
+        KeywordMatcher matcher = new KeywordMatcher(KEYWORDS);
+        Predicate<String> splitting = title -> KEYWORDS.stream().anyMatch(keyword ->
+                Arrays.stream(keyword.trim().split("\\s+"))
+                        .anyMatch(word -> StringUtil.containsWordIgnoreCase(title, word)));
+
+        assertEquals(countMatches(titles, splitting), countMatches(titles, matcher::matches));
+        Measurement splittingMeasurement = measure(titles, splitting);
+        Measurement matcherMeasurement = measure(titles, matcher::matches);
+
+        System.out.printf("Matching %d titles against %s, best of %d rounds:%n", TITLE_COUNT, KEYWORDS, ROUNDS);
+        System.out.printf("  split/stream matching: %,d bytes allocated, %d ms%n",
+                splittingMeasurement.allocatedBytes, splittingMeasurement.millis);
+        System.out.printf("  KeywordMatcher:        %,d bytes allocated, %d ms%n",
+                matcherMeasurement.allocatedBytes, matcherMeasurement.millis);
+        assertTrue(matcherMeasurement.allocatedBytes * 100 < splittingMeasurement.allocatedBytes);
+    }
+
+    private static int countMatches(List<String> titles, Predicate<String> predicate) {
+        int matches = 0;
+        for (String title : titles) {
+            if (predicate.test(title)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the least memory allocated and time taken by this thread to match every title, over a few rounds,
+     * so that rounds run before the JIT compiler has caught up are not counted.
+     */
+    private static Measurement measure(List<String> titles, Predicate<String> predicate) {
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        Measurement best = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            long startBytes = threadBean.getThreadAllocatedBytes(threadId);
+            long startNanos = System.nanoTime();
+            countMatches(titles, predicate);
+            long millis = (System.nanoTime() - startNanos) / 1_000_000;
+            long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+            if (best == null || allocatedBytes < best.allocatedBytes) {
+                best = new Measurement(allocatedBytes, millis);
+            }
+        }
+        return best;
+    }
+
+    private static class Measurement {
+        private final long allocatedBytes;
+        private final long millis;
+
+        Measurement(long allocatedBytes, long millis) {
+            this.allocatedBytes = allocatedBytes;
+            this.millis = millis;
+        }
+    }
+}
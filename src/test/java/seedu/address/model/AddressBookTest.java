@@ -5,6 +5,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -119,6 +120,41 @@ public class AddressBookTest {
         public int generateProjectId() {
             return 0;
         }
+
+        @Override
+        public int getClientIdHighWaterMark() {
+            return 0;
+        }
+
+        @Override
+        public int getIssueIdHighWaterMark() {
+            return 0;
+        }
+
+        @Override
+        public int getProjectIdHighWaterMark() {
+            return 0;
+        }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
+
+        @Override
+        public Set<Integer> getClientIdsChangedSince(long modificationCount) {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Set<Integer> getProjectIdsChangedSince(long modificationCount) {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Set<Integer> getIssueIdsChangedSince(long modificationCount) {
+            return Collections.emptySet();
+        }
     }
 
 }
@@ -0,0 +1,134 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.client.Client;
+import seedu.address.model.issue.Issue;
+import seedu.address.model.issue.Urgency;
+import seedu.address.model.project.Project;
+import seedu.address.model.util.SampleDataUtil;
+
+public class ArchiveModelManagerTest {
+
+    private final AddressBook addressBook = getArchive();
+    private final ArchiveModelManager archiveModelManager = new ArchiveModelManager(addressBook, new UserPrefs());
+    private final ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+
+    @Test
+    public void constructor_archive_listsShownInOrderWithoutCopying() {
+        assertEquals(modelManager.getFilteredIssueList(), archiveModelManager.getFilteredIssueList());
+        assertEquals(modelManager.getFilteredProjectList(), archiveModelManager.getFilteredProjectList());
+        assertEquals(modelManager.getFilteredClientList(), archiveModelManager.getFilteredClientList());
+        assertTrue(archiveModelManager.getAddressBook() == addressBook);
+    }
+
+    @Test
+    public void sortAndUpdateFilteredList_sameEntitiesShownAsModelManager() {
+        archiveModelManager.sortIssuesByUrgency(1);
+        modelManager.sortIssuesByUrgency(1);
+        assertEquals(modelManager.getFilteredIssueList(), archiveModelManager.getFilteredIssueList());
+
+        archiveModelManager.updateFilteredIssueList(issue -> !issue.getStatus().getStatus());
+        modelManager.updateFilteredIssueList(issue -> !issue.getStatus().getStatus());
+        assertEquals(modelManager.getFilteredIssueList(), archiveModelManager.getFilteredIssueList());
+
+        archiveModelManager.sortProjectsByName(1);
+        modelManager.sortProjectsByName(1);
+        assertEquals(modelManager.getFilteredProjectList(), archiveModelManager.getFilteredProjectList());
+
+        archiveModelManager.sortClientsById(0);
+        modelManager.sortClientsById(0);
+        archiveModelManager.updateFilteredClientList(client -> client.getId() % 2 == 0);
+        modelManager.updateFilteredClientList(client -> client.getId() % 2 == 0);
+        assertEquals(modelManager.getFilteredClientList(), archiveModelManager.getFilteredClientList());
+
+        archiveModelManager.updateFilteredIssueList(Model.PREDICATE_SHOW_ALL_ISSUES);
+        modelManager.updateFilteredIssueList(Model.PREDICATE_SHOW_ALL_ISSUES);
+        assertEquals(modelManager.getFilteredIssueList(), archiveModelManager.getFilteredIssueList());
+    }
+
+    @Test
+    public void updateFilteredList_listenerNotified_shownEntitiesReplaced() {
+        ObservableList<Issue> issues = archiveModelManager.getFilteredIssueList();
+        List<Issue> shownBefore = new ArrayList<>(issues);
+        List<List<Issue>> removed = new ArrayList<>();
+        List<List<Issue>> added = new ArrayList<>();
+        issues.addListener((ListChangeListener<Issue>) change -> {
+            while (change.next()) {
+                removed.add(new ArrayList<>(change.getRemoved()));
+                added.add(new ArrayList<>(change.getAddedSubList()));
+            }
+        });
+
+        archiveModelManager.updateFilteredIssueList(issue -> issue.getStatus().getStatus());
+        assertEquals(List.of(shownBefore), removed);
+        assertEquals(List.of(new ArrayList<>(issues)), added);
+    }
+
+    @Test
+    public void lookups_sameIdsAsIndexesOfAddressBook() {
+        List<String> keywords = List.of("UI", "bug  Fix", "nothing");
+        assertEquals(addressBook.getIssueIdsByKeywords(Issue.KEYWORD_FIELD_TITLE, keywords),
+                archiveModelManager.getIssueIdsByKeywords(Issue.KEYWORD_FIELD_TITLE, keywords));
+        assertEquals(addressBook.getProjectIdsByKeywords(Project.KEYWORD_FIELD_NAME, keywords),
+                archiveModelManager.getProjectIdsByKeywords(Project.KEYWORD_FIELD_NAME, keywords));
+        List<String> emails = List.of("alexyeoh@example.com");
+        assertEquals(addressBook.getClientIdsByKeywords(Client.KEYWORD_FIELD_EMAIL, emails),
+                archiveModelManager.getClientIdsByKeywords(Client.KEYWORD_FIELD_EMAIL, emails));
+
+        LocalDate start = LocalDate.of(2023, 1, 1);
+        LocalDate end = LocalDate.of(2023, 12, 31);
+        assertEquals(addressBook.getIssueIdsByDeadline(start, end),
+                archiveModelManager.getIssueIdsByDeadline(start, end));
+        assertEquals(addressBook.getProjectIdsByDeadline(null, end),
+                archiveModelManager.getProjectIdsByDeadline(null, end));
+
+        for (Urgency urgency : Urgency.values()) {
+            assertEquals(addressBook.getIssueIdsByUrgency(List.of(urgency)),
+                    archiveModelManager.getIssueIdsByUrgency(List.of(urgency)));
+            assertEquals(addressBook.countIssuesByUrgency(urgency), archiveModelManager.countIssuesByUrgency(urgency));
+        }
+        assertEquals(addressBook.getIssueIdsByStatus(List.of(true)),
+                archiveModelManager.getIssueIdsByStatus(List.of(true)));
+        assertEquals(addressBook.countIssuesByStatus(false), archiveModelManager.countIssuesByStatus(false));
+
+        Issue issue = addressBook.getIssueList().get(0);
+        assertTrue(archiveModelManager.hasIssueId(issue.getId()));
+        assertEquals(issue, archiveModelManager.getIssueById(issue.getId()));
+        assertFalse(archiveModelManager.hasProjectId(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void changes_throwUnsupportedOperationException() {
+        Project project = addressBook.getProjectList().get(0);
+        Issue issue = addressBook.getIssueList().get(0);
+        assertThrows(UnsupportedOperationException.class, () -> archiveModelManager.addProject(project));
+        assertThrows(UnsupportedOperationException.class, () -> archiveModelManager.deleteIssue(issue));
+        assertThrows(UnsupportedOperationException.class, () -> archiveModelManager.setIssue(issue, issue));
+        assertThrows(UnsupportedOperationException.class, archiveModelManager::generateIssueId);
+        assertThrows(UnsupportedOperationException.class, () -> archiveModelManager.setAddressBook(
+                new AddressBook()));
+        assertEquals(new ArrayList<>(modelManager.getFilteredIssueList()),
+                new ArrayList<>(archiveModelManager.getFilteredIssueList()));
+    }
+
+    /**
+     * Returns the sample address book in the order archives are read in.
+     */
+    private static AddressBook getArchive() {
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        addressBook.sortAllLists();
+        return addressBook;
+    }
+}
@@ -8,11 +8,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.DefaultView;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.parser.predicates.IssueContainsKeywordsPredicate;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.ClientEmail;
 import seedu.address.model.client.ClientId;
@@ -186,6 +188,31 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasProject(stubProject2));
     }
 
+    @Test
+    public void updateFilteredIssueList_findByTitleUrgencyAndStatus_followsEditedIssues() {
+        Project project = new Project(new Name("stub"));
+        Issue urgentBug = new Issue(new Title("Fix login bug"), Deadline.EmptyDeadline.EMPTY_DEADLINE, Urgency.HIGH,
+                new Status(false), project, new IssueId(1), new Pin(false));
+        Issue minorBug = new Issue(new Title("Fix typo bug"), Deadline.EmptyDeadline.EMPTY_DEADLINE, Urgency.LOW,
+                new Status(false), project, new IssueId(2), new Pin(false));
+        Issue urgentFeature = new Issue(new Title("Add login page"), Deadline.EmptyDeadline.EMPTY_DEADLINE,
+                Urgency.HIGH, new Status(false), project, new IssueId(3), new Pin(false));
+        modelManager.addIssue(urgentBug);
+        modelManager.addIssue(minorBug);
+        modelManager.addIssue(urgentFeature);
+
+        IssueContainsKeywordsPredicate predicate = new IssueContainsKeywordsPredicate(List.of("bug"),
+                List.of("Incomplete"), List.of("HIGH"), List.of(), List.of(), List.of());
+        modelManager.updateFilteredIssueList(predicate.withKeywordIndex(modelManager));
+        assertEquals(List.of(urgentBug), modelManager.getFilteredIssueList());
+
+        minorBug.setUrgency(Urgency.HIGH);
+        modelManager.setIssue(minorBug, minorBug);
+        urgentBug.setStatus(new Status(true));
+        modelManager.setIssue(urgentBug, urgentBug);
+        assertEquals(List.of(minorBug), modelManager.getFilteredIssueList());
+    }
+
     @Test
     public void setIssue_validIssue_success() {
         Issue stubIssue1 = new Issue(new Title("stub1"), new Project(new Name("stub1")));
@@ -265,4 +292,41 @@ public class ModelManagerTest {
         assertEquals(first, 1);
     }
 
+    @Test
+    public void sortClientsById_descending_sortsViewOnly() {
+        Client first = new Client(new Name("first"), ClientMobile.EmptyClientMobile.EMPTY_MOBILE,
+                ClientEmail.EmptyEmail.EMPTY_EMAIL, new ArrayList<>(), new ClientId(1), new Pin(false));
+        Client second = new Client(new Name("second"), ClientMobile.EmptyClientMobile.EMPTY_MOBILE,
+                ClientEmail.EmptyEmail.EMPTY_EMAIL, new ArrayList<>(), new ClientId(2), new Pin(false));
+        modelManager.addClient(first);
+        modelManager.addClient(second);
+
+        modelManager.sortClientsById(1);
+        assertEquals(second, modelManager.getFilteredClientList().get(0));
+        assertEquals(first, modelManager.getAddressBook().getClientList().get(0));
+
+        modelManager.sortClientsById(0);
+        assertEquals(first, modelManager.getFilteredClientList().get(0));
+    }
+
+    @Test
+    public void sortClientsByCurrentCategory_pinToggled_pinnedClientFirst() {
+        Client first = new Client(new Name("first"), ClientMobile.EmptyClientMobile.EMPTY_MOBILE,
+                ClientEmail.EmptyEmail.EMPTY_EMAIL, new ArrayList<>(), new ClientId(1), new Pin(false));
+        Client second = new Client(new Name("second"), ClientMobile.EmptyClientMobile.EMPTY_MOBILE,
+                ClientEmail.EmptyEmail.EMPTY_EMAIL, new ArrayList<>(), new ClientId(2), new Pin(false));
+        modelManager.addClient(first);
+        modelManager.addClient(second);
+        modelManager.sortClientsByCurrentCategory();
+        assertEquals(first, modelManager.getFilteredClientList().get(0));
+
+        second.togglePin();
+        modelManager.sortClientsByCurrentCategory();
+        assertEquals(second, modelManager.getFilteredClientList().get(0));
+
+        second.togglePin();
+        modelManager.sortClientsByCurrentCategory();
+        assertEquals(first, modelManager.getFilteredClientList().get(0));
+    }
+
 }
@@ -0,0 +1,283 @@
+package seedu.address.model.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.Deadline;
+import seedu.address.model.Name;
+import seedu.address.model.Pin;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientEmail;
+import seedu.address.model.client.ClientId;
+import seedu.address.model.client.ClientMobile;
+import seedu.address.model.issue.Issue;
+import seedu.address.model.issue.IssueId;
+import seedu.address.model.issue.Status;
+import seedu.address.model.issue.Title;
+import seedu.address.model.issue.Urgency;
+import seedu.address.model.project.Project;
+
+public class UniqueEntityListTest {
+
+    private final UniqueEntityList<Client> uniqueClientList = new UniqueEntityList<>();
+
+    private static Client createClient(String name, int id) {
+        return new Client(new Name(name), ClientMobile.EmptyClientMobile.EMPTY_MOBILE,
+                ClientEmail.EmptyEmail.EMPTY_EMAIL, new ArrayList<>(), new ClientId(id), new Pin(false));
+    }
+
+    @Test
+    public void containsId_emptyList_returnsFalse() {
+        assertFalse(uniqueClientList.containsId(1));
+    }
+
+    @Test
+    public void getElementById_clientAdded_returnsClient() {
+        Client alice = createClient("Alice", 1);
+        uniqueClientList.add(alice);
+        assertTrue(uniqueClientList.containsId(1));
+        assertEquals(alice, uniqueClientList.getElementById(1));
+    }
+
+    @Test
+    public void getElementById_clientRemoved_throwsNotFoundException() {
+        Client alice = createClient("Alice", 1);
+        uniqueClientList.add(alice);
+        uniqueClientList.remove(alice);
+        assertFalse(uniqueClientList.containsId(1));
+        assertThrows(NotFoundException.class, () -> uniqueClientList.getElementById(1));
+    }
+
+    @Test
+    public void getElementById_clientReplaced_returnsEditedClient() {
+        Client alice = createClient("Alice", 1);
+        Client bob = createClient("Bob", 2);
+        uniqueClientList.add(alice);
+        uniqueClientList.setItem(alice, bob);
+        assertFalse(uniqueClientList.containsId(1));
+        assertEquals(bob, uniqueClientList.getElementById(2));
+    }
+
+    @Test
+    public void getElementById_listReplaced_returnsClientsInNewList() {
+        uniqueClientList.add(createClient("Alice", 1));
+        Client bob = createClient("Bob", 2);
+        uniqueClientList.setList(Arrays.asList(bob));
+        assertFalse(uniqueClientList.containsId(1));
+        assertEquals(bob, uniqueClientList.getElementById(2));
+    }
+
+    @Test
+    public void containsByName_clientWithSameNameAdded_returnsTrue() {
+        uniqueClientList.add(createClient("Alice", 1));
+        assertTrue(uniqueClientList.containsByName(createClient("Alice", 2)));
+        assertFalse(uniqueClientList.containsByName(createClient("Bob", 1)));
+    }
+
+    @Test
+    public void add_duplicateName_throwsDuplicateException() {
+        uniqueClientList.add(createClient("Alice", 1));
+        assertThrows(DuplicateException.class, () -> uniqueClientList.add(createClient("Alice", 2)));
+    }
+
+    @Test
+    public void setList_listWithDuplicateNames_throwsDuplicateException() {
+        assertThrows(DuplicateException.class, () -> uniqueClientList.setList(
+                Arrays.asList(createClient("Alice", 1), createClient("Bob", 2), createClient("Alice", 3))));
+    }
+
+    @Test
+    public void setItem_clientRenamedInPlace_reindexesName() {
+        Client alice = createClient("Alice", 1);
+        uniqueClientList.add(alice);
+        alice.setName(new Name("Carol"));
+        uniqueClientList.setItem(alice, alice);
+        assertFalse(uniqueClientList.containsByName(createClient("Alice", 2)));
+        assertTrue(uniqueClientList.containsByName(createClient("Carol", 2)));
+        assertEquals(alice, uniqueClientList.getElementByName(createClient("Carol", 2)));
+    }
+
+    @Test
+    public void generateNextId_clientRemoved_doesNotReuseId() {
+        Client alice = createClient("Alice", 1);
+        uniqueClientList.add(alice);
+        uniqueClientList.add(createClient("Bob", 2));
+        assertEquals(3, uniqueClientList.generateNextId());
+        uniqueClientList.remove(uniqueClientList.getElementById(2));
+        assertEquals(3, uniqueClientList.generateNextId());
+    }
+
+    @Test
+    public void setIdHighWaterMark_belowLargestId_keepsLargestId() {
+        uniqueClientList.add(createClient("Alice", 5));
+        uniqueClientList.setIdHighWaterMark(2);
+        assertEquals(6, uniqueClientList.generateNextId());
+        uniqueClientList.setIdHighWaterMark(9);
+        assertEquals(10, uniqueClientList.generateNextId());
+    }
+
+    @Test
+    public void getIdsByKeywords_clientsAddedAndRemoved_returnsMatchingIds() {
+        uniqueClientList.addKeywordIndex(Client.KEYWORD_FIELD_NAME, c -> c.getClientName().toString());
+        Client alice = createClient("Alice Tan", 1);
+        Client bob = createClient("Bob Tan", 2);
+        uniqueClientList.add(alice);
+        uniqueClientList.add(bob);
+
+        assertEquals(Set.of(1, 2), uniqueClientList.getIdsByKeywords(Client.KEYWORD_FIELD_NAME, List.of("TAN")));
+        assertEquals(Set.of(1, 2), uniqueClientList.getIdsByKeywords(Client.KEYWORD_FIELD_NAME, List.of("alice bob")));
+        assertEquals(Set.of(), uniqueClientList.getIdsByKeywords(Client.KEYWORD_FIELD_NAME, List.of("Ali")));
+
+        uniqueClientList.remove(alice);
+        assertEquals(Set.of(2), uniqueClientList.getIdsByKeywords(Client.KEYWORD_FIELD_NAME, List.of("tan")));
+    }
+
+    @Test
+    public void getIdsByKeywords_clientRenamedInPlace_reindexedAfterSetItem() {
+        uniqueClientList.addKeywordIndex(Client.KEYWORD_FIELD_NAME, c -> c.getClientName().toString());
+        Client alice = createClient("Alice", 1);
+        uniqueClientList.add(alice);
+
+        alice.setName(new Name("Carol"));
+        uniqueClientList.setItem(alice, alice);
+        assertEquals(Set.of(), uniqueClientList.getIdsByKeywords(Client.KEYWORD_FIELD_NAME, List.of("alice")));
+        assertEquals(Set.of(1), uniqueClientList.getIdsByKeywords(Client.KEYWORD_FIELD_NAME, List.of("carol")));
+    }
+
+    @Test
+    public void setItem_clientRenamedInPlace_listenersSeeClientReindexed() {
+        uniqueClientList.addKeywordIndex(Client.KEYWORD_FIELD_NAME, c -> c.getClientName().toString());
+        Client alice = createClient("Alice", 1);
+        uniqueClientList.add(alice);
+        FilteredList<Client> carols = new FilteredList<>(uniqueClientList.asUnmodifiableObservableList(),
+            client -> uniqueClientList.getIdsByKeywords(Client.KEYWORD_FIELD_NAME, List.of("carol"))
+                    .contains(client.getId()));
+        assertTrue(carols.isEmpty());
+
+        alice.setName(new Name("Carol"));
+        uniqueClientList.setItem(alice, alice);
+        assertEquals(List.of(alice), carols);
+
+        Client carol = createClient("Carol Tan", 2);
+        uniqueClientList.add(carol);
+        assertEquals(List.of(alice, carol), carols);
+    }
+
+    @Test
+    public void getIdsByKeywords_fieldNotIndexed_throwsNotFoundException() {
+        assertThrows(NotFoundException.class, () ->
+                uniqueClientList.getIdsByKeywords(Client.KEYWORD_FIELD_EMAIL, List.of("alice")));
+    }
+
+    @Test
+    public void getIdsByDeadline_issuesAddedEditedAndRemoved_returnsIssuesDueWithinRange() {
+        UniqueEntityList<Issue> uniqueIssueList = new UniqueEntityList<>();
+        uniqueIssueList.addDeadlineIndex(Issue::getDeadline);
+        Project project = new Project(new Name("Stub"));
+        Issue first = new Issue(new Title("First"), new Deadline("2022-10-01"), Urgency.LOW,
+                new Status(false), project, new IssueId(1), new Pin(false));
+        Issue second = new Issue(new Title("Second"), new Deadline("2022-10-31"), Urgency.LOW,
+                new Status(false), project, new IssueId(2), new Pin(false));
+        Issue noDeadline = new Issue(new Title("None"), Deadline.EmptyDeadline.EMPTY_DEADLINE, Urgency.LOW,
+                new Status(false), project, new IssueId(3), new Pin(false));
+        uniqueIssueList.add(first);
+        uniqueIssueList.add(second);
+        uniqueIssueList.add(noDeadline);
+
+        LocalDate start = LocalDate.parse("2022-10-01");
+        LocalDate end = LocalDate.parse("2022-10-30");
+        assertEquals(Set.of(1), uniqueIssueList.getIdsByDeadline(start, end));
+        assertEquals(Set.of(1, 2), uniqueIssueList.getIdsByDeadline(null, null));
+        assertEquals(Set.of(2), uniqueIssueList.getIdsByDeadline(end, null));
+
+        second.setDeadline(new Deadline("2022-10-02"));
+        uniqueIssueList.setItem(second, second);
+        assertEquals(Set.of(1, 2), uniqueIssueList.getIdsByDeadline(start, end));
+
+        uniqueIssueList.remove(first);
+        assertEquals(Set.of(2), uniqueIssueList.getIdsByDeadline(start, end));
+    }
+
+    @Test
+    public void getIdsByBuckets_issuesAddedEditedAndRemoved_returnsIssuesWithValues() {
+        UniqueEntityList<Issue> uniqueIssueList = new UniqueEntityList<>();
+        uniqueIssueList.addBucketIndex(Issue.BUCKET_FIELD_URGENCY, Urgency.class, Issue::getUrgency);
+        Project project = new Project(new Name("Stub"));
+        Issue first = new Issue(new Title("First"), Deadline.EmptyDeadline.EMPTY_DEADLINE, Urgency.LOW,
+                new Status(false), project, new IssueId(1), new Pin(false));
+        Issue second = new Issue(new Title("Second"), Deadline.EmptyDeadline.EMPTY_DEADLINE, Urgency.HIGH,
+                new Status(false), project, new IssueId(2), new Pin(false));
+        uniqueIssueList.add(first);
+        uniqueIssueList.add(second);
+
+        BitSet lowOrHigh = uniqueIssueList.getIdsByBuckets(Issue.BUCKET_FIELD_URGENCY,
+                List.of(Urgency.LOW, Urgency.HIGH));
+        assertEquals(2, lowOrHigh.cardinality());
+        assertTrue(lowOrHigh.get(1) && lowOrHigh.get(2));
+        assertEquals(1, uniqueIssueList.countByBucket(Issue.BUCKET_FIELD_URGENCY, Urgency.LOW));
+        assertEquals(0, uniqueIssueList.countByBucket(Issue.BUCKET_FIELD_URGENCY, Urgency.NONE));
+
+        second.setUrgency(Urgency.LOW);
+        uniqueIssueList.setItem(second, second);
+        assertEquals(2, uniqueIssueList.countByBucket(Issue.BUCKET_FIELD_URGENCY, Urgency.LOW));
+        assertTrue(uniqueIssueList.getIdsByBuckets(Issue.BUCKET_FIELD_URGENCY, List.of(Urgency.HIGH)).isEmpty());
+
+        uniqueIssueList.remove(first);
+        assertEquals(1, uniqueIssueList.countByBucket(Issue.BUCKET_FIELD_URGENCY, Urgency.LOW));
+        assertFalse(uniqueIssueList.getIdsByBuckets(Issue.BUCKET_FIELD_URGENCY, List.of(Urgency.LOW)).get(1));
+    }
+
+    @Test
+    public void countByBucket_fieldNotIndexed_throwsNotFoundException() {
+        assertThrows(NotFoundException.class, () ->
+                uniqueClientList.countByBucket(Issue.BUCKET_FIELD_STATUS, true));
+    }
+
+    @Test
+    public void getModificationCount_listChanged_countIncreases() {
+        long initialCount = uniqueClientList.getModificationCount();
+        Client alice = createClient("Alice", 1);
+        uniqueClientList.add(alice);
+        uniqueClientList.setItem(alice, alice);
+        uniqueClientList.remove(alice);
+        assertEquals(initialCount + 3, uniqueClientList.getModificationCount());
+
+        uniqueClientList.containsId(1);
+        uniqueClientList.generateNextId();
+        assertEquals(initialCount + 3, uniqueClientList.getModificationCount());
+    }
+
+    @Test
+    public void getIdsChangedSince_elementsAddedEditedAndRemoved_onlyThoseIds() {
+        Client alice = createClient("Alice", 1);
+        Client bob = createClient("Bob", 2);
+        Client carl = createClient("Carl", 3);
+        uniqueClientList.add(alice);
+        uniqueClientList.add(bob);
+        long count = uniqueClientList.getModificationCount();
+        assertEquals(Set.of(1, 2), uniqueClientList.getIdsChangedSince(0));
+
+        uniqueClientList.setItem(bob, bob);
+        uniqueClientList.add(carl);
+        uniqueClientList.remove(carl);
+        uniqueClientList.sortById();
+        assertEquals(Set.of(2, 3), uniqueClientList.getIdsChangedSince(count));
+        assertEquals(Set.of(), uniqueClientList.getIdsChangedSince(uniqueClientList.getModificationCount()));
+
+        count = uniqueClientList.getModificationCount();
+        uniqueClientList.setList(List.of(carl));
+        assertEquals(Set.of(1, 2, 3), uniqueClientList.getIdsChangedSince(count));
+    }
+}
@@ -12,6 +12,11 @@ import seedu.address.model.Deadline;
 import seedu.address.model.Name;
 import seedu.address.model.Pin;
 import seedu.address.model.client.Client;
+import seedu.address.model.issue.Issue;
+import seedu.address.model.issue.IssueId;
+import seedu.address.model.issue.Status;
+import seedu.address.model.issue.Title;
+import seedu.address.model.issue.Urgency;
 
 
 public class ProjectTest {
@@ -65,4 +70,57 @@ public class ProjectTest {
         assertNotEquals(null, defaultProject);
     }
 
+    @Test
+    public void getIssueCounts_issuesAddedMarkedAndRemoved_countsUpdated() {
+        Project project = new Project(new Name("counts"));
+        Issue first = new Issue(new Title("first"), Deadline.EmptyDeadline.EMPTY_DEADLINE, Urgency.NONE,
+                new Status(false), project, new IssueId(1), new Pin(false));
+        Issue second = new Issue(new Title("second"), Deadline.EmptyDeadline.EMPTY_DEADLINE, Urgency.NONE,
+                new Status(true), project, new IssueId(2), new Pin(false));
+        assertEquals(1, project.getCompletedIssueCount());
+        assertEquals(1, project.getIncompleteIssueCount());
+
+        first.setStatus(new Status(true));
+        assertEquals(2, project.getCompletedIssueCount());
+        assertEquals(0, project.getIncompleteIssueCount());
+
+        project.removeIssue(second);
+        assertEquals(1, project.getCompletedIssueCount());
+        assertEquals(0, project.getIncompleteIssueCount());
+    }
+
+    @Test
+    public void addIssue_sameIssueTwice_countsMatchIssueList() {
+        Project project = new Project(new Name("counts"));
+        Issue issue = new Issue(new Title("issue"), Deadline.EmptyDeadline.EMPTY_DEADLINE, Urgency.NONE,
+                new Status(false), project, new IssueId(1), new Pin(false));
+        project.addIssue(issue);
+        assertEquals(2, project.getIssueList().size());
+        assertEquals(0, project.getCompletedIssueCount());
+        assertEquals(2, project.getIncompleteIssueCount());
+
+        // both entries of the issue are marked
+        issue.setStatus(new Status(true));
+        assertEquals(2, project.getCompletedIssueCount());
+        assertEquals(0, project.getIncompleteIssueCount());
+
+        project.removeIssue(issue);
+        assertEquals(1, project.getIssueList().size());
+        assertEquals(1, project.getCompletedIssueCount());
+        assertEquals(0, project.getIncompleteIssueCount());
+    }
+
+    @Test
+    public void updateIssueStatus_issueNotInIssueList_countsUnchanged() {
+        Project project = new Project(new Name("counts"));
+        Issue issue = new Issue(new Title("issue"), Deadline.EmptyDeadline.EMPTY_DEADLINE, Urgency.NONE,
+                new Status(false), project, new IssueId(1), new Pin(false));
+        project.removeIssue(issue);
+        assertEquals(0, project.getIncompleteIssueCount());
+
+        issue.setStatus(new Status(true));
+        assertEquals(0, project.getCompletedIssueCount());
+        assertEquals(0, project.getIncompleteIssueCount());
+    }
+
 }
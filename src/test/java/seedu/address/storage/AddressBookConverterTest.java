@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StorageMode;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SampleDataUtil;
+
+public class AddressBookConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void switchStorageMode_switchedBackAndForth_latestAddressBookCarriedOver() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        AddressBookStorage jsonStorage = AddressBookConverter.getStorage(StorageMode.JSON, filePath, false);
+        assertFalse(AddressBookConverter.switchStorageMode(filePath, StorageMode.JSON, jsonStorage).isPresent());
+        jsonStorage.saveAddressBook(addressBook);
+
+        List<StorageMode> storageModes = List.of(StorageMode.BINARY, StorageMode.JSON, StorageMode.KEY_VALUE,
+                StorageMode.BINARY, StorageMode.SHARDED, StorageMode.COMPRESSED, StorageMode.JSON);
+        for (StorageMode storageMode : storageModes) {
+            StorageMode lastStorageMode = AddressBookConverter.readLastStorageMode(filePath).get();
+            AddressBookStorage storage = AddressBookConverter.getStorage(storageMode, filePath, false);
+            Optional<AddressBookStorage> source =
+                    AddressBookConverter.switchStorageMode(filePath, storageMode, storage);
+
+            // the address book saved last, in the storage mode last used, is carried over even if one was saved before
+            assertEquals(AddressBookConverter.getStorage(lastStorageMode, filePath, false).getAddressBookFilePath(),
+                    source.get().getAddressBookFilePath());
+            assertEquals(storageMode, AddressBookConverter.readLastStorageMode(filePath).get());
+            AddressBook carriedOver = new AddressBook(storage.readAddressBook().get());
+            assertEquals(addressBook, carriedOver);
+            assertEquals(addressBook.getIssueIdHighWaterMark(), carriedOver.getIssueIdHighWaterMark());
+
+            addressBook = carriedOver;
+            addressBook.setIssueIdHighWaterMark(addressBook.getIssueIdHighWaterMark() + 1);
+            storage.saveAddressBook(addressBook);
+        }
+
+        // nothing is carried over while the storage mode stays the same
+        AddressBookStorage storage = AddressBookConverter.getStorage(StorageMode.JSON, filePath, false);
+        assertFalse(AddressBookConverter.switchStorageMode(filePath, StorageMode.JSON, storage).isPresent());
+        assertEquals(addressBook.getIssueIdHighWaterMark(), storage.readAddressBook().get().getIssueIdHighWaterMark());
+    }
+
+    @Test
+    public void switchStorageMode_betweenJsonAndJournal_nothingCarriedOver() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBookStorage jsonStorage = AddressBookConverter.getStorage(StorageMode.JSON, filePath, false);
+        AddressBookConverter.switchStorageMode(filePath, StorageMode.JSON, jsonStorage);
+        jsonStorage.saveAddressBook(SampleDataUtil.getSampleAddressBook());
+
+        AddressBookStorage journalStorage = AddressBookConverter.getStorage(StorageMode.JOURNAL, filePath, false);
+        assertFalse(AddressBookConverter.switchStorageMode(filePath, StorageMode.JOURNAL, journalStorage).isPresent());
+        assertEquals(StorageMode.JOURNAL, AddressBookConverter.readLastStorageMode(filePath).get());
+    }
+
+    @Test
+    public void switchStorageMode_noStorageModeRecorded_jsonDataFileMigratedOnce() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(SampleDataUtil.getSampleAddressBook());
+        AddressBookStorage binaryStorage = AddressBookConverter.getStorage(StorageMode.BINARY, filePath, false);
+        binaryStorage.saveAddressBook(new AddressBook());
+
+        // a data file of the storage mode, used before storage modes were recorded, is kept
+        assertFalse(AddressBookConverter.switchStorageMode(filePath, StorageMode.BINARY, binaryStorage).isPresent());
+        assertEquals(new AddressBook(), new AddressBook(binaryStorage.readAddressBook().get()));
+        assertEquals(StorageMode.BINARY, AddressBookConverter.readLastStorageMode(filePath).get());
+
+        Files.delete(AddressBookConverter.getStorageModeMarkerFilePath(filePath));
+        AddressBookStorage keyValueStorage = AddressBookConverter.getStorage(StorageMode.KEY_VALUE, filePath, false);
+        assertTrue(AddressBookConverter.switchStorageMode(filePath, StorageMode.KEY_VALUE, keyValueStorage)
+                .isPresent());
+        assertEquals(SampleDataUtil.getSampleAddressBook(), new AddressBook(keyValueStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void switchStorageMode_lastStorageModeUnreadable_storageModeNotRecorded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBookConverter.recordStorageMode(filePath, StorageMode.BINARY);
+        Files.write(BinaryAddressBookStorage.getBinaryFilePath(filePath), new byte[] {1, 2, 3, 4, 5});
+        AddressBookStorage jsonStorage = AddressBookConverter.getStorage(StorageMode.JSON, filePath, false);
+
+        assertThrows(DataConversionException.class, () ->
+                AddressBookConverter.switchStorageMode(filePath, StorageMode.JSON, jsonStorage));
+        assertEquals(StorageMode.BINARY, AddressBookConverter.readLastStorageMode(filePath).get());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void readLastStorageMode_invalidMarker_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertFalse(AddressBookConverter.readLastStorageMode(filePath).isPresent());
+        Files.write(AddressBookConverter.getStorageModeMarkerFilePath(filePath), "FLOPPY".getBytes());
+        assertFalse(AddressBookConverter.readLastStorageMode(filePath).isPresent());
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+
+/**
+ * Measures the time taken to turn the json form of address books of 10k, 100k and 1M issues into the model,
+ * with a project for every hundred issues, to show that decoding and linking them takes time linear in their number.
+ * Run with {@code gradlew benchmark}; it is left out of {@code gradlew test}.
+ */
+@Tag("benchmark")
+public class AddressBookLoadBenchmarkTest {
+
+    private static final int[] ISSUE_COUNTS = {10_000, 100_000, 1_000_000};
+    private static final int ISSUES_PER_PROJECT = 100;
+    private static final int ROUNDS = 3;
+    // Loading ten times as many issues may take at most this many times longer per issue, far from the tenfold
+    // a scan of the loaded issues or projects for every issue would take
+    private static final double MAX_SLOWDOWN_PER_ISSUE = 3;
+
+    @Test
+    public void toModelType_tenfoldIssues_timePerIssueAboutTheSame() throws Exception {
+        // Warm up the JIT compiler on the smallest address book, so that it is not measured cold
+        measure(ISSUE_COUNTS[0]);
+
+        double[] nanosPerIssue = new double[ISSUE_COUNTS.length];
+        System.out.printf("Loading address books with a project for every %d issues, best of %d rounds:%n",
+                ISSUES_PER_PROJECT, ROUNDS);
+        for (int i = 0; i < ISSUE_COUNTS.length; i++) {
+            long nanos = measure(ISSUE_COUNTS[i]);
+            nanosPerIssue[i] = (double) nanos / ISSUE_COUNTS[i];
+            System.out.printf("  %,9d issues: %,6d ms, %,8.0f ns per issue%n",
+                    ISSUE_COUNTS[i], nanos / 1_000_000, nanosPerIssue[i]);
+        }
+        for (int i = 1; i < ISSUE_COUNTS.length; i++) {
+            assertTrue(nanosPerIssue[i] < nanosPerIssue[i - 1] * MAX_SLOWDOWN_PER_ISSUE,
+                    "Loading " + ISSUE_COUNTS[i] + " issues took " + nanosPerIssue[i] + " ns per issue, against "
+                            + nanosPerIssue[i - 1] + " ns per issue for " + ISSUE_COUNTS[i - 1] + " issues");
+        }
+    }
+
+    /**
+     * Returns the least time taken to load an address book of {@code issueCount} issues over a few rounds.
+     */
+    private static long measure(int issueCount) throws Exception {
+        JsonSerializableAddressBook jsonAddressBook = makeJsonAddressBook(issueCount);
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long startNanos = System.nanoTime();
+            AddressBook addressBook = jsonAddressBook.toModelType();
+            best = Math.min(best, System.nanoTime() - startNanos);
+            assertEquals(issueCount, addressBook.getIssueList().size());
+        }
+        return best;
+    }
+
+    private static JsonSerializableAddressBook makeJsonAddressBook(int issueCount) {
+        int projectCount = issueCount / ISSUES_PER_PROJECT;
+        List<JsonAdaptedProject> projects = new ArrayList<>();
+        for (int id = 1; id <= projectCount; id++) {
+            projects.add(new JsonAdaptedProject("Project " + id, "owner/repo" + id, "2023-01-01", "", null,
+                    String.valueOf(id), "false"));
+        }
+        List<JsonAdaptedIssue> issues = new ArrayList<>();
+        for (int id = 1; id <= issueCount; id++) {
+            issues.add(new JsonAdaptedIssue("Issue " + id, id % 2 == 0 ? "HIGH" : "LOW", "2023-06-01",
+                    id % 3 == 0 ? "true" : "false", String.valueOf(id), String.valueOf(id % projectCount + 1),
+                    "false"));
+        }
+        return new JsonSerializableAddressBook(String.valueOf(JsonSerializableAddressBook.SCHEMA_VERSION),
+                new ArrayList<>(), projects, issues, "0", String.valueOf(projectCount), String.valueOf(issueCount));
+    }
+}
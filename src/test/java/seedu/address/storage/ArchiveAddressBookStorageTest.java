@@ -0,0 +1,158 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.issue.Issue;
+import seedu.address.model.project.Project;
+import seedu.address.model.util.SampleDataUtil;
+
+public class ArchiveAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_binaryArchive_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("archive.bin");
+        AddressBook original = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        new BinaryAddressBookStorage(filePath, false).saveAddressBook(original);
+
+        ArchiveAddressBookStorage storage = new ArchiveAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_binaryArchive_entitiesDecodedAsGot() throws Exception {
+        // More entities than are kept once decoded, so that some are decoded again after being dropped
+        byte[] data = BinaryAddressBookFormat.encode(makeAddressBook(2000));
+        Path filePath = testFolder.resolve("archive.bin");
+        Files.write(filePath, data);
+        AddressBook decoded = BinaryAddressBookFormat.decode(data);
+
+        ReadOnlyAddressBook archive = new ArchiveAddressBookStorage(filePath).readAddressBook().get();
+        assertArrayEquals(BinaryAddressBookFormat.encode(decoded), BinaryAddressBookFormat.encode(archive));
+        for (Project project : archive.getProjectList()) {
+            Project decodedProject = decoded.getProjectById(project.getId());
+            assertEquals(decodedProject.issueListUiRepresentation(), project.issueListUiRepresentation());
+            for (Issue issue : project.getIssueList()) {
+                assertSame(project, issue.getProject());
+                assertEquals(decoded.getIssueById(issue.getId()).getTitle(), issue.getTitle());
+            }
+        }
+        Issue issue = archive.getIssueById(1234);
+        assertEquals(decoded.getIssueById(1234).getTitle(), issue.getTitle());
+        assertEquals(decoded.getIssueById(1234).getProject().getId(), issue.getProject().getId());
+        assertThrows(UnsupportedOperationException.class, () -> issue.getProject().addIssue(
+                new Issue(issue.getTitle(), decoded.getProjectById(1))));
+    }
+
+    @Test
+    public void readAddressBook_corruptedBinaryArchive_throwDataConversionException() throws Exception {
+        byte[] data = BinaryAddressBookFormat.encode(SampleDataUtil.getSampleAddressBook());
+        data[data.length / 2] ^= 1;
+        Path filePath = testFolder.resolve("archive.bin");
+        Files.write(filePath, data);
+
+        ArchiveAddressBookStorage storage = new ArchiveAddressBookStorage(filePath);
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_jsonArchive_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("archive.json");
+        AddressBook original = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        new JsonAddressBookStorage(filePath, false).saveAddressBook(original);
+
+        ArchiveAddressBookStorage storage = new ArchiveAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_keyValueArchive_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("archive.kv");
+        AddressBook original = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        new KeyValueAddressBookStorage(filePath, false).saveAddressBook(original);
+
+        ArchiveAddressBookStorage storage = new ArchiveAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_shardedArchiveDirectory_sameAddressBook() throws Exception {
+        Path manifestFilePath = ShardedAddressBookStorage.getShardedFilePath(testFolder.resolve("archive.json"));
+        AddressBook original = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        new ShardedAddressBookStorage(manifestFilePath, false).saveAddressBook(original);
+
+        ArchiveAddressBookStorage storage = new ArchiveAddressBookStorage(manifestFilePath.getParent());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_directoryWithoutManifest_throwDataConversionException() throws Exception {
+        Path directoryPath = Files.createDirectory(testFolder.resolve("empty.shards"));
+        ArchiveAddressBookStorage storage = new ArchiveAddressBookStorage(directoryPath);
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_missingArchive_throwDataConversionException() {
+        ArchiveAddressBookStorage storage = new ArchiveAddressBookStorage(testFolder.resolve("missing.bin"));
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_archive_throwIoExceptionAndFileUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("archive.bin");
+        new BinaryAddressBookStorage(filePath, false).saveAddressBook(SampleDataUtil.getSampleAddressBook());
+        byte[] contents = Files.readAllBytes(filePath);
+
+        ArchiveAddressBookStorage storage = new ArchiveAddressBookStorage(filePath);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(new AddressBook()));
+        assertThrows(IOException.class, () -> storage.takeSnapshot(new AddressBook()).save());
+        assertArrayEquals(contents, Files.readAllBytes(filePath));
+    }
+
+    /**
+     * Returns an address book of {@code issueCount} issues, spread over a project for every ten issues,
+     * with some of the clients, projects and issues pinned.
+     */
+    private static AddressBook makeAddressBook(int issueCount) throws Exception {
+        int projectCount = issueCount / 10;
+        int clientCount = projectCount / 10;
+        List<JsonAdaptedClient> clients = new ArrayList<>();
+        for (int id = 1; id <= clientCount; id++) {
+            clients.add(new JsonAdaptedClient("Client " + id, "9123456" + id % 10, "client" + id + "@example.com",
+                    String.valueOf(id), String.valueOf(id % 3 == 0)));
+        }
+        List<JsonAdaptedProject> projects = new ArrayList<>();
+        for (int id = 1; id <= projectCount; id++) {
+            projects.add(new JsonAdaptedProject("Project " + id, "owner/repo" + id, "2023-01-01",
+                    id % 2 == 0 ? String.valueOf(id % clientCount + 1) : "", null, String.valueOf(id),
+                    String.valueOf(id % 5 == 0)));
+        }
+        List<JsonAdaptedIssue> issues = new ArrayList<>();
+        for (int id = 1; id <= issueCount; id++) {
+            issues.add(new JsonAdaptedIssue("Issue " + id, id % 2 == 0 ? "HIGH" : "LOW", "2023-06-01",
+                    String.valueOf(id % 3 == 0), String.valueOf(id), String.valueOf(id % projectCount + 1),
+                    String.valueOf(id % 7 == 0)));
+        }
+        return new JsonSerializableAddressBook(String.valueOf(JsonSerializableAddressBook.SCHEMA_VERSION),
+                clients, projects, issues, String.valueOf(clientCount), String.valueOf(projectCount),
+                String.valueOf(issueCount)).toModelType();
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SampleDataUtil;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_savedAddressBook_sameAddressBook() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"), false);
+        AddressBook original = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        original.setIssueIdHighWaterMark(original.getIssueIdHighWaterMark() + 3);
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook retrieved = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(retrieved));
+        assertEquals(original.getClientList().size(), retrieved.getClientList().size());
+        assertEquals(original.getIssueIdHighWaterMark(), retrieved.getIssueIdHighWaterMark());
+
+        // snapshot is unaffected by later changes
+        AddressBookSnapshot snapshot = storage.takeSnapshot(original);
+        original.removeIssue(original.getIssueList().get(0));
+        snapshot.save();
+        assertEquals(original.getIssueList().size() + 1, storage.readAddressBook().get().getIssueList().size());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(SampleDataUtil.getSampleAddressBook());
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedOrTruncated_throwDataConversionException() throws Exception {
+        byte[] data = BinaryAddressBookFormat.encode(SampleDataUtil.getSampleAddressBook());
+        Path filePath = testFolder.resolve("addressbook.bin");
+
+        byte[] corrupted = data.clone();
+        corrupted[corrupted.length / 2] ^= 0x10;
+        Files.write(filePath, corrupted);
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+
+        byte[] truncated = new byte[data.length - 3];
+        System.arraycopy(data, 0, truncated, 0, truncated.length);
+        Files.write(filePath, truncated);
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void migrateOnce_jsonFile_migratedToBinaryOnlyOnce() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        AddressBook original = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        jsonStorage.saveAddressBook(original);
+
+        assertTrue(AddressBookConverter.migrateOnce(jsonStorage, binaryStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+        Path markerFilePath = AddressBookConverter.getMigratedMarkerFilePath(binaryStorage.getAddressBookFilePath());
+        assertTrue(Files.exists(markerFilePath));
+
+        // a newer json file is not copied over the binary file, nor the binary file back over the json file
+        jsonStorage.saveAddressBook(new AddressBook());
+        assertFalse(AddressBookConverter.migrateOnce(jsonStorage, binaryStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+        assertEquals(new AddressBook(), new AddressBook(jsonStorage.readAddressBook().get()));
+
+        // the marker keeps the migration from running again once the binary file is gone
+        Files.delete(binaryStorage.getAddressBookFilePath());
+        assertFalse(AddressBookConverter.migrateOnce(jsonStorage, binaryStorage));
+        assertFalse(Files.exists(binaryStorage.getAddressBookFilePath()));
+    }
+}
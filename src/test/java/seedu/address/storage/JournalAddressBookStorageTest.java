@@ -0,0 +1,214 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientMobile;
+import seedu.address.model.issue.Issue;
+import seedu.address.model.issue.Urgency;
+import seedu.address.model.util.SampleDataUtil;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("addressBook.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+
+        Issue removedIssue = addressBook.getIssueList().get(0);
+        addressBook.removeIssue(removedIssue);
+        Issue editedIssue = addressBook.getIssueList().get(0);
+        editedIssue.setUrgency(Urgency.HIGH);
+        addressBook.setIssue(editedIssue, editedIssue);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+
+        ReadOnlyAddressBook retrieved = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook.getIssueList().size(), retrieved.getIssueList().size());
+        assertFalse(retrieved.getIssueList().stream().anyMatch(i -> i.getId() == removedIssue.getId()));
+        assertEquals(Urgency.HIGH, retrieved.getIssueById(editedIssue.getId()).getUrgency());
+        assertEquals(addressBook, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void saveAddressBook_clientChanged_onlyClientAppendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.saveAddressBook(addressBook);
+
+        Client editedClient = addressBook.getClientList().get(0);
+        editedClient.setMobile(new ClientMobile("98765432"));
+        addressBook.setClient(editedClient, editedClient);
+        storage.saveAddressBook(addressBook);
+        String journal = Files.readString(JournalAddressBookStorage.getJournalFilePath(filePath));
+        assertTrue(journal.contains("98765432"));
+        assertFalse(journal.contains("\"projectId\""));
+
+        ReadOnlyAddressBook retrieved = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(new ClientMobile("98765432"),
+                retrieved.getClientById(editedClient.getId()).getClientMobile());
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_foldedIntoSnapshotInBackground() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath, false, 2, Long.MAX_VALUE);
+        StorageManager storage = new StorageManager(journalStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("preferences.json")));
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.saveAddressBook(addressBook);
+
+        addressBook.setProjectIdHighWaterMark(addressBook.getProjectIdHighWaterMark() + 1);
+        storage.saveAddressBook(addressBook);
+        storage.flushCompaction();
+        assertTrue(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+
+        // the save itself only appends to the journal, which is folded once the compaction runs
+        addressBook.setProjectIdHighWaterMark(addressBook.getProjectIdHighWaterMark() + 1);
+        journalStorage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        storage.saveAddressBook(addressBook);
+        storage.flushCompaction();
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+
+        ReadOnlyAddressBook retrieved = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook.getProjectIdHighWaterMark(), retrieved.getProjectIdHighWaterMark());
+    }
+
+    @Test
+    public void takeSnapshot_journalFull_foldedOnlyWhenCompacted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, false, 1, Long.MAX_VALUE);
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.takeSnapshot(addressBook).save();
+
+        Issue editedIssue = addressBook.getIssueList().get(0);
+        editedIssue.setUrgency(Urgency.HIGH);
+        addressBook.setIssue(editedIssue, editedIssue);
+        storage.takeSnapshot(addressBook).save();
+        String journal = Files.readString(journalFilePath);
+        assertTrue(journal.contains("\"issueId\":\"" + editedIssue.getId() + "\""));
+        assertFalse(journal.contains("\"projectId\""));
+
+        storage.compactAddressBook();
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_entrySkipped() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.saveAddressBook(addressBook);
+        addressBook.setIssueIdHighWaterMark(addressBook.getIssueIdHighWaterMark() + 5);
+        storage.saveAddressBook(addressBook);
+
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath),
+                "{\"projects\":[".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        ReadOnlyAddressBook retrieved = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook.getIssueIdHighWaterMark(), retrieved.getIssueIdHighWaterMark());
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplacedInJsonMode_journalNotReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.saveAddressBook(addressBook);
+        addressBook.setIssueIdHighWaterMark(addressBook.getIssueIdHighWaterMark() + 5);
+        storage.saveAddressBook(addressBook);
+        String journal = Files.readString(journalFilePath);
+
+        // saving in json mode removes the journal, and a journal left behind anyway is not replayed
+        AddressBook jsonAddressBook = new AddressBook();
+        new JsonAddressBookStorage(filePath, false).saveAddressBook(jsonAddressBook);
+        assertFalse(Files.exists(journalFilePath));
+        Files.writeString(journalFilePath, journal);
+
+        ReadOnlyAddressBook retrieved = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(jsonAddressBook, new AddressBook(retrieved));
+        Path staleJournalFilePath = journalFilePath.resolveSibling(journalFilePath.getFileName() + ".stale");
+        assertEquals(journal, Files.readString(staleJournalFilePath));
+    }
+
+    @Test
+    public void readAddressBook_snapshotCorrupted_previousVersionReadWithoutJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook previousAddressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        new JournalAddressBookStorage(filePath).saveAddressBook(previousAddressBook);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(previousAddressBook);
+        addressBook.removeIssue(addressBook.getIssueList().get(0));
+        storage.saveAddressBook(addressBook);
+        addressBook.setIssueIdHighWaterMark(addressBook.getIssueIdHighWaterMark() + 5);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+
+        FileUtil.writeToFile(filePath, "not json");
+        ReadOnlyAddressBook retrieved = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(previousAddressBook, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void readAddressBook_unreadableRecordInSnapshot_restReadAndRecordQuarantined() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.saveAddressBook(addressBook);
+        Issue unreadableIssue = addressBook.getIssueList().get(0);
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath).replace(
+                "\"title\":\"" + unreadableIssue.getTitle() + "\"", "\"title\":[1,{\"title\":2}]"));
+
+        JournalAddressBookStorage readStorage = new JournalAddressBookStorage(filePath);
+        ReadOnlyAddressBook retrieved = readStorage.readAddressBook().get();
+        assertEquals(addressBook.getIssueList().size() - 1, retrieved.getIssueList().size());
+        RecoveryReport report = readStorage.getRecoveryReport().get();
+        assertEquals(1, report.getSkippedCount());
+        assertTrue(Files.readString(report.getQuarantineFilePath().get()).contains("\"title\":[1,{\"title\":2}]"));
+    }
+
+    @Test
+    public void foldJournal_journalPresent_changesInSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.saveAddressBook(addressBook);
+        Issue removedIssue = addressBook.getIssueList().get(0);
+        addressBook.removeIssue(removedIssue);
+        storage.saveAddressBook(addressBook);
+
+        new JournalAddressBookStorage(filePath).foldJournal();
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.interfaces.HasIntegerIdentifier;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.ui.StubUiManager;
+
+public class JsonAddressBookChangesTest {
+
+    // Every command word and flag, with those which change the address book run on entities they leave in place
+    private static final List<String> COMMANDS = List.of(
+            "project -a n/Seventh Project r/johndoe/sp d/2024-01-01",
+            "client -a n/Zed Zulu p/7 m/12345678 e/zedzulu@example.com",
+            "client -e c/6 n/Zed Young m/87654321 e/zedyoung@example.com",
+            "client -p 6",
+            "client -s n/0",
+            "client -f n/Zed",
+            "client -v",
+            "client -l",
+            "project -e p/7 n/Eighth Project r/johndoe/ep c/1 d/2024-02-02",
+            "project -p 7",
+            "project -s d/0",
+            "project -t overdue",
+            "project -f n/Eighth",
+            "project -v",
+            "project -l",
+            "issue -a p/7 t/Write tests d/2024-01-15 u/2",
+            "issue -e i/7 t/Write more tests d/2024-01-20 u/3",
+            "issue -m 7",
+            "issue -u 7",
+            "issue -p 7",
+            "issue -s u/1",
+            "issue -t overdue",
+            "issue -f t/tests",
+            "issue -v",
+            "issue -l",
+            "issue -d 7",
+            "client -d 2",
+            "project -d 7",
+            "help",
+            "clear");
+
+    @Test
+    public void since_everyCommand_everyChangedEntityIncluded() throws Exception {
+        // Entities are edited in place by their setters, which do not count the change themselves,
+        // so every command must replace what it edited in the address book for the change to be saved
+        Model model = new ModelManager(SampleDataUtil.getSampleAddressBook(), new UserPrefs());
+        AddressBookParser parser = new AddressBookParser();
+        for (String command : COMMANDS) {
+            ReadOnlyAddressBook addressBook = model.getAddressBook();
+            long modificationCount = addressBook.getModificationCount();
+            Map<Integer, String> clients = toJson(addressBook.getClientList(), JsonAdaptedClient::new);
+            Map<Integer, String> projects = toJson(addressBook.getProjectList(), JsonAdaptedProject::new);
+            Map<Integer, String> issues = toJson(addressBook.getIssueList(), JsonAdaptedIssue::new);
+
+            parser.parseCommand(command).execute(model, new StubUiManager());
+
+            JsonAddressBookChanges changes = JsonAddressBookChanges.since(addressBook, modificationCount);
+            assertChangesIncluded(command, clients, toJson(addressBook.getClientList(), JsonAdaptedClient::new),
+                    changes.getClients());
+            assertChangesIncluded(command, projects, toJson(addressBook.getProjectList(), JsonAdaptedProject::new),
+                    changes.getProjects());
+            assertChangesIncluded(command, issues, toJson(addressBook.getIssueList(), JsonAdaptedIssue::new),
+                    changes.getIssues());
+        }
+    }
+
+    /**
+     * Asserts that every entity added, removed or saved differently by {@code command}, between
+     * {@code before} and {@code after}, is in {@code changes} in its json form after the command.
+     */
+    private static void assertChangesIncluded(String command, Map<Integer, String> before,
+            Map<Integer, String> after, Map<Integer, ?> changes) throws IOException {
+        Set<Integer> ids = new HashSet<>(before.keySet());
+        ids.addAll(after.keySet());
+        for (int id : ids) {
+            if (Objects.equals(before.get(id), after.get(id))) {
+                continue;
+            }
+            String changed = changes.get(id) == null ? null : JsonUtil.toCompactJsonString(changes.get(id));
+            assertEquals(after.get(id), changed, command + ": id " + id);
+        }
+    }
+
+    /**
+     * Returns the json form of each entity in {@code entities}, as converted by {@code toJsonAdapted}, keyed by id.
+     */
+    private static <T extends HasIntegerIdentifier<T>> Map<Integer, String> toJson(List<T> entities,
+            Function<T, ?> toJsonAdapted) throws IOException {
+        Map<Integer, String> jsonById = new HashMap<>();
+        for (T entity : entities) {
+            jsonById.put(entity.getId(), JsonUtil.toCompactJsonString(toJsonAdapted.apply(entity)));
+        }
+        return jsonById;
+    }
+}
@@ -1,18 +1,30 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.issue.Issue;
+import seedu.address.model.issue.Urgency;
+import seedu.address.model.project.Project;
+import seedu.address.model.util.SampleDataUtil;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -46,13 +58,35 @@ public class JsonAddressBookStorageTest {
     }
 
     @Test
-    public void readAddressBook_invalidClientAddressBook_throwDataConversionException() {
-        assertThrows(DataConversionException.class, () -> readAddressBook("invalidClientAddressBook.json"));
+    public void readAddressBook_invalidClientAddressBook_projectSkipped() throws Exception {
+        JsonAddressBookStorage storage = copyToTestFolder("invalidClientAddressBook.json");
+        assertTrue(storage.readAddressBook().get().getProjectList().isEmpty());
+        assertEquals(1, storage.getRecoveryReport().get().getSkippedCount());
     }
 
     @Test
-    public void readAddressBook_invalidAndValidClientAddressBook_throwDataConversionException() {
-        assertThrows(DataConversionException.class, () -> readAddressBook("invalidAndValidClientAddressBook.json"));
+    public void readAddressBook_invalidAndValidClientAddressBook_projectsSkipped() throws Exception {
+        JsonAddressBookStorage storage = copyToTestFolder("invalidAndValidClientAddressBook.json");
+        assertTrue(storage.readAddressBook().get().getProjectList().isEmpty());
+
+        String json = FileUtil.readFromFile(storage.getAddressBookFilePath());
+        RecoveryReport report = storage.getRecoveryReport().get();
+        assertEquals(List.of("byte " + json.indexOf("{\n    \"name\" : \"Individual Project\""),
+                "byte " + json.indexOf("{\n    \"name\" : \"Team Project\"")), report.getLocations());
+        assertEquals(StorageUtil.getQuarantineFilePath(storage.getAddressBookFilePath()),
+                report.getQuarantineFilePath().get());
+    }
+
+    @Test
+    public void readAddressBook_strictRead_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> JsonAddressBookStreamReader.readAddressBook(
+                TEST_DATA_FOLDER.resolve("invalidAndValidClientAddressBook.json")));
+    }
+
+    private JsonAddressBookStorage copyToTestFolder(String fileInTestDataFolder) throws IOException {
+        Path filePath = testFolder.resolve(fileInTestDataFolder);
+        Files.copy(TEST_DATA_FOLDER.resolve(fileInTestDataFolder), filePath);
+        return new JsonAddressBookStorage(filePath);
     }
 
     @Test
@@ -76,4 +110,194 @@ public class JsonAddressBookStorageTest {
     public void saveAddressBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(new AddressBook(), null));
     }
+
+    @Test
+    public void readAddressBook_savedAddressBook_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compressedFilePath_compressedAndReadBack() throws Exception {
+        Path filePath = JsonAddressBookStorage.getCompressedFilePath(testFolder.resolve("addressBook.json"));
+        assertEquals(testFolder.resolve("addressBook.json.gz"), filePath);
+        AddressBook original = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, false);
+        storage.saveAddressBook(original);
+
+        byte[] data = Files.readAllBytes(filePath);
+        assertEquals((byte) 0x1f, data[0]);
+        assertEquals((byte) 0x8b, data[1]);
+        assertTrue(data.length < JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(original)).length());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // compressed data files are recognised by their contents rather than their name
+        Path renamedFilePath = testFolder.resolve("renamed.json");
+        Files.copy(filePath, renamedFilePath);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(renamedFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_issuesBeforeProjectsBeforeClients_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        JsonSerializableAddressBook jsonAddressBook = new JsonSerializableAddressBook(original);
+        // Field order in the file is not guaranteed, so write the lists out in reverse
+        String json = "{\"unknownField\":{\"a\":[1]},\"issues\":"
+                + JsonUtil.toCompactJsonString(jsonAddressBook.getIssues())
+                + ",\"projects\":" + JsonUtil.toCompactJsonString(jsonAddressBook.getProjects())
+                + ",\"clients\":" + JsonUtil.toCompactJsonString(jsonAddressBook.getClients())
+                + ",\"clientIdHighWaterMark\":\"" + original.getClientIdHighWaterMark()
+                + "\",\"projectIdHighWaterMark\":\"" + original.getProjectIdHighWaterMark()
+                + "\",\"issueIdHighWaterMark\":\"" + original.getIssueIdHighWaterMark() + "\"}";
+        Files.write(filePath, json.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_manyIssues_linkedToTheirProjects() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        int projectCount = 1000;
+        int issueCount = 20000;
+        List<JsonAdaptedProject> projects = new ArrayList<>();
+        for (int i = 1; i <= projectCount; i++) {
+            projects.add(new JsonAdaptedProject("Project " + i, "johndoe/tp", "2022-03-03", "",
+                    null, String.valueOf(i), "false"));
+        }
+        List<JsonAdaptedIssue> issues = new ArrayList<>();
+        for (int i = 1; i <= issueCount; i++) {
+            issues.add(new JsonAdaptedIssue("Issue " + i, "LOW", "2022-03-03", "false", String.valueOf(i),
+                    String.valueOf(i % projectCount + 1), "false"));
+        }
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(
+                String.valueOf(JsonSerializableAddressBook.SCHEMA_VERSION), new ArrayList<>(), projects, issues,
+                "0", String.valueOf(projectCount), String.valueOf(issueCount)), filePath, false);
+
+        ReadOnlyAddressBook retrieved = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(issueCount, retrieved.getIssueList().size());
+        for (Issue issue : retrieved.getIssueList()) {
+            Project project = retrieved.getProjectById(issue.getId() % projectCount + 1);
+            assertTrue(issue.getProject() == project);
+            assertTrue(project.getIssueList().contains(issue));
+        }
+    }
+
+    @Test
+    public void readAddressBook_projectsNotAList_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.write(filePath, "{\"projects\":{}}".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_nullIssue_issueSkipped() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.write(filePath, "{\"projects\":[],\"issues\":[null]}".getBytes(StandardCharsets.UTF_8));
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        assertTrue(storage.readAddressBook().get().getIssueList().isEmpty());
+        assertEquals(List.of("byte 25"), storage.getRecoveryReport().get().getLocations());
+    }
+
+    @Test
+    public void readAddressBook_corruptedRecords_restReadAndRecordsQuarantined() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, false);
+        AddressBook original = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.saveAddressBook(original);
+        String json = FileUtil.readFromFile(filePath);
+        Issue unparsableIssue = original.getIssueList().stream()
+                .filter(issue -> issue.getProject().getProjectIdInInt() != 1).findFirst().get();
+        json = json.replace("\"clientId\":\"1\",\"projectId\":\"1\"", "\"clientId\":\"99\",\"projectId\":\"1\"")
+                .replace("\"title\":\"" + unparsableIssue.getTitle() + "\"", "\"title\":[1,{\"title\":2}]");
+        FileUtil.writeToFile(filePath, json);
+
+        ReadOnlyAddressBook retrieved = storage.readAddressBook().get();
+        int issuesOfSkippedProject = (int) original.getIssueList().stream()
+                .filter(issue -> issue.getProject().getProjectIdInInt() == 1).count();
+        assertEquals(original.getProjectList().size() - 1, retrieved.getProjectList().size());
+        assertEquals(original.getIssueList().size() - issuesOfSkippedProject - 1, retrieved.getIssueList().size());
+        assertFalse(retrieved.getIssueList().stream().anyMatch(issue -> issue.getId() == unparsableIssue.getId()));
+
+        RecoveryReport report = storage.getRecoveryReport().get();
+        assertEquals(issuesOfSkippedProject + 2, report.getSkippedCount());
+        assertEquals("byte " + json.indexOf("{\"name\":\"Individual Project\""), report.getLocations().get(0));
+        List<String> quarantined = Files.readAllLines(report.getQuarantineFilePath().get());
+        assertEquals(report.getSkippedCount(), quarantined.size());
+        assertTrue(quarantined.get(0).contains("Individual Project"));
+        assertTrue(quarantined.stream().anyMatch(line -> line.contains("\"title\":[1,{\"title\":2}]")));
+    }
+
+    @Test
+    public void readAddressBook_corruptedRecordReadAgain_quarantinedOnce() throws Exception {
+        JsonAddressBookStorage storage = copyToTestFolder("invalidAndValidClientAddressBook.json");
+        storage.readAddressBook();
+        Path quarantineFilePath = storage.getRecoveryReport().get().getQuarantineFilePath().get();
+        List<String> quarantined = Files.readAllLines(quarantineFilePath);
+        assertEquals(2, quarantined.size());
+
+        // the records are still reported each time they are left out, but kept in the quarantine file once
+        new JsonAddressBookStorage(storage.getAddressBookFilePath()).readAddressBook();
+        storage.readAddressBook();
+        assertEquals(2, storage.getRecoveryReport().get().getSkippedCount());
+        assertEquals(quarantined, Files.readAllLines(quarantineFilePath));
+
+        // a record left out of a changed data file is kept as well
+        String json = FileUtil.readFromFile(storage.getAddressBookFilePath());
+        FileUtil.writeToFile(storage.getAddressBookFilePath(), json.replace("Team Project", "Other Project"));
+        storage.readAddressBook();
+        assertEquals(3, Files.readAllLines(quarantineFilePath).size());
+
+        // the records are quarantined again once the quarantine file is cleared
+        Files.delete(quarantineFilePath);
+        storage.readAddressBook();
+        assertEquals(2, Files.readAllLines(quarantineFilePath).size());
+        assertEquals(2 * (Long.BYTES + 2 * Integer.BYTES),
+                Files.size(StorageUtil.getQuarantineIndexFilePath(quarantineFilePath)));
+    }
+
+    @Test
+    public void takeSnapshot_earlierSnapshotNotSaved_itsChangesSavedWithLaterSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, false);
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.takeSnapshot(addressBook).save();
+
+        Issue removedIssue = addressBook.getIssueList().get(0);
+        addressBook.removeIssue(removedIssue);
+        storage.takeSnapshot(addressBook);
+        Issue editedIssue = addressBook.getIssueList().get(0);
+        editedIssue.setUrgency(Urgency.HIGH);
+        addressBook.setIssue(editedIssue, editedIssue);
+        storage.takeSnapshot(addressBook).save();
+
+        ReadOnlyAddressBook retrieved = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertFalse(retrieved.getIssueList().stream().anyMatch(i -> i.getId() == removedIssue.getId()));
+        assertEquals(Urgency.HIGH, retrieved.getIssueById(editedIssue.getId()).getUrgency());
+        assertEquals(addressBook, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void readAddressBook_dataFileCorrupted_previousVersionRead() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, false);
+        AddressBook original = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook());
+        assertTrue(Files.exists(FileUtil.getBackupFilePath(filePath)));
+
+        Files.write(filePath, "{\"projects\":[".getBytes(StandardCharsets.UTF_8));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_dataFileAndPreviousVersionCorrupted_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.write(filePath, "{\"projects\":[".getBytes(StandardCharsets.UTF_8));
+        Files.write(FileUtil.getBackupFilePath(filePath), "{".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
 }
@@ -5,18 +5,26 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.project.ProjectId;
 import seedu.address.model.util.SampleDataUtil;
 
 public class JsonSerializableAddressBookTest {
 
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
     private static final Path TYPICAL_FILE = TEST_DATA_FOLDER.resolve("typicalAddressBook.json");
+    private static final Path TYPICAL_SCHEMA_VERSION_2_FILE =
+            TEST_DATA_FOLDER.resolve("typicalAddressBookSchemaVersion2.json");
+    private static final Path NEWER_SCHEMA_VERSION_FILE =
+            TEST_DATA_FOLDER.resolve("newerSchemaVersionAddressBook.json");
+    private static final Path MISSING_CLIENT_FILE = TEST_DATA_FOLDER.resolve("missingClientAddressBook.json");
     private static final Path INVALID_CLIENT_FILE = TEST_DATA_FOLDER.resolve("invalidClientAddressBook.json");
     private static final Path INVALID_PROJECT_FILE = TEST_DATA_FOLDER.resolve("invalidProjectAddressBook.json");
     private static final Path INVALID_ISSUE_FILE = TEST_DATA_FOLDER.resolve("invalidIssueAddressBook.json");
@@ -33,6 +41,62 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void toModelType_typicalSchemaVersion2File_success() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_SCHEMA_VERSION_2_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        assertEquals(new AddressBook(SampleDataUtil.getSampleAddressBook()), addressBookFromFile);
+        assertEquals(dataFromFile.getClients().size(), addressBookFromFile.getClientList().size());
+    }
+
+    @Test
+    public void constructor_typicalFile_migratedToClientList() throws Exception {
+        AddressBook addressBook = JsonUtil.readJsonFile(TYPICAL_FILE, JsonSerializableAddressBook.class).get()
+                .toModelType();
+        JsonSerializableAddressBook migrated = new JsonSerializableAddressBook(addressBook);
+        JsonSerializableAddressBook expected = JsonUtil.readJsonFile(TYPICAL_SCHEMA_VERSION_2_FILE,
+                JsonSerializableAddressBook.class).get();
+
+        assertEquals(String.valueOf(JsonSerializableAddressBook.SCHEMA_VERSION), migrated.getSchemaVersion());
+        assertEquals(expected.getClients(), migrated.getClients());
+        assertEquals(expected.getProjects(), migrated.getProjects());
+    }
+
+    @Test
+    public void toModelType_newerSchemaVersion_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(NEWER_SCHEMA_VERSION_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, String.format(StorageUtil.MESSAGE_UNSUPPORTED_SCHEMA_VERSION, "3"),
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyIssuesWithErrors_firstErrorReported() throws Exception {
+        List<JsonAdaptedProject> projects = new ArrayList<>();
+        projects.add(new JsonAdaptedProject("Project", "johndoe/tp", "2022-03-03", "", null, "1", "false"));
+        List<JsonAdaptedIssue> issues = new ArrayList<>();
+        for (int i = 1; i <= ParallelDecoder.MIN_PARALLEL_SIZE * 4; i++) {
+            issues.add(new JsonAdaptedIssue("Issue " + i, "LOW", "2022-03-03", "false", String.valueOf(i),
+                    "1", "false"));
+        }
+        // A missing project is reported before an invalid pin in the same issue, and before an invalid title
+        // in a later issue
+        issues.set(1000, new JsonAdaptedIssue("Issue", "LOW", "2022-03-03", "false", "1001", "2", "invalid"));
+        issues.set(1500, new JsonAdaptedIssue("", "LOW", "2022-03-03", "false", "1501", "1", "false"));
+        JsonSerializableAddressBook dataFromFile = new JsonSerializableAddressBook(
+                String.valueOf(JsonSerializableAddressBook.SCHEMA_VERSION), new ArrayList<>(), projects, issues,
+                "0", "1", String.valueOf(issues.size()));
+        assertThrows(IllegalValueException.class, ProjectId.MESSAGE_CONSTRAINTS, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_missingClient_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(MISSING_CLIENT_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, StorageUtil.MESSAGE_INVALID_CLIENT, dataFromFile::toModelType);
+    }
+
     @Test
     public void toModelType_invalidClientFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_CLIENT_FILE,
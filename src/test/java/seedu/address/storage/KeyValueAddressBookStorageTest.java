@@ -0,0 +1,177 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.issue.Issue;
+import seedu.address.model.issue.Urgency;
+import seedu.address.model.util.SampleDataUtil;
+
+public class KeyValueAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getKeyValueFilePath() {
+        assertEquals(Paths.get("data", "addressbook.kv"),
+                KeyValueAddressBookStorage.getKeyValueFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.kv");
+        assertFalse(new KeyValueAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_savedAddressBook_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.kv");
+        AddressBook original = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        original.setIssueIdHighWaterMark(original.getIssueIdHighWaterMark() + 3);
+        new KeyValueAddressBookStorage(filePath, false).saveAddressBook(original);
+
+        ReadOnlyAddressBook retrieved = new KeyValueAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(retrieved));
+        assertEquals(original.getClientList().size(), retrieved.getClientList().size());
+        assertEquals(original.getIssueIdHighWaterMark(), retrieved.getIssueIdHighWaterMark());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedAndReadBack() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.kv");
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(filePath, false);
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.saveAddressBook(addressBook);
+        long sizeAfterFirstSave = Files.size(filePath);
+
+        Issue removedIssue = addressBook.getIssueList().get(0);
+        addressBook.removeIssue(removedIssue);
+        Issue editedIssue = addressBook.getIssueList().get(0);
+        editedIssue.setUrgency(Urgency.HIGH);
+        addressBook.setIssue(editedIssue, editedIssue);
+        storage.saveAddressBook(addressBook);
+        long sizeAfterSecondSave = Files.size(filePath);
+        assertTrue(sizeAfterSecondSave > sizeAfterFirstSave);
+        assertTrue(sizeAfterSecondSave - sizeAfterFirstSave < sizeAfterFirstSave / 2);
+
+        // saving an unchanged address book writes nothing
+        storage.saveAddressBook(addressBook);
+        assertEquals(sizeAfterSecondSave, Files.size(filePath));
+
+        ReadOnlyAddressBook retrieved = new KeyValueAddressBookStorage(filePath).readAddressBook().get();
+        assertFalse(retrieved.getIssueList().stream().anyMatch(i -> i.getId() == removedIssue.getId()));
+        assertEquals(Urgency.HIGH, retrieved.getIssueById(editedIssue.getId()).getUrgency());
+        assertEquals(addressBook, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void takeSnapshot_earlierSnapshotNotSaved_itsChangesSavedWithLaterSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.kv");
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(filePath, false);
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.takeSnapshot(addressBook).save();
+
+        Issue removedIssue = addressBook.getIssueList().get(0);
+        addressBook.removeIssue(removedIssue);
+        storage.takeSnapshot(addressBook);
+        Issue editedIssue = addressBook.getIssueList().get(0);
+        editedIssue.setUrgency(Urgency.HIGH);
+        addressBook.setIssue(editedIssue, editedIssue);
+        storage.takeSnapshot(addressBook).save();
+
+        ReadOnlyAddressBook retrieved = new KeyValueAddressBookStorage(filePath).readAddressBook().get();
+        assertFalse(retrieved.getIssueList().stream().anyMatch(i -> i.getId() == removedIssue.getId()));
+        assertEquals(Urgency.HIGH, retrieved.getIssueById(editedIssue.getId()).getUrgency());
+        assertEquals(addressBook, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordDroppedAndOverwritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.kv");
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(filePath, false);
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.saveAddressBook(addressBook);
+        addressBook.setIssueIdHighWaterMark(addressBook.getIssueIdHighWaterMark() + 5);
+        storage.saveAddressBook(addressBook);
+
+        Files.write(filePath, new byte[] {0, 0, 1, 0, 42}, StandardOpenOption.APPEND);
+        KeyValueAddressBookStorage reopened = new KeyValueAddressBookStorage(filePath, false);
+        assertEquals(addressBook.getIssueIdHighWaterMark(),
+                reopened.readAddressBook().get().getIssueIdHighWaterMark());
+
+        addressBook.setProjectIdHighWaterMark(addressBook.getProjectIdHighWaterMark() + 2);
+        reopened.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(new KeyValueAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedRecordInMiddle_earlierRecordsReadAndRestQuarantined() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.kv");
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(filePath, false);
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.saveAddressBook(addressBook);
+        int savedIssueIdHighWaterMark = addressBook.getIssueIdHighWaterMark();
+        int savedProjectIdHighWaterMark = addressBook.getProjectIdHighWaterMark();
+        long corruptedOffset = Files.size(filePath);
+        addressBook.setIssueIdHighWaterMark(savedIssueIdHighWaterMark + 5);
+        storage.saveAddressBook(addressBook);
+        addressBook.setProjectIdHighWaterMark(addressBook.getProjectIdHighWaterMark() + 2);
+        storage.saveAddressBook(addressBook);
+        try (RandomAccessFile file = new RandomAccessFile(filePath.toFile(), "rw")) {
+            file.seek(corruptedOffset + 12);
+            file.write(~file.readByte() & 0xFF);
+        }
+
+        KeyValueAddressBookStorage reopened = new KeyValueAddressBookStorage(filePath, false);
+        ReadOnlyAddressBook retrieved = reopened.readAddressBook().get();
+        assertEquals(savedIssueIdHighWaterMark, retrieved.getIssueIdHighWaterMark());
+        assertEquals(savedProjectIdHighWaterMark, retrieved.getProjectIdHighWaterMark());
+        RecoveryReport report = reopened.getRecoveryReport().get();
+        assertEquals(List.of("byte " + corruptedOffset), report.getLocations());
+        assertEquals(1, Files.readAllLines(report.getQuarantineFilePath().get()).size());
+
+        // the next save overwrites the skipped records
+        reopened.saveAddressBook(addressBook);
+        KeyValueAddressBookStorage compacted = new KeyValueAddressBookStorage(filePath);
+        assertEquals(addressBook, new AddressBook(compacted.readAddressBook().get()));
+        assertFalse(compacted.getRecoveryReport().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notKeyValueFormat_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.kv");
+        Files.write(filePath, "{\"clients\": []}".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> new KeyValueAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void migrateOnce_jsonFile_migratedToKeyValueStore() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        KeyValueAddressBookStorage keyValueStorage = new KeyValueAddressBookStorage(
+                KeyValueAddressBookStorage.getKeyValueFilePath(jsonFilePath));
+        AddressBook original = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        jsonStorage.saveAddressBook(original);
+
+        assertTrue(AddressBookConverter.migrateOnce(jsonStorage, keyValueStorage));
+        assertEquals(original, new AddressBook(keyValueStorage.readAddressBook().get()));
+        assertFalse(AddressBookConverter.migrateOnce(jsonStorage, keyValueStorage));
+    }
+}
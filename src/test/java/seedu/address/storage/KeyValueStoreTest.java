@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class KeyValueStoreTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void commit_putsAndDeletes_readBackInKeyOrder() throws Exception {
+        Path filePath = testFolder.resolve("store.kv");
+        KeyValueStore store = KeyValueStore.open(filePath);
+        KeyValueStore.Transaction transaction = store.beginTransaction();
+        transaction.put("issue/2", bytes("b"));
+        transaction.put("issue/1", bytes("a"));
+        transaction.put("project/1", bytes("p"));
+        transaction.commit(false);
+
+        transaction = store.beginTransaction();
+        transaction.delete("issue/2");
+        transaction.put("issue/1", bytes("c"));
+        transaction.commit(false);
+
+        KeyValueStore reopened = KeyValueStore.open(filePath);
+        assertEquals(Collections.singleton("issue/1"), reopened.getEntries("issue/").keySet());
+        assertEquals("c", new String(reopened.get("issue/1"), StandardCharsets.UTF_8));
+        assertNull(reopened.get("issue/2"));
+        assertEquals("p", new String(reopened.get("project/1"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void needsCompaction_manyOverwrites_compactedToLiveEntries() throws Exception {
+        Path filePath = testFolder.resolve("store.kv");
+        KeyValueStore store = KeyValueStore.open(filePath);
+        byte[] value = new byte[64 * 1024];
+        while (!store.needsCompaction()) {
+            KeyValueStore.Transaction transaction = store.beginTransaction();
+            transaction.put("key", value);
+            transaction.commit(false);
+        }
+        assertTrue(Files.size(filePath) >= KeyValueStore.MIN_COMPACTION_BYTES);
+
+        store.compact(false);
+        assertFalse(store.needsCompaction());
+        assertTrue(Files.size(filePath) < 2 * value.length);
+        assertEquals(value.length, KeyValueStore.open(filePath).get("key").length);
+    }
+
+    @Test
+    public void open_corruptedRecordInMiddle_earlierRecordsReadAndRestSkipped() throws Exception {
+        Path filePath = testFolder.resolve("store.kv");
+        KeyValueStore store = KeyValueStore.open(filePath);
+        put(store, "a", "1");
+        long corruptedOffset = Files.size(filePath);
+        put(store, "b", "2");
+        put(store, "c", "3");
+        try (RandomAccessFile file = new RandomAccessFile(filePath.toFile(), "rw")) {
+            file.seek(corruptedOffset + 12);
+            file.write(~file.readByte() & 0xFF);
+        }
+
+        byte[] log = Files.readAllBytes(filePath);
+
+        // the record after the corrupted one is not read either, as it may build on it
+        KeyValueStore reopened = KeyValueStore.open(filePath);
+        assertEquals("1", new String(reopened.get("a"), StandardCharsets.UTF_8));
+        assertNull(reopened.get("b"));
+        assertNull(reopened.get("c"));
+        assertEquals(1, reopened.getSkippedRecords().size());
+        assertEquals(corruptedOffset, (long) reopened.getSkippedRecords().get(0).getOffset());
+        assertArrayEquals(Arrays.copyOfRange(log, (int) corruptedOffset, log.length),
+                (byte[]) reopened.getSkippedRecords().get(0).getRecord());
+        assertTrue(reopened.needsCompaction());
+
+        reopened.compact(false);
+        assertTrue(reopened.getSkippedRecords().isEmpty());
+        assertTrue(KeyValueStore.open(filePath).getSkippedRecords().isEmpty());
+    }
+
+    @Test
+    public void open_crc32Log_readAndAppendedTo() throws Exception {
+        Path filePath = testFolder.resolve("store.kv");
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream bodyOut = new DataOutputStream(body);
+        bodyOut.writeInt(1);
+        bodyOut.writeByte(1);
+        bodyOut.writeUTF("key");
+        bodyOut.writeInt(1);
+        bodyOut.writeByte('v');
+        CRC32 crc = new CRC32();
+        crc.update(body.toByteArray());
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        DataOutputStream logOut = new DataOutputStream(log);
+        logOut.writeInt(KeyValueStore.MAGIC);
+        logOut.writeInt(KeyValueStore.VERSION_CRC32);
+        logOut.writeInt(body.size());
+        logOut.write(body.toByteArray());
+        logOut.writeInt((int) crc.getValue());
+        Files.write(filePath, log.toByteArray());
+
+        KeyValueStore store = KeyValueStore.open(filePath);
+        assertEquals("v", new String(store.get("key"), StandardCharsets.UTF_8));
+        put(store, "other", "w");
+        KeyValueStore reopened = KeyValueStore.open(filePath);
+        assertEquals("v", new String(reopened.get("key"), StandardCharsets.UTF_8));
+        assertEquals("w", new String(reopened.get("other"), StandardCharsets.UTF_8));
+        assertTrue(reopened.getSkippedRecords().isEmpty());
+    }
+
+    private static void put(KeyValueStore store, String key, String value) throws Exception {
+        KeyValueStore.Transaction transaction = store.beginTransaction();
+        transaction.put(key, bytes(value));
+        transaction.commit(false);
+    }
+
+    private static byte[] bytes(String string) {
+        return string.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelDecoderTest {
+
+    private static final int LARGE_SIZE = ParallelDecoder.MIN_PARALLEL_SIZE * 4;
+
+    @Test
+    public void decodeAndLink_largeList_linkedInOrder() throws Exception {
+        List<Integer> elements = getElements(LARGE_SIZE);
+        List<String> linked = new ArrayList<>();
+        ParallelDecoder.decodeAndLink(elements, String::valueOf, linked::add);
+
+        assertEquals(LARGE_SIZE, linked.size());
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            assertEquals(String.valueOf(i), linked.get(i));
+        }
+    }
+
+    @Test
+    public void decodeAndLink_decodeErrors_firstErrorReported() {
+        int firstInvalid = LARGE_SIZE / 2;
+        List<Integer> linked = new ArrayList<>();
+        assertThrows(IllegalValueException.class, "invalid " + firstInvalid, () ->
+                ParallelDecoder.decodeAndLink(getElements(LARGE_SIZE), element -> {
+                    if (element >= firstInvalid) {
+                        throw new IllegalValueException("invalid " + element);
+                    }
+                    return element;
+                }, linked::add));
+        assertEquals(firstInvalid, linked.size());
+    }
+
+    @Test
+    public void decodeAndLink_linkErrorBeforeDecodeError_linkErrorReported() {
+        assertThrows(IllegalValueException.class, "link 10", () ->
+                ParallelDecoder.decodeAndLink(getElements(LARGE_SIZE), element -> {
+                    if (element == LARGE_SIZE - 1) {
+                        throw new IllegalValueException("decode " + element);
+                    }
+                    return element;
+                }, element -> {
+                    if (element == 10) {
+                        throw new IllegalValueException("link " + element);
+                    }
+                }));
+    }
+
+    @Test
+    public void decodeAndLink_runtimeExceptionInDecode_rethrown() {
+        assertThrows(NullPointerException.class, () ->
+                ParallelDecoder.decodeAndLink(getElements(LARGE_SIZE), element -> {
+                    if (element == 100) {
+                        throw new NullPointerException();
+                    }
+                    return element;
+                }, element -> {}));
+    }
+
+    private static List<Integer> getElements(int size) {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            elements.add(i);
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Deadline;
+import seedu.address.model.Name;
+import seedu.address.model.Pin;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.issue.Issue;
+import seedu.address.model.issue.Urgency;
+import seedu.address.model.project.Project;
+import seedu.address.model.project.ProjectId;
+import seedu.address.model.project.Repository;
+import seedu.address.model.util.SampleDataUtil;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getShardedFilePath() {
+        assertEquals(Paths.get("data", "addressbook.shards", ShardedAddressBookStorage.MANIFEST_FILE_NAME),
+                ShardedAddressBookStorage.getShardedFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        Path filePath = ShardedAddressBookStorage.getShardedFilePath(testFolder.resolve("addressbook.json"));
+        assertFalse(new ShardedAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_savedAddressBook_sameAddressBook() throws Exception {
+        Path filePath = ShardedAddressBookStorage.getShardedFilePath(testFolder.resolve("addressbook.json"));
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false);
+        AddressBook original = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        original.setIssueIdHighWaterMark(original.getIssueIdHighWaterMark() + 3);
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook retrieved = new ShardedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(retrieved));
+        assertEquals(original.getClientList().size(), retrieved.getClientList().size());
+        assertEquals(original.getIssueIdHighWaterMark(), retrieved.getIssueIdHighWaterMark());
+        assertEquals(original.getProjectList().size(), readManifest(filePath).getProjects().size());
+    }
+
+    @Test
+    public void saveAddressBook_issueChanged_onlyItsProjectFileRewritten() throws Exception {
+        Path filePath = ShardedAddressBookStorage.getShardedFilePath(testFolder.resolve("addressbook.json"));
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        new ShardedAddressBookStorage(filePath, false).saveAddressBook(addressBook);
+        JsonShardManifest before = readManifest(filePath);
+
+        // a new storage picks up the files already saved when reading them
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false);
+        storage.readAddressBook();
+        Issue editedIssue = addressBook.getIssueList().get(0);
+        editedIssue.setUrgency(Urgency.HIGH);
+        addressBook.setIssue(editedIssue, editedIssue);
+        storage.saveAddressBook(addressBook);
+        JsonShardManifest after = readManifest(filePath);
+
+        assertEquals(before.getClients(), after.getClients());
+        int projectIndex = addressBook.getProjectList().indexOf(editedIssue.getProject());
+        List<String> projectsBefore = before.getProjects();
+        List<String> projectsAfter = after.getProjects();
+        for (int i = 0; i < projectsAfter.size(); i++) {
+            if (i == projectIndex) {
+                assertNotEquals(projectsBefore.get(i), projectsAfter.get(i));
+            } else {
+                assertEquals(projectsBefore.get(i), projectsAfter.get(i));
+            }
+        }
+        assertEquals(Urgency.HIGH, storage.readAddressBook().get().getIssueById(editedIssue.getId()).getUrgency());
+    }
+
+    @Test
+    public void takeSnapshot_issueRemovedAndProjectAdded_onlyTheirFilesWritten() throws Exception {
+        Path filePath = ShardedAddressBookStorage.getShardedFilePath(testFolder.resolve("addressbook.json"));
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false);
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.takeSnapshot(addressBook).save();
+        JsonShardManifest before = readManifest(filePath);
+
+        Issue removedIssue = addressBook.getIssueList().get(0);
+        addressBook.removeIssue(removedIssue);
+        Project addedProject = new Project(new Name("Added Project"), new Repository("johndoe/ap"),
+                new Deadline("2023-05-05"), Client.EmptyClient.EMPTY_CLIENT, new ArrayList<>(),
+                new ProjectId(addressBook.generateProjectId()), new Pin(false));
+        addressBook.addProject(addedProject);
+        storage.takeSnapshot(addressBook).save();
+        JsonShardManifest after = readManifest(filePath);
+
+        assertEquals(before.getClients(), after.getClients());
+        List<String> projectsKept = new ArrayList<>(after.getProjects());
+        projectsKept.retainAll(before.getProjects());
+        assertEquals(before.getProjects().size() - 1, projectsKept.size());
+        assertEquals(before.getProjects().size() + 1, after.getProjects().size());
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_savedTwiceMore_filesOfPreviousManifestKept() throws Exception {
+        Path filePath = ShardedAddressBookStorage.getShardedFilePath(testFolder.resolve("addressbook.json"));
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false);
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.saveAddressBook(addressBook);
+        String firstFile = readManifest(filePath).getProjects().get(0);
+
+        addressBook.removeProject(addressBook.getProjectList().get(0));
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(filePath.resolveSibling(firstFile)));
+
+        addressBook.setIssueIdHighWaterMark(addressBook.getIssueIdHighWaterMark() + 1);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(filePath.resolveSibling(firstFile)));
+    }
+
+    @Test
+    public void readAddressBook_manifestCorrupted_previousVersionRead() throws Exception {
+        Path filePath = ShardedAddressBookStorage.getShardedFilePath(testFolder.resolve("addressbook.json"));
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false);
+        AddressBook addressBook = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        storage.saveAddressBook(addressBook);
+        AddressBook previous = new AddressBook(addressBook);
+        addressBook.removeIssue(addressBook.getIssueList().get(0));
+        storage.saveAddressBook(addressBook);
+
+        Files.write(filePath, "{\"projects\":".getBytes(StandardCharsets.UTF_8));
+        assertEquals(previous, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_projectFileMissing_throwDataConversionException() throws Exception {
+        Path filePath = ShardedAddressBookStorage.getShardedFilePath(testFolder.resolve("addressbook.json"));
+        new ShardedAddressBookStorage(filePath, false).saveAddressBook(SampleDataUtil.getSampleAddressBook());
+        Files.delete(filePath.resolveSibling(readManifest(filePath).getProjects().get(1)));
+        assertThrows(DataConversionException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void migrateOnce_singleJsonFile_migratedToShards() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        ShardedAddressBookStorage shardedStorage = new ShardedAddressBookStorage(
+                ShardedAddressBookStorage.getShardedFilePath(jsonFilePath));
+        AddressBook original = new AddressBook(SampleDataUtil.getSampleAddressBook());
+        jsonStorage.saveAddressBook(original);
+
+        assertTrue(AddressBookConverter.migrateOnce(jsonStorage, shardedStorage));
+        assertEquals(original, new AddressBook(shardedStorage.readAddressBook().get()));
+        assertFalse(AddressBookConverter.migrateOnce(jsonStorage, shardedStorage));
+    }
+
+    private static JsonShardManifest readManifest(Path filePath) throws Exception {
+        return JsonUtil.readJsonFile(filePath, JsonShardManifest.class).get();
+    }
+}
@@ -1,8 +1,11 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -62,6 +65,20 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unchangedSinceLastSave_writeSkipped() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        storageManager.saveAddressBook(addressBook);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(addressBook);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        addressBook.setProjectIdHighWaterMark(3);
+        storageManager.saveAddressBook(addressBook);
+        assertTrue(Files.exists(storageManager.getAddressBookFilePath()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindSaverTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_addressBookChangedAfterSave_snapshotSaved() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setProjectIdHighWaterMark(3);
+
+        saver.save(addressBook);
+        addressBook.setProjectIdHighWaterMark(7);
+        saver.close();
+
+        assertEquals(3, storage.readAddressBook().get().getProjectIdHighWaterMark());
+    }
+
+    @Test
+    public void save_burstOfSaves_latestSnapshotSaved() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+        AddressBook addressBook = new AddressBook();
+
+        for (int i = 1; i <= 20; i++) {
+            addressBook.setProjectIdHighWaterMark(i);
+            saver.save(addressBook);
+        }
+        saver.flush();
+
+        assertEquals(20, storage.readAddressBook().get().getProjectIdHighWaterMark());
+        saver.close();
+    }
+
+    @Test
+    public void save_writeFails_failureHandlerCalled() {
+        WriteBehindSaver saver = new WriteBehindSaver(
+                new JsonAddressBookIoExceptionThrowingStub(testFolder.resolve("addressBook.json")));
+        AtomicReference<IOException> failure = new AtomicReference<>();
+        saver.setFailureHandler(failure::set);
+
+        saver.save(new AddressBook());
+        saver.close();
+
+        assertSame(DUMMY_IO_EXCEPTION, failure.get());
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when a snapshot is saved.
+     */
+    private static class JsonAddressBookIoExceptionThrowingStub extends JsonAddressBookStorage {
+        private JsonAddressBookIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public AddressBookSnapshot takeSnapshot(ReadOnlyAddressBook addressBook) {
+            return () -> {
+                throw DUMMY_IO_EXCEPTION;
+            };
+        }
+    }
+}
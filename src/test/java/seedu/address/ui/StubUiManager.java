@@ -33,4 +33,14 @@ public class StubUiManager implements Ui {
 
     }
 
+    @Override
+    public void showSaveFailure(String message) {
+
+    }
+
+    @Override
+    public void showMessage(String message) {
+
+    }
+
 }